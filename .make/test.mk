@@ -1,4 +1,4 @@
-.PHONY: test test-unit test-bdd report
+.PHONY: test test-unit test-bdd test-bdd-opt-ins report
 
 test:
 	@mvn verify -DskipSurefireReport
@@ -9,5 +9,13 @@ test-unit:
 test-bdd:
 	@mvn package failsafe:verify -DskipSurefireReport -fae
 
+BDD_OPT_IN_PROFILES := bdd-near-cache bdd-consolidated-cache bdd-adaptive-expiration bdd-inventory-cache bdd-sharded-stream bdd-compact-stream bdd-coalescing-stream
+
+test-bdd-opt-ins:
+	@for profile in $(BDD_OPT_IN_PROFILES); do \
+		echo "> Running BDD tests with profile $$profile"; \
+		mvn package failsafe:verify -DskipSurefireReport -fae -Dbdd.profiles=$$profile || exit 1; \
+	done
+
 report:
 	@mvn surefire-report:report-only -DcucumberReport
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.lsadf.admin.application.cache;
 
 import static com.lsadf.admin.application.cache.AdminCacheController.Constants.ApiPaths.*;
 import static com.lsadf.admin.application.constant.AdminSwaggerConstants.ADMIN_CACHE_CONTROLLER;
+import static com.lsadf.core.infra.web.controller.ParameterConstants.LIMIT;
 import static com.lsadf.core.infra.web.config.swagger.SwaggerAuthenticationStrategies.BEARER_AUTHENTICATION;
 import static com.lsadf.core.infra.web.config.swagger.SwaggerAuthenticationStrategies.OAUTH2_AUTHENTICATION;
 
@@ -24,10 +25,12 @@ import com.lsadf.admin.application.constant.AdminApiPathConstants;
 import com.lsadf.core.infra.web.controller.Controller;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
 import com.lsadf.core.infra.web.dto.response.ResponseMessages;
+import com.lsadf.core.infra.web.dto.response.cache.HotKeyResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +39,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RequestMapping(value = AdminApiPathConstants.ADMIN_CACHE)
 @Tag(name = ADMIN_CACHE_CONTROLLER)
@@ -68,6 +72,31 @@ public interface AdminCacheController extends Controller {
   @Operation(summary = "Clears all the caches of the application")
   ResponseEntity<ApiResponse<Void>> flushAndClearCache(@AuthenticationPrincipal Jwt jwt);
 
+  /**
+   * Flushes the pending game saves, then removes every entry of the caches
+   *
+   * @param jwt the requester JWT
+   * @return empty response
+   */
+  @PutMapping(value = CLEAR)
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = ResponseMessages.UNAUTHORIZED),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = ResponseMessages.FORBIDDEN),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = ResponseMessages.OK),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "500",
+            description = ResponseMessages.INTERNAL_SERVER_ERROR)
+      })
+  @Operation(summary = "Flushes the pending game saves, then removes every entry of the caches")
+  ResponseEntity<ApiResponse<Void>> clearCaches(@AuthenticationPrincipal Jwt jwt);
+
   /**
    * Checks if the cache is enabled
    *
@@ -118,13 +147,43 @@ public interface AdminCacheController extends Controller {
   @Operation(summary = "Enables/Disables the cache")
   ResponseEntity<ApiResponse<Boolean>> toggleRedisCacheEnabling(@AuthenticationPrincipal Jwt jwt);
 
+  /**
+   * Gets the most accessed game saves of the caches, counted by every running instance
+   *
+   * @param jwt the requester JWT
+   * @param limit the maximum number of game saves to return
+   * @return the hot keys, by descending number of accesses
+   */
+  @GetMapping(value = HOT_KEYS)
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = ResponseMessages.UNAUTHORIZED),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = ResponseMessages.FORBIDDEN),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = ResponseMessages.OK),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "500",
+            description = ResponseMessages.INTERNAL_SERVER_ERROR)
+      })
+  @Operation(summary = "Gets the most accessed game saves of the caches")
+  ResponseEntity<ApiResponse<List<HotKeyResponse>>> getHotKeys(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestParam(value = LIMIT, defaultValue = "20") int limit);
+
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   class Constants {
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static final class ApiPaths {
       public static final String FLUSH = "/flush";
+      public static final String CLEAR = "/clear";
       public static final String TOGGLE = "/toggle";
       public static final String ENABLED = "/enabled";
+      public static final String HOT_KEYS = "/hot-keys";
     }
   }
 }
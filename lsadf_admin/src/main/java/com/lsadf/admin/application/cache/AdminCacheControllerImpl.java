@@ -18,9 +18,13 @@ package com.lsadf.admin.application.cache;
 import static com.lsadf.core.infra.web.dto.response.ResponseUtils.generateResponse;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.domain.cache.HotKey;
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
 import com.lsadf.core.infra.web.controller.BaseController;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
+import com.lsadf.core.infra.web.dto.response.cache.HotKeyResponse;
+import com.lsadf.core.infra.web.dto.response.cache.HotKeyResponseMapper;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.springframework.http.HttpStatus;
@@ -33,6 +37,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class AdminCacheControllerImpl extends BaseController implements AdminCacheController {
 
+  private static final HotKeyResponseMapper hotKeyResponseMapper = HotKeyResponseMapper.INSTANCE;
+
   private final CacheManager redisCacheManager;
   private final CacheFlushService cacheFlushService;
 
@@ -70,4 +76,22 @@ public class AdminCacheControllerImpl extends BaseController implements AdminCac
     cacheFlushService.flushGameSaves();
     return generateResponse(HttpStatus.OK);
   }
+
+  @Override
+  public ResponseEntity<ApiResponse<Void>> clearCaches(Jwt jwt) {
+    validateUser(jwt);
+
+    log.info("Flushing pending game saves before clearing all caches");
+    cacheFlushService.flushGameSaves();
+    redisCacheManager.clearCaches();
+    return generateResponse(HttpStatus.OK);
+  }
+
+  @Override
+  public ResponseEntity<ApiResponse<List<HotKeyResponse>>> getHotKeys(Jwt jwt, int limit) {
+    validateUser(jwt);
+    List<HotKey> hotKeys = redisCacheManager.getHotKeys(limit);
+    List<HotKeyResponse> response = hotKeys.stream().map(hotKeyResponseMapper::map).toList();
+    return generateResponse(HttpStatus.OK, response);
+  }
 }
@@ -61,7 +61,9 @@ public class AdminGameMailControllerImpl extends BaseController implements Admin
     if (request.gameSaveId() == null) {
       log.info(
           "Sending game mail template with ID {} to all game saves", request.gameMailTemplateId());
-      gameMailSenderService.sendGameMailToAllGameSaves(request.gameMailTemplateId());
+      long sentCount =
+          gameMailSenderService.sendGameMailToAllGameSaves(request.gameMailTemplateId());
+      log.info("Sent {} game mails", sentCount);
       return generateResponse(HttpStatus.OK);
     }
     log.info(
@@ -26,6 +26,7 @@ import com.lsadf.core.infra.web.dto.request.game.save.creation.AdminGameSaveCrea
 import com.lsadf.core.infra.web.dto.request.game.save.update.AdminGameSaveUpdateRequest;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
 import com.lsadf.core.infra.web.dto.response.ResponseMessages;
+import com.lsadf.core.infra.web.dto.response.game.save.GameSavePageResponse;
 import com.lsadf.core.infra.web.dto.response.game.save.GameSaveResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -33,14 +34,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value = AdminApiPathConstants.ADMIN_GAME_SAVE)
 @Tag(name = AdminSwaggerConstants.ADMIN_GAME_SAVE_CONTROLLER)
@@ -195,6 +200,66 @@ public interface AdminGameSaveController extends Controller {
       @AuthenticationPrincipal Jwt jwt,
       @RequestParam(value = ORDER_BY, required = false) List<String> orderBy);
 
+  /**
+   * Gets a page of game saves, ordered by creation date, then by id
+   *
+   * @param jwt the requester JWT
+   * @param pageToken the token of the page to get, as returned with the previous page, or null to
+   *     get the first page
+   * @param limit the maximum number of game saves in the page
+   * @return the page of game saves, with the token of the next page if any
+   */
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = ResponseMessages.UNAUTHORIZED),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = ResponseMessages.FORBIDDEN),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = ResponseMessages.OK),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = ResponseMessages.BAD_REQUEST),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "500",
+            description = ResponseMessages.INTERNAL_SERVER_ERROR)
+      })
+  @Operation(summary = "Gets a page of game saves")
+  @GetMapping(value = Constants.ApiPaths.PAGE)
+  ResponseEntity<ApiResponse<GameSavePageResponse>> getGameSavesPage(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestParam(value = PAGE_TOKEN, required = false) String pageToken,
+      @RequestParam(value = LIMIT, defaultValue = "100") @Min(1) @Max(Constants.MAX_PAGE_SIZE)
+          int limit);
+
+  /**
+   * Exports all game saves as newline-delimited JSON, written to the response as they are read
+   *
+   * @param jwt the requester JWT
+   * @return the game saves, one JSON object per line
+   */
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = ResponseMessages.UNAUTHORIZED),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = ResponseMessages.FORBIDDEN),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = ResponseMessages.OK),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "500",
+            description = ResponseMessages.INTERNAL_SERVER_ERROR)
+      })
+  @Operation(summary = "Exports all game saves as newline-delimited JSON")
+  @GetMapping(value = Constants.ApiPaths.EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+  ResponseEntity<StreamingResponseBody> exportGameSaves(@AuthenticationPrincipal Jwt jwt);
+
   /**
    * Updates a game save
    *
@@ -230,12 +295,16 @@ public interface AdminGameSaveController extends Controller {
 
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   class Constants {
+    public static final int MAX_PAGE_SIZE = 1000;
+
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static final class ApiPaths {
       public static final String USER_GAME_SAVES = "/user/{username}";
       public static final String GAME_SAVE_ID = "/id/{game_save_id}";
       public static final String GENERATE = "/generate";
       public static final String ME = "/me";
+      public static final String PAGE = "/page";
+      public static final String EXPORT = "/export";
     }
   }
 }
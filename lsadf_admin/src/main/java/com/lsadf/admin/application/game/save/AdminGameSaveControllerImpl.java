@@ -19,24 +19,36 @@ import static com.lsadf.core.infra.web.dto.response.ResponseUtils.generateRespon
 
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
 import com.lsadf.core.infra.util.StreamUtils;
 import com.lsadf.core.infra.web.controller.BaseController;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSavePageToken;
 import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.AdminGameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.update.AdminGameSaveUpdateRequest;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
+import com.lsadf.core.infra.web.dto.response.game.save.GameSavePageResponse;
+import com.lsadf.core.infra.web.dto.response.game.save.GameSavePageResponseMapper;
 import com.lsadf.core.infra.web.dto.response.game.save.GameSaveResponse;
 import com.lsadf.core.infra.web.dto.response.game.save.GameSaveResponseMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
+import org.jspecify.annotations.Nullable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Controller implementation for managing game save data by admins. This class provides
@@ -53,12 +65,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminGameSaveControllerImpl extends BaseController implements AdminGameSaveController {
 
   private final GameSaveService gameSaveService;
+  private final ObjectMapper objectMapper;
 
   private static final GameSaveResponseMapper gameSaveResponseMapper =
       GameSaveResponseMapper.INSTANCE;
+  private static final GameSavePageResponseMapper gameSavePageResponseMapper =
+      GameSavePageResponseMapper.INSTANCE;
 
-  public AdminGameSaveControllerImpl(GameSaveService gameSaveService) {
+  public AdminGameSaveControllerImpl(GameSaveService gameSaveService, ObjectMapper objectMapper) {
     this.gameSaveService = gameSaveService;
+    this.objectMapper = objectMapper;
   }
 
   @Override
@@ -84,6 +100,41 @@ public class AdminGameSaveControllerImpl extends BaseController implements Admin
     }
   }
 
+  @Override
+  public ResponseEntity<ApiResponse<GameSavePageResponse>> getGameSavesPage(
+      Jwt jwt, @Nullable String pageToken, int limit) {
+    validateUser(jwt);
+    GameSaveCursor after = pageToken == null ? null : GameSavePageToken.decode(pageToken);
+    GameSavePage page = gameSaveService.getGameSavesPage(after, limit);
+    GameSavePageResponse response = gameSavePageResponseMapper.map(page);
+    return generateResponse(HttpStatus.OK, response);
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportGameSaves(Jwt jwt) {
+    validateUser(jwt);
+    StreamingResponseBody body =
+        outputStream ->
+            gameSaveService.exportGameSaves(
+                gameSave -> writeLine(outputStream, gameSaveResponseMapper.map(gameSave)));
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  /**
+   * Writes the given game save as one line of JSON to the output stream
+   *
+   * @param outputStream the output stream of the response
+   * @param gameSave the game save to write
+   */
+  private void writeLine(OutputStream outputStream, GameSaveResponse gameSave) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(gameSave));
+      outputStream.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public ResponseEntity<ApiResponse<List<GameSaveResponse>>> getUserGameSaves(
       Jwt jwt, String username) {
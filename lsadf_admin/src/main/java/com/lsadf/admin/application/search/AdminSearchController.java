@@ -17,6 +17,7 @@ package com.lsadf.admin.application.search;
 
 import static com.lsadf.core.infra.web.config.swagger.SwaggerAuthenticationStrategies.BEARER_AUTHENTICATION;
 import static com.lsadf.core.infra.web.config.swagger.SwaggerAuthenticationStrategies.OAUTH2_AUTHENTICATION;
+import static com.lsadf.core.infra.web.controller.ParameterConstants.LIMIT;
 import static com.lsadf.core.infra.web.controller.ParameterConstants.ORDER_BY;
 
 import com.lsadf.admin.application.constant.AdminApiPathConstants;
@@ -32,6 +33,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -87,7 +90,8 @@ public interface AdminSearchController extends Controller {
    *
    * @param jwt the requester JWT
    * @param searchRequest the search criteria
-   * @param orderBy
+   * @param orderBy the sorting order if any
+   * @param limit the maximum number of game saves to return
    * @return the list of game saves
    */
   @ApiResponses(
@@ -113,10 +117,14 @@ public interface AdminSearchController extends Controller {
   ResponseEntity<ApiResponse<List<GameSaveResponse>>> searchGameSaves(
       @AuthenticationPrincipal Jwt jwt,
       @Valid @RequestBody(required = false) SearchRequest searchRequest,
-      @RequestParam(value = ORDER_BY, required = false) List<String> orderBy);
+      @RequestParam(value = ORDER_BY, required = false) List<String> orderBy,
+      @RequestParam(value = LIMIT, defaultValue = "100") @Min(1) @Max(Constants.MAX_LIMIT)
+          int limit);
 
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   class Constants {
+    public static final int MAX_LIMIT = 1000;
+
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static final class ApiPaths {
       public static final String SEARCH_GAME_SAVES = "/game_saves";
@@ -76,7 +76,7 @@ public class AdminSearchControllerImpl extends BaseController implements AdminSe
 
   @Override
   public ResponseEntity<ApiResponse<List<GameSaveResponse>>> searchGameSaves(
-      Jwt jwt, SearchRequest searchRequest, List<String> orderBy) {
+      Jwt jwt, SearchRequest searchRequest, List<String> orderBy, int limit) {
     List<GameSaveSortingParameter> gameSaveOrderBy =
         Collections.singletonList(GameSaveSortingParameter.NONE);
     if (orderBy != null && !orderBy.isEmpty()) {
@@ -84,7 +84,7 @@ public class AdminSearchControllerImpl extends BaseController implements AdminSe
     }
     validateUser(jwt);
     try (Stream<GameSave> gameSaveStream =
-        searchService.searchGameSaves(searchRequest, gameSaveOrderBy)) {
+        searchService.searchGameSaves(searchRequest, gameSaveOrderBy, limit)) {
       List<GameSaveResponse> gameSaves = gameSaveStream.map(gameSaveResponseMapper::map).toList();
       return generateResponse(HttpStatus.OK, gameSaves);
     }
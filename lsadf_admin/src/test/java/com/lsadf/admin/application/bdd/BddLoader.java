@@ -36,6 +36,7 @@ import com.lsadf.admin.application.search.AdminSearchControllerImpl;
 import com.lsadf.admin.application.user.AdminUserController;
 import com.lsadf.admin.application.user.AdminUserControllerImpl;
 import com.lsadf.admin.config.LsadfAdminConfiguration;
+import com.lsadf.bdd.config.BddActiveProfilesResolver;
 import com.lsadf.bdd.config.BddTestsConfiguration;
 import com.lsadf.core.application.cache.CacheManager;
 import com.lsadf.core.application.clock.ClockService;
@@ -151,7 +152,7 @@ import org.testcontainers.postgresql.PostgreSQLContainer;
       ReactiveOAuth2ResourceServerAutoConfiguration.class,
       ReactiveOAuth2ClientAutoConfiguration.class,
     })
-@ActiveProfiles("bdd")
+@ActiveProfiles(resolver = BddActiveProfilesResolver.class)
 @Testcontainers
 public class BddLoader {
 
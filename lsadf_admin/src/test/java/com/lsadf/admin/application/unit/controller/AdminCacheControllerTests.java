@@ -19,6 +19,7 @@ import static com.lsadf.core.unit.config.MockAuthenticationFactory.createMockJwt
 
 import com.lsadf.admin.application.cache.AdminCacheController;
 import com.lsadf.admin.application.cache.AdminCacheControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailTemplateRepositoryPort;
@@ -30,6 +31,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -75,6 +77,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
@@ -215,4 +219,89 @@ class AdminCacheControllerTests {
         // then
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
+
+  @Test
+  @SneakyThrows
+  void test_clearCaches_returns_401_when_user_not_authenticated() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put("/api/v1/admin/cache/clear")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_clearCaches_returns_403_when_user_not_admin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put("/api/v1/admin/cache/clear")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_USER))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_clearCaches_returns_200_when_authenticated_user_is_admin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.put("/api/v1/admin/cache/clear")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getHotKeys_returns_401_when_user_not_authenticated() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/cache/hot-keys")
+                .param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getHotKeys_returns_403_when_user_not_admin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/cache/hot-keys")
+                .param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_USER))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getHotKeys_returns_200_when_authenticated_user_is_admin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/cache/hot-keys")
+                .param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
 }
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 
 import com.lsadf.admin.application.game.mail.AdminGameMailController;
 import com.lsadf.admin.application.game.mail.AdminGameMailControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailCommandService;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
@@ -34,6 +35,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -86,6 +88,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
@@ -186,7 +190,7 @@ class AdminGameMailControllerTests {
     SendGameMailRequest request =
         SendGameMailRequest.builder().gameMailTemplateId(GAME_MAIL_TEMPLATE_ID).build();
 
-    doNothing().when(gameMailSenderService).sendGameMailToAllGameSaves(any());
+    when(gameMailSenderService.sendGameMailToAllGameSaves(any())).thenReturn(2L);
 
     // when
     mockMvc
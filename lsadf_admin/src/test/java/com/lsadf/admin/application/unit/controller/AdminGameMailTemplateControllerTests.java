@@ -23,6 +23,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.lsadf.admin.application.game.mail.AdminGameMailTemplateController;
 import com.lsadf.admin.application.game.mail.AdminGameMailTemplateControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailTemplateCommandService;
@@ -36,6 +37,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -91,6 +93,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
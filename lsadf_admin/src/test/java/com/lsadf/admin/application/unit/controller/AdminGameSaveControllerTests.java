@@ -15,12 +15,16 @@
  */
 package com.lsadf.admin.application.unit.controller;
 
+import static com.lsadf.core.infra.web.controller.ParameterConstants.LIMIT;
 import static com.lsadf.core.infra.web.controller.ParameterConstants.ORDER_BY;
+import static com.lsadf.core.infra.web.controller.ParameterConstants.PAGE_TOKEN;
 import static com.lsadf.core.unit.config.MockAuthenticationFactory.createMockJwt;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 
 import com.lsadf.admin.application.game.save.AdminGameSaveController;
 import com.lsadf.admin.application.game.save.AdminGameSaveControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailTemplateRepositoryPort;
@@ -32,20 +36,25 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
 import com.lsadf.core.application.game.session.GameSessionQueryService;
 import com.lsadf.core.application.game.session.GameSessionRepositoryPort;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
 import com.lsadf.core.infra.web.controller.advice.GlobalExceptionHandler;
 import com.lsadf.core.infra.web.dto.request.game.characteristics.CharacteristicsRequest;
 import com.lsadf.core.infra.web.dto.request.game.currency.CurrencyRequest;
 import com.lsadf.core.infra.web.dto.request.game.metadata.GameMetadataRequest;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSavePageToken;
 import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.AdminGameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.update.AdminGameSaveUpdateRequest;
 import com.lsadf.core.infra.web.dto.request.game.stage.StageRequest;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -91,6 +100,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
@@ -547,6 +558,145 @@ class AdminGameSaveControllerTests {
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns401_when_userNotAuthenticated() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns403_when_userNotAdmin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_USER))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns400_when_pageTokenIsInvalid() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .param(PAGE_TOKEN, "INVALID_PAGE_TOKEN")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns400_when_limitIsTooHigh() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .param(LIMIT, "1001")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns200_when_authenticatedUserIsAdmin() {
+    // given
+    GameSaveCursor after =
+        new GameSaveCursor(Instant.parse("2026-01-01T00:00:00.123456Z"), UUID.randomUUID());
+    GameSaveCursor next =
+        new GameSaveCursor(Instant.parse("2026-01-01T00:00:00.123457Z"), UUID.randomUUID());
+    Mockito.when(gameSaveService.getGameSavesPage(after, 10))
+        .thenReturn(new GameSavePage(List.of(), next));
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .param(PAGE_TOKEN, GameSavePageToken.encode(after))
+                .param(LIMIT, "10")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.data.nextPageToken")
+                .value(GameSavePageToken.encode(next)));
+  }
+
+  @Test
+  @SneakyThrows
+  void test_getGameSavesPage_returns200_when_lastPage() {
+    // given
+    Mockito.when(gameSaveService.getGameSavesPage(any(), anyInt()))
+        .thenReturn(new GameSavePage(List.of(), null));
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/page")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.data.nextPageToken").doesNotExist());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_exportGameSaves_returns401_when_userNotAuthenticated() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/export")
+                .accept(MediaType.APPLICATION_NDJSON_VALUE))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_exportGameSaves_returns403_when_userNotAdmin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/export")
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .with(MOCK_JWT_USER))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_exportGameSaves_startsStreaming_when_authenticatedUserIsAdmin() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/v1/admin/game_save/export")
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.request().asyncStarted());
+  }
+
   @Test
   @SneakyThrows
   void test_getUserGameSaves_returns401_when_userNotAuthenticated() {
@@ -19,6 +19,7 @@ import static com.lsadf.core.unit.config.MockAuthenticationFactory.createMockJwt
 
 import com.lsadf.admin.application.info.AdminGlobalInfoController;
 import com.lsadf.admin.application.info.AdminGlobalInfoControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailTemplateRepositoryPort;
@@ -30,6 +31,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -72,6 +74,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       GameMailTemplateRepositoryPort.class,
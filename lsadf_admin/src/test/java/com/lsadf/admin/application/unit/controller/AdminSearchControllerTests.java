@@ -15,11 +15,13 @@
  */
 package com.lsadf.admin.application.unit.controller;
 
+import static com.lsadf.core.infra.web.controller.ParameterConstants.LIMIT;
 import static com.lsadf.core.infra.web.controller.ParameterConstants.ORDER_BY;
 import static com.lsadf.core.unit.config.MockAuthenticationFactory.createMockJwt;
 
 import com.lsadf.admin.application.search.AdminSearchController;
 import com.lsadf.admin.application.search.AdminSearchControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailRepositoryPort;
 import com.lsadf.core.application.game.mail.GameMailTemplateRepositoryPort;
@@ -31,6 +33,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -82,6 +85,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
@@ -199,6 +204,21 @@ class AdminSearchControllerTests {
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
+  @Test
+  @SneakyThrows
+  void test_searchGameSaves_returns400_when_limitIsTooHigh() {
+    // when
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/v1/admin/search/game_saves")
+                .param(LIMIT, "1001")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .with(MOCK_JWT_ADMIN))
+        // then
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
   @Test
   @SneakyThrows
   void test_searchGameSaves_returns200_when_noBody() {
@@ -23,6 +23,7 @@ import com.lsadf.application.controller.constant.ApiPathConstants;
 import com.lsadf.application.controller.constant.SwaggerConstants;
 import com.lsadf.core.infra.web.controller.Controller;
 import com.lsadf.core.infra.web.dto.request.game.inventory.ItemRequest;
+import com.lsadf.core.infra.web.dto.request.game.inventory.SaveItemsRequest;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
 import com.lsadf.core.infra.web.dto.response.game.inventory.ItemResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +31,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -186,6 +188,45 @@ public interface InventoryController extends Controller {
       @RequestBody @Valid ItemRequest itemRequest,
       @RequestHeader(X_GAME_SESSION_ID) UUID gameSessionId);
 
+  /**
+   * Creates or replaces several items in the inventory of a specific game save, in a single
+   * request.
+   *
+   * @param jwt The JWT token of the authenticated user.
+   * @param gameSaveId The UUID of the game save containing the inventory to update.
+   * @param saveItemsRequest The request containing the items to create or replace.
+   * @param gameSessionId The current game session id
+   * @return ResponseEntity containing the saved items data.
+   */
+  @PutMapping(value = Constants.ApiPaths.ITEMS)
+  @Operation(summary = "Creates or replaces several items in the inventory of a game save")
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Bad Request"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "OK"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Not Found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error")
+      })
+  ResponseEntity<ApiResponse<List<ItemResponse>>> saveItemsInInventory(
+      @AuthenticationPrincipal Jwt jwt,
+      @PathVariable(value = GAME_SAVE_ID) UUID gameSaveId,
+      @RequestBody @Valid SaveItemsRequest saveItemsRequest,
+      @RequestHeader(X_GAME_SESSION_ID) UUID gameSessionId);
+
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   class Constants {
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
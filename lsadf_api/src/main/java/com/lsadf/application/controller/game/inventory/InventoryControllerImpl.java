@@ -26,9 +26,11 @@ import com.lsadf.core.application.game.session.GameSessionQueryService;
 import com.lsadf.core.domain.game.inventory.Item;
 import com.lsadf.core.infra.web.controller.BaseController;
 import com.lsadf.core.infra.web.dto.request.game.inventory.ItemRequest;
+import com.lsadf.core.infra.web.dto.request.game.inventory.SaveItemsRequest;
 import com.lsadf.core.infra.web.dto.response.ApiResponse;
 import com.lsadf.core.infra.web.dto.response.game.inventory.ItemResponse;
 import com.lsadf.core.infra.web.dto.response.game.inventory.ItemResponseMapper;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -106,6 +108,19 @@ public class InventoryControllerImpl extends BaseController implements Inventory
     return generateResponse(HttpStatus.OK, itemResponse);
   }
 
+  @Override
+  public ResponseEntity<ApiResponse<List<ItemResponse>>> saveItemsInInventory(
+      Jwt jwt, UUID gameSaveId, SaveItemsRequest saveItemsRequest, UUID gameSessionId) {
+    validateUser(jwt);
+    String userEmail = getUsernameFromJwt(jwt);
+    gameSaveService.checkGameSaveOwnership(gameSaveId, userEmail);
+    gameSessionService.checkGameSessionValidity(
+        gameSessionId, gameSaveId, clockService.nowInstant());
+    List<Item> items = inventoryService.saveItemsInInventory(gameSaveId, saveItemsRequest.items());
+    List<ItemResponse> itemResponses = items.stream().map(itemResponseMapper::map).toList();
+    return generateResponse(HttpStatus.OK, itemResponses);
+  }
+
   @Override
   public Logger getLogger() {
     return log;
@@ -35,6 +35,7 @@ import com.lsadf.application.controller.game.session.GameSessionController;
 import com.lsadf.application.controller.game.session.GameSessionControllerImpl;
 import com.lsadf.application.controller.user.UserController;
 import com.lsadf.application.controller.user.UserControllerImpl;
+import com.lsadf.bdd.config.BddActiveProfilesResolver;
 import com.lsadf.bdd.config.BddTestsConfiguration;
 import com.lsadf.config.LsadfConfiguration;
 import com.lsadf.core.application.cache.CacheManager;
@@ -154,7 +155,7 @@ import tools.jackson.databind.ObjectMapper;
       ReactiveOAuth2ResourceServerAutoConfiguration.class,
       ReactiveOAuth2ClientAutoConfiguration.class,
     })
-@ActiveProfiles("bdd")
+@ActiveProfiles(resolver = BddActiveProfilesResolver.class)
 @Testcontainers
 public class BddLoader {
 
@@ -22,6 +22,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.lsadf.application.controller.game.inventory.InventoryController;
 import com.lsadf.application.controller.game.inventory.InventoryControllerImpl;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryEventPublisherPort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.inventory.InventoryService;
@@ -34,6 +35,7 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepos
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
@@ -46,6 +48,7 @@ import com.lsadf.core.domain.game.inventory.ItemType;
 import com.lsadf.core.infra.web.controller.advice.GlobalExceptionHandler;
 import com.lsadf.core.infra.web.dto.common.game.inventory.ItemStatDto;
 import com.lsadf.core.infra.web.dto.request.game.inventory.ItemRequest;
+import com.lsadf.core.infra.web.dto.request.game.inventory.SaveItemsRequest;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
@@ -85,6 +88,8 @@ import tools.jackson.databind.ObjectMapper;
       InventoryRepositoryPort.class,
       GameSessionCachePort.class,
       GameMetadataCachePort.class,
+      GameMetadataNegativeCachePort.class,
+      InventoryCachePort.class,
       CurrencyCachePort.class,
       StageCachePort.class,
       CharacteristicsCachePort.class,
@@ -356,4 +361,69 @@ class InventoryControllerTests {
                 .with(MOCK_JWT_USER))
         .andExpect(status().isOk());
   }
+
+  @Test
+  @SneakyThrows
+  void test_saveItemsInInventory_returns401_when_userNotAuthenticated() {
+    SaveItemsRequest saveItemsRequest =
+        SaveItemsRequest.builder().items(List.of(itemRequestSupplier.get())).build();
+
+    mockMvc
+        .perform(
+            put("/api/v1/inventory/{gameSaveId}/items", "36f27c2a-06e8-4bdb-bf59-56999116f5ef")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(saveItemsRequest)))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_saveItemsInInventory_returns400_when_invalidItem() {
+    ItemRequest invalidItemRequest = ItemRequest.builder().level(-12).build();
+    SaveItemsRequest saveItemsRequest =
+        SaveItemsRequest.builder().items(List.of(invalidItemRequest)).build();
+
+    mockMvc
+        .perform(
+            put("/api/v1/inventory/{gameSaveId}/items", "36f27c2a-06e8-4bdb-bf59-56999116f5ef")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(saveItemsRequest))
+                .header(X_GAME_SESSION_ID, java.util.UUID.randomUUID().toString())
+                .with(MOCK_JWT_USER))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_saveItemsInInventory_returns400_when_tooManyItems() {
+    List<ItemRequest> itemRequests =
+        Collections.nCopies(SaveItemsRequest.MAX_ITEMS + 1, itemRequestSupplier.get());
+    SaveItemsRequest saveItemsRequest = SaveItemsRequest.builder().items(itemRequests).build();
+
+    mockMvc
+        .perform(
+            put("/api/v1/inventory/{gameSaveId}/items", "36f27c2a-06e8-4bdb-bf59-56999116f5ef")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(saveItemsRequest))
+                .header(X_GAME_SESSION_ID, java.util.UUID.randomUUID().toString())
+                .with(MOCK_JWT_USER))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @SneakyThrows
+  void test_saveItemsInInventory_returns200_when_validItems() {
+    SaveItemsRequest saveItemsRequest =
+        SaveItemsRequest.builder().items(List.of(itemRequestSupplier.get())).build();
+
+    mockMvc
+        .perform(
+            put("/api/v1/inventory/{gameSaveId}/items", "36f27c2a-06e8-4bdb-bf59-56999116f5ef")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(saveItemsRequest))
+                .header(X_GAME_SESSION_ID, java.util.UUID.randomUUID().toString())
+                .with(MOCK_JWT_USER))
+        .andExpect(status().isOk());
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.bdd.config;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * Activates the bdd profile, which runs the BDD tests on the default configuration, then the
+ * profiles listed in the {@code bdd.profiles} system property. Each of them turns one opt-in
+ * feature on, e.g. {@code -Dbdd.profiles=bdd-near-cache}.
+ */
+public class BddActiveProfilesResolver implements ActiveProfilesResolver {
+
+  private static final String BDD_PROFILE = "bdd";
+  private static final String BDD_PROFILES_PROPERTY = "bdd.profiles";
+
+  @Override
+  public String[] resolve(Class<?> testClass) {
+    String[] profiles = System.getProperty(BDD_PROFILES_PROPERTY, "").split(",");
+    return Stream.concat(Stream.of(BDD_PROFILE), Arrays.stream(profiles))
+        .map(String::trim)
+        .filter(profile -> !profile.isEmpty())
+        .toArray(String[]::new);
+  }
+}
@@ -38,7 +38,7 @@ public class BddThenCacheStepDefinitions {
 
   public void thenTheSetFlushProcessingCacheShouldBeEmpty() {
     log.info("Checking if flush processing set is empty...");
-    var results = stringRedisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey());
+    var results = stringRedisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1);
     assertThat(results).isEmpty();
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.lsadf.core.application.cache;
 
+import com.lsadf.core.domain.cache.HotKey;
+import java.util.List;
+
 public interface CacheManager {
 
   /**
@@ -36,4 +39,12 @@ public interface CacheManager {
    * @param key the key for the cache entry to be cleared
    */
   void clearGameSaveValues(String key);
+
+  /**
+   * Lists the most accessed game save keys, by descending number of accesses
+   *
+   * @param limit the maximum number of keys to list
+   * @return the hot keys, empty when the accesses are not counted
+   */
+  List<HotKey> getHotKeys(int limit);
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.application.game.inventory;
+
+import com.lsadf.core.application.shared.CachePort;
+import com.lsadf.core.domain.game.inventory.Item;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Cache of the inventory snapshots, by game save id. A snapshot holds every item of the game save
+ * with its additional stats.
+ *
+ * <p>Snapshots are versioned by a generation of the inventory, which is bumped once every write is
+ * committed: a snapshot is only read and written under the generation read before loading the
+ * inventory. A snapshot loaded from a state overwritten concurrently is thus cached under an older
+ * generation, which is never read again.
+ */
+public interface InventoryCachePort extends CachePort<Set<Item>> {
+
+  /**
+   * Get the current generation of the inventory of the game save
+   *
+   * @param key The game save id
+   * @return The generation, or empty if it cannot be read, in which case the cache must be skipped
+   */
+  OptionalLong getGeneration(String key);
+
+  /**
+   * Get the snapshot cached under the given generation
+   *
+   * @param key The game save id
+   * @param generation The generation read before
+   * @return The snapshot if present
+   */
+  Optional<Set<Item>> get(String key, long generation);
+
+  /**
+   * Set the snapshot under the given generation. The generation must have been read before loading
+   * the snapshot, so that a snapshot loaded before a write is never read after it.
+   *
+   * @param key The game save id
+   * @param generation The generation read before loading the snapshot
+   * @param value The snapshot
+   */
+  void set(String key, long generation, Set<Item> value);
+
+  /**
+   * Bump the generation of the inventory, so that the snapshots cached until now are no longer
+   * read. It must be called once the write is committed.
+   *
+   * @param key The game save id
+   */
+  void invalidate(String key);
+}
@@ -16,6 +16,8 @@
 package com.lsadf.core.application.game.inventory;
 
 import com.lsadf.core.domain.game.inventory.Item;
+import com.lsadf.core.exception.AlreadyExistingItemClientIdException;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -30,6 +32,18 @@ public interface InventoryRepositoryPort {
 
   Item updateItem(UUID gameSaveId, Item item);
 
+  /**
+   * Create or replace several items of a game save, with their additional stats, in batches. The
+   * items whose client id already exists in the game save are replaced, the others are created.
+   *
+   * @param gameSaveId the game save id
+   * @param items the items to save
+   * @return the saved items, with their ids
+   * @throws AlreadyExistingItemClientIdException if a client id belongs to another game save
+   */
+  List<Item> saveItems(UUID gameSaveId, List<Item> items)
+      throws AlreadyExistingItemClientIdException;
+
   void deleteItemByClientId(String clientId);
 
   void deleteAllItemsByGameSaveId(UUID gameSaveId);
@@ -19,6 +19,7 @@ import com.lsadf.core.domain.game.inventory.Item;
 import com.lsadf.core.exception.AlreadyExistingItemClientIdException;
 import com.lsadf.core.exception.http.ForbiddenException;
 import com.lsadf.core.exception.http.NotFoundException;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -63,6 +64,17 @@ public interface InventoryService {
   Item updateItemInInventory(UUID gameSaveId, String itemClientId, ItemCommand itemRequest)
       throws NotFoundException, ForbiddenException;
 
+  /**
+   * Create or replace several items in the inventory of a game save, in a single transaction
+   *
+   * @param gameSaveId the game save id
+   * @param itemRequests the items to create or replace, identified by their client id
+   * @return the saved items
+   * @throws NotFoundException, AlreadyExistingItemClientIdException
+   */
+  List<Item> saveItemsInInventory(UUID gameSaveId, List<? extends ItemCommand> itemRequests)
+      throws NotFoundException, AlreadyExistingItemClientIdException;
+
   /**
    * Clears all items in the inventory for the specified game save.
    *
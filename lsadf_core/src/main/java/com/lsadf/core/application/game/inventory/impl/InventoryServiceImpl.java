@@ -15,6 +15,8 @@
  */
 package com.lsadf.core.application.game.inventory.impl;
 
+import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.inventory.InventoryService;
 import com.lsadf.core.application.game.inventory.ItemCommand;
@@ -28,18 +30,32 @@ import com.lsadf.core.exception.http.ForbiddenException;
 import com.lsadf.core.exception.http.NotFoundException;
 import java.util.*;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class InventoryServiceImpl implements InventoryService {
 
   private final InventoryRepositoryPort inventoryRepositoryPort;
   private final GameMetadataService gameMetadataService;
+  private final InventoryCachePort inventoryCachePort;
+  private final CacheManager cacheManager;
 
   public InventoryServiceImpl(
-      InventoryRepositoryPort inventoryRepositoryPort, GameMetadataService gameMetadataService) {
+      InventoryRepositoryPort inventoryRepositoryPort,
+      GameMetadataService gameMetadataService,
+      InventoryCachePort inventoryCachePort,
+      CacheManager cacheManager) {
     this.inventoryRepositoryPort = inventoryRepositoryPort;
     this.gameMetadataService = gameMetadataService;
+    this.inventoryCachePort = inventoryCachePort;
+    this.cacheManager = cacheManager;
   }
 
+  /**
+   * Reads the inventory from its cached snapshot when the cache is enabled. The generation of the
+   * inventory is read before loading it from the database, and the snapshot is cached under it: if
+   * a write commits in between, the snapshot is cached under a generation that is no longer read.
+   */
   @Override
   @Transactional(readOnly = true)
   public Set<Item> getInventoryItems(UUID gameSaveId) throws NotFoundException {
@@ -47,7 +63,23 @@ public class InventoryServiceImpl implements InventoryService {
       throw new NotFoundException("Inventory not found for game save id " + gameSaveId);
     }
 
-    return inventoryRepositoryPort.findAllItemsByGameSaveId(gameSaveId);
+    String key = gameSaveId.toString();
+    OptionalLong generation =
+        Boolean.TRUE.equals(cacheManager.isEnabled())
+            ? inventoryCachePort.getGeneration(key)
+            : OptionalLong.empty();
+    if (generation.isPresent()) {
+      Optional<Set<Item>> cachedItems = inventoryCachePort.get(key, generation.getAsLong());
+      if (cachedItems.isPresent()) {
+        return cachedItems.get();
+      }
+    }
+
+    Set<Item> items = inventoryRepositoryPort.findAllItemsByGameSaveId(gameSaveId);
+    if (generation.isPresent()) {
+      inventoryCachePort.set(key, generation.getAsLong(), items);
+    }
+    return items;
   }
 
   @Override
@@ -63,29 +95,10 @@ public class InventoryServiceImpl implements InventoryService {
           "Item with client id " + itemRequest.getClientId() + " already exists");
     }
 
-    ItemType itemType = ItemType.fromString(itemRequest.getType());
-    ItemRarity itemRarity = ItemRarity.fromString(itemRequest.getRarity());
-    ItemStat mainStat =
-        new ItemStat(
-            itemRequest.getMainStat().getStatistic(), itemRequest.getMainStat().getBaseValue());
-    List<ItemStat> additionalStats =
-        itemRequest.getAdditionalStats().stream()
-            .map(stat -> new ItemStat(stat.getStatistic(), stat.getBaseValue()))
-            .toList();
-    Item item =
-        Item.builder()
-            .gameSaveId(gameSaveId)
-            .clientId(itemRequest.getClientId())
-            .blueprintId(itemRequest.getBlueprintId())
-            .itemType(itemType)
-            .itemRarity(itemRarity)
-            .isEquipped(itemRequest.getIsEquipped())
-            .level(itemRequest.getLevel())
-            .mainStat(mainStat)
-            .additionalStats(additionalStats)
-            .build();
-
-    return inventoryRepositoryPort.createItem(gameSaveId, item);
+    Item item = toItem(gameSaveId, itemRequest.getClientId(), itemRequest);
+    Item createdItem = inventoryRepositoryPort.createItem(gameSaveId, item);
+    invalidateInventorySnapshot(gameSaveId);
+    return createdItem;
   }
 
   @Override
@@ -103,6 +116,7 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     inventoryRepositoryPort.deleteItemByClientId(itemClientId);
+    invalidateInventorySnapshot(gameSaveId);
   }
 
   @Override
@@ -120,31 +134,33 @@ public class InventoryServiceImpl implements InventoryService {
 
     Item existingItem = optionalItem.get();
 
-    ItemType itemType = ItemType.fromString(itemRequest.getType());
-    ItemRarity itemRarity = ItemRarity.fromString(itemRequest.getRarity());
-    ItemStat mainStat =
-        new ItemStat(
-            itemRequest.getMainStat().getStatistic(), itemRequest.getMainStat().getBaseValue());
-    List<ItemStat> additionalStats =
-        itemRequest.getAdditionalStats().stream()
-            .map(stat -> new ItemStat(stat.getStatistic(), stat.getBaseValue()))
-            .toList();
+    Item updatedItem = toItem(gameSaveId, itemClientId, itemRequest);
+    updatedItem.setId(existingItem.getId());
+    Item savedItem = inventoryRepositoryPort.updateItem(gameSaveId, updatedItem);
+    invalidateInventorySnapshot(gameSaveId);
+    return savedItem;
+  }
 
-    Item updatedItem =
-        Item.builder()
-            .id(existingItem.getId())
-            .gameSaveId(gameSaveId)
-            .clientId(itemClientId)
-            .blueprintId(itemRequest.getBlueprintId())
-            .itemType(itemType)
-            .itemRarity(itemRarity)
-            .isEquipped(itemRequest.getIsEquipped())
-            .level(itemRequest.getLevel())
-            .mainStat(mainStat)
-            .additionalStats(additionalStats)
-            .build();
-
-    return inventoryRepositoryPort.updateItem(gameSaveId, updatedItem);
+  @Override
+  @Transactional
+  public List<Item> saveItemsInInventory(UUID gameSaveId, List<? extends ItemCommand> itemRequests)
+      throws NotFoundException, AlreadyExistingItemClientIdException {
+    if (!gameMetadataService.existsById(gameSaveId)) {
+      throw new NotFoundException("Inventory not found for game save id " + gameSaveId);
+    }
+
+    Set<String> clientIds = new HashSet<>();
+    List<Item> items = new ArrayList<>(itemRequests.size());
+    for (ItemCommand itemRequest : itemRequests) {
+      if (!clientIds.add(itemRequest.getClientId())) {
+        throw new IllegalArgumentException("Duplicate item client id " + itemRequest.getClientId());
+      }
+      items.add(toItem(gameSaveId, itemRequest.getClientId(), itemRequest));
+    }
+
+    List<Item> savedItems = inventoryRepositoryPort.saveItems(gameSaveId, items);
+    invalidateInventorySnapshot(gameSaveId);
+    return savedItems;
   }
 
   @Override
@@ -155,5 +171,49 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     inventoryRepositoryPort.deleteAllItemsByGameSaveId(gameSaveId);
+    invalidateInventorySnapshot(gameSaveId);
+  }
+
+  /**
+   * Bumps the generation of the inventory of the game save once the transaction commits, so that
+   * no snapshot loaded before the write is read after it. It is bumped even when the cache is
+   * disabled, so that the snapshots cached before are not read once it is enabled again.
+   */
+  private void invalidateInventorySnapshot(UUID gameSaveId) {
+    String key = gameSaveId.toString();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      inventoryCachePort.invalidate(key);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            inventoryCachePort.invalidate(key);
+          }
+        });
+  }
+
+  private static Item toItem(UUID gameSaveId, String clientId, ItemCommand itemRequest) {
+    ItemType itemType = ItemType.fromString(itemRequest.getType());
+    ItemRarity itemRarity = ItemRarity.fromString(itemRequest.getRarity());
+    ItemStat mainStat =
+        new ItemStat(
+            itemRequest.getMainStat().getStatistic(), itemRequest.getMainStat().getBaseValue());
+    List<ItemStat> additionalStats =
+        itemRequest.getAdditionalStats().stream()
+            .map(stat -> new ItemStat(stat.getStatistic(), stat.getBaseValue()))
+            .toList();
+    return Item.builder()
+        .gameSaveId(gameSaveId)
+        .clientId(clientId)
+        .blueprintId(itemRequest.getBlueprintId())
+        .itemType(itemType)
+        .itemRarity(itemRarity)
+        .isEquipped(itemRequest.getIsEquipped())
+        .level(itemRequest.getLevel())
+        .mainStat(mainStat)
+        .additionalStats(additionalStats)
+        .build();
   }
 }
@@ -48,6 +48,15 @@ public interface GameMailRepositoryPort {
    */
   void createNewGameEmail(UUID id, UUID gameSaveId, UUID mailTemplateId);
 
+  /**
+   * Create a game email from the template for every game save, skipping the game saves that
+   * already have one
+   *
+   * @param mailTemplateId the mail template id
+   * @return the number of created game emails
+   */
+  long createGameEmailsForAllGameSaves(UUID mailTemplateId);
+
   /**
    * Mark a game email as read
    *
@@ -19,7 +19,13 @@ import com.lsadf.core.application.game.mail.command.SendEmailCommand;
 import java.util.UUID;
 
 public interface GameMailSenderService {
-  void sendGameMailToAllGameSaves(UUID gameTemplateId);
+  /**
+   * Sends a game mail from the template to every game save that has not received it yet
+   *
+   * @param gameTemplateId the game mail template id
+   * @return the number of game mails sent
+   */
+  long sendGameMailToAllGameSaves(UUID gameTemplateId);
 
   void sendGameMailToGameSaveById(SendEmailCommand command);
 }
@@ -21,7 +21,6 @@ import com.lsadf.core.application.game.mail.GameMailTemplateQueryService;
 import com.lsadf.core.application.game.mail.command.SendEmailCommand;
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.exception.http.NotFoundException;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 
@@ -33,13 +32,11 @@ public class GameMailSenderServiceImpl implements GameMailSenderService {
   private final GameMailRepositoryPort gameMailRepositoryPort;
 
   @Override
-  public void sendGameMailToAllGameSaves(UUID gameTemplateId) {
-    List<UUID> gameSaveIds =
-        gameSaveService.getGameSaves().stream().map(gs -> gs.getMetadata().id()).toList();
-    for (UUID gameSaveId : gameSaveIds) {
-      SendEmailCommand command = new SendEmailCommand(gameSaveId, gameTemplateId);
-      sendGameMailToGameSaveById(command);
+  public long sendGameMailToAllGameSaves(UUID gameTemplateId) {
+    if (!gameMailTemplateQueryService.existsById(gameTemplateId)) {
+      throw new NotFoundException("Game mail template with id " + gameTemplateId + " not found");
     }
+    return gameMailRepositoryPort.createGameEmailsForAllGameSaves(gameTemplateId);
   }
 
   @Override
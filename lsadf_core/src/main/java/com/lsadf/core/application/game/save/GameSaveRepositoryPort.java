@@ -16,9 +16,14 @@
 package com.lsadf.core.application.game.save;
 
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
 
 public interface GameSaveRepositoryPort {
 
@@ -26,5 +31,25 @@ public interface GameSaveRepositoryPort {
 
   Stream<GameSave> findAll();
 
+  /**
+   * Finds a page of game saves, ordered by creation date, then by id
+   *
+   * @param after the cursor of the game save to start after, or null to start from the first one
+   * @param limit the maximum number of game saves to return
+   * @return the game saves of the page
+   */
+  List<GameSave> findPage(@Nullable GameSaveCursor after, int limit);
+
+  /**
+   * Searches for the game saves matching all the given filters, sorted and limited by the database
+   *
+   * @param filters the filters, whose values are SQL-like patterns (e.g. San%)
+   * @param orderBy the sorting parameters
+   * @param limit the maximum number of game saves to return
+   * @return the matching game saves
+   * @throws IllegalArgumentException if the type of a filter is not supported
+   */
+  List<GameSave> search(List<Filter> filters, List<GameSaveSortingParameter> orderBy, int limit);
+
   Stream<GameSave> findByUserEmail(String userEmail);
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.application.game.save;
+
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/** Reads the cached characteristics, currency and stage of game saves together. */
+public interface GameSaveSectionsCachePort {
+
+  /**
+   * The cached sections of a game save, null for a section that is not cached
+   *
+   * @param characteristics the cached characteristics
+   * @param currency the cached currency
+   * @param stage the cached stage
+   */
+  record GameSaveSections(
+      @Nullable Characteristics characteristics,
+      @Nullable Currency currency,
+      @Nullable Stage stage) {}
+
+  /**
+   * Get the cached sections of a game save, for a read by its player. Implementations keeping track
+   * of how often the game saves are read count it as a single access, whatever the number of
+   * sections read.
+   *
+   * @param key The id of the game save
+   * @return The cached sections of the game save, if any of them is cached
+   */
+  Optional<GameSaveSections> get(String key);
+
+  /**
+   * Get the cached sections of several game saves at once, for the flush or the batch updates,
+   * which are not counted as accesses. Game saves without any cached section
+   * are absent from the returned map.
+   *
+   * @param keys The ids of the game saves
+   * @return A map of the ids of the game saves to their cached sections
+   */
+  Map<String, GameSaveSections> getMany(Collection<String> keys);
+
+  /**
+   * Get the cached sections of several game saves at once, for display only. Like {@link
+   * com.lsadf.core.application.shared.CachePort#getManyStale(Collection)}, implementations may read
+   * them from a replica.
+   *
+   * @param keys The ids of the game saves
+   * @return A map of the ids of the game saves to their cached sections
+   */
+  Map<String, GameSaveSections> getManyStale(Collection<String> keys);
+}
@@ -16,15 +16,21 @@
 package com.lsadf.core.application.game.save;
 
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
 import com.lsadf.core.exception.AlreadyExistingGameSaveException;
 import com.lsadf.core.exception.AlreadyTakenNicknameException;
 import com.lsadf.core.exception.http.ForbiddenException;
 import com.lsadf.core.exception.http.NotFoundException;
 import com.lsadf.core.exception.http.UnauthorizedException;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.GameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.update.GameSaveUpdateRequest;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
 
 /** Service for managing game saves */
 public interface GameSaveService {
@@ -79,6 +85,14 @@ public interface GameSaveService {
    */
   boolean existsById(UUID gameSaveId);
 
+  /**
+   * Warms the cache of a game save up: its metadata, characteristics, currency and stage are read
+   * from the database in a single query, and written to the caches that do not already hold them.
+   *
+   * @param gameSaveId the game save id
+   */
+  void warmUpCache(UUID gameSaveId);
+
   /**
    * Deletes a game save
    *
@@ -95,6 +109,39 @@ public interface GameSaveService {
    */
   List<GameSave> getGameSaves();
 
+  /**
+   * Gets a page of game saves, ordered by creation date, then by id. Each page is read with a
+   * keyset query, so its cost does not depend on its position in the listing.
+   *
+   * @param after the cursor of the game save to start after, or null to get the first page
+   * @param limit the maximum number of game saves in the page
+   * @return the page of game saves, with the cursor of the next page if any
+   */
+  GameSavePage getGameSavesPage(@Nullable GameSaveCursor after, int limit);
+
+  /**
+   * Exports all game saves to the given consumer, as they are read from the database. The game
+   * saves are fetched in batches and never held all at once in memory, so the consumer should write
+   * them out instead of collecting them.
+   *
+   * @param consumer the consumer of the game saves
+   */
+  void exportGameSaves(Consumer<GameSave> consumer);
+
+  /**
+   * Searches for the game saves matching all the given filters. Filtering, sorting and limiting
+   * are done by the database; the cached data is then overlaid on the returned game saves only, so
+   * the sorting is based on the persisted values.
+   *
+   * @param filters the filters, whose values are SQL-like patterns (e.g. San%)
+   * @param orderBy the sorting parameters
+   * @param limit the maximum number of game saves to return
+   * @return the matching game saves
+   * @throws IllegalArgumentException if the type of a filter is not supported
+   */
+  List<GameSave> searchGameSaves(
+      List<Filter> filters, List<GameSaveSortingParameter> orderBy, int limit);
+
   /**
    * Counts the total number of game saves available in the system.
    *
@@ -20,6 +20,7 @@ import com.lsadf.core.application.game.save.characteristics.command.InitializeDe
 import com.lsadf.core.application.game.save.characteristics.command.PersistCharacteristicsCommand;
 import com.lsadf.core.application.game.save.characteristics.command.UpdateCacheCharacteristicsCommand;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import java.util.List;
 
 /**
  * Service interface for handling commands related to the management and initialization of game save
@@ -56,6 +57,14 @@ public interface CharacteristicsCommandService {
    */
   void persistCharacteristics(PersistCharacteristicsCommand command);
 
+  /**
+   * Persists the characteristics of several game saves in a single batch.
+   *
+   * @param commands the {@code PersistCharacteristicsCommand} instances to persist, one per game
+   *     save
+   */
+  void persistCharacteristicsBatch(List<PersistCharacteristicsCommand> commands);
+
   /**
    * Updates the cached characteristics with the provided values from the given command.
    *
@@ -63,4 +72,13 @@ public interface CharacteristicsCommandService {
    *     save ID and the new characteristic values to apply to the cache
    */
   void updateCacheCharacteristics(UpdateCacheCharacteristicsCommand command);
+
+  /**
+   * Updates the cached characteristics of several game saves at once. The cached values the partial
+   * updates are merged with are read in a single call, and all the resulting values are written
+   * back in a single call. Commands targeting the same game save are applied in order.
+   *
+   * @param commands the {@code UpdateCacheCharacteristicsCommand} instances to apply
+   */
+  void updateCacheCharacteristicsBatch(List<UpdateCacheCharacteristicsCommand> commands);
 }
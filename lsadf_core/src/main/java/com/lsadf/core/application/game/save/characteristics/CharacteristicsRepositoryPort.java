@@ -16,6 +16,7 @@
 package com.lsadf.core.application.game.save.characteristics;
 
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
@@ -37,6 +38,8 @@ public interface CharacteristicsRepositoryPort {
       @Nullable Long health,
       @Nullable Long resistance);
 
+  void updateAll(Map<UUID, Characteristics> characteristics);
+
   boolean existsById(UUID id);
 
   Long count();
@@ -27,7 +27,11 @@ import com.lsadf.core.application.game.save.characteristics.command.PersistChara
 import com.lsadf.core.application.game.save.characteristics.command.UpdateCacheCharacteristicsCommand;
 import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -85,31 +89,54 @@ public class CharacteristicsCommandServiceImpl implements CharacteristicsCommand
         command.resistance());
   }
 
+  @Override
+  @Transactional
+  public void persistCharacteristicsBatch(List<PersistCharacteristicsCommand> commands) {
+    Map<UUID, Characteristics> characteristics = new LinkedHashMap<>();
+    for (PersistCharacteristicsCommand command : commands) {
+      characteristics.put(
+          command.gameSaveId(),
+          new Characteristics(
+              command.attack(),
+              command.critChance(),
+              command.critDamage(),
+              command.health(),
+              command.resistance()));
+    }
+    characteristicsRepositoryPort.updateAll(characteristics);
+  }
+
+  /**
+   * Update the characteristics in the cache. Partial characteristics are merged into the cached
+   * characteristics on the cache server. When the cache holds none, the current characteristics are
+   * read from the database and cached, unless another update cached them first, and the merge is
+   * retried, so that a concurrent update is never overwritten.
+   *
+   * @param command the update command
+   */
   @Override
   public void updateCacheCharacteristics(UpdateCacheCharacteristicsCommand command) {
-    Characteristics characteristics;
     if (isCharacteristicsNull(command)) {
       throw new IllegalArgumentException("Characteristics cannot be null");
     }
     if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
       String gameSaveIdString = command.gameSaveId().toString();
-      if (isCharacteristicsPartial(command)) {
+      Characteristics characteristics = toCharacteristics(command);
+      if (isCharacteristicsPartial(characteristics)) {
+        if (characteristicsCache.merge(gameSaveIdString, characteristics)) {
+          return;
+        }
         Characteristics existingCharacteristics =
             characteristicsCache
                 .get(gameSaveIdString)
                 .orElseGet(
                     () ->
                         characteristicsQueryService.retrieveCharacteristics(command.gameSaveId()));
-        characteristics = mergeCharacteristics(command, existingCharacteristics);
-      } else {
-        characteristics =
-            // Adding Objects.requireNonNull() since object is not partial
-            new Characteristics(
-                Objects.requireNonNull(command.attack()),
-                Objects.requireNonNull(command.critChance()),
-                Objects.requireNonNull(command.critDamage()),
-                Objects.requireNonNull(command.health()),
-                Objects.requireNonNull(command.resistance()));
+        characteristicsCache.setManyIfAbsent(Map.of(gameSaveIdString, existingCharacteristics));
+        if (characteristicsCache.merge(gameSaveIdString, characteristics)) {
+          return;
+        }
+        characteristics = mergeCharacteristics(characteristics, existingCharacteristics);
       }
       characteristicsCache.set(gameSaveIdString, characteristics);
     } else {
@@ -118,20 +145,101 @@ public class CharacteristicsCommandServiceImpl implements CharacteristicsCommand
   }
 
   /**
-   * Merge the characteristics POJO with the characteristics from the database
+   * Update the characteristics of a batch in the cache. The commands are first coalesced per game
+   * save, in order. The partial characteristics are then merged into the cached characteristics
+   * with a single bulk merge; the characteristics missing from the cache are read from the
+   * database, cached unless another update cached them first, and merged again. The remaining ones
+   * are written with a single bulk set.
+   *
+   * @param commands the update commands
+   */
+  @Override
+  public void updateCacheCharacteristicsBatch(List<UpdateCacheCharacteristicsCommand> commands) {
+    if (commands.isEmpty()) {
+      return;
+    }
+    if (commands.stream().anyMatch(CharacteristicsCommandServiceImpl::isCharacteristicsNull)) {
+      throw new IllegalArgumentException("Characteristics cannot be null");
+    }
+    if (!Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      log.warn("Cache is disabled");
+      return;
+    }
+    Map<UUID, Characteristics> updates = new LinkedHashMap<>();
+    for (UpdateCacheCharacteristicsCommand command : commands) {
+      updates.merge(
+          command.gameSaveId(),
+          toCharacteristics(command),
+          (previous, update) -> mergeCharacteristics(update, previous));
+    }
+    Map<String, Characteristics> partialUpdates = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          if (isCharacteristicsPartial(update)) {
+            partialUpdates.put(gameSaveId.toString(), update);
+          }
+        });
+    Set<String> merged = new HashSet<>(characteristicsCache.mergeMany(partialUpdates));
+    List<String> missingIds =
+        partialUpdates.keySet().stream().filter(id -> !merged.contains(id)).toList();
+    Map<String, Characteristics> current = characteristicsCache.getMany(missingIds);
+    Map<String, Characteristics> existing = new LinkedHashMap<>();
+    Map<String, Characteristics> retries = new LinkedHashMap<>();
+    for (String id : missingIds) {
+      Characteristics existingCharacteristics = current.get(id);
+      if (existingCharacteristics == null) {
+        existingCharacteristics =
+            characteristicsQueryService.retrieveCharacteristics(UUID.fromString(id));
+      }
+      existing.put(id, existingCharacteristics);
+      retries.put(id, partialUpdates.get(id));
+    }
+    if (!existing.isEmpty()) {
+      characteristicsCache.setManyIfAbsent(existing);
+      merged.addAll(characteristicsCache.mergeMany(retries));
+    }
+    Map<String, Characteristics> updated = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          String gameSaveIdString = gameSaveId.toString();
+          if (merged.contains(gameSaveIdString)) {
+            return;
+          }
+          Characteristics characteristics = update;
+          if (isCharacteristicsPartial(update)) {
+            characteristics = mergeCharacteristics(update, existing.get(gameSaveIdString));
+          }
+          updated.put(gameSaveIdString, characteristics);
+        });
+    if (!updated.isEmpty()) {
+      characteristicsCache.setMany(updated);
+    }
+  }
+
+  private static Characteristics toCharacteristics(UpdateCacheCharacteristicsCommand command) {
+    return new Characteristics(
+        command.attack(),
+        command.critChance(),
+        command.critDamage(),
+        command.health(),
+        command.resistance());
+  }
+
+  /**
+   * Merge a characteristics update with existing characteristics
    *
-   * @param characteristics the characteristics POJO
-   * @param dbCharacteristics the characteristics from the database
+   * @param update the characteristics update, whose null fields are taken from the existing ones
+   * @param existing the existing characteristics
    * @return the merged characteristics POJO
    */
   private static Characteristics mergeCharacteristics(
-      UpdateCacheCharacteristicsCommand characteristics, Characteristics dbCharacteristics) {
+      Characteristics update, Characteristics existing) {
     Characteristics.CharacteristicsBuilder builder = Characteristics.builder();
-    builder.attack(getOrDefault(characteristics.attack(), dbCharacteristics.attack()));
-    builder.critChance(getOrDefault(characteristics.critChance(), dbCharacteristics.critChance()));
-    builder.critDamage(getOrDefault(characteristics.critDamage(), dbCharacteristics.critDamage()));
-    builder.health(getOrDefault(characteristics.health(), dbCharacteristics.health()));
-    builder.resistance(getOrDefault(characteristics.resistance(), dbCharacteristics.resistance()));
+    builder.attack(getOrDefault(update.attack(), existing.attack()));
+    builder.critChance(getOrDefault(update.critChance(), existing.critChance()));
+    builder.critDamage(getOrDefault(update.critDamage(), existing.critDamage()));
+    builder.health(getOrDefault(update.health(), existing.health()));
+    builder.resistance(getOrDefault(update.resistance(), existing.resistance()));
     return builder.build();
   }
 
@@ -142,8 +250,7 @@ public class CharacteristicsCommandServiceImpl implements CharacteristicsCommand
    * @return true if any of the fields (attack, critChance, critDamage, health, resistance) are
    *     null, false otherwise
    */
-  private static boolean isCharacteristicsPartial(
-      UpdateCacheCharacteristicsCommand characteristics) {
+  private static boolean isCharacteristicsPartial(Characteristics characteristics) {
     return characteristics.attack() == null
         || characteristics.critChance() == null
         || characteristics.critDamage() == null
@@ -20,6 +20,7 @@ import com.lsadf.core.application.game.save.currency.command.InitializeDefaultCu
 import com.lsadf.core.application.game.save.currency.command.PersistCurrencyCommand;
 import com.lsadf.core.application.game.save.currency.command.UpdateCacheCurrencyCommand;
 import com.lsadf.core.domain.game.save.currency.Currency;
+import java.util.List;
 
 /**
  * Defines the contract for handling commands related to {@code Currency} objects in the context of
@@ -54,6 +55,13 @@ public interface CurrencyCommandService {
    */
   void persistCurrency(PersistCurrencyCommand command);
 
+  /**
+   * Persists the currency details of several game saves to storage in a single batch.
+   *
+   * @param commands the {@code PersistCurrencyCommand} instances to persist, one per game save
+   */
+  void persistCurrencyBatch(List<PersistCurrencyCommand> commands);
+
   /**
    * Updates the cached currency values for a specific game save.
    *
@@ -61,4 +69,13 @@ public interface CurrencyCommandService {
    *     and the updated currency values for gold, diamond, emerald, and amethyst
    */
   void updateCacheCurrency(UpdateCacheCurrencyCommand command);
+
+  /**
+   * Updates the cached currency of several game saves at once. The cached values the partial
+   * updates are merged with are read in a single call, and all the resulting values are written
+   * back in a single call. Commands targeting the same game save are applied in order.
+   *
+   * @param commands the {@code UpdateCacheCurrencyCommand} instances to apply
+   */
+  void updateCacheCurrencyBatch(List<UpdateCacheCurrencyCommand> commands);
 }
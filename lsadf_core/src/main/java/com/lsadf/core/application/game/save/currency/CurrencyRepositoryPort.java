@@ -16,6 +16,7 @@
 package com.lsadf.core.application.game.save.currency;
 
 import com.lsadf.core.domain.game.save.currency.Currency;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
@@ -35,6 +36,8 @@ public interface CurrencyRepositoryPort {
       @Nullable Long emerald,
       @Nullable Long amethyst);
 
+  void updateAll(Map<UUID, Currency> currencies);
+
   boolean existsById(UUID id);
 
   Long count();
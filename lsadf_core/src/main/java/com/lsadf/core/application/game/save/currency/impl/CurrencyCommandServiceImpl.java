@@ -27,7 +27,11 @@ import com.lsadf.core.application.game.save.currency.command.PersistCurrencyComm
 import com.lsadf.core.application.game.save.currency.command.UpdateCacheCurrencyCommand;
 import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.domain.game.save.currency.Currency;
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -80,28 +84,47 @@ public class CurrencyCommandServiceImpl implements CurrencyCommandService {
         command.amethyst());
   }
 
+  @Override
+  @Transactional
+  public void persistCurrencyBatch(List<PersistCurrencyCommand> commands) {
+    Map<UUID, Currency> currencies = new LinkedHashMap<>();
+    for (PersistCurrencyCommand command : commands) {
+      currencies.put(
+          command.gameSaveId(),
+          new Currency(command.gold(), command.diamond(), command.emerald(), command.amethyst()));
+    }
+    currencyRepositoryPort.updateAll(currencies);
+  }
+
+  /**
+   * Update the currency in the cache. A partial currency is merged into the cached currency on the
+   * cache server. When the cache holds none, the current currency is read from the database and
+   * cached, unless another update cached one first, and the merge is retried, so that a concurrent
+   * update is never overwritten.
+   *
+   * @param command the update command
+   */
   @Override
   public void updateCacheCurrency(UpdateCacheCurrencyCommand command) {
-    Currency currency;
     if (isCurrencyNull(command)) {
       throw new IllegalArgumentException("Currency cannot be null");
     }
     if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
       String gameSaveIdString = command.gameSaveId().toString();
-      if (isCurrencyPartial(command)) {
+      Currency currency = toCurrency(command);
+      if (isCurrencyPartial(currency)) {
+        if (currencyCache.merge(gameSaveIdString, currency)) {
+          return;
+        }
         Currency existingCurrency =
             currencyCache
                 .get(gameSaveIdString)
                 .orElseGet(() -> currencyQueryService.retrieveCurrency(command.gameSaveId()));
-        currency = mergeCurrency(command, existingCurrency);
-      } else {
-        currency =
-            // Adding Objects.requireNonNull() since object is not partial
-            new Currency(
-                Objects.requireNonNull(command.gold()),
-                Objects.requireNonNull(command.diamond()),
-                Objects.requireNonNull(command.emerald()),
-                Objects.requireNonNull(command.amethyst()));
+        currencyCache.setManyIfAbsent(Map.of(gameSaveIdString, existingCurrency));
+        if (currencyCache.merge(gameSaveIdString, currency)) {
+          return;
+        }
+        currency = mergeCurrency(currency, existingCurrency);
       }
       currencyCache.set(gameSaveIdString, currency);
     } else {
@@ -110,18 +133,93 @@ public class CurrencyCommandServiceImpl implements CurrencyCommandService {
   }
 
   /**
-   * Merge the currency POJO with the currency from the database
+   * Update the currencies of a batch in the cache. The commands are first coalesced per game save,
+   * in order. The partial currencies are then merged into the cached currencies with a single bulk
+   * merge; the currencies missing from the cache are read from the database, cached unless another
+   * update cached them first, and merged again. The remaining ones are written with a single bulk
+   * set.
+   *
+   * @param commands the update commands
+   */
+  @Override
+  public void updateCacheCurrencyBatch(List<UpdateCacheCurrencyCommand> commands) {
+    if (commands.isEmpty()) {
+      return;
+    }
+    if (commands.stream().anyMatch(CurrencyCommandServiceImpl::isCurrencyNull)) {
+      throw new IllegalArgumentException("Currency cannot be null");
+    }
+    if (!Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      log.warn("Cache is disabled");
+      return;
+    }
+    Map<UUID, Currency> updates = new LinkedHashMap<>();
+    for (UpdateCacheCurrencyCommand command : commands) {
+      updates.merge(
+          command.gameSaveId(),
+          toCurrency(command),
+          (previous, update) -> mergeCurrency(update, previous));
+    }
+    Map<String, Currency> partialUpdates = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          if (isCurrencyPartial(update)) {
+            partialUpdates.put(gameSaveId.toString(), update);
+          }
+        });
+    Set<String> merged = new HashSet<>(currencyCache.mergeMany(partialUpdates));
+    List<String> missingIds =
+        partialUpdates.keySet().stream().filter(id -> !merged.contains(id)).toList();
+    Map<String, Currency> current = currencyCache.getMany(missingIds);
+    Map<String, Currency> existing = new LinkedHashMap<>();
+    Map<String, Currency> retries = new LinkedHashMap<>();
+    for (String id : missingIds) {
+      Currency existingCurrency = current.get(id);
+      if (existingCurrency == null) {
+        existingCurrency = currencyQueryService.retrieveCurrency(UUID.fromString(id));
+      }
+      existing.put(id, existingCurrency);
+      retries.put(id, partialUpdates.get(id));
+    }
+    if (!existing.isEmpty()) {
+      currencyCache.setManyIfAbsent(existing);
+      merged.addAll(currencyCache.mergeMany(retries));
+    }
+    Map<String, Currency> updated = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          String gameSaveIdString = gameSaveId.toString();
+          if (merged.contains(gameSaveIdString)) {
+            return;
+          }
+          Currency currency = update;
+          if (isCurrencyPartial(update)) {
+            currency = mergeCurrency(update, existing.get(gameSaveIdString));
+          }
+          updated.put(gameSaveIdString, currency);
+        });
+    if (!updated.isEmpty()) {
+      currencyCache.setMany(updated);
+    }
+  }
+
+  private static Currency toCurrency(UpdateCacheCurrencyCommand command) {
+    return new Currency(command.gold(), command.diamond(), command.emerald(), command.amethyst());
+  }
+
+  /**
+   * Merge a currency update with an existing currency
    *
-   * @param currency the currency command
-   * @param dbCurrency the currency from the database
+   * @param update the currency update, whose null fields are taken from the existing currency
+   * @param existingCurrency the existing currency
    * @return the merged currency POJO
    */
-  private static Currency mergeCurrency(UpdateCacheCurrencyCommand currency, Currency dbCurrency) {
+  private static Currency mergeCurrency(Currency update, Currency existingCurrency) {
     Currency.CurrencyBuilder builder = Currency.builder();
-    builder.gold(getOrDefault(currency.gold(), dbCurrency.gold()));
-    builder.diamond(getOrDefault(currency.diamond(), dbCurrency.diamond()));
-    builder.emerald(getOrDefault(currency.emerald(), dbCurrency.emerald()));
-    builder.amethyst(getOrDefault(currency.amethyst(), dbCurrency.amethyst()));
+    builder.gold(getOrDefault(update.gold(), existingCurrency.gold()));
+    builder.diamond(getOrDefault(update.diamond(), existingCurrency.diamond()));
+    builder.emerald(getOrDefault(update.emerald(), existingCurrency.emerald()));
+    builder.amethyst(getOrDefault(update.amethyst(), existingCurrency.amethyst()));
     return builder.build();
   }
 
@@ -131,7 +229,7 @@ public class CurrencyCommandServiceImpl implements CurrencyCommandService {
    * @param currency the currency object to be checked
    * @return true if any of the fields (gold, diamond, emerald, amethyst) are null, false otherwise
    */
-  private static boolean isCurrencyPartial(UpdateCacheCurrencyCommand currency) {
+  private static boolean isCurrencyPartial(Currency currency) {
     return currency.gold() == null
         || currency.diamond() == null
         || currency.emerald() == null
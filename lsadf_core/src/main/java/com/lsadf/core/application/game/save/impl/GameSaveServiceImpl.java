@@ -16,7 +16,11 @@
 package com.lsadf.core.application.game.save.impl;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.save.GameSaveRepositoryPort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort.GameSaveSections;
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
@@ -40,6 +44,8 @@ import com.lsadf.core.application.game.save.stage.command.PersistStageCommand;
 import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageCommand;
 import com.lsadf.core.application.user.UserService;
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.domain.game.save.metadata.GameMetadata;
@@ -49,13 +55,17 @@ import com.lsadf.core.exception.AlreadyTakenNicknameException;
 import com.lsadf.core.exception.http.ForbiddenException;
 import com.lsadf.core.exception.http.NotFoundException;
 import com.lsadf.core.exception.http.UnauthorizedException;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
 import com.lsadf.core.infra.web.dto.request.game.characteristics.CharacteristicsRequest;
 import com.lsadf.core.infra.web.dto.request.game.currency.CurrencyRequest;
 import com.lsadf.core.infra.web.dto.request.game.metadata.GameMetadataRequest;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.GameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.update.GameSaveUpdateRequest;
 import com.lsadf.core.infra.web.dto.request.game.stage.StageRequest;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.transaction.annotation.Transactional;
@@ -63,6 +73,10 @@ import org.springframework.transaction.annotation.Transactional;
 /** Implementation of GameSaveService */
 @Slf4j
 public class GameSaveServiceImpl implements GameSaveService {
+
+  // Number of exported game saves enriched with cached data at once
+  private static final int EXPORT_CHUNK_SIZE = 500;
+
   private final UserService userService;
   private final GameMetadataService gameMetadataService;
   private final CharacteristicsCommandService characteristicsService;
@@ -71,12 +85,15 @@ public class GameSaveServiceImpl implements GameSaveService {
 
   // Repository port to access game save data
   private final GameSaveRepositoryPort gameSaveRepositoryPort;
+  private final InventoryRepositoryPort inventoryRepositoryPort;
 
   private final CacheManager cacheManager;
   private final GameMetadataCachePort gameMetadataCache;
   private final StageCachePort stageCache;
   private final CurrencyCachePort currencyCache;
   private final CharacteristicsCachePort characteristicsCache;
+  private final GameSaveSectionsCachePort gameSaveSectionsCache;
+  private final InventoryCachePort inventoryCache;
 
   public GameSaveServiceImpl(
       GameMetadataService gameMetadataService,
@@ -85,22 +102,28 @@ public class GameSaveServiceImpl implements GameSaveService {
       CurrencyCommandService currencyService,
       UserService userService,
       GameSaveRepositoryPort gameSaveRepositoryPort,
+      InventoryRepositoryPort inventoryRepositoryPort,
       CacheManager cacheManager,
       GameMetadataCachePort gameMetadataCache,
       StageCachePort stageCache,
       CurrencyCachePort currencyCache,
-      CharacteristicsCachePort characteristicsCache) {
+      CharacteristicsCachePort characteristicsCache,
+      GameSaveSectionsCachePort gameSaveSectionsCache,
+      InventoryCachePort inventoryCache) {
     this.userService = userService;
     this.characteristicsService = characteristicsService;
     this.stageService = stageService;
     this.currencyService = currencyService;
     this.gameMetadataService = gameMetadataService;
     this.gameSaveRepositoryPort = gameSaveRepositoryPort;
+    this.inventoryRepositoryPort = inventoryRepositoryPort;
     this.cacheManager = cacheManager;
     this.gameMetadataCache = gameMetadataCache;
     this.stageCache = stageCache;
     this.currencyCache = currencyCache;
     this.characteristicsCache = characteristicsCache;
+    this.gameSaveSectionsCache = gameSaveSectionsCache;
+    this.inventoryCache = inventoryCache;
   }
 
   @Override
@@ -276,6 +299,45 @@ public class GameSaveServiceImpl implements GameSaveService {
     return gameMetadataService.existsById(gameSaveId);
   }
 
+  /**
+   * Warms the cache of a game save up. Every cache is written with a single set-if-absent call, so
+   * a value cached in the meantime, possibly newer than the database, is never overwritten. The
+   * inventory snapshot is cached under the generation read before loading it, like on a read.
+   *
+   * @param gameSaveId the game save id
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void warmUpCache(UUID gameSaveId) {
+    if (!Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      return;
+    }
+    Optional<GameSave> optionalGameSave = gameSaveRepositoryPort.findById(gameSaveId);
+    if (optionalGameSave.isEmpty()) {
+      log.debug("Game save with id {} not found, skipping cache warm-up", gameSaveId);
+      return;
+    }
+    GameSave gameSave = optionalGameSave.get();
+    String key = gameSaveId.toString();
+    gameMetadataCache.setManyIfAbsent(Map.of(key, gameSave.getMetadata()));
+    if (gameSave.getCharacteristics() != null) {
+      characteristicsCache.setManyIfAbsent(Map.of(key, gameSave.getCharacteristics()));
+    }
+    if (gameSave.getCurrency() != null) {
+      currencyCache.setManyIfAbsent(Map.of(key, gameSave.getCurrency()));
+    }
+    if (gameSave.getStage() != null) {
+      stageCache.setManyIfAbsent(Map.of(key, gameSave.getStage()));
+    }
+    OptionalLong generation = inventoryCache.getGeneration(key);
+    if (generation.isPresent() && inventoryCache.get(key, generation.getAsLong()).isEmpty()) {
+      inventoryCache.set(
+          key,
+          generation.getAsLong(),
+          inventoryRepositoryPort.findAllItemsByGameSaveId(gameSaveId));
+    }
+  }
+
   @Override
   @Transactional
   public void deleteGameSave(UUID saveId) {
@@ -293,11 +355,73 @@ public class GameSaveServiceImpl implements GameSaveService {
   @Transactional(readOnly = true)
   public List<GameSave> getGameSaves() {
     if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
-      return gameSaveRepositoryPort.findAll().map(this::enrichGameSaveWithCachedData).toList();
+      return enrichGameSavesWithCachedData(gameSaveRepositoryPort.findAll().toList());
     }
     return gameSaveRepositoryPort.findAll().toList();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public GameSavePage getGameSavesPage(@Nullable GameSaveCursor after, int limit) {
+    // One more game save is read to know whether a next page exists
+    List<GameSave> gameSaves = gameSaveRepositoryPort.findPage(after, limit + 1);
+    GameSaveCursor nextCursor = null;
+    if (gameSaves.size() > limit) {
+      gameSaves = gameSaves.subList(0, limit);
+      GameMetadata last = gameSaves.getLast().getMetadata();
+      nextCursor = new GameSaveCursor(last.createdAt().toInstant(), last.id());
+    }
+    if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      gameSaves = enrichGameSavesWithCachedData(gameSaves);
+    }
+    return new GameSavePage(gameSaves, nextCursor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportGameSaves(Consumer<GameSave> consumer) {
+    boolean cacheEnabled = Boolean.TRUE.equals(cacheManager.isEnabled());
+    List<GameSave> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+    try (Stream<GameSave> stream = gameSaveRepositoryPort.findAll()) {
+      stream.forEach(
+          gameSave -> {
+            chunk.add(gameSave);
+            if (chunk.size() == EXPORT_CHUNK_SIZE) {
+              exportChunk(chunk, cacheEnabled, consumer);
+            }
+          });
+    }
+    exportChunk(chunk, cacheEnabled, consumer);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<GameSave> searchGameSaves(
+      List<Filter> filters, List<GameSaveSortingParameter> orderBy, int limit) {
+    List<GameSave> gameSaves = gameSaveRepositoryPort.search(filters, orderBy, limit);
+    if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      return enrichGameSavesWithCachedData(gameSaves);
+    }
+    return gameSaves;
+  }
+
+  /**
+   * Passes the given game saves to the consumer, after enriching them with cached data if the cache
+   * is enabled, then empties the chunk so that the exported game saves can be garbage collected.
+   *
+   * @param chunk the game saves to export
+   * @param cacheEnabled whether the cache is enabled
+   * @param consumer the consumer of the exported game saves
+   */
+  private void exportChunk(
+      List<GameSave> chunk, boolean cacheEnabled, Consumer<GameSave> consumer) {
+    if (cacheEnabled) {
+      enrichGameSavesWithCachedData(chunk);
+    }
+    chunk.forEach(consumer);
+    chunk.clear();
+  }
+
   @Transactional(readOnly = true)
   @Override
   public Long countGameSaves() {
@@ -340,30 +464,65 @@ public class GameSaveServiceImpl implements GameSaveService {
     if (Boolean.FALSE.equals(cacheManager.isEnabled())) {
       return gameSaveRepositoryPort.findByUserEmail(username).toList();
     }
-    return gameSaveRepositoryPort
-        .findByUserEmail(username)
-        .map(this::enrichGameSaveWithCachedData)
-        .toList();
+    return enrichGameSavesWithCachedData(gameSaveRepositoryPort.findByUserEmail(username).toList());
   }
 
   /**
    * Enriches the given GameSave object with cached data, if available. Specifically, it attempts to
-   * load and set the characteristics, currency, and stage data from their corresponding caches
-   * based on the metadata ID of the provided GameSave.
+   * load and set the characteristics, currency, and stage data from the cache based on the metadata
+   * ID of the provided GameSave, with a single lookup counted as one access to the game save.
    *
    * @param gameSave the GameSave object to be enriched with cached data
    * @return the enriched GameSave object
    */
   private GameSave enrichGameSaveWithCachedData(GameSave gameSave) {
     GameMetadata metadata = gameSave.getMetadata();
-    var cacheCharacteristics = characteristicsCache.get(metadata.id().toString());
-    cacheCharacteristics.ifPresent(gameSave::setCharacteristics);
+    gameSaveSectionsCache
+        .get(metadata.id().toString())
+        .ifPresent(sections -> setCachedSections(gameSave, sections));
+    return gameSave;
+  }
 
-    var cacheCurrency = currencyCache.get(metadata.id().toString());
-    cacheCurrency.ifPresent(gameSave::setCurrency);
+  /**
+   * Enriches the given GameSave objects with cached data, if available. The characteristics,
+   * currency and stage of all the game saves are loaded with one bulk lookup, instead of three
+   * lookups per game save. These values are only displayed, so they may be read from replicas.
+   *
+   * @param gameSaves the GameSave objects to be enriched with cached data
+   * @return the enriched GameSave objects
+   */
+  private List<GameSave> enrichGameSavesWithCachedData(List<GameSave> gameSaves) {
+    if (gameSaves.isEmpty()) {
+      return gameSaves;
+    }
+    List<String> ids =
+        gameSaves.stream().map(gameSave -> gameSave.getMetadata().id().toString()).toList();
+    Map<String, GameSaveSections> cacheSections = gameSaveSectionsCache.getManyStale(ids);
+    for (GameSave gameSave : gameSaves) {
+      GameSaveSections sections = cacheSections.get(gameSave.getMetadata().id().toString());
+      if (sections != null) {
+        setCachedSections(gameSave, sections);
+      }
+    }
+    return gameSaves;
+  }
 
-    var cacheStage = stageCache.get(metadata.id().toString());
-    cacheStage.ifPresent(gameSave::setStage);
-    return gameSave;
+  /**
+   * Replaces the sections of the given GameSave object with their cached values, for the cached
+   * sections only.
+   *
+   * @param gameSave the GameSave object to update
+   * @param sections the cached sections of the game save
+   */
+  private static void setCachedSections(GameSave gameSave, GameSaveSections sections) {
+    if (sections.characteristics() != null) {
+      gameSave.setCharacteristics(sections.characteristics());
+    }
+    if (sections.currency() != null) {
+      gameSave.setCurrency(sections.currency());
+    }
+    if (sections.stage() != null) {
+      gameSave.setStage(sections.stage());
+    }
   }
 }
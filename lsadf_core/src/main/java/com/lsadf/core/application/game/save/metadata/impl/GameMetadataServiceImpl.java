@@ -17,27 +17,34 @@ package com.lsadf.core.application.game.save.metadata.impl;
 
 import com.lsadf.core.application.cache.CacheManager;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataService;
 import com.lsadf.core.domain.game.save.metadata.GameMetadata;
 import com.lsadf.core.exception.http.NotFoundException;
+import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class GameMetadataServiceImpl implements GameMetadataService {
 
   private final CacheManager cacheManager;
   private final GameMetadataRepositoryPort gameMetadataRepositoryPort;
   private final GameMetadataCachePort gameMetadataCachePort;
+  private final GameMetadataNegativeCachePort gameMetadataNegativeCachePort;
 
   public GameMetadataServiceImpl(
       CacheManager cacheManager,
       GameMetadataRepositoryPort gameMetadataRepositoryPort,
-      GameMetadataCachePort gameMetadataCachePort) {
+      GameMetadataCachePort gameMetadataCachePort,
+      GameMetadataNegativeCachePort gameMetadataNegativeCachePort) {
     this.cacheManager = cacheManager;
     this.gameMetadataRepositoryPort = gameMetadataRepositoryPort;
     this.gameMetadataCachePort = gameMetadataCachePort;
+    this.gameMetadataNegativeCachePort = gameMetadataNegativeCachePort;
   }
 
   @Override
@@ -46,15 +53,30 @@ public class GameMetadataServiceImpl implements GameMetadataService {
     gameMetadataRepositoryPort.deleteById(gameSaveId);
   }
 
+  /**
+   * Checks the existence of a game save from the caches when they are enabled. A game save missing
+   * from the metadata cache is read from the database and cached, and an unknown id is recorded in
+   * the negative cache, so that repeated lookups of the same id, known or not, skip the database.
+   */
   @Override
   public boolean existsById(UUID gameSaveId) {
-    if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
-      var optionalGameMetadata = gameMetadataCachePort.get(gameSaveId.toString());
-      if (optionalGameMetadata.isPresent()) {
-        return true;
-      }
+    if (!Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      return gameMetadataRepositoryPort.existsById(gameSaveId);
+    }
+    String key = gameSaveId.toString();
+    if (gameMetadataCachePort.get(key).isPresent()) {
+      return true;
+    }
+    if (gameMetadataNegativeCachePort.get(key).isPresent()) {
+      return false;
     }
-    return gameMetadataRepositoryPort.existsById(gameSaveId);
+    Optional<GameMetadata> gameMetadata = gameMetadataRepositoryPort.findById(gameSaveId);
+    if (gameMetadata.isPresent()) {
+      gameMetadataCachePort.set(key, gameMetadata.get());
+      return true;
+    }
+    gameMetadataNegativeCachePort.set(key, Boolean.TRUE);
+    return false;
   }
 
   @Override
@@ -87,17 +109,41 @@ public class GameMetadataServiceImpl implements GameMetadataService {
     return gameMetadataRepositoryPort.updateNickname(gameSaveId, nickname);
   }
 
+  /**
+   * Creates the metadata of a game save. A given id is removed from the negative cache once the
+   * transaction has committed, so that a concurrent lookup cannot record it as missing again before
+   * the row is visible.
+   */
   @Override
   @Transactional
   public GameMetadata createNewGameMetadata(
       @Nullable UUID gameSaveId, String username, @Nullable String nickname) {
+    GameMetadata gameMetadata;
     if (gameSaveId != null && nickname != null) {
-      return gameMetadataRepositoryPort.create(gameSaveId, username, nickname);
+      gameMetadata = gameMetadataRepositoryPort.create(gameSaveId, username, nickname);
     } else if (nickname != null) {
-      return gameMetadataRepositoryPort.create(null, username, nickname);
+      gameMetadata = gameMetadataRepositoryPort.create(null, username, nickname);
     } else {
-      return gameMetadataRepositoryPort.create(null, username, null);
+      gameMetadata = gameMetadataRepositoryPort.create(null, username, null);
+    }
+    if (gameSaveId != null && Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      unsetNegativeCacheAfterCommit(gameSaveId.toString());
+    }
+    return gameMetadata;
+  }
+
+  private void unsetNegativeCacheAfterCommit(String key) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      gameMetadataNegativeCachePort.unset(key);
+      return;
     }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            gameMetadataNegativeCachePort.unset(key);
+          }
+        });
   }
 
   private GameMetadata getGameMetadataFromDatabase(UUID gameSaveId) {
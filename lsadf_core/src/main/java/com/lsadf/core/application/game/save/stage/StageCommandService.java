@@ -20,6 +20,7 @@ import com.lsadf.core.application.game.save.stage.command.InitializeStageCommand
 import com.lsadf.core.application.game.save.stage.command.PersistStageCommand;
 import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageCommand;
 import com.lsadf.core.domain.game.save.stage.Stage;
+import java.util.List;
 
 /**
  * Service interface for managing and processing stage-related commands. This typically includes
@@ -51,10 +52,26 @@ public interface StageCommandService {
    */
   void persistStage(PersistStageCommand command);
 
+  /**
+   * Persists the stage information of several game saves in a single batch.
+   *
+   * @param commands the {@code PersistStageCommand} instances to persist, one per game save
+   */
+  void persistStageBatch(List<PersistStageCommand> commands);
+
   /**
    * Updates the cached stage information based on the given command.
    *
    * @param command the command containing the game save ID and updated stage details
    */
   void updateCacheStage(UpdateCacheStageCommand command);
+
+  /**
+   * Updates the cached stage of several game saves at once. The cached values the partial
+   * updates are merged with are read in a single call, and all the resulting values are written
+   * back in a single call. Commands targeting the same game save are applied in order.
+   *
+   * @param commands the {@code UpdateCacheStageCommand} instances to apply
+   */
+  void updateCacheStageBatch(List<UpdateCacheStageCommand> commands);
 }
@@ -16,6 +16,7 @@
 package com.lsadf.core.application.game.save.stage;
 
 import com.lsadf.core.domain.game.save.stage.Stage;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
@@ -30,6 +31,8 @@ public interface StageRepositoryPort {
 
   Stage update(UUID gameSaveId, Stage stage);
 
+  void updateAll(Map<UUID, Stage> stages);
+
   boolean existsById(UUID id);
 
   Long count();
@@ -27,7 +27,11 @@ import com.lsadf.core.application.game.save.stage.command.PersistStageCommand;
 import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageCommand;
 import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.domain.game.save.stage.Stage;
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -80,27 +84,51 @@ public class StageCommandServiceImpl implements StageCommandService {
     stageRepositoryPort.update(command.gameSaveId(), stage);
   }
 
+  @Override
+  @Transactional
+  public void persistStageBatch(List<PersistStageCommand> commands) {
+    Map<UUID, Stage> stages = new LinkedHashMap<>();
+    for (PersistStageCommand command : commands) {
+      stages.put(
+          command.gameSaveId(),
+          Stage.builder()
+              .currentStage(command.currentStage())
+              .maxStage(command.maxStage())
+              .wave(command.wave())
+              .build());
+    }
+    stageRepositoryPort.updateAll(stages);
+  }
+
+  /**
+   * Update the stage in the cache. A partial stage is merged into the cached stage on the cache
+   * server. When the cache holds none, the current stage is read from the database and cached,
+   * unless another update cached one first, and the merge is retried, so that a concurrent update
+   * is never overwritten.
+   *
+   * @param command the update command
+   */
   @Override
   public void updateCacheStage(UpdateCacheStageCommand command) {
-    Stage stage;
     if (isStageNull(command)) {
       throw new IllegalArgumentException("Stage cannot be null");
     }
     if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
       String gameSaveIdString = command.gameSaveId().toString();
-      if (isStagePartial(command)) {
+      Stage stage = toStage(command);
+      if (isStagePartial(stage)) {
+        if (stageCache.merge(gameSaveIdString, stage)) {
+          return;
+        }
         Stage existingStage =
             stageCache
                 .get(gameSaveIdString)
                 .orElseGet(() -> stageQueryService.retrieveStage(command.gameSaveId()));
-        stage = mergeStage(command, existingStage);
-      } else {
-        stage =
-            // Adding Objects.requireNonNull() since object is not partial
-            new Stage(
-                Objects.requireNonNull(command.currentStage()),
-                Objects.requireNonNull(command.maxStage()),
-                Objects.requireNonNull(command.wave()));
+        stageCache.setManyIfAbsent(Map.of(gameSaveIdString, existingStage));
+        if (stageCache.merge(gameSaveIdString, stage)) {
+          return;
+        }
+        stage = mergeStage(stage, existingStage);
       }
       stageCache.set(gameSaveIdString, stage);
     } else {
@@ -109,28 +137,102 @@ public class StageCommandServiceImpl implements StageCommandService {
   }
 
   /**
-   * Merge the stage POJO with the stage from the database
+   * Update the stages of a batch in the cache. The commands are first coalesced per game save, in
+   * order. The partial stages are then merged into the cached stages with a single bulk merge; the
+   * stages missing from the cache are read from the database, cached unless another update cached
+   * them first, and merged again. The remaining ones are written with a single bulk set.
    *
-   * @param command the stage command
-   * @param dbStage the stage from the database
+   * @param commands the update commands
+   */
+  @Override
+  public void updateCacheStageBatch(List<UpdateCacheStageCommand> commands) {
+    if (commands.isEmpty()) {
+      return;
+    }
+    if (commands.stream().anyMatch(StageCommandServiceImpl::isStageNull)) {
+      throw new IllegalArgumentException("Stage cannot be null");
+    }
+    if (!Boolean.TRUE.equals(cacheManager.isEnabled())) {
+      log.warn("Cache is disabled");
+      return;
+    }
+    Map<UUID, Stage> updates = new LinkedHashMap<>();
+    for (UpdateCacheStageCommand command : commands) {
+      updates.merge(
+          command.gameSaveId(),
+          toStage(command),
+          (previous, update) -> mergeStage(update, previous));
+    }
+    Map<String, Stage> partialUpdates = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          if (isStagePartial(update)) {
+            partialUpdates.put(gameSaveId.toString(), update);
+          }
+        });
+    Set<String> merged = new HashSet<>(stageCache.mergeMany(partialUpdates));
+    List<String> missingIds =
+        partialUpdates.keySet().stream().filter(id -> !merged.contains(id)).toList();
+    Map<String, Stage> current = stageCache.getMany(missingIds);
+    Map<String, Stage> existing = new LinkedHashMap<>();
+    Map<String, Stage> retries = new LinkedHashMap<>();
+    for (String id : missingIds) {
+      Stage existingStage = current.get(id);
+      if (existingStage == null) {
+        existingStage = stageQueryService.retrieveStage(UUID.fromString(id));
+      }
+      existing.put(id, existingStage);
+      retries.put(id, partialUpdates.get(id));
+    }
+    if (!existing.isEmpty()) {
+      stageCache.setManyIfAbsent(existing);
+      merged.addAll(stageCache.mergeMany(retries));
+    }
+    Map<String, Stage> updated = new LinkedHashMap<>();
+    updates.forEach(
+        (gameSaveId, update) -> {
+          String gameSaveIdString = gameSaveId.toString();
+          if (merged.contains(gameSaveIdString)) {
+            return;
+          }
+          Stage stage = update;
+          if (isStagePartial(update)) {
+            stage = mergeStage(update, existing.get(gameSaveIdString));
+          }
+          updated.put(gameSaveIdString, stage);
+        });
+    if (!updated.isEmpty()) {
+      stageCache.setMany(updated);
+    }
+  }
+
+  private static Stage toStage(UpdateCacheStageCommand command) {
+    return new Stage(command.currentStage(), command.maxStage(), command.wave());
+  }
+
+  /**
+   * Merge a stage update with an existing stage
+   *
+   * @param update the stage update, whose null fields are taken from the existing stage
+   * @param existingStage the existing stage
    * @return the merged stage POJO
    */
-  private static Stage mergeStage(UpdateCacheStageCommand command, Stage dbStage) {
+  private static Stage mergeStage(Stage update, Stage existingStage) {
     Stage.StageBuilder builder = Stage.builder();
-    builder.currentStage(getOrDefault(command.currentStage(), dbStage.currentStage()));
-    builder.maxStage(getOrDefault(command.maxStage(), dbStage.maxStage()));
-    builder.wave(getOrDefault(command.wave(), dbStage.wave()));
+    builder.currentStage(getOrDefault(update.currentStage(), existingStage.currentStage()));
+    builder.maxStage(getOrDefault(update.maxStage(), existingStage.maxStage()));
+    builder.wave(getOrDefault(update.wave(), existingStage.wave()));
     return builder.build();
   }
 
   /**
    * Checks if the given stage object has any null fields.
    *
-   * @param command the stage command to be checked
+   * @param stage the stage to be checked
    * @return true if any of the fields (currentStage, maxStage) are null, false otherwise
    */
-  private static boolean isStagePartial(UpdateCacheStageCommand command) {
-    return command.currentStage() == null || command.maxStage() == null || command.wave() == null;
+  private static boolean isStagePartial(Stage stage) {
+    return stage.currentStage() == null || stage.maxStage() == null || stage.wave() == null;
   }
 
   /**
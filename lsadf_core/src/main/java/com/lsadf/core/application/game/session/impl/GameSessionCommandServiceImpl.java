@@ -19,6 +19,7 @@ import com.lsadf.core.application.cache.CacheManager;
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
 import com.lsadf.core.application.game.session.GameSessionCommandService;
+import com.lsadf.core.application.game.session.GameSessionEventPublisherPort;
 import com.lsadf.core.application.game.session.GameSessionRepositoryPort;
 import com.lsadf.core.application.game.session.command.InitializeSessionCommand;
 import com.lsadf.core.application.game.session.command.UpdateSessionEndTimeCommand;
@@ -34,6 +35,7 @@ public class GameSessionCommandServiceImpl implements GameSessionCommandService
   private final CacheManager cacheManager;
   private final GameSessionCachePort gameSessionCachePort;
   private final GameSaveService gameSaveService;
+  private final GameSessionEventPublisherPort gameSessionEventPublisherPort;
 
   @Override
   public GameSession initializeGameSession(InitializeSessionCommand command) {
@@ -48,6 +50,8 @@ public class GameSessionCommandServiceImpl implements GameSessionCommandService
             uuid, command.gameSaveId(), command.endTime(), false);
     if (Boolean.TRUE.equals(cacheManager.isEnabled())) {
       gameSessionCachePort.set(gameSession.getId().toString(), gameSession);
+      gameSessionEventPublisherPort.publishGameSessionInitializedEvent(
+          gameSession.getId(), gameSaveId);
     }
     return gameSession;
   }
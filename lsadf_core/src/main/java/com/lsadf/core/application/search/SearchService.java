@@ -25,6 +25,10 @@ import java.util.List;
 import java.util.stream.Stream;
 
 public interface SearchService {
+
+  /** Maximum number of game saves returned by a search, when none is given */
+  int DEFAULT_GAME_SAVE_SEARCH_LIMIT = 100;
+
   /**
    * Search for users based on the given search request
    *
@@ -43,12 +47,16 @@ public interface SearchService {
    *
    * @param searchRequest The search request
    * @param orderBy The order by
+   * @param limit The maximum number of game saves to return
    * @return A stream of game saves
    */
   Stream<GameSave> searchGameSaves(
-      SearchRequest searchRequest, List<GameSaveSortingParameter> orderBy);
+      SearchRequest searchRequest, List<GameSaveSortingParameter> orderBy, int limit);
 
   default Stream<GameSave> searchGameSaves(SearchRequest searchRequest) {
-    return searchGameSaves(searchRequest, Collections.singletonList(GameSaveSortingParameter.NONE));
+    return searchGameSaves(
+        searchRequest,
+        Collections.singletonList(GameSaveSortingParameter.NONE),
+        DEFAULT_GAME_SAVE_SEARCH_LIMIT);
   }
 }
@@ -71,30 +71,8 @@ public class SearchServiceImpl implements SearchService {
 
   @Override
   public Stream<GameSave> searchGameSaves(
-      SearchRequest searchRequest, List<GameSaveSortingParameter> orderBy) {
-    Stream<GameSave> gameSaveStream = gameSaveService.getGameSaves().stream();
-    List<Filter> filters = searchRequest.filters();
-    for (Filter filter : filters) {
-      var value = filter.value();
-      var regexValue = valueToRegex(value);
-      switch (filter.type()) {
-        case ID ->
-            gameSaveStream =
-                gameSaveStream.filter(
-                    gameSave -> gameSave.getMetadata().id().toString().matches(regexValue));
-        case USER_EMAIL, USER_EMAIL_CAMEL_CASE ->
-            gameSaveStream =
-                gameSaveStream.filter(
-                    gameSave -> gameSave.getMetadata().userEmail().matches(regexValue));
-        case NICKNAME ->
-            gameSaveStream =
-                gameSaveStream.filter(
-                    gameSave -> gameSave.getMetadata().nickname().matches(regexValue));
-        default -> throw new IllegalArgumentException("Invalid filter type");
-      }
-    }
-
-    return StreamUtils.sortGameSaves(gameSaveStream, orderBy);
+      SearchRequest searchRequest, List<GameSaveSortingParameter> orderBy, int limit) {
+    return gameSaveService.searchGameSaves(searchRequest.filters(), orderBy, limit).stream();
   }
 
   /**
@@ -15,39 +15,107 @@
  */
 package com.lsadf.core.application.shared;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
+/**
+ * Cache of values by key.
+ *
+ * <p>The bulk and conditional methods have default implementations built on the single-key ones,
+ * which cost one round-trip per key and are not atomic. Implementations backed by a remote cache
+ * should override them to run in a single round-trip, checking and writing every key atomically.
+ */
 public interface CachePort<T> {
 
-  /**
-   * Get the value for the key
-   *
-   * @param key The key to get the value for
-   * @return The value for the key if present
-   */
+  /** Get the value for the key, if present. */
   Optional<T> get(String key);
 
-  /**
-   * Set the value for the key
-   *
-   * @param key The key to set the value for
-   * @param value The value to set
-   */
+  /** Set the value for the key. */
   void set(String key, T value);
 
-  /**
-   * Unset the value for the key
-   *
-   * @param key The key to unset the value for
-   */
+  /** Unset the value for the key. */
   void unset(String key);
 
-  /**
-   * Get all the entries in the cache
-   *
-   * @return A map of all the entries in the cache
-   */
+  /** Get the values of the keys present in the cache. */
+  default Map<String, T> getMany(Collection<String> keys) {
+    Map<String, T> values = new HashMap<>();
+    for (String key : keys) {
+      get(key).ifPresent(value -> values.put(key, value));
+    }
+    return values;
+  }
+
+  /** Get the values of the keys for display only, possibly from a lagging replica. */
+  default Map<String, T> getManyStale(Collection<String> keys) {
+    return getMany(keys);
+  }
+
+  /** Set the values of several keys. */
+  default void setMany(Map<String, T> values) {
+    values.forEach(this::set);
+  }
+
+  /** Unset the values of several keys. */
+  default void unsetMany(Collection<String> keys) {
+    keys.forEach(this::unset);
+  }
+
+  /** Unset the values unchanged since they were read, and return their keys. */
+  default Set<String> unsetManyIfUnchanged(Map<String, T> values) {
+    Map<String, T> cached = getMany(values.keySet());
+    Set<String> unchanged = new HashSet<>();
+    values.forEach(
+        (key, value) -> {
+          if (value.equals(cached.get(key))) {
+            unchanged.add(key);
+          }
+        });
+    unsetMany(unchanged);
+    return unchanged;
+  }
+
+  /** Merge the non-null fields into the cached value, and return false if the key is absent. */
+  default boolean merge(String key, T value) {
+    return false;
+  }
+
+  /** Merge several partial values, and return the keys whose value was merged. */
+  default Set<String> mergeMany(Map<String, T> values) {
+    Set<String> merged = new HashSet<>();
+    values.forEach(
+        (key, value) -> {
+          if (merge(key, value)) {
+            merged.add(key);
+          }
+        });
+    return merged;
+  }
+
+  /** Set the values of the keys absent from the cache, and return their keys. */
+  default Set<String> setManyIfAbsent(Map<String, T> values) {
+    Map<String, T> cached = getMany(values.keySet());
+    Map<String, T> absent = new HashMap<>();
+    values.forEach(
+        (key, value) -> {
+          if (!cached.containsKey(key)) {
+            absent.put(key, value);
+          }
+        });
+    setMany(absent);
+    return absent.keySet();
+  }
+
+  /** Get the remaining time to live of the key in seconds, 0 if absent, empty if unknown. */
+  default OptionalLong getExpirationSeconds(String key) {
+    return OptionalLong.empty();
+  }
+
+  /** Get all the entries in the cache, possibly from a lagging replica. */
   Map<String, T> getAll();
 
   /** Clear the cache */
@@ -15,11 +15,29 @@
  */
 package com.lsadf.core.application.shared;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 public interface HistoCachePort<T> extends CachePort<T> {
   Optional<T> getHisto(String key);
 
+  /**
+   * Get the historized values for several keys at once. Keys without a historized value are absent
+   * from the returned map. Implementations backed by a remote cache should override this to fetch
+   * all the keys in a single round-trip.
+   *
+   * @param keys The keys to get the historized values for
+   * @return A map of the keys present in the historized cache to their values
+   */
+  default Map<String, T> getManyHisto(Collection<String> keys) {
+    Map<String, T> values = new HashMap<>();
+    for (String key : keys) {
+      getHisto(key).ifPresent(value -> values.put(key, value));
+    }
+    return values;
+  }
+
   Map<String, T> getAllHisto();
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.domain.game.save;
+
+import com.lsadf.core.shared.model.Model;
+import java.io.Serial;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Position of a game save in the listing of all the game saves, which is ordered by creation date,
+ * then by id. A page of game saves starts right after the cursor of the last game save of the
+ * previous page.
+ *
+ * @param createdAt the creation date of the game save, with the full precision of the database
+ * @param id the id of the game save
+ */
+@Builder
+public record GameSaveCursor(Instant createdAt, UUID id) implements Model {
+
+  @Serial private static final long serialVersionUID = 6301734226897512481L;
+}
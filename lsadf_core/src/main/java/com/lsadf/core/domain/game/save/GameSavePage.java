@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.domain.game.save;
+
+import com.lsadf.core.shared.model.Model;
+import java.io.Serial;
+import java.util.List;
+import lombok.Builder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Page of the listing of all the game saves.
+ *
+ * @param gameSaves the game saves of the page, ordered by creation date, then by id
+ * @param nextCursor the cursor to get the next page from, or null if this page is the last one
+ */
+@Builder
+public record GameSavePage(List<GameSave> gameSaves, @Nullable GameSaveCursor nextCursor)
+    implements Model {
+
+  @Serial private static final long serialVersionUID = -4127390561803947752L;
+}
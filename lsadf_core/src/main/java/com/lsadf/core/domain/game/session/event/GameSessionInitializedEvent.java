@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.domain.game.session.event;
+
+import static com.lsadf.core.domain.game.session.event.GameSessionEventType.GAME_SESSION_INITIALIZED;
+
+import com.lsadf.core.shared.event.AEvent;
+import com.lsadf.core.shared.event.Event;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = false)
+public class GameSessionInitializedEvent extends AEvent implements Event {
+  private final UUID gameSessionId;
+  private final UUID gameSaveId;
+
+  /**
+   * Constructor with timestamp parameter.
+   *
+   * @param gameSessionId the game session ID
+   * @param gameSaveId the ID of the game save of the session
+   * @param timestamp the timestamp in epoch milliseconds
+   */
+  public GameSessionInitializedEvent(UUID gameSessionId, UUID gameSaveId, Long timestamp) {
+    super(GAME_SESSION_INITIALIZED, timestamp);
+    this.gameSessionId = gameSessionId;
+    this.gameSaveId = gameSaveId;
+  }
+}
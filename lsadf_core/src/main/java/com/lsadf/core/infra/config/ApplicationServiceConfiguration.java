@@ -17,12 +17,14 @@ package com.lsadf.core.infra.config;
 
 import com.lsadf.core.application.cache.CacheManager;
 import com.lsadf.core.application.clock.ClockService;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.inventory.InventoryService;
 import com.lsadf.core.application.game.inventory.impl.InventoryServiceImpl;
 import com.lsadf.core.application.game.mail.*;
 import com.lsadf.core.application.game.mail.impl.*;
 import com.lsadf.core.application.game.save.GameSaveRepositoryPort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
@@ -35,6 +37,7 @@ import com.lsadf.core.application.game.save.currency.impl.CurrencyCommandService
 import com.lsadf.core.application.game.save.currency.impl.CurrencyQueryServiceImpl;
 import com.lsadf.core.application.game.save.impl.GameSaveServiceImpl;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataService;
 import com.lsadf.core.application.game.save.metadata.impl.GameMetadataServiceImpl;
@@ -46,6 +49,7 @@ import com.lsadf.core.application.game.save.stage.impl.StageCommandServiceImpl;
 import com.lsadf.core.application.game.save.stage.impl.StageQueryServiceImpl;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
 import com.lsadf.core.application.game.session.GameSessionCommandService;
+import com.lsadf.core.application.game.session.GameSessionEventPublisherPort;
 import com.lsadf.core.application.game.session.GameSessionQueryService;
 import com.lsadf.core.application.game.session.GameSessionRepositoryPort;
 import com.lsadf.core.application.game.session.impl.GameSessionCommandServiceImpl;
@@ -75,11 +79,14 @@ public class ApplicationServiceConfiguration {
       CurrencyCommandService currencyService,
       UserService userService,
       GameSaveRepositoryPort gameSaveRepositoryPort,
+      InventoryRepositoryPort inventoryRepositoryPort,
       CacheManager cacheManager,
       GameMetadataCachePort gameMetadataCache,
       StageCachePort stageCache,
       CurrencyCachePort currencyCache,
-      CharacteristicsCachePort characteristicsCache) {
+      CharacteristicsCachePort characteristicsCache,
+      GameSaveSectionsCachePort gameSaveSectionsCache,
+      InventoryCachePort inventoryCache) {
     return new GameSaveServiceImpl(
         gameMetadataService,
         characteristicsService,
@@ -87,11 +94,14 @@ public class ApplicationServiceConfiguration {
         currencyService,
         userService,
         gameSaveRepositoryPort,
+        inventoryRepositoryPort,
         cacheManager,
         gameMetadataCache,
         stageCache,
         currencyCache,
-        characteristicsCache);
+        characteristicsCache,
+        gameSaveSectionsCache,
+        inventoryCache);
   }
 
   @Bean
@@ -154,8 +164,12 @@ public class ApplicationServiceConfiguration {
 
   @Bean
   public InventoryService inventoryService(
-      InventoryRepositoryPort inventoryRepositoryPort, GameMetadataService gameMetadataService) {
-    return new InventoryServiceImpl(inventoryRepositoryPort, gameMetadataService);
+      InventoryRepositoryPort inventoryRepositoryPort,
+      GameMetadataService gameMetadataService,
+      InventoryCachePort inventoryCachePort,
+      CacheManager cacheManager) {
+    return new InventoryServiceImpl(
+        inventoryRepositoryPort, gameMetadataService, inventoryCachePort, cacheManager);
   }
 
   @Bean
@@ -179,9 +193,13 @@ public class ApplicationServiceConfiguration {
   public GameMetadataService gameMetadataService(
       CacheManager cacheManager,
       GameMetadataRepositoryPort gameMetadataRepositoryPort,
-      GameMetadataCachePort gameMetadataCachePort) {
+      GameMetadataCachePort gameMetadataCachePort,
+      GameMetadataNegativeCachePort gameMetadataNegativeCachePort) {
     return new GameMetadataServiceImpl(
-        cacheManager, gameMetadataRepositoryPort, gameMetadataCachePort);
+        cacheManager,
+        gameMetadataRepositoryPort,
+        gameMetadataCachePort,
+        gameMetadataNegativeCachePort);
   }
 
   @Bean
@@ -189,9 +207,14 @@ public class ApplicationServiceConfiguration {
       GameSessionRepositoryPort gameSessionRepositoryPort,
       CacheManager cacheManager,
       GameSessionCachePort gameSessionCachePort,
-      GameSaveService gameSaveService) {
+      GameSaveService gameSaveService,
+      GameSessionEventPublisherPort gameSessionEventPublisherPort) {
     return new GameSessionCommandServiceImpl(
-        gameSessionRepositoryPort, cacheManager, gameSessionCachePort, gameSaveService);
+        gameSessionRepositoryPort,
+        cacheManager,
+        gameSessionCachePort,
+        gameSaveService,
+        gameSessionEventPublisherPort);
   }
 
   @Bean
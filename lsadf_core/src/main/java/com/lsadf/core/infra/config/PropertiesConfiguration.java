@@ -22,9 +22,14 @@ import com.lsadf.core.infra.persistence.config.JdbcProperties;
 import com.lsadf.core.infra.persistence.config.properties.DataSourceProperties;
 import com.lsadf.core.infra.scheduling.config.GameMailCleanupProperties;
 import com.lsadf.core.infra.scheduling.config.SchedulingProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyAdaptiveExpirationProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyGameSaveCacheProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamPersistenceProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyInventoryCacheProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyNearCacheProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyPoolProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyProperties;
 import com.lsadf.core.infra.web.config.api.properties.ApiConfigurationProperties;
 import com.lsadf.core.infra.web.config.keycloak.properties.KeycloakAdminProperties;
@@ -107,12 +112,42 @@ public class PropertiesConfiguration {
     return new ValkeyCacheExpirationProperties();
   }
 
+  @Bean
+  @ConfigurationProperties(prefix = "valkey.cache.game-save")
+  public ValkeyGameSaveCacheProperties valkeyGameSaveCacheProperties() {
+    return new ValkeyGameSaveCacheProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "valkey.cache.near")
+  public ValkeyNearCacheProperties valkeyNearCacheProperties() {
+    return new ValkeyNearCacheProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "valkey.cache.inventory")
+  public ValkeyInventoryCacheProperties valkeyInventoryCacheProperties() {
+    return new ValkeyInventoryCacheProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "valkey.cache.adaptive-expiration")
+  public ValkeyAdaptiveExpirationProperties valkeyAdaptiveExpirationProperties() {
+    return new ValkeyAdaptiveExpirationProperties();
+  }
+
   @Bean
   @ConfigurationProperties(prefix = "valkey.config")
   public ValkeyProperties valkeyProperties() {
     return new ValkeyProperties();
   }
 
+  @Bean
+  @ConfigurationProperties(prefix = "valkey.config.pool")
+  public ValkeyPoolProperties valkeyPoolProperties() {
+    return new ValkeyPoolProperties();
+  }
+
   @Bean
   @ConfigurationProperties(prefix = "shutdown")
   public ShutdownProperties shutdownProperties() {
@@ -18,6 +18,7 @@ package com.lsadf.core.infra.event.config;
 import com.lsadf.core.application.clock.ClockService;
 import com.lsadf.core.infra.event.factory.game.inventory.InventoryEventFactory;
 import com.lsadf.core.infra.event.factory.game.mail.GameMailEventFactory;
+import com.lsadf.core.infra.event.factory.game.session.GameSessionEventFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -32,4 +33,9 @@ public class EventFactoryConfiguration {
   public GameMailEventFactory gameMailEventFactory(ClockService clockService) {
     return new GameMailEventFactory(clockService);
   }
+
+  @Bean
+  public GameSessionEventFactory gameSessionEventFactory(ClockService clockService) {
+    return new GameSessionEventFactory(clockService);
+  }
 }
@@ -19,10 +19,14 @@ import com.lsadf.core.application.game.inventory.InventoryEventListenerPort;
 import com.lsadf.core.application.game.inventory.InventoryService;
 import com.lsadf.core.application.game.mail.GameMailCommandService;
 import com.lsadf.core.application.game.mail.GameMailEventListenerPort;
+import com.lsadf.core.application.game.save.GameSaveService;
+import com.lsadf.core.application.game.session.GameSessionEventListenerPort;
 import com.lsadf.core.infra.event.listener.game.inventory.InventoryEventListener;
 import com.lsadf.core.infra.event.listener.game.mail.GameMailEventListener;
+import com.lsadf.core.infra.event.listener.game.session.GameSessionEventListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 @Configuration
 public class EventListenerConfiguration {
@@ -37,4 +41,10 @@ public class EventListenerConfiguration {
   public InventoryEventListenerPort inventoryEventListenerPort(InventoryService inventoryService) {
     return new InventoryEventListener(inventoryService);
   }
+
+  @Bean
+  public GameSessionEventListenerPort gameSessionEventListenerPort(
+      GameSaveService gameSaveService, TaskExecutor taskExecutor) {
+    return new GameSessionEventListener(gameSaveService, taskExecutor);
+  }
 }
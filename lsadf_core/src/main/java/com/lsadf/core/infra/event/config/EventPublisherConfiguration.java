@@ -17,10 +17,13 @@ package com.lsadf.core.infra.event.config;
 
 import com.lsadf.core.application.game.inventory.InventoryEventPublisherPort;
 import com.lsadf.core.application.game.mail.GameMailEventPublisherPort;
+import com.lsadf.core.application.game.session.GameSessionEventPublisherPort;
 import com.lsadf.core.infra.event.factory.game.inventory.InventoryEventFactory;
 import com.lsadf.core.infra.event.factory.game.mail.GameMailEventFactory;
+import com.lsadf.core.infra.event.factory.game.session.GameSessionEventFactory;
 import com.lsadf.core.infra.event.publisher.game.inventory.InventoryEventPublisher;
 import com.lsadf.core.infra.event.publisher.game.mail.GameMailEventPublisher;
+import com.lsadf.core.infra.event.publisher.game.session.GameSessionEventPublisher;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,4 +42,10 @@ public class EventPublisherConfiguration {
       ApplicationEventPublisher springEventPublisher, InventoryEventFactory eventFactory) {
     return new InventoryEventPublisher(springEventPublisher, eventFactory);
   }
+
+  @Bean
+  public GameSessionEventPublisherPort gameSessionEventPublisherPort(
+      ApplicationEventPublisher springEventPublisher, GameSessionEventFactory eventFactory) {
+    return new GameSessionEventPublisher(springEventPublisher, eventFactory);
+  }
 }
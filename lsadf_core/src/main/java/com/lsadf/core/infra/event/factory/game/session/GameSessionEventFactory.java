@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.event.factory.game.session;
+
+import com.lsadf.core.application.clock.ClockService;
+import com.lsadf.core.domain.game.session.event.GameSessionInitializedEvent;
+import com.lsadf.core.shared.event.EventFactory;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class GameSessionEventFactory implements EventFactory {
+  private final ClockService clockService;
+
+  public GameSessionInitializedEvent createGameSessionInitializedEvent(
+      UUID gameSessionId, UUID gameSaveId) {
+    Long timestamp = clockService.nowInstant().toEpochMilli();
+    return new GameSessionInitializedEvent(gameSessionId, gameSaveId, timestamp);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.event.listener.game.session;
+
+import com.lsadf.core.application.game.save.GameSaveService;
+import com.lsadf.core.application.game.session.GameSessionEventListenerPort;
+import com.lsadf.core.domain.game.session.event.GameSessionInitializedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+
+@Slf4j
+@RequiredArgsConstructor
+public class GameSessionEventListener implements GameSessionEventListenerPort {
+  private final GameSaveService gameSaveService;
+  private final TaskExecutor taskExecutor;
+
+  /**
+   * Warms the cache of the game save of the new session up. The warm-up is handed over to the task
+   * executor whether {@code @Async} processing is enabled or not, so that the creation of the
+   * session never waits for it.
+   *
+   * @param event the game session initialized event
+   */
+  @EventListener
+  @Override
+  public void onGameSessionInitialized(GameSessionInitializedEvent event) {
+    log.debug("{}: {}", event.getEventType(), event);
+    UUID gameSaveId = event.getGameSaveId();
+    taskExecutor.execute(() -> warmUpCache(gameSaveId));
+  }
+
+  private void warmUpCache(UUID gameSaveId) {
+    try {
+      gameSaveService.warmUpCache(gameSaveId);
+    } catch (RuntimeException e) {
+      log.warn("Error while warming up the cache of game save {}", gameSaveId, e);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.event.publisher.game.session;
+
+import com.lsadf.core.application.game.session.GameSessionEventPublisherPort;
+import com.lsadf.core.domain.game.session.event.GameSessionInitializedEvent;
+import com.lsadf.core.infra.event.factory.game.session.GameSessionEventFactory;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class GameSessionEventPublisher implements GameSessionEventPublisherPort {
+  private final ApplicationEventPublisher eventPublisher;
+  private final GameSessionEventFactory gameSessionEventFactory;
+
+  @Override
+  public void publishGameSessionInitializedEvent(UUID gameSessionId, UUID gameSaveId) {
+    GameSessionInitializedEvent event =
+        gameSessionEventFactory.createGameSessionInitializedEvent(gameSessionId, gameSaveId);
+    eventPublisher.publishEvent(event);
+  }
+}
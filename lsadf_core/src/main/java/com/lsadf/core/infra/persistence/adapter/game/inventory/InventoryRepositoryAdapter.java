@@ -15,70 +15,91 @@
  */
 package com.lsadf.core.infra.persistence.adapter.game.inventory;
 
+import static com.lsadf.core.infra.persistence.impl.game.inventory.AdditionalItemStatEntity.AdditionalStatsEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.inventory.ItemEntity.ItemAttributes.*;
+
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.domain.game.inventory.Item;
 import com.lsadf.core.domain.game.inventory.ItemStat;
+import com.lsadf.core.exception.AlreadyExistingItemClientIdException;
 import com.lsadf.core.infra.persistence.impl.game.inventory.*;
+import java.sql.Types;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 public class InventoryRepositoryAdapter implements InventoryRepositoryPort {
 
+  // Items and their additional stats in a single round-trip, one row per additional stat
+  private static final String FIND_ITEMS_QUERY =
+      """
+      select tgit.*, tias.tias_statistic, tias.tias_base_value
+      from t_item_tgit tgit
+      left join t_additional_stat_tias tias on tias.tgit_id=tgit.tgit_id
+      """;
+
+  private static final String BATCH_INSERT_ITEM_QUERY =
+      """
+      insert into t_item_tgit
+      (tgit_id, tgme_id, tgit_client_id, tgit_blueprint_id, tgit_type, tgit_rarity,
+      tgit_is_equipped, tgit_level, tgit_main_statistic, tgit_main_base_value)
+      values (:tgit_id, :tgme_id, :tgit_client_id, :tgit_blueprint_id, :tgit_type, :tgit_rarity,
+      :tgit_is_equipped, :tgit_level, :tgit_main_statistic, :tgit_main_base_value)
+      """;
+
+  private static final String BATCH_UPDATE_ITEM_QUERY =
+      """
+      update t_item_tgit
+      set tgit_blueprint_id=:tgit_blueprint_id,
+      tgit_type=:tgit_type,
+      tgit_rarity=:tgit_rarity,
+      tgit_is_equipped=:tgit_is_equipped,
+      tgit_level=:tgit_level,
+      tgit_main_statistic=:tgit_main_statistic,
+      tgit_main_base_value=:tgit_main_base_value
+      where tgit_id=:tgit_id
+      """;
+
+  private static final String BATCH_INSERT_ADDITIONAL_STAT_QUERY =
+      """
+      insert into t_additional_stat_tias (tias_id, tgit_id, tias_statistic, tias_base_value)
+      values (:tias_id, :tgit_id, :tias_statistic, :tias_base_value)
+      """;
+
   private final ItemRepository itemRepository;
   private final AdditionalItemStatsRepository additionalItemStatsRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
   private static final ItemEntityMapper itemEntityMapper = ItemEntityMapper.INSTANCE;
+  private static final InventoryResultSetExtractor inventoryResultSetExtractor =
+      new InventoryResultSetExtractor();
 
   public InventoryRepositoryAdapter(
-      ItemRepository itemRepository, AdditionalItemStatsRepository additionalItemStatsRepository) {
+      ItemRepository itemRepository,
+      AdditionalItemStatsRepository additionalItemStatsRepository,
+      NamedParameterJdbcTemplate jdbcTemplate) {
     this.itemRepository = itemRepository;
     this.additionalItemStatsRepository = additionalItemStatsRepository;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   @Override
   public Set<Item> findAllItemsByGameSaveId(UUID gameSaveId) {
-    var itemEntities =
-        itemRepository.findAllItemsByGameSaveId(gameSaveId).stream()
-            .map(itemEntityMapper::map)
-            .collect(Collectors.toMap(Item::getId, item -> item));
-
-    List<UUID> ids = new ArrayList<>(itemEntities.keySet());
-    if (ids.isEmpty()) {
-      return Collections.emptySet();
-    }
-
-    try (Stream<AdditionalItemStatEntity> additionalItemStatEntityStream =
-        additionalItemStatsRepository.findAllAdditionalItemStatsByGameSaveIds(ids)) {
-      additionalItemStatEntityStream.forEach(
-          additionalItemStatEntity -> {
-            var item = itemEntities.get(additionalItemStatEntity.getItemId());
-            if (item != null) {
-              item.getAdditionalStats()
-                  .add(AdditionalItemStatEntityMapper.INSTANCE.map(additionalItemStatEntity));
-            }
-          });
-      return new HashSet<>(itemEntities.values());
-    }
+    return jdbcTemplate.query(
+        FIND_ITEMS_QUERY + "where tgit.tgme_id=:tgme_id order by tgit.tgit_id",
+        new MapSqlParameterSource(ITEM_GAME_SAVE_ID, gameSaveId),
+        inventoryResultSetExtractor);
   }
 
   @Override
   public Optional<Item> findItemByClientId(String clientId) {
-    return itemRepository
-        .findItemByClientId(clientId)
-        .map(
-            itemEntity -> {
-              Item item = itemEntityMapper.map(itemEntity);
-              // Load additional stats
-              try (Stream<AdditionalItemStatEntity> additionalStats =
-                  additionalItemStatsRepository.findAllAdditionalItemStatsByGameSaveIds(
-                      Collections.singletonList(itemEntity.getId()))) {
-                additionalStats.forEach(
-                    stat ->
-                        item.getAdditionalStats()
-                            .add(AdditionalItemStatEntityMapper.INSTANCE.map(stat)));
-              }
-              return item;
-            });
+    Set<Item> items =
+        jdbcTemplate.query(
+            FIND_ITEMS_QUERY + "where tgit.tgit_client_id=:tgit_client_id",
+            new MapSqlParameterSource(ITEM_CLIENT_ID, clientId),
+            inventoryResultSetExtractor);
+    return items.stream().findFirst();
   }
 
   @Override
@@ -146,6 +167,56 @@ public class InventoryRepositoryAdapter implements InventoryRepositoryPort {
     return updatedItem;
   }
 
+  @Override
+  public List<Item> saveItems(UUID gameSaveId, List<Item> items)
+      throws AlreadyExistingItemClientIdException {
+    if (items.isEmpty()) {
+      return items;
+    }
+    List<String> clientIds = items.stream().map(Item::getClientId).toList();
+    Map<String, UUID> existingItemIds = new HashMap<>();
+    for (ItemEntity itemEntity : itemRepository.findAllItemsByClientIds(clientIds)) {
+      if (!gameSaveId.equals(itemEntity.getGameSaveId())) {
+        throw new AlreadyExistingItemClientIdException(
+            "Item with client id " + itemEntity.getClientId() + " already exists");
+      }
+      existingItemIds.put(itemEntity.getClientId(), itemEntity.getId());
+    }
+
+    List<SqlParameterSource> itemInserts = new ArrayList<>();
+    List<SqlParameterSource> itemUpdates = new ArrayList<>();
+    List<SqlParameterSource> additionalStatInserts = new ArrayList<>();
+    for (Item item : items) {
+      UUID existingItemId = existingItemIds.get(item.getClientId());
+      UUID itemId = existingItemId != null ? existingItemId : UUID.randomUUID();
+      item.setId(itemId);
+      item.setGameSaveId(gameSaveId);
+      if (existingItemId != null) {
+        itemUpdates.add(toItemParameters(item));
+      } else {
+        itemInserts.add(toItemParameters(item));
+      }
+      for (ItemStat additionalStat : item.getAdditionalStats()) {
+        additionalStatInserts.add(
+            new MapSqlParameterSource()
+                .addValue(ADDITIONAL_STATS_ID, UUID.randomUUID())
+                .addValue(ADDITIONAL_STATS_ITEM_ID, itemId)
+                .addValue(ADDITIONAL_STATS_ITEM_STATISTIC, additionalStat.getStatistic().name())
+                .addValue(ADDITIONAL_STATS_ITEM_BASE_VALUE, additionalStat.getBaseValue()));
+      }
+    }
+
+    // Replaced items get their additional stats re-inserted with the created ones
+    if (!existingItemIds.isEmpty()) {
+      additionalItemStatsRepository.deleteAllAdditionalItemStatsByItemIds(
+          existingItemIds.values());
+    }
+    batchUpdate(BATCH_INSERT_ITEM_QUERY, itemInserts);
+    batchUpdate(BATCH_UPDATE_ITEM_QUERY, itemUpdates);
+    batchUpdate(BATCH_INSERT_ADDITIONAL_STAT_QUERY, additionalStatInserts);
+    return items;
+  }
+
   @Override
   public void deleteItemByClientId(String clientId) {
     Optional<ItemEntity> optionalItemEntity = itemRepository.findItemByClientId(clientId);
@@ -165,4 +236,24 @@ public class InventoryRepositoryAdapter implements InventoryRepositoryPort {
   public boolean existsByClientId(String clientId) {
     return itemRepository.findItemByClientId(clientId).isPresent();
   }
+
+  private void batchUpdate(String query, List<SqlParameterSource> batch) {
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(query, batch.toArray(SqlParameterSource[]::new));
+    }
+  }
+
+  private static SqlParameterSource toItemParameters(Item item) {
+    return new MapSqlParameterSource()
+        .addValue(ITEM_ID, item.getId())
+        .addValue(ITEM_GAME_SAVE_ID, item.getGameSaveId())
+        .addValue(ITEM_CLIENT_ID, item.getClientId())
+        .addValue(ITEM_BLUEPRINT_ID, item.getBlueprintId())
+        .addValue(ITEM_TYPE, item.getItemType().name())
+        .addValue(ITEM_RARITY, item.getItemRarity().name())
+        .addValue(ITEM_IS_EQUIPPED, item.getIsEquipped(), Types.BOOLEAN)
+        .addValue(ITEM_LEVEL, item.getLevel())
+        .addValue(ITEM_MAIN_STATISTIC, item.getMainStat().getStatistic().name())
+        .addValue(ITEM_MAIN_BASE_VALUE, item.getMainStat().getBaseValue());
+  }
 }
@@ -74,6 +74,12 @@ public class GameMailRepositoryAdapter implements GameMailRepositoryPort {
         id, gameSaveId, mailTemplateId, isRead, isAttachmentClaimed);
   }
 
+  @Override
+  @Transactional
+  public long createGameEmailsForAllGameSaves(UUID mailTemplateId) {
+    return gameMailRepository.createGameEmailsForAllGameSaves(mailTemplateId);
+  }
+
   @Override
   @Transactional
   public void readGameEmail(UUID mailId) {
@@ -15,23 +15,46 @@
  */
 package com.lsadf.core.infra.persistence.adapter.game.save;
 
+import static com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsEntity.CharacteristicsEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_ID;
+
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsRepositoryPort;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsEntity;
 import com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsEntityMapper;
 import com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsRepository;
+import java.sql.Types;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 public class CharacteristicsRepositoryAdapter implements CharacteristicsRepositoryPort {
 
+  private static final String BATCH_UPDATE_QUERY =
+      """
+      update t_characteristics_tgch set
+      tgch_attack = coalesce(:tgch_attack, tgch_attack),
+      tgch_crit_chance = coalesce(:tgch_crit_chance, tgch_crit_chance),
+      tgch_crit_damage = coalesce(:tgch_crit_damage, tgch_crit_damage),
+      tgch_health = coalesce(:tgch_health, tgch_health),
+      tgch_resistance = coalesce(:tgch_resistance, tgch_resistance)
+      where tgme_id = :tgme_id
+      """;
+
   private final CharacteristicsRepository characteristicsRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
   private static final CharacteristicsEntityMapper characteristicsEntityMapper =
       CharacteristicsEntityMapper.INSTANCE;
 
-  public CharacteristicsRepositoryAdapter(CharacteristicsRepository characteristicsRepository) {
+  public CharacteristicsRepositoryAdapter(
+      CharacteristicsRepository characteristicsRepository,
+      NamedParameterJdbcTemplate jdbcTemplate) {
     this.characteristicsRepository = characteristicsRepository;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   @Override
@@ -70,6 +93,35 @@ public class CharacteristicsRepositoryAdapter implements CharacteristicsReposito
     return characteristicsEntityMapper.map(entity);
   }
 
+  @Override
+  public void updateAll(Map<UUID, Characteristics> characteristics) {
+    if (characteristics.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] batch =
+        characteristics.entrySet().stream()
+            .map(
+                entry ->
+                    new MapSqlParameterSource()
+                        .addValue(GAME_METADATA_ID, entry.getKey())
+                        .addValue(CHARACTERISTICS_ATTACK, entry.getValue().attack(), Types.BIGINT)
+                        .addValue(
+                            CHARACTERISTICS_CRIT_CHANCE,
+                            entry.getValue().critChance(),
+                            Types.BIGINT)
+                        .addValue(
+                            CHARACTERISTICS_CRIT_DAMAGE,
+                            entry.getValue().critDamage(),
+                            Types.BIGINT)
+                        .addValue(CHARACTERISTICS_HEALTH, entry.getValue().health(), Types.BIGINT)
+                        .addValue(
+                            CHARACTERISTICS_RESISTANCE,
+                            entry.getValue().resistance(),
+                            Types.BIGINT))
+            .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(BATCH_UPDATE_QUERY, batch);
+  }
+
   @Override
   public boolean existsById(UUID id) {
     return characteristicsRepository.findCharacteristicsEntityById(id).isPresent();
@@ -15,21 +15,42 @@
  */
 package com.lsadf.core.infra.persistence.adapter.game.save;
 
+import static com.lsadf.core.infra.persistence.impl.game.save.currency.CurrencyEntity.CurrencyEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_ID;
+
 import com.lsadf.core.application.game.save.currency.CurrencyRepositoryPort;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.infra.persistence.impl.game.save.currency.CurrencyEntityMapper;
 import com.lsadf.core.infra.persistence.impl.game.save.currency.CurrencyRepository;
+import java.sql.Types;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 public class CurrencyRepositoryAdapter implements CurrencyRepositoryPort {
 
+  private static final String BATCH_UPDATE_QUERY =
+      """
+      update t_currency_tgcu
+      set tgcu_gold_amount=coalesce(:tgcu_gold_amount, tgcu_gold_amount),
+      tgcu_diamond_amount=coalesce(:tgcu_diamond_amount, tgcu_diamond_amount),
+      tgcu_emerald_amount=coalesce(:tgcu_emerald_amount, tgcu_emerald_amount),
+      tgcu_amethyst_amount=coalesce(:tgcu_amethyst_amount, tgcu_amethyst_amount)
+      where tgme_id=:tgme_id
+      """;
+
   private final CurrencyRepository currencyRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
   private static final CurrencyEntityMapper currencyEntityMapper = CurrencyEntityMapper.INSTANCE;
 
-  public CurrencyRepositoryAdapter(CurrencyRepository currencyRepository) {
+  public CurrencyRepositoryAdapter(
+      CurrencyRepository currencyRepository, NamedParameterJdbcTemplate jdbcTemplate) {
     this.currencyRepository = currencyRepository;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   @Override
@@ -60,6 +81,26 @@ public class CurrencyRepositoryAdapter implements CurrencyRepositoryPort {
     return currencyEntityMapper.map(entity);
   }
 
+  @Override
+  public void updateAll(Map<UUID, Currency> currencies) {
+    if (currencies.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] batch =
+        currencies.entrySet().stream()
+            .map(
+                entry ->
+                    new MapSqlParameterSource()
+                        .addValue(GAME_METADATA_ID, entry.getKey())
+                        .addValue(CURRENCY_GOLD_AMOUNT, entry.getValue().gold(), Types.BIGINT)
+                        .addValue(CURRENCY_DIAMOND_AMOUNT, entry.getValue().diamond(), Types.BIGINT)
+                        .addValue(CURRENCY_EMERALD_AMOUNT, entry.getValue().emerald(), Types.BIGINT)
+                        .addValue(
+                            CURRENCY_AMETHYST_AMOUNT, entry.getValue().amethyst(), Types.BIGINT))
+            .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(BATCH_UPDATE_QUERY, batch);
+  }
+
   @Override
   public boolean existsById(UUID id) {
     return currencyRepository.findCurrencyEntityById(id).isPresent();
@@ -17,19 +17,33 @@ package com.lsadf.core.infra.persistence.adapter.game.save;
 
 import com.lsadf.core.application.game.save.GameSaveRepositoryPort;
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.infra.persistence.impl.view.GameSaveSearchQueryBuilder;
+import com.lsadf.core.infra.persistence.impl.view.GameSaveSearchQueryBuilder.GameSaveSearchQuery;
 import com.lsadf.core.infra.persistence.impl.view.GameSaveViewMapper;
 import com.lsadf.core.infra.persistence.impl.view.GameSaveViewRepository;
+import com.lsadf.core.infra.persistence.impl.view.GameSaveViewRowMapper;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 public class GameSaveViewRepositoryAdapter implements GameSaveRepositoryPort {
 
   private final GameSaveViewRepository gameSaveViewRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
   private static final GameSaveViewMapper gameSaveViewMapper = GameSaveViewMapper.INSTANCE;
+  private static final GameSaveViewRowMapper gameSaveViewRowMapper = new GameSaveViewRowMapper();
 
-  public GameSaveViewRepositoryAdapter(GameSaveViewRepository gameSaveViewRepository) {
+  public GameSaveViewRepositoryAdapter(
+      GameSaveViewRepository gameSaveViewRepository, NamedParameterJdbcTemplate jdbcTemplate) {
     this.gameSaveViewRepository = gameSaveViewRepository;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   @Override
@@ -42,6 +56,28 @@ public class GameSaveViewRepositoryAdapter implements GameSaveRepositoryPort {
     return gameSaveViewRepository.findAllGameSaves().map(gameSaveViewMapper::map);
   }
 
+  @Override
+  public List<GameSave> findPage(@Nullable GameSaveCursor after, int limit) {
+    if (after == null) {
+      return gameSaveViewRepository.findFirstGameSaves(limit).stream()
+          .map(gameSaveViewMapper::map)
+          .toList();
+    }
+    return gameSaveViewRepository
+        .findGameSavesAfter(Timestamp.from(after.createdAt()), after.id(), limit)
+        .stream()
+        .map(gameSaveViewMapper::map)
+        .toList();
+  }
+
+  @Override
+  public List<GameSave> search(
+      List<Filter> filters, List<GameSaveSortingParameter> orderBy, int limit) {
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder().filters(filters).orderBy(orderBy).limit(limit).build();
+    return jdbcTemplate.query(query.sql(), query.parameters(), gameSaveViewRowMapper);
+  }
+
   @Override
   public Stream<GameSave> findByUserEmail(String userEmail) {
     return gameSaveViewRepository
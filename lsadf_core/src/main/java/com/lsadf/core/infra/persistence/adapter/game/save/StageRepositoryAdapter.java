@@ -15,23 +15,43 @@
  */
 package com.lsadf.core.infra.persistence.adapter.game.save;
 
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_ID;
+import static com.lsadf.core.infra.persistence.impl.game.save.stage.StageEntity.StageEntityAttributes.*;
+
 import com.lsadf.core.application.game.save.stage.StageRepositoryPort;
 import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.infra.persistence.impl.game.save.stage.StageEntity;
 import com.lsadf.core.infra.persistence.impl.game.save.stage.StageEntityMapper;
 import com.lsadf.core.infra.persistence.impl.game.save.stage.StageRepository;
 import com.lsadf.core.infra.util.ObjectUtils;
+import java.sql.Types;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 public class StageRepositoryAdapter implements StageRepositoryPort {
 
+  private static final String BATCH_UPDATE_QUERY =
+      """
+      update t_stage_tgst set
+      tgst_current_stage=coalesce(:tgst_current_stage, tgst_current_stage),
+      tgst_max_stage=coalesce(:tgst_max_stage, tgst_max_stage),
+      tgst_wave=coalesce(:tgst_wave, tgst_wave)
+      where tgme_id=:tgme_id
+      """;
+
   private final StageRepository stageRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
   private static final StageEntityMapper stageEntityMapper = StageEntityMapper.INSTANCE;
 
-  public StageRepositoryAdapter(StageRepository stageRepository) {
+  public StageRepositoryAdapter(
+      StageRepository stageRepository, NamedParameterJdbcTemplate jdbcTemplate) {
     this.stageRepository = stageRepository;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   @Override
@@ -66,6 +86,25 @@ public class StageRepositoryAdapter implements StageRepositoryPort {
     return stageEntityMapper.map(entity);
   }
 
+  @Override
+  public void updateAll(Map<UUID, Stage> stages) {
+    if (stages.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] batch =
+        stages.entrySet().stream()
+            .map(
+                entry ->
+                    new MapSqlParameterSource()
+                        .addValue(GAME_METADATA_ID, entry.getKey())
+                        .addValue(
+                            STAGE_CURRENT_STAGE, entry.getValue().currentStage(), Types.BIGINT)
+                        .addValue(STAGE_MAX_STAGE, entry.getValue().maxStage(), Types.BIGINT)
+                        .addValue(STAGE_WAVE, entry.getValue().wave(), Types.BIGINT))
+            .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(BATCH_UPDATE_QUERY, batch);
+  }
+
   @Override
   public boolean existsById(UUID id) {
     return stageRepository.findStageEntityById(id).isPresent();
@@ -16,7 +16,8 @@
 package com.lsadf.core.infra.persistence.config;
 
 import com.lsadf.core.infra.persistence.config.properties.DataSourceProperties;
-import javax.sql.DataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,9 +26,18 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class DataSourceConfiguration {
 
+  /**
+   * Creates the Hikari data source. The pool settings under {@code spring.datasource.hikari} are
+   * bound on the returned instance, as they are not applied to a user-defined data source.
+   *
+   * @param dataSourceProperties the connection properties
+   * @return the Hikari data source
+   */
   @Bean
-  public DataSource dataSource(DataSourceProperties dataSourceProperties) {
-    DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+    DataSourceBuilder<HikariDataSource> dataSourceBuilder =
+        DataSourceBuilder.create().type(HikariDataSource.class);
     dataSourceBuilder.url(dataSourceProperties.getUrl());
     dataSourceBuilder.username(dataSourceProperties.getUsername());
     dataSourceBuilder.password(dataSourceProperties.getPassword());
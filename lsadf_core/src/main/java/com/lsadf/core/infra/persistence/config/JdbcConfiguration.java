@@ -42,21 +42,25 @@ public class JdbcConfiguration {
    * Creates a JdbcTemplate bean for database operations.
    *
    * @param dataSource the data source to use
+   * @param jdbcProperties the JDBC properties, holding the fetch size
    * @return a configured JdbcTemplate
    */
   @Bean
-  public JdbcTemplate jdbcTemplate(DataSource dataSource) {
-    return new JdbcTemplate(dataSource);
+  public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties jdbcProperties) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.setFetchSize(jdbcProperties.getFetchSize());
+    return jdbcTemplate;
   }
 
   /**
-   * Creates a NamedParameterJdbcTemplate bean for database operations with named parameters.
+   * Creates a NamedParameterJdbcTemplate bean for database operations with named parameters. It
+   * wraps the JdbcTemplate bean so that the repositories share its fetch size.
    *
-   * @param dataSource the data source to use
+   * @param jdbcTemplate the JdbcTemplate to wrap
    * @return a configured NamedParameterJdbcTemplate
    */
   @Bean
-  public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
-    return new NamedParameterJdbcTemplate(dataSource);
+  public NamedParameterJdbcTemplate namedParameterJdbcTemplate(JdbcTemplate jdbcTemplate) {
+    return new NamedParameterJdbcTemplate(jdbcTemplate);
   }
 }
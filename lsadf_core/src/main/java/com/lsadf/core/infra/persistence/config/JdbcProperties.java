@@ -24,4 +24,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class JdbcProperties {
   private boolean enabled;
+
+  /**
+   * Number of rows fetched per round-trip by the queries streaming their results. Within a
+   * transaction, the PostgreSQL driver then reads the rows through a cursor instead of loading the
+   * whole result set. 0 keeps the driver default.
+   */
+  private int fetchSize;
 }
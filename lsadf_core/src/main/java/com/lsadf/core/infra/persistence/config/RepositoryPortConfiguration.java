@@ -44,6 +44,7 @@ import com.lsadf.core.infra.persistence.impl.view.GameSaveViewRepository;
 import com.lsadf.core.infra.persistence.impl.view.GameSessionViewRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import tools.jackson.databind.ObjectMapper;
 
 @Configuration
@@ -52,14 +53,18 @@ public class RepositoryPortConfiguration {
   // Adapter Bean Definitions
   @Bean
   public GameSaveRepositoryPort gameSaveRepositoryAdapter(
-      GameSaveViewRepository gameSaveViewRepository) {
-    return new GameSaveViewRepositoryAdapter(gameSaveViewRepository);
+      GameSaveViewRepository gameSaveViewRepository,
+      NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    return new GameSaveViewRepositoryAdapter(gameSaveViewRepository, namedParameterJdbcTemplate);
   }
 
   @Bean
   public InventoryRepositoryPort inventoryRepositoryAdapter(
-      ItemRepository itemRepository, AdditionalItemStatsRepository additionalItemStatsRepository) {
-    return new InventoryRepositoryAdapter(itemRepository, additionalItemStatsRepository);
+      ItemRepository itemRepository,
+      AdditionalItemStatsRepository additionalItemStatsRepository,
+      NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    return new InventoryRepositoryAdapter(
+        itemRepository, additionalItemStatsRepository, namedParameterJdbcTemplate);
   }
 
   @Bean
@@ -70,8 +75,10 @@ public class RepositoryPortConfiguration {
 
   @Bean
   public CharacteristicsRepositoryPort characteristicsRepositoryAdapter(
-      CharacteristicsRepository characteristicsRepository) {
-    return new CharacteristicsRepositoryAdapter(characteristicsRepository);
+      CharacteristicsRepository characteristicsRepository,
+      NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    return new CharacteristicsRepositoryAdapter(
+        characteristicsRepository, namedParameterJdbcTemplate);
   }
 
   @Bean
@@ -82,13 +89,16 @@ public class RepositoryPortConfiguration {
   }
 
   @Bean
-  public CurrencyRepositoryPort currencyRepositoryAdapter(CurrencyRepository currencyRepository) {
-    return new CurrencyRepositoryAdapter(currencyRepository);
+  public CurrencyRepositoryPort currencyRepositoryAdapter(
+      CurrencyRepository currencyRepository,
+      NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    return new CurrencyRepositoryAdapter(currencyRepository, namedParameterJdbcTemplate);
   }
 
   @Bean
-  public StageRepositoryPort stageRepositoryAdapter(StageRepository stageRepository) {
-    return new StageRepositoryAdapter(stageRepository);
+  public StageRepositoryPort stageRepositoryAdapter(
+      StageRepository stageRepository, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    return new StageRepositoryAdapter(stageRepository, namedParameterJdbcTemplate);
   }
 
   @Bean
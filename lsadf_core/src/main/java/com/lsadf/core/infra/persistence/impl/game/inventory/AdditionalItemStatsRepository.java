@@ -19,9 +19,8 @@ import static com.lsadf.core.infra.persistence.impl.game.inventory.AdditionalIte
 
 import com.lsadf.core.domain.game.inventory.ItemStatistic;
 import com.lsadf.core.infra.persistence.JdbcRepository;
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.query.Param;
@@ -39,6 +38,11 @@ public interface AdditionalItemStatsRepository extends JdbcRepository<Additional
   @Query("delete from t_additional_stat_tias where tgit_id=:tgit_id")
   void deleteAllAdditionalItemStatsByItemId(@Param(ADDITIONAL_STATS_ITEM_ID) UUID itemId);
 
+  @Modifying
+  @Query("delete from t_additional_stat_tias where tgit_id in (:tgit_id)")
+  void deleteAllAdditionalItemStatsByItemIds(
+      @Param(ADDITIONAL_STATS_ITEM_ID) Collection<UUID> itemIds);
+
   @Query(
       "insert into t_additional_stat_tias (tias_id, tgit_id, tias_statistic, tias_base_value) values (:tias_id, :tgit_id, :tias_statistic, :tias_base_value) returning *")
   AdditionalItemStatEntity createNewAdditionalItemStatEntity(
@@ -53,8 +57,4 @@ public interface AdditionalItemStatsRepository extends JdbcRepository<Additional
       @Param(ADDITIONAL_STATS_ITEM_ID) UUID itemId,
       @Param(ADDITIONAL_STATS_ITEM_STATISTIC) ItemStatistic statistic,
       @Param(ADDITIONAL_STATS_ITEM_BASE_VALUE) Float baseValue);
-
-  @Query("select * from t_additional_stat_tias where tgit_id in (:tgit_id)")
-  Stream<AdditionalItemStatEntity> findAllAdditionalItemStatsByGameSaveIds(
-      @Param(ADDITIONAL_STATS_ITEM_ID) List<UUID> itemIdList);
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.persistence.impl.game.inventory;
+
+import static com.lsadf.core.infra.persistence.impl.game.inventory.AdditionalItemStatEntity.AdditionalStatsEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.inventory.ItemEntity.ItemAttributes.*;
+
+import com.lsadf.core.domain.game.inventory.Item;
+import com.lsadf.core.domain.game.inventory.ItemRarity;
+import com.lsadf.core.domain.game.inventory.ItemStat;
+import com.lsadf.core.domain.game.inventory.ItemStatistic;
+import com.lsadf.core.domain.game.inventory.ItemType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+/**
+ * Builds the {@link Item} objects from the rows of {@code t_item_tgit} left joined with their
+ * {@code t_additional_stat_tias} rows. The rows must be ordered by item id: each item is complete,
+ * and added to the result, as soon as the rows move on to the next item.
+ */
+public class InventoryResultSetExtractor implements ResultSetExtractor<Set<Item>> {
+
+  @Override
+  public Set<Item> extractData(ResultSet rs) throws SQLException {
+    Set<Item> items = new HashSet<>();
+    Item current = null;
+    while (rs.next()) {
+      UUID itemId = rs.getObject(ITEM_ID, UUID.class);
+      if (current == null || !current.getId().equals(itemId)) {
+        if (current != null) {
+          items.add(current);
+        }
+        current = mapItem(rs, itemId);
+      }
+      ItemStat additionalStat = mapAdditionalStat(rs);
+      if (additionalStat != null) {
+        current.getAdditionalStats().add(additionalStat);
+      }
+    }
+    if (current != null) {
+      items.add(current);
+    }
+    return items;
+  }
+
+  private static Item mapItem(ResultSet rs, UUID itemId) throws SQLException {
+    ItemStat mainStat =
+        new ItemStat(
+            ItemStatistic.valueOf(rs.getString(ITEM_MAIN_STATISTIC)),
+            rs.getFloat(ITEM_MAIN_BASE_VALUE));
+    return Item.builder()
+        .id(itemId)
+        .gameSaveId(rs.getObject(ITEM_GAME_SAVE_ID, UUID.class))
+        .clientId(rs.getString(ITEM_CLIENT_ID))
+        .blueprintId(rs.getString(ITEM_BLUEPRINT_ID))
+        .itemType(ItemType.valueOf(rs.getString(ITEM_TYPE)))
+        .itemRarity(ItemRarity.valueOf(rs.getString(ITEM_RARITY)))
+        .isEquipped(rs.getObject(ITEM_IS_EQUIPPED, Boolean.class))
+        .level(rs.getInt(ITEM_LEVEL))
+        .mainStat(mainStat)
+        .additionalStats(new ArrayList<>())
+        .build();
+  }
+
+  private static @Nullable ItemStat mapAdditionalStat(ResultSet rs) throws SQLException {
+    String statistic = rs.getString(ADDITIONAL_STATS_ITEM_STATISTIC);
+    if (statistic == null) {
+      // Item without additional stat, from the left join
+      return null;
+    }
+    return new ItemStat(
+        ItemStatistic.valueOf(statistic), rs.getFloat(ADDITIONAL_STATS_ITEM_BASE_VALUE));
+  }
+}
@@ -22,8 +22,9 @@ import com.lsadf.core.domain.game.inventory.ItemRarity;
 import com.lsadf.core.domain.game.inventory.ItemStatistic;
 import com.lsadf.core.domain.game.inventory.ItemType;
 import com.lsadf.core.infra.persistence.JdbcRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
@@ -34,12 +35,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ItemRepository
     extends CrudRepository<ItemEntity, UUID>, JdbcRepository<ItemEntity> {
-  @Query("select * from t_item_tgit where tgme_id =:tgme_id")
-  Set<ItemEntity> findAllItemsByGameSaveId(@Param(GAME_METADATA_ID) UUID gameSaveId);
-
   @Query("select * from t_item_tgit where tgit_client_id =:tgit_client_id")
   Optional<ItemEntity> findItemByClientId(@Param(ITEM_CLIENT_ID) String clientId);
 
+  @Query("select * from t_item_tgit where tgit_client_id in (:tgit_client_id)")
+  List<ItemEntity> findAllItemsByClientIds(@Param(ITEM_CLIENT_ID) Collection<String> clientIds);
+
   @Modifying
   @Query("delete from t_item_tgit where tgme_id=:tgme_id")
   void deleteAllItemsByGameSaveId(@Param(GAME_METADATA_ID) UUID gameSaveId);
@@ -45,6 +45,27 @@ public interface GameMailRepository extends JdbcRepository<GameMailEntity> {
       @Param(GAME_MAIL_IS_READ) boolean isRead,
       @Param(GAME_MAIL_IS_ATTACHMENT_CLAIMED) boolean isAttachmentClaimed);
 
+  /**
+   * Create a game email from the template for every game save in a single statement. Game saves
+   * that already have an email from this template are skipped.
+   *
+   * @param mailTemplateId the mail template id
+   * @return the number of created game emails
+   */
+  @Modifying
+  @Query(
+      """
+        INSERT INTO t_game_mail_instance_tgmi
+            (tgme_id, tgmt_id, tgmi_read, tgmi_attachment_claimed, tgmi_expires_at)
+        SELECT tgme.tgme_id, tgmt.tgmt_id, FALSE, FALSE,
+               CURRENT_TIMESTAMP + INTERVAL '1 day' * tgmt.tgmt_expiration_days
+        FROM t_game_metadata_tgme tgme
+        CROSS JOIN t_game_mail_template_tgmt tgmt
+        WHERE tgmt.tgmt_id = :tgmt_id
+        ON CONFLICT (tgmt_id, tgme_id) DO NOTHING
+        """)
+  int createGameEmailsForAllGameSaves(@Param(GAME_MAIL_MAIL_TEMPLATE_ID) UUID mailTemplateId);
+
   /**
    * Mark a game email as read
    *
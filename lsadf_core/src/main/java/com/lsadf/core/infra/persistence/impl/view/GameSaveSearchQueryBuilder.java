@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.persistence.impl.view;
+
+import static com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsEntity.CharacteristicsEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.currency.CurrencyEntity.CurrencyEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.stage.StageEntity.StageEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.view.GameSaveViewEntity.GameSaveViewAttributes.GAME_SAVE_VIEW_ENTITY;
+
+import com.lsadf.core.infra.web.JsonAttributes;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Builds the query searching game saves in the {@code v_game_save_vgsa} view. The filters are
+ * translated into parameterised {@code LIKE} conditions, keeping their {@code %} and {@code _}
+ * wildcards, and the sorting parameters into an {@code ORDER BY} clause, so that only the requested
+ * page of game saves is read from the database.
+ */
+public class GameSaveSearchQueryBuilder {
+
+  private static final String LIMIT = "limit";
+  private static final String FILTER_PREFIX = "filter_";
+
+  private final List<String> conditions = new ArrayList<>();
+  private final List<String> orders = new ArrayList<>();
+  private final MapSqlParameterSource parameters = new MapSqlParameterSource();
+  private boolean orderedById = false;
+  private int limit = Integer.MAX_VALUE;
+
+  /**
+   * Adds the given filters to the query. A game save must match all of them.
+   *
+   * @param filters the filters
+   * @return this builder
+   * @throws IllegalArgumentException if the type of a filter is not supported
+   */
+  public GameSaveSearchQueryBuilder filters(List<Filter> filters) {
+    filters.forEach(this::filter);
+    return this;
+  }
+
+  /**
+   * Adds the given filter to the query
+   *
+   * @param filter the filter, whose value is a SQL-like pattern (e.g. San%)
+   * @return this builder
+   * @throws IllegalArgumentException if the type of the filter is not supported
+   */
+  public GameSaveSearchQueryBuilder filter(Filter filter) {
+    String parameter = FILTER_PREFIX + conditions.size();
+    String value = filter.value();
+    switch (filter.type()) {
+      case JsonAttributes.ID -> {
+        UUID id = toExactId(value);
+        if (id != null) {
+          // Served by the primary key
+          conditions.add(GAME_METADATA_ID + " = :" + parameter);
+          parameters.addValue(parameter, id);
+        } else {
+          conditions.add("cast(" + GAME_METADATA_ID + " as text) like :" + parameter);
+          parameters.addValue(parameter, value);
+        }
+      }
+      case JsonAttributes.USER_EMAIL, JsonAttributes.USER_EMAIL_CAMEL_CASE -> {
+        conditions.add(GAME_METADATA_USER_EMAIL + " like :" + parameter);
+        parameters.addValue(parameter, value);
+      }
+      case JsonAttributes.NICKNAME -> {
+        conditions.add(GAME_METADATA_NICKNAME + " like :" + parameter);
+        parameters.addValue(parameter, value);
+      }
+      default -> throw new IllegalArgumentException("Invalid filter type");
+    }
+    return this;
+  }
+
+  /**
+   * Adds the given sorting parameters to the query, in order
+   *
+   * @param orderBy the sorting parameters
+   * @return this builder
+   */
+  public GameSaveSearchQueryBuilder orderBy(List<GameSaveSortingParameter> orderBy) {
+    for (GameSaveSortingParameter sortingParameter : orderBy) {
+      String column = toColumn(sortingParameter);
+      if (column != null) {
+        orders.add(column + " " + sortingParameter.getDirection().name());
+        orderedById |= GAME_METADATA_ID.equals(column);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of game saves returned by the query
+   *
+   * @param limit the maximum number of game saves
+   * @return this builder
+   */
+  public GameSaveSearchQueryBuilder limit(int limit) {
+    this.limit = limit;
+    return this;
+  }
+
+  /**
+   * Builds the query
+   *
+   * @return the SQL query and its parameters
+   */
+  public GameSaveSearchQuery build() {
+    StringBuilder sql = new StringBuilder("select * from ").append(GAME_SAVE_VIEW_ENTITY);
+    if (!conditions.isEmpty()) {
+      sql.append(" where ").append(String.join(" and ", conditions));
+    }
+    List<String> allOrders = new ArrayList<>(orders);
+    if (!orderedById) {
+      // Game saves with equal sorting values are always returned in the same order
+      allOrders.add(GAME_METADATA_ID + " ASC");
+    }
+    sql.append(" order by ").append(String.join(", ", allOrders));
+    sql.append(" limit :").append(LIMIT);
+    MapSqlParameterSource queryParameters =
+        new MapSqlParameterSource(parameters.getValues()).addValue(LIMIT, limit);
+    return new GameSaveSearchQuery(sql.toString(), queryParameters);
+  }
+
+  /**
+   * Returns the id matched by the given pattern if it has no wildcard and is a full UUID, so that
+   * it can be compared to the ids without converting them to text.
+   *
+   * @param value the pattern
+   * @return the id, or null if the pattern may match several ids
+   */
+  private static @Nullable UUID toExactId(String value) {
+    if (value.indexOf('%') >= 0 || value.indexOf('_') >= 0 || value.length() != 36) {
+      return null;
+    }
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the column of the view sorted by the given sorting parameter
+   *
+   * @param sortingParameter the sorting parameter
+   * @return the column, or null if the sorting parameter does not sort the game saves
+   */
+  private static @Nullable String toColumn(GameSaveSortingParameter sortingParameter) {
+    return switch (sortingParameter) {
+      case ID, ID_DESC -> GAME_METADATA_ID;
+      case USER_EMAIL, USER_EMAIL_DESC -> GAME_METADATA_USER_EMAIL;
+      case CREATED_AT, CREATED_AT_DESC -> GAME_METADATA_CREATED_AT;
+      case UPDATED_AT, UPDATED_AT_DESC -> GAME_METADATA_UPDATED_AT;
+      case NICKNAME, NICKNAME_DESC -> GAME_METADATA_NICKNAME;
+      case GOLD, GOLD_DESC -> CURRENCY_GOLD_AMOUNT;
+      case DIAMOND, DIAMOND_DESC -> CURRENCY_DIAMOND_AMOUNT;
+      case EMERALD, EMERALD_DESC -> CURRENCY_EMERALD_AMOUNT;
+      case AMETHYST, AMETHYST_DESC -> CURRENCY_AMETHYST_AMOUNT;
+      case CURRENT_STAGE, CURRENT_STAGE_DESC -> STAGE_CURRENT_STAGE;
+      case MAX_STAGE, MAX_STAGE_DESC -> STAGE_MAX_STAGE;
+      case WAVE, WAVE_DESC -> STAGE_WAVE;
+      case ATTACK, ATTACK_DESC -> CHARACTERISTICS_ATTACK;
+      case CRIT_CHANCE, CRIT_CHANCE_DESC -> CHARACTERISTICS_CRIT_CHANCE;
+      case CRIT_DAMAGE, CRIT_DAMAGE_DESC -> CHARACTERISTICS_CRIT_DAMAGE;
+      case HEALTH, HEALTH_DESC -> CHARACTERISTICS_HEALTH;
+      case RESISTANCE, RESISTANCE_DESC -> CHARACTERISTICS_RESISTANCE;
+      case NONE -> null;
+    };
+  }
+
+  /**
+   * A game save search query, ready to be run with a NamedParameterJdbcTemplate
+   *
+   * @param sql the SQL query
+   * @param parameters the parameters of the query
+   */
+  public record GameSaveSearchQuery(String sql, MapSqlParameterSource parameters) {}
+}
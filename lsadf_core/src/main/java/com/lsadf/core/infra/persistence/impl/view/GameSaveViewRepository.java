@@ -15,9 +15,12 @@
  */
 package com.lsadf.core.infra.persistence.impl.view;
 
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_CREATED_AT;
 import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_ID;
 import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.GAME_METADATA_USER_EMAIL;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -32,6 +35,37 @@ public interface GameSaveViewRepository
   @Query("select * from v_game_save_vgsa")
   Stream<GameSaveViewEntity> findAllGameSaves();
 
+  /**
+   * Finds the first game saves, ordered by creation date, then by id
+   *
+   * @param limit the maximum number of game saves to return
+   * @return the first game saves
+   */
+  @Query("select * from v_game_save_vgsa order by tgme_created_at, tgme_id limit :limit")
+  List<GameSaveViewEntity> findFirstGameSaves(@Param("limit") int limit);
+
+  /**
+   * Finds the game saves following the given position, ordered by creation date, then by id. The
+   * row comparison is served by the index on (tgme_created_at, tgme_id), so that a page is read
+   * without scanning the game saves of the previous ones.
+   *
+   * @param createdAt the creation date of the game save to start after
+   * @param id the id of the game save to start after
+   * @param limit the maximum number of game saves to return
+   * @return the game saves following the given position
+   */
+  @Query(
+      """
+        select * from v_game_save_vgsa
+        where (tgme_created_at, tgme_id) > (:tgme_created_at, :tgme_id)
+        order by tgme_created_at, tgme_id
+        limit :limit
+        """)
+  List<GameSaveViewEntity> findGameSavesAfter(
+      @Param(GAME_METADATA_CREATED_AT) Date createdAt,
+      @Param(GAME_METADATA_ID) UUID id,
+      @Param("limit") int limit);
+
   @Query("select * from v_game_save_vgsa where tgme_id=:tgme_id")
   Optional<GameSaveViewEntity> findGameSaveEntityById(@Param(GAME_METADATA_ID) UUID id);
 
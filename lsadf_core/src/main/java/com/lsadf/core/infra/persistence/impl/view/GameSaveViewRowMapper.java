@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.persistence.impl.view;
+
+import static com.lsadf.core.infra.persistence.impl.game.save.characteristics.CharacteristicsEntity.CharacteristicsEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.currency.CurrencyEntity.CurrencyEntityAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntity.GameSaveMetadataAttributes.*;
+import static com.lsadf.core.infra.persistence.impl.game.save.stage.StageEntity.StageEntityAttributes.*;
+
+import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.metadata.GameMetadata;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps the rows of the {@code v_game_save_vgsa} view to {@link GameSave} objects, for the queries
+ * built at runtime that cannot be declared on {@link GameSaveViewRepository}. The mapping is the
+ * same as the one of {@link GameSaveViewMapper}; the characteristics, currency and stage columns
+ * may be null, as they come from left joins.
+ */
+public class GameSaveViewRowMapper implements RowMapper<GameSave> {
+
+  @Override
+  public GameSave mapRow(ResultSet rs, int rowNum) throws SQLException {
+    GameMetadata metadata =
+        new GameMetadata(
+            rs.getObject(GAME_METADATA_ID, UUID.class),
+            rs.getString(GAME_METADATA_USER_EMAIL),
+            rs.getTimestamp(GAME_METADATA_CREATED_AT),
+            rs.getTimestamp(GAME_METADATA_UPDATED_AT),
+            rs.getString(GAME_METADATA_NICKNAME));
+    Characteristics characteristics =
+        new Characteristics(
+            rs.getObject(CHARACTERISTICS_ATTACK, Long.class),
+            rs.getObject(CHARACTERISTICS_CRIT_CHANCE, Long.class),
+            rs.getObject(CHARACTERISTICS_CRIT_DAMAGE, Long.class),
+            rs.getObject(CHARACTERISTICS_HEALTH, Long.class),
+            rs.getObject(CHARACTERISTICS_RESISTANCE, Long.class));
+    Currency currency =
+        new Currency(
+            rs.getObject(CURRENCY_GOLD_AMOUNT, Long.class),
+            rs.getObject(CURRENCY_DIAMOND_AMOUNT, Long.class),
+            rs.getObject(CURRENCY_EMERALD_AMOUNT, Long.class),
+            rs.getObject(CURRENCY_AMETHYST_AMOUNT, Long.class));
+    Stage stage =
+        new Stage(
+            rs.getObject(STAGE_CURRENT_STAGE, Long.class),
+            rs.getObject(STAGE_MAX_STAGE, Long.class),
+            rs.getObject(STAGE_WAVE, Long.class));
+    return new GameSave(metadata, characteristics, currency, stage);
+  }
+}
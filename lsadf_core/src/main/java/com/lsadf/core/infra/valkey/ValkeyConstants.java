@@ -28,5 +28,11 @@ public final class ValkeyConstants {
   public static final String STAGE = "stage:";
   public static final String STAGE_HISTO = "stage_histo:";
   public static final String GAME_METADATA = "game_metadata:";
+  public static final String MISSING_GAME_METADATA = "missing_game_metadata:";
+  public static final String INVENTORY = "inventory:";
+  public static final String INVENTORY_GENERATION = "inventory_generation:";
+  public static final String GAME_SAVE = "game_save:";
   public static final String INVALIDATED_JWT_TOKEN = "invalidated_jwt_token:";
+  public static final String HOT_KEYS = "hot_keys:";
+  public static final String GAME_STREAM_APPLIED_IDS = "game_stream_applied_ids:";
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Identity of the running application instance towards Valkey, used to tell apart the work owned by
+ * every replica sharing the same Valkey server.
+ *
+ * @param id the instance id, unique among the running replicas
+ */
+public record ValkeyInstance(String id) {
+
+  private static final String UNKNOWN_HOST = "unknown-host";
+
+  /**
+   * Creates the instance identity from the configured id, or generates one made of the host name
+   * and of a random suffix when none is configured. A configured id should be stable across
+   * restarts and unique among the replicas, so an instance recognizes its own work after a crash.
+   *
+   * @param configuredId the configured instance id, possibly blank
+   * @return the instance identity
+   */
+  public static ValkeyInstance of(@Nullable String configuredId) {
+    if (configuredId != null && !configuredId.isBlank()) {
+      return new ValkeyInstance(configuredId);
+    }
+    return new ValkeyInstance(hostName() + "-" + UUID.randomUUID().toString().substring(0, 8));
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return UNKNOWN_HOST;
+    }
+  }
+}
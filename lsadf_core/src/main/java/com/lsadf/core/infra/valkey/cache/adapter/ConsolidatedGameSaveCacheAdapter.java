@@ -0,0 +1,456 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter;
+
+import com.lsadf.core.application.shared.HistoCachePort;
+import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Cache adapter storing one section of the mutable state of a game save (characteristics, currency
+ * or stage) in a single Valkey hash per game save, shared by all the sections.
+ *
+ * <p>Every section owns a fixed set of fields of the hash, named after the section. Writes set the
+ * fields of the section and remove its unset fields with field-level HSET and HDEL, reads fetch
+ * them with one HMGET, and bulk operations pipeline these commands. The time to live is kept on
+ * the hash, so a game save costs one key, one expiration and one expiry event whatever the number
+ * of sections cached.
+ *
+ * <p>Partial values are merged on the server: an atomic script sets the fields of the non-null
+ * properties, provided the section is cached, and refreshes the time to live of the hash.
+ *
+ * <p>The time to live of the hash follows the expiration policy of the cache, to which the single
+ * reads of the section are reported. It is shared by all the sections, so they must all be given
+ * the same expiration: otherwise, writing a section would shorten the time to live of the others.
+ *
+ * <p>To migrate from the layout with one key per section, a legacy cache can be read as fallback:
+ * a value found only there is copied to the hash and removed from the legacy cache, and removals
+ * are applied to both layouts.
+ */
+public abstract class ConsolidatedGameSaveCacheAdapter<T> implements HistoCachePort<T> {
+
+  private static final String FIELD_SEPARATOR = ".";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisOperations<String, String> readOperations;
+  private final HistoCachePort<T> legacyCache;
+  private final boolean legacyFallback;
+  private final long expirationSeconds;
+  private final ExpirationPolicy expirationPolicy;
+  private final List<String> fields;
+  private final byte[][] rawFields;
+
+  protected ConsolidatedGameSaveCacheAdapter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisOperations<String, String> readOperations,
+      HistoCachePort<T> legacyCache,
+      boolean legacyFallback,
+      long expirationSeconds,
+      ExpirationPolicy expirationPolicy,
+      String section,
+      List<String> fieldNames) {
+    this.redisTemplate = redisTemplate;
+    this.readOperations = readOperations;
+    this.legacyCache = legacyCache;
+    this.legacyFallback = legacyFallback;
+    this.expirationSeconds = expirationSeconds;
+    this.expirationPolicy = expirationPolicy;
+    this.fields = fieldNames.stream().map(field -> section + FIELD_SEPARATOR + field).toList();
+    this.rawFields =
+        fields.stream().map(field -> field.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+  }
+
+  /**
+   * Converts a value to the values of the fields of the section, in the order of the field names.
+   *
+   * @param value the value to convert
+   * @return the values of the fields, null for an unset field
+   */
+  protected abstract List<@Nullable Long> toFieldValues(T value);
+
+  /**
+   * Converts the values of the fields of the section, in the order of the field names, to a value.
+   *
+   * @param fieldValues the values of the fields, null for an unset field
+   * @return the value
+   */
+  protected abstract T fromFieldValues(List<@Nullable Long> fieldValues);
+
+  @Override
+  public Optional<T> get(String key) {
+    expirationPolicy.recordAccess(key);
+    List<String> values =
+        redisTemplate.<String, String>opsForHash().multiGet(hashKey(key), fields);
+    Optional<T> value = Optional.ofNullable(read(values));
+    if (value.isPresent() || !legacyFallback) {
+      return value;
+    }
+    Optional<T> legacyValue = legacyCache.get(key);
+    legacyValue.ifPresent(present -> migrate(Map.of(key, present)));
+    return legacyValue;
+  }
+
+  @Override
+  public void set(String key, T value) {
+    setMany(Map.of(key, value));
+  }
+
+  @Override
+  public void unset(String key) {
+    unsetMany(List.of(key));
+  }
+
+  /**
+   * Reads the sections of all the given game saves with pipelined HMGET calls. Bulk reads serve the
+   * flush and the batch updates, not the players, so they are not reported to the expiration
+   * policy.
+   */
+  @Override
+  public Map<String, T> getMany(Collection<String> keys) {
+    Map<String, T> values = readMany(redisTemplate, keys);
+    if (values.size() < keys.size()) {
+      values.putAll(readLegacy(missingKeys(keys, values), false));
+    }
+    return values;
+  }
+
+  /**
+   * Reads the sections of all the given game saves like {@link #getMany(Collection)}, following
+   * the replica read policy. Sections only present in the legacy cache are read from it, but not
+   * migrated.
+   */
+  @Override
+  public Map<String, T> getManyStale(Collection<String> keys) {
+    Map<String, T> values = readMany(readOperations, keys);
+    if (values.size() < keys.size()) {
+      values.putAll(readLegacy(missingKeys(keys, values), true));
+    }
+    return values;
+  }
+
+  /**
+   * Reads the sections of the given game saves from the legacy cache, when it is read as fallback.
+   * Unless they are read for display only, the sections found there are migrated to the hash.
+   *
+   * @param keys the ids of the game saves whose section is not in the hash
+   * @param stale whether the sections are read for display only, possibly from a replica
+   * @return the sections found in the legacy cache, by game save id
+   */
+  Map<String, T> readLegacy(Collection<String> keys, boolean stale) {
+    if (!legacyFallback || keys.isEmpty()) {
+      return Map.of();
+    }
+    if (stale) {
+      return legacyCache.getManyStale(keys);
+    }
+    Map<String, T> legacyValues = legacyCache.getMany(keys);
+    if (!legacyValues.isEmpty()) {
+      migrate(legacyValues);
+    }
+    return legacyValues;
+  }
+
+  /** Returns the names of the fields of the section in the game save hash. */
+  List<String> fields() {
+    return fields;
+  }
+
+  private static List<String> missingKeys(Collection<String> keys, Map<String, ?> values) {
+    return keys.stream().filter(key -> !values.containsKey(key)).toList();
+  }
+
+  /**
+   * Writes the sections of all the given game saves with pipelined calls: the set fields are
+   * written with one HSET, the unset ones removed with one HDEL, and the time to live of the hash
+   * is refreshed.
+   */
+  @Override
+  public void setMany(Map<String, T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              values.forEach(
+                  (key, value) -> {
+                    byte[] rawKey = rawHashKey(key);
+                    List<@Nullable Long> fieldValues = toFieldValues(value);
+                    Map<byte[], byte[]> setFields = new LinkedHashMap<>();
+                    List<byte[]> unsetFields = new ArrayList<>();
+                    for (int i = 0; i < rawFields.length; i++) {
+                      Long fieldValue = fieldValues.get(i);
+                      if (fieldValue == null) {
+                        unsetFields.add(rawFields[i]);
+                      } else {
+                        setFields.put(
+                            rawFields[i], fieldValue.toString().getBytes(StandardCharsets.UTF_8));
+                      }
+                    }
+                    if (!unsetFields.isEmpty()) {
+                      connection.hashCommands().hDel(rawKey, unsetFields.toArray(byte[][]::new));
+                    }
+                    if (!setFields.isEmpty()) {
+                      connection.hashCommands().hMSet(rawKey, setFields);
+                      long keyExpirationSeconds = keyExpirationSeconds(key);
+                      if (keyExpirationSeconds > 0) {
+                        connection.keyCommands().expire(rawKey, keyExpirationSeconds);
+                      }
+                    }
+                  });
+              return null;
+            });
+  }
+
+  /**
+   * Removes the fields of the section of all the given game saves with pipelined HDEL calls. The
+   * hash of a game save is removed along with the last of its fields.
+   */
+  @Override
+  public void unsetMany(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              keys.forEach(key -> connection.hashCommands().hDel(rawHashKey(key), rawFields));
+              return null;
+            });
+    if (legacyFallback) {
+      legacyCache.unsetMany(keys);
+    }
+  }
+
+  /**
+   * Removes the fields of the section of the given game saves with pipelined calls of an atomic
+   * script, unless one of them changed since it was read. Values read from the legacy cache were
+   * migrated to the hash, and are compared and removed there as well.
+   */
+  @Override
+  public Set<String> unsetManyIfUnchanged(Map<String, T> values) {
+    Set<String> removed =
+        new HashSet<>(
+            gameSaveIds(
+                CacheUtils.unsetHashFieldsIfUnchanged(
+                    redisTemplate, fieldsByKey(values), fields, false)));
+    if (legacyFallback) {
+      removed.addAll(legacyCache.unsetManyIfUnchanged(values));
+    }
+    return removed;
+  }
+
+  @Override
+  public boolean merge(String key, T value) {
+    return mergeMany(Map.of(key, value)).contains(key);
+  }
+
+  /**
+   * Merges the non-null properties of the given values into the sections cached in the game save
+   * hashes, with pipelined calls of an atomic script. A section only present in the legacy cache
+   * is not merged, so that the caller reads it, which migrates it, before setting it.
+   */
+  @Override
+  public Set<String> mergeMany(Map<String, T> values) {
+    return gameSaveIds(
+        CacheUtils.mergeHashFields(
+            redisTemplate,
+            fieldsByKey(values),
+            fields,
+            hashKey -> keyExpirationSeconds(gameSaveId(hashKey))));
+  }
+
+  /**
+   * Writes the sections of the given values absent from the game save hashes with pipelined calls
+   * of an atomic script. Sections only present in the legacy cache are migrated first, so that
+   * they are not overwritten.
+   */
+  @Override
+  public Set<String> setManyIfAbsent(Map<String, T> values) {
+    if (legacyFallback && !values.isEmpty()) {
+      Map<String, T> legacyValues = legacyCache.getMany(values.keySet());
+      if (!legacyValues.isEmpty()) {
+        migrate(legacyValues);
+      }
+    }
+    return gameSaveIds(
+        CacheUtils.initHashFields(
+            redisTemplate,
+            fieldsByKey(values),
+            fields,
+            hashKey -> keyExpirationSeconds(gameSaveId(hashKey))));
+  }
+
+  private Map<String, Map<String, byte[]>> fieldsByKey(Map<String, T> values) {
+    Map<String, Map<String, byte[]>> fieldsByKey = new LinkedHashMap<>();
+    values.forEach(
+        (key, value) -> {
+          List<@Nullable Long> fieldValues = toFieldValues(value);
+          Map<String, byte[]> setFields = new LinkedHashMap<>();
+          for (int i = 0; i < fields.size(); i++) {
+            Long fieldValue = fieldValues.get(i);
+            if (fieldValue != null) {
+              setFields.put(fields.get(i), fieldValue.toString().getBytes(StandardCharsets.UTF_8));
+            }
+          }
+          fieldsByKey.put(hashKey(key), setFields);
+        });
+    return fieldsByKey;
+  }
+
+  private long keyExpirationSeconds(String key) {
+    return expirationPolicy.expirationSeconds(key, expirationSeconds);
+  }
+
+  private static Set<String> gameSaveIds(Set<String> hashKeys) {
+    return hashKeys.stream()
+        .map(ConsolidatedGameSaveCacheAdapter::gameSaveId)
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public Optional<T> getHisto(String key) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Map<String, T> getManyHisto(Collection<String> keys) {
+    return Map.of();
+  }
+
+  @Override
+  public Map<String, T> getAllHisto() {
+    return Map.of();
+  }
+
+  /** Reads the sections of all the game saves, following the replica read policy. */
+  @Override
+  public Map<String, T> getAll() {
+    Map<String, T> values = new HashMap<>();
+    if (legacyFallback) {
+      values.putAll(legacyCache.getAll());
+    }
+    try (Stream<List<String>> batches = scanKeys(readOperations)) {
+      batches.forEach(keys -> values.putAll(readMany(readOperations, keys)));
+    }
+    return values;
+  }
+
+  @Override
+  public void clear() {
+    try (Stream<List<String>> batches = scanKeys(redisTemplate)) {
+      batches.forEach(this::unsetMany);
+    }
+    if (legacyFallback) {
+      legacyCache.clear();
+    }
+  }
+
+  private Map<String, T> readMany(
+      RedisOperations<String, String> operations, Collection<String> keys) {
+    Map<String, T> values = new HashMap<>();
+    if (keys.isEmpty()) {
+      return values;
+    }
+    List<String> orderedKeys = List.copyOf(keys);
+    List<Object> results =
+        operations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  orderedKeys.forEach(
+                      key -> connection.hashCommands().hMGet(rawHashKey(key), rawFields));
+                  return null;
+                },
+            RedisSerializer.string());
+    for (int i = 0; i < orderedKeys.size(); i++) {
+      if (results.get(i) instanceof List<?> fieldValues) {
+        T value = read(fieldValues);
+        if (value != null) {
+          values.put(orderedKeys.get(i), value);
+        }
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Converts the values of the fields of the section read from the game save hash to a value.
+   *
+   * @param values the values of the fields, in the order of the field names
+   * @return the value, or null if none of its fields is set
+   */
+  @Nullable T read(@Nullable List<?> values) {
+    if (values == null) {
+      return null;
+    }
+    List<@Nullable Long> fieldValues = new ArrayList<>(values.size());
+    boolean present = false;
+    for (Object value : values) {
+      if (value == null) {
+        fieldValues.add(null);
+      } else {
+        fieldValues.add(Long.valueOf(value.toString()));
+        present = true;
+      }
+    }
+    return present ? fromFieldValues(fieldValues) : null;
+  }
+
+  private void migrate(Map<String, T> legacyValues) {
+    setMany(legacyValues);
+    legacyCache.unsetMany(legacyValues.keySet());
+  }
+
+  private Stream<List<String>> scanKeys(RedisOperations<String, String> operations) {
+    return CacheUtils.scanKeys(
+            operations,
+            ValkeyConstants.GAME_SAVE + "*",
+            DataType.HASH,
+            CacheUtils.SCAN_BATCH_SIZE)
+        .map(keys -> keys.stream().map(ConsolidatedGameSaveCacheAdapter::gameSaveId).toList());
+  }
+
+  private static String gameSaveId(String hashKey) {
+    return hashKey.substring(ValkeyConstants.GAME_SAVE.length());
+  }
+
+  private static String hashKey(String key) {
+    return ValkeyConstants.GAME_SAVE + key;
+  }
+
+  private static byte[] rawHashKey(String key) {
+    return hashKey(key).getBytes(StandardCharsets.UTF_8);
+  }
+}
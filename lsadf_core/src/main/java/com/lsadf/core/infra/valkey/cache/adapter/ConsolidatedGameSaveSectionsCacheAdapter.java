@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter;
+
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Reads the sections of game saves stored in the consolidated game save hash. The fields of all
+ * the sections of a game save are fetched with one HMGET, and the HMGET calls of several game saves
+ * are pipelined.
+ *
+ * <p>The sections missing from the hash are read from the legacy cache of their section adapter,
+ * when it is read as fallback, and migrated like the adapter does.
+ *
+ * <p>The reads by the players are reported to the expiration policy once per game save.
+ */
+public class ConsolidatedGameSaveSectionsCacheAdapter implements GameSaveSectionsCachePort {
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisOperations<String, String> readOperations;
+  private final ConsolidatedGameSaveCacheAdapter<Characteristics> characteristicsCache;
+  private final ConsolidatedGameSaveCacheAdapter<Currency> currencyCache;
+  private final ConsolidatedGameSaveCacheAdapter<Stage> stageCache;
+  private final ExpirationPolicy expirationPolicy;
+  private final byte[][] rawFields;
+
+  public ConsolidatedGameSaveSectionsCacheAdapter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisOperations<String, String> readOperations,
+      ConsolidatedGameSaveCacheAdapter<Characteristics> characteristicsCache,
+      ConsolidatedGameSaveCacheAdapter<Currency> currencyCache,
+      ConsolidatedGameSaveCacheAdapter<Stage> stageCache,
+      ExpirationPolicy expirationPolicy) {
+    this.redisTemplate = redisTemplate;
+    this.readOperations = readOperations;
+    this.characteristicsCache = characteristicsCache;
+    this.currencyCache = currencyCache;
+    this.stageCache = stageCache;
+    this.expirationPolicy = expirationPolicy;
+    this.rawFields =
+        Stream.of(characteristicsCache, currencyCache, stageCache)
+            .flatMap(cache -> cache.fields().stream())
+            .map(field -> field.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+  }
+
+  @Override
+  public Optional<GameSaveSections> get(String key) {
+    expirationPolicy.recordAccess(key);
+    return Optional.ofNullable(readMany(redisTemplate, List.of(key), false).get(key));
+  }
+
+  @Override
+  public Map<String, GameSaveSections> getMany(Collection<String> keys) {
+    return readMany(redisTemplate, keys, false);
+  }
+
+  @Override
+  public Map<String, GameSaveSections> getManyStale(Collection<String> keys) {
+    return readMany(readOperations, keys, true);
+  }
+
+  private Map<String, GameSaveSections> readMany(
+      RedisOperations<String, String> operations, Collection<String> keys, boolean stale) {
+    Map<String, GameSaveSections> sections = new HashMap<>();
+    if (keys.isEmpty()) {
+      return sections;
+    }
+    List<String> orderedKeys = List.copyOf(keys);
+    List<Object> results =
+        operations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  orderedKeys.forEach(
+                      key ->
+                          connection
+                              .hashCommands()
+                              .hMGet(
+                                  (ValkeyConstants.GAME_SAVE + key)
+                                      .getBytes(StandardCharsets.UTF_8),
+                                  rawFields));
+                  return null;
+                },
+            RedisSerializer.string());
+
+    Map<String, Characteristics> characteristics = new HashMap<>();
+    Map<String, Currency> currencies = new HashMap<>();
+    Map<String, Stage> stages = new HashMap<>();
+    int characteristicsEnd = characteristicsCache.fields().size();
+    int currencyEnd = characteristicsEnd + currencyCache.fields().size();
+    for (int i = 0; i < orderedKeys.size(); i++) {
+      if (results.get(i) instanceof List<?> fieldValues) {
+        String key = orderedKeys.get(i);
+        putIfRead(
+            characteristics,
+            key,
+            characteristicsCache.read(fieldValues.subList(0, characteristicsEnd)));
+        putIfRead(
+            currencies,
+            key,
+            currencyCache.read(fieldValues.subList(characteristicsEnd, currencyEnd)));
+        putIfRead(
+            stages, key, stageCache.read(fieldValues.subList(currencyEnd, fieldValues.size())));
+      }
+    }
+    characteristics.putAll(
+        characteristicsCache.readLegacy(missingKeys(orderedKeys, characteristics), stale));
+    currencies.putAll(currencyCache.readLegacy(missingKeys(orderedKeys, currencies), stale));
+    stages.putAll(stageCache.readLegacy(missingKeys(orderedKeys, stages), stale));
+
+    for (String key : orderedKeys) {
+      Characteristics keyCharacteristics = characteristics.get(key);
+      Currency currency = currencies.get(key);
+      Stage stage = stages.get(key);
+      if (keyCharacteristics != null || currency != null || stage != null) {
+        sections.put(key, new GameSaveSections(keyCharacteristics, currency, stage));
+      }
+    }
+    return sections;
+  }
+
+  private static <T> void putIfRead(Map<String, T> values, String key, @Nullable T value) {
+    if (value != null) {
+      values.put(key, value);
+    }
+  }
+
+  private static List<String> missingKeys(List<String> keys, Map<String, ?> values) {
+    List<String> missingKeys = new ArrayList<>();
+    for (String key : keys) {
+      if (!values.containsKey(key)) {
+        missingKeys.add(key);
+      }
+    }
+    return missingKeys;
+  }
+}
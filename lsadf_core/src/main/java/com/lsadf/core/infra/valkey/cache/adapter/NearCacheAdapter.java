@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lsadf.core.application.shared.CachePort;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Bounded in-process cache layered in front of another {@link CachePort}.
+ *
+ * <p>Reads are served from the local cache when possible and fall back to the delegate, whose
+ * result is kept locally. Entries are evicted by size and expire after a fixed time since they
+ * were written, which bounds how stale a local entry can get, and never outlive the remote entry
+ * they were read from. Every write goes through to the delegate, then publishes an invalidation
+ * message on a Valkey channel, so the other instances drop their local copy of the written keys.
+ * Messages are tagged with the name of the cache and the id of the publishing instance, which
+ * ignores its own messages.
+ *
+ * <p>Every invalidation bumps a sequence, striped by key. A value read from the delegate is only
+ * kept locally if the sequence of its key did not move during the read, so that a value read
+ * before an invalidation is never cached after it.
+ */
+@Slf4j
+public class NearCacheAdapter<T> implements CachePort<T>, MessageListener {
+
+  private static final String SEPARATOR = "\u001F";
+
+  private static final int SEQUENCE_STRIPES = 64;
+
+  private final CachePort<T> delegate;
+  private final Cache<String, LocalEntry<T>> localCache;
+  private final AtomicLongArray invalidationSequences = new AtomicLongArray(SEQUENCE_STRIPES);
+  private final Duration expireAfterWrite;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final String channel;
+  private final String name;
+  private final String instanceId;
+
+  public NearCacheAdapter(
+      CachePort<T> delegate,
+      RedisTemplate<String, String> redisTemplate,
+      String channel,
+      String name,
+      String instanceId,
+      long maximumSize,
+      Duration expireAfterWrite) {
+    this.delegate = delegate;
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.name = name;
+    this.instanceId = instanceId;
+    this.expireAfterWrite = expireAfterWrite;
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new LocalEntryExpiry<T>())
+            .build();
+  }
+
+  /**
+   * Reads the value from the delegate when it is not cached locally, and keeps it locally until the
+   * remote entry expires at the latest, unless the key was invalidated during the read.
+   */
+  @Override
+  public Optional<T> get(String key) {
+    LocalEntry<T> entry = localCache.getIfPresent(key);
+    if (entry != null) {
+      return Optional.of(entry.value());
+    }
+    long sequence = invalidationSequences.get(stripe(key));
+    Optional<T> optional = delegate.get(key);
+    if (optional.isPresent()) {
+      OptionalLong remoteSeconds = delegate.getExpirationSeconds(key);
+      Duration timeToLive =
+          remoteSeconds.isPresent()
+              ? min(expireAfterWrite, Duration.ofSeconds(remoteSeconds.getAsLong()))
+              : expireAfterWrite;
+      if (timeToLive.isPositive()) {
+        localCache.put(key, new LocalEntry<>(optional.get(), timeToLive.toNanos()));
+        if (invalidationSequences.get(stripe(key)) != sequence) {
+          localCache.invalidate(key);
+        }
+      }
+    }
+    return optional;
+  }
+
+  @Override
+  public void set(String key, T value) {
+    delegate.set(key, value);
+    invalidateLocally(List.of(key));
+    localCache.put(key, new LocalEntry<>(value, expireAfterWrite.toNanos()));
+    publishInvalidation(List.of(key));
+  }
+
+  @Override
+  public void unset(String key) {
+    delegate.unset(key);
+    invalidateLocally(List.of(key));
+    publishInvalidation(List.of(key));
+  }
+
+  /**
+   * Reads the keys missing from the local cache from the delegate, in a single bulk lookup. Bulk
+   * reads serve the flush and the batch updates, so their values are not kept locally.
+   */
+  @Override
+  public Map<String, T> getMany(Collection<String> keys) {
+    Map<String, T> values = new HashMap<>();
+    localCache.getAllPresent(keys).forEach((key, entry) -> values.put(key, entry.value()));
+    List<String> missingKeys = keys.stream().filter(key -> !values.containsKey(key)).toList();
+    if (!missingKeys.isEmpty()) {
+      values.putAll(delegate.getMany(missingKeys));
+    }
+    return values;
+  }
+
+  @Override
+  public void setMany(Map<String, T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    delegate.setMany(values);
+    invalidateLocally(values.keySet());
+    values.forEach(
+        (key, value) -> localCache.put(key, new LocalEntry<>(value, expireAfterWrite.toNanos())));
+    publishInvalidation(values.keySet());
+  }
+
+  @Override
+  public void unsetMany(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    delegate.unsetMany(keys);
+    invalidateLocally(keys);
+    publishInvalidation(keys);
+  }
+
+  /** Merges the value in the delegate, and drops the local copy of the key if it was merged. */
+  @Override
+  public boolean merge(String key, T value) {
+    boolean merged = delegate.merge(key, value);
+    if (merged) {
+      invalidateLocally(List.of(key));
+      publishInvalidation(List.of(key));
+    }
+    return merged;
+  }
+
+  @Override
+  public Set<String> mergeMany(Map<String, T> values) {
+    Set<String> merged = delegate.mergeMany(values);
+    if (!merged.isEmpty()) {
+      invalidateLocally(merged);
+      publishInvalidation(merged);
+    }
+    return merged;
+  }
+
+  @Override
+  public Set<String> setManyIfAbsent(Map<String, T> values) {
+    Set<String> written = delegate.setManyIfAbsent(values);
+    if (!written.isEmpty()) {
+      invalidateLocally(written);
+      publishInvalidation(written);
+    }
+    return written;
+  }
+
+  @Override
+  public OptionalLong getExpirationSeconds(String key) {
+    return delegate.getExpirationSeconds(key);
+  }
+
+  @Override
+  public Map<String, T> getAll() {
+    return delegate.getAll();
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+    invalidateAllLocally();
+    publishInvalidation(List.of());
+  }
+
+  /**
+   * Drops the keys written by another instance from the local cache. A message without key
+   * invalidates the whole local cache.
+   *
+   * @param message message must not be {@literal null}.
+   * @param pattern pattern matching the channel (if specified) - can be {@literal null}.
+   */
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+    if (parts.length < 2 || parts[0].equals(instanceId) || !parts[1].equals(name)) {
+      return;
+    }
+    if (parts.length == 2) {
+      invalidateAllLocally();
+      return;
+    }
+    invalidateLocally(Arrays.asList(parts).subList(2, parts.length));
+  }
+
+  /**
+   * Drops the local copy of the keys. Their sequence is bumped first, so that a value read from the
+   * delegate concurrently is either dropped here or by the reader itself.
+   */
+  private void invalidateLocally(Collection<String> keys) {
+    keys.forEach(key -> invalidationSequences.incrementAndGet(stripe(key)));
+    localCache.invalidateAll(keys);
+  }
+
+  private void invalidateAllLocally() {
+    for (int i = 0; i < SEQUENCE_STRIPES; i++) {
+      invalidationSequences.incrementAndGet(i);
+    }
+    localCache.invalidateAll();
+  }
+
+  private static int stripe(String key) {
+    return Math.floorMod(key.hashCode(), SEQUENCE_STRIPES);
+  }
+
+  private static Duration min(Duration first, Duration second) {
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+
+  private void publishInvalidation(Collection<String> keys) {
+    List<String> parts = new ArrayList<>(keys.size() + 2);
+    parts.add(instanceId);
+    parts.add(name);
+    parts.addAll(keys);
+    try {
+      redisTemplate.convertAndSend(channel, String.join(SEPARATOR, parts));
+    } catch (DataAccessException e) {
+      log.warn("Error while publishing invalidation of near cache {}", name, e);
+    }
+  }
+
+  /** Value kept locally, with the time it may be kept for. */
+  private record LocalEntry<V>(V value, long timeToLiveNanos) {}
+
+  /** Expires every local entry after its own time to live since it was written. */
+  private static final class LocalEntryExpiry<V> implements Expiry<String, LocalEntry<V>> {
+
+    @Override
+    public long expireAfterCreate(String key, LocalEntry<V> entry, long currentTime) {
+      return entry.timeToLiveNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, LocalEntry<V> entry, long currentTime, long currentDuration) {
+      return entry.timeToLiveNanos();
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, LocalEntry<V> entry, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter;
+
+import com.lsadf.core.application.shared.HistoCachePort;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * {@link NearCacheAdapter} in front of a {@link HistoCachePort}. Only the current values are kept
+ * in the local cache, historized values are always read from the delegate.
+ */
+public class NearHistoCacheAdapter<T> extends NearCacheAdapter<T> implements HistoCachePort<T> {
+
+  private final HistoCachePort<T> histoDelegate;
+
+  public NearHistoCacheAdapter(
+      HistoCachePort<T> delegate,
+      RedisTemplate<String, String> redisTemplate,
+      String channel,
+      String name,
+      String instanceId,
+      long maximumSize,
+      Duration expireAfterWrite) {
+    super(delegate, redisTemplate, channel, name, instanceId, maximumSize, expireAfterWrite);
+    this.histoDelegate = delegate;
+  }
+
+  @Override
+  public Optional<T> getHisto(String key) {
+    return histoDelegate.getHisto(key);
+  }
+
+  @Override
+  public Map<String, T> getManyHisto(Collection<String> keys) {
+    return histoDelegate.getManyHisto(keys);
+  }
+
+  @Override
+  public Map<String, T> getAllHisto() {
+    return histoDelegate.getAllHisto();
+  }
+}
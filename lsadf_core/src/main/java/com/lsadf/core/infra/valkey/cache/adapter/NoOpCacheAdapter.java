@@ -16,6 +16,7 @@
 package com.lsadf.core.infra.valkey.cache.adapter;
 
 import com.lsadf.core.application.shared.CachePort;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,21 @@ public class NoOpCacheAdapter<T> implements CachePort<T> {
     // Do nothing
   }
 
+  @Override
+  public Map<String, T> getMany(Collection<String> keys) {
+    return Map.of();
+  }
+
+  @Override
+  public void setMany(Map<String, T> values) {
+    // Do nothing
+  }
+
+  @Override
+  public void unsetMany(Collection<String> keys) {
+    // Do nothing
+  }
+
   @Override
   public Map<String, T> getAll() {
     return Map.of();
@@ -16,6 +16,7 @@
 package com.lsadf.core.infra.valkey.cache.adapter;
 
 import com.lsadf.core.application.shared.HistoCachePort;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,6 +26,11 @@ public class NoOpHistoCacheAdapter<T> extends NoOpCacheAdapter<T> implements His
     return Optional.empty();
   }
 
+  @Override
+  public Map<String, T> getManyHisto(Collection<String> keys) {
+    return Map.of();
+  }
+
   @Override
   public Map<String, T> getAllHisto() {
     return Map.of();
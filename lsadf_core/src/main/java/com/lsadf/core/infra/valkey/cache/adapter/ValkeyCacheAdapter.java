@@ -17,12 +17,23 @@ package com.lsadf.core.infra.valkey.cache.adapter;
 
 import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Slf4j
 public abstract class ValkeyCacheAdapter<T> implements CachePort<T> {
@@ -63,6 +74,126 @@ public abstract class ValkeyCacheAdapter<T> implements CachePort<T> {
     }
   }
 
+  @Override
+  public OptionalLong getExpirationSeconds(String key) {
+    try {
+      Long timeToLive = redisTemplate.getExpire(keyType + key, TimeUnit.SECONDS);
+      if (timeToLive == null || timeToLive == -1) {
+        return OptionalLong.empty();
+      }
+      return OptionalLong.of(Math.max(timeToLive, 0));
+    } catch (DataAccessException e) {
+      log.warn("Error while getting time to live from redis cache", e);
+      return OptionalLong.empty();
+    }
+  }
+
+  @Override
+  public Map<String, T> getMany(Collection<String> keys) {
+    return multiGet(keyType, keys);
+  }
+
+  /**
+   * Sets all the values with pipelined SET calls, with the same expiration as {@link #set}, so the
+   * whole write costs a single round-trip.
+   */
+  @Override
+  public void setMany(Map<String, T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    try {
+      redisTemplate.executePipelined(
+          new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+              ValueOperations<String, T> valueOperations =
+                  ((RedisOperations<String, T>) operations).opsForValue();
+              values.forEach(
+                  (key, value) -> {
+                    if (expirationSeconds > 0) {
+                      valueOperations.set(
+                          keyType + key, value, expirationSeconds, TimeUnit.SECONDS);
+                    } else {
+                      valueOperations.set(keyType + key, value);
+                    }
+                  });
+              return null;
+            }
+          });
+    } catch (DataAccessException e) {
+      log.warn("Error while setting entries in redis cache", e);
+    }
+  }
+
+  /** Removes all the keys with a single non-blocking UNLINK. */
+  @Override
+  public void unsetMany(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    try {
+      redisTemplate.unlink(keys.stream().map(key -> keyType + key).toList());
+    } catch (DataAccessException e) {
+      log.warn("Error while deleting entries from redis cache", e);
+    }
+  }
+
+  /**
+   * Removes the given values with pipelined calls of an atomic script, unless they changed since
+   * they were read: a value is only removed while its serialized form is unchanged.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Set<String> unsetManyIfUnchanged(Map<String, T> values) {
+    if (values.isEmpty()) {
+      return Set.of();
+    }
+    RedisSerializer<T> valueSerializer = (RedisSerializer<T>) redisTemplate.getValueSerializer();
+    Map<String, byte[]> rawValues = new LinkedHashMap<>();
+    values.forEach((key, value) -> rawValues.put(keyType + key, valueSerializer.serialize(value)));
+    try {
+      return CacheUtils.unsetValuesIfUnchanged(redisTemplate, rawValues).stream()
+          .map(key -> key.substring(keyType.length()))
+          .collect(Collectors.toSet());
+    } catch (DataAccessException e) {
+      log.warn("Error while deleting entries from redis cache", e);
+      return Set.of();
+    }
+  }
+
+  /**
+   * Reads the values of all the given keys under the given key prefix with a single MGET.
+   *
+   * @param prefix the prefix of the keys in the cache
+   * @param keys the keys to read, without prefix
+   * @return the values present in the cache, by key without prefix
+   */
+  protected Map<String, T> multiGet(String prefix, Collection<String> keys) {
+    Map<String, T> values = new HashMap<>();
+    if (keys.isEmpty()) {
+      return values;
+    }
+    List<String> orderedKeys = List.copyOf(keys);
+    List<String> prefixedKeys = orderedKeys.stream().map(key -> prefix + key).toList();
+    try {
+      List<T> objects = redisTemplate.opsForValue().multiGet(prefixedKeys);
+      if (objects == null) {
+        return values;
+      }
+      for (int i = 0; i < orderedKeys.size(); i++) {
+        T object = objects.get(i);
+        if (object != null) {
+          values.put(orderedKeys.get(i), object);
+        }
+      }
+    } catch (DataAccessException e) {
+      log.warn("Error while getting elements from redis cache", e);
+    }
+    return values;
+  }
+
   @Override
   public Map<String, T> getAll() {
     return CacheUtils.getAllEntries(redisTemplate, keyType);
@@ -19,19 +19,337 @@ import com.lsadf.core.application.shared.HistoCachePort;
 import com.lsadf.core.infra.valkey.cache.Hash;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.HashRepository;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
 import com.lsadf.core.shared.model.Model;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+@Slf4j
 public abstract class ValkeyCacheRepositoryAdapter<T extends Model, H extends Hash<I>, I>
     implements HistoCachePort<T> {
   protected HashModelMapper<H, T> hashMapper;
   protected HashRepository<H, I> repository;
   protected long expirationSeconds;
+  protected final ExpirationPolicy expirationPolicy;
 
-  protected ValkeyCacheRepositoryAdapter(HashRepository<H, I> repository) {
+  private final RedisOperations<String, String> redisOperations;
+  private final RedisOperations<String, String> readOperations;
+  private final RedisConverter redisConverter;
+  private final Class<H> hashType;
+  private final String keyspace;
+  private final List<String> valueFields;
+
+  protected ValkeyCacheRepositoryAdapter(
+      HashRepository<H, I> repository,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter,
+      Class<H> hashType,
+      ExpirationPolicy expirationPolicy) {
     this.repository = repository;
+    this.redisOperations = redisOperations;
+    this.readOperations = readOperations;
+    this.redisConverter = redisConverter;
+    this.hashType = hashType;
+    this.expirationPolicy = expirationPolicy;
+    RedisPersistentEntity<?> entity =
+        redisConverter.getMappingContext().getRequiredPersistentEntity(hashType);
+    this.keyspace = entity.getKeySpace();
+    List<String> fields = new ArrayList<>();
+    entity.doWithProperties(
+        (SimplePropertyHandler)
+            property -> {
+              if (!property.isAnnotationPresent(TimeToLive.class)) {
+                fields.add(property.getName());
+              }
+            });
+    this.valueFields = List.copyOf(fields);
+  }
+
+  /**
+   * Reads the hashes of all the given keys with one pipelined HGETALL per key, so the whole lookup
+   * costs a single round-trip instead of one per key. Bulk reads serve the flush and the batch
+   * updates, not the players, so they are not reported to the expiration policy.
+   *
+   * @param keys the ids of the hashes to read
+   * @return the values of the hashes present in the cache, by key, or none if the cache failed
+   */
+  @Override
+  public Map<String, T> getMany(Collection<String> keys) {
+    try {
+      return readMany(redisOperations, keys);
+    } catch (DataAccessException e) {
+      log.warn("Error while getting elements from redis cache", e);
+      return Map.of();
+    }
+  }
+
+  /** Reads the hashes like {@link #getMany(Collection)}, following the replica read policy. */
+  @Override
+  public Map<String, T> getManyStale(Collection<String> keys) {
+    try {
+      return readMany(readOperations, keys);
+    } catch (DataAccessException e) {
+      log.warn("Error while getting elements from redis cache", e);
+      return Map.of();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, T> readMany(
+      RedisOperations<String, String> operations, Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    List<String> orderedKeys = List.copyOf(keys);
+    List<Object> results =
+        operations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  orderedKeys.forEach(key -> connection.hashCommands().hGetAll(rawKey(key)));
+                  return null;
+                },
+            RedisSerializer.byteArray());
+
+    Map<String, T> values = new HashMap<>();
+    for (int i = 0; i < orderedKeys.size(); i++) {
+      if (results.get(i) instanceof Map<?, ?> raw && !raw.isEmpty()) {
+        String key = orderedKeys.get(i);
+        H hash = readHash(key, (Map<byte[], byte[]>) raw);
+        values.put(key, hashMapper.map(hash));
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Computes the time to live of the hash of a key, following the expiration policy of the cache.
+   *
+   * @param key the id of the hash
+   * @return the time to live of the hash, in seconds
+   */
+  protected long keyExpirationSeconds(String key) {
+    return expirationPolicy.expirationSeconds(key, expirationSeconds);
+  }
+
+  /**
+   * Converts a value to the hash stored under the given key.
+   *
+   * @param key the id of the hash
+   * @param value the value to convert
+   * @return the hash to store
+   */
+  protected abstract H toHash(String key, T value);
+
+  /**
+   * Writes the hashes of all the given values with pipelined calls of an atomic script. Every hash
+   * is written the way the repository saves a single one, the previous hash being replaced and its
+   * time to live set, but no client ever reads it removed or half written. The ids are then added
+   * to the keyspace index.
+   *
+   * @param values the values to write, by key
+   */
+  @Override
+  public void setMany(Map<String, T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    Map<String, Map<String, byte[]>> fieldsByKey = new LinkedHashMap<>();
+    Map<String, Long> timeToLiveByKey = new HashMap<>();
+    values.forEach(
+        (key, value) -> {
+          RedisData data = new RedisData();
+          redisConverter.write(toHash(key, value), data);
+          String hashKey = keyspace + ":" + key;
+          fieldsByKey.put(hashKey, data.getBucket().rawMap());
+          timeToLiveByKey.put(hashKey, data.getTimeToLive());
+        });
+    try {
+      Set<String> written =
+          ids(
+              CacheUtils.replaceHashFields(
+                  redisOperations,
+                  fieldsByKey,
+                  hashKey -> Objects.requireNonNullElse(timeToLiveByKey.get(hashKey), 0L)));
+      if (!written.isEmpty()) {
+        redisOperations.opsForSet().add(keyspace, written.toArray(String[]::new));
+      }
+    } catch (DataAccessException e) {
+      log.warn("Error while setting entries in redis cache", e);
+    }
+  }
+
+  /**
+   * Removes the hashes of all the given keys, and their keyspace index entries, in one pipelined
+   * call.
+   *
+   * @param keys the ids of the hashes to remove
+   */
+  @Override
+  public void unsetMany(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    byte[] rawKeyspace = keyspace.getBytes(StandardCharsets.UTF_8);
+    try {
+      redisOperations.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                for (String key : keys) {
+                  connection.keyCommands().unlink(rawKey(key));
+                  connection.setCommands().sRem(rawKeyspace, key.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+              });
+    } catch (DataAccessException e) {
+      log.warn("Error while deleting entries from redis cache", e);
+    }
+  }
+
+  /**
+   * Removes the hashes of the given values, and their keyspace index entries, unless one of their
+   * properties changed since they were read. Each hash is compared and removed by an atomic script,
+   * and the scripts are pipelined.
+   *
+   * @param values the values read, by key
+   * @return the ids of the removed hashes
+   */
+  @Override
+  public Set<String> unsetManyIfUnchanged(Map<String, T> values) {
+    Set<String> removed =
+        ids(
+            CacheUtils.unsetHashFieldsIfUnchanged(
+                redisOperations, fieldsByKey(values), valueFields, true));
+    if (!removed.isEmpty()) {
+      redisOperations.opsForSet().remove(keyspace, removed.toArray());
+    }
+    return removed;
+  }
+
+  /**
+   * Reads the remaining time to live of the hash of the key.
+   *
+   * @param key the id of the hash
+   * @return the time to live in seconds, 0 if the hash is absent, or empty if it never expires or
+   *     the cache failed
+   */
+  @Override
+  public OptionalLong getExpirationSeconds(String key) {
+    try {
+      Long timeToLive = redisOperations.getExpire(keyspace + ":" + key, TimeUnit.SECONDS);
+      if (timeToLive == null || timeToLive == -1) {
+        return OptionalLong.empty();
+      }
+      return OptionalLong.of(Math.max(timeToLive, 0));
+    } catch (DataAccessException e) {
+      log.warn("Error while getting time to live from redis cache", e);
+      return OptionalLong.empty();
+    }
+  }
+
+  @Override
+  public boolean merge(String key, T value) {
+    return mergeMany(Map.of(key, value)).contains(key);
+  }
+
+  /**
+   * Merges the non-null properties of the given values into the hashes present in the cache, with
+   * pipelined calls of an atomic script, and refreshes their time to live. Hashes absent from the
+   * cache are left untouched.
+   *
+   * @param values the partial values to merge, by key
+   * @return the ids of the merged hashes, none if the cache failed
+   */
+  @Override
+  public Set<String> mergeMany(Map<String, T> values) {
+    try {
+      return ids(
+          CacheUtils.mergeHashFields(
+              redisOperations,
+              fieldsByKey(values),
+              List.of(),
+              hashKey -> keyExpirationSeconds(id(hashKey))));
+    } catch (DataAccessException e) {
+      log.warn("Error while merging entries in redis cache", e);
+      return Set.of();
+    }
+  }
+
+  /**
+   * Writes the hashes of the given values absent from the cache with pipelined calls of an atomic
+   * script, and adds their ids to the keyspace index. Hashes present in the cache are left
+   * untouched.
+   *
+   * @param values the values to write, by key
+   * @return the ids of the written hashes
+   */
+  @Override
+  public Set<String> setManyIfAbsent(Map<String, T> values) {
+    Set<String> written =
+        ids(
+            CacheUtils.initHashFields(
+                redisOperations,
+                fieldsByKey(values),
+                List.of(),
+                hashKey -> keyExpirationSeconds(id(hashKey))));
+    if (!written.isEmpty()) {
+      redisOperations.opsForSet().add(keyspace, written.toArray(String[]::new));
+    }
+    return written;
+  }
+
+  private Map<String, Map<String, byte[]>> fieldsByKey(Map<String, T> values) {
+    Map<String, Map<String, byte[]>> fieldsByKey = new LinkedHashMap<>();
+    values.forEach(
+        (key, value) -> {
+          RedisData data = new RedisData();
+          redisConverter.write(toHash(key, value), data);
+          fieldsByKey.put(keyspace + ":" + key, data.getBucket().rawMap());
+        });
+    return fieldsByKey;
+  }
+
+  private Set<String> ids(Set<String> keys) {
+    return keys.stream().map(this::id).collect(Collectors.toSet());
+  }
+
+  private String id(String hashKey) {
+    return hashKey.substring(keyspace.length() + 1);
+  }
+
+  private H readHash(String key, Map<byte[], byte[]> raw) {
+    RedisData data = new RedisData(raw);
+    data.setId(key);
+    data.setKeyspace(keyspace);
+    return redisConverter.read(hashType, data);
+  }
+
+  private byte[] rawKey(String key) {
+    return (keyspace + ":" + key).getBytes(StandardCharsets.UTF_8);
   }
 
   @Override
@@ -39,25 +357,46 @@ public abstract class ValkeyCacheRepositoryAdapter<T extends Model, H extends Ha
     return Optional.empty();
   }
 
+  @Override
+  public Map<String, T> getManyHisto(Collection<String> keys) {
+    return Map.of();
+  }
+
   @Override
   public Map<String, T> getAllHisto() {
     return Map.of();
   }
 
+  /**
+   * Reads all the hashes of the keyspace. The hashes are scanned page by page, each page being read
+   * with pipelined HGETALL calls, instead of reading the whole keyspace index and then every hash
+   * with its own round-trip. The keyspace is read following the replica read policy.
+   */
   @Override
   public Map<String, T> getAll() {
     Map<String, T> map = new HashMap<>();
-    Iterable<H> hashes = repository.findAll();
-    for (H hash : hashes) {
-      T object = hashMapper.map(hash);
-      map.put(hash.getId().toString(), object);
+    try (Stream<List<String>> batches = scanIds(readOperations)) {
+      batches.forEach(ids -> map.putAll(readMany(readOperations, ids)));
     }
-
     return map;
   }
 
+  /**
+   * Removes all the hashes of the keyspace page by page with pipelined UNLINK calls, then the
+   * keyspace index. Unlike the repository, which lists the keyspace with KEYS, this never blocks
+   * the server on a large keyspace.
+   */
   @Override
   public void clear() {
-    repository.deleteAll();
+    try (Stream<List<String>> batches = scanIds(redisOperations)) {
+      batches.forEach(this::unsetMany);
+    }
+    redisOperations.unlink(keyspace);
+  }
+
+  private Stream<List<String>> scanIds(RedisOperations<String, String> operations) {
+    String prefix = keyspace + ":";
+    return CacheUtils.scanKeys(operations, prefix + "*", DataType.HASH, CacheUtils.SCAN_BATCH_SIZE)
+        .map(keys -> keys.stream().map(key -> key.substring(prefix.length())).toList());
   }
 }
@@ -17,6 +17,7 @@ package com.lsadf.core.infra.valkey.cache.adapter;
 
 import com.lsadf.core.application.shared.HistoCachePort;
 import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +49,11 @@ public abstract class ValkeyHistoCacheAdapter<T> extends ValkeyCacheAdapter<T>
     }
   }
 
+  @Override
+  public Map<String, T> getManyHisto(Collection<String> keys) {
+    return multiGet(histoKeyType, keys);
+  }
+
   @Override
   public Map<String, T> getAllHisto() {
     return CacheUtils.getAllEntries(redisTemplate, histoKeyType);
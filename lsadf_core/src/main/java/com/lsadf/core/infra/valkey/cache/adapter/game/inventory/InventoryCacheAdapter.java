@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.inventory;
+
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.domain.game.inventory.Item;
+import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Valkey cache of the inventory snapshots. A snapshot is stored under a key suffixed by the
+ * generation of the inventory, and the generation under a key of its own, so that every call reads
+ * or writes a single key and works in cluster mode.
+ *
+ * <p>The generation never expires, so that a generation is never reused while a snapshot of it
+ * may still be live.
+ */
+@Slf4j
+public class InventoryCacheAdapter implements InventoryCachePort {
+
+  private final RedisTemplate<String, Set<Item>> redisTemplate;
+  private final RedisTemplate<String, String> generationRedisTemplate;
+  private final int expirationSeconds;
+
+  public InventoryCacheAdapter(
+      RedisTemplate<String, Set<Item>> redisTemplate,
+      RedisTemplate<String, String> generationRedisTemplate,
+      int expirationSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.generationRedisTemplate = generationRedisTemplate;
+    this.expirationSeconds = expirationSeconds;
+  }
+
+  @Override
+  public OptionalLong getGeneration(String key) {
+    try {
+      String generation =
+          generationRedisTemplate.opsForValue().get(ValkeyConstants.INVENTORY_GENERATION + key);
+      return OptionalLong.of(generation == null ? 0 : Long.parseLong(generation));
+    } catch (DataAccessException e) {
+      log.warn("Error while getting inventory generation from redis cache", e);
+      return OptionalLong.empty();
+    }
+  }
+
+  @Override
+  public Optional<Set<Item>> get(String key, long generation) {
+    try {
+      return Optional.ofNullable(redisTemplate.opsForValue().get(snapshotKey(key, generation)));
+    } catch (DataAccessException e) {
+      log.warn("Error while getting element from redis cache", e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void set(String key, long generation, Set<Item> value) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(snapshotKey(key, generation), value, expirationSeconds, TimeUnit.SECONDS);
+    } catch (DataAccessException e) {
+      log.warn("Error while setting entry in redis cache", e);
+    }
+  }
+
+  @Override
+  public void invalidate(String key) {
+    String generationKey = ValkeyConstants.INVENTORY_GENERATION + key;
+    try {
+      generationRedisTemplate.opsForValue().increment(generationKey);
+    } catch (DataAccessException e) {
+      log.warn("Error while bumping inventory generation in redis cache", e);
+    }
+  }
+
+  @Override
+  public Optional<Set<Item>> get(String key) {
+    OptionalLong generation = getGeneration(key);
+    return generation.isPresent() ? get(key, generation.getAsLong()) : Optional.empty();
+  }
+
+  @Override
+  public void set(String key, Set<Item> value) {
+    getGeneration(key).ifPresent(generation -> set(key, generation, value));
+  }
+
+  @Override
+  public void unset(String key) {
+    invalidate(key);
+  }
+
+  /** Returns the snapshots of every generation, keyed by game save id and generation. */
+  @Override
+  public Map<String, Set<Item>> getAll() {
+    return CacheUtils.getAllEntries(redisTemplate, ValkeyConstants.INVENTORY);
+  }
+
+  @Override
+  public void clear() {
+    CacheUtils.clearCache(redisTemplate, ValkeyConstants.INVENTORY);
+    CacheUtils.clearCache(generationRedisTemplate, ValkeyConstants.INVENTORY_GENERATION);
+  }
+
+  private static String snapshotKey(String key, long generation) {
+    return ValkeyConstants.INVENTORY + key + ":" + generation;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.inventory;
+
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.domain.game.inventory.Item;
+import com.lsadf.core.infra.valkey.cache.adapter.NoOpCacheAdapter;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public class NoOpInventoryCacheAdapter extends NoOpCacheAdapter<Set<Item>>
+    implements InventoryCachePort {
+
+  @Override
+  public OptionalLong getGeneration(String key) {
+    return OptionalLong.empty();
+  }
+
+  @Override
+  public Optional<Set<Item>> get(String key, long generation) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void set(String key, long generation, Set<Item> value) {
+    // Do nothing
+  }
+
+  @Override
+  public void invalidate(String key) {
+    // Do nothing
+  }
+}
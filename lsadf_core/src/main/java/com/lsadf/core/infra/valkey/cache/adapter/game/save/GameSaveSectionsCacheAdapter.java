@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.save;
+
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
+import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
+import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
+import com.lsadf.core.application.game.save.stage.StageCachePort;
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the sections of game saves stored under one key per section, with one bulk lookup per
+ * section cache. The reads by the players are reported to the expiration policy once per game save.
+ */
+public class GameSaveSectionsCacheAdapter implements GameSaveSectionsCachePort {
+
+  private final CharacteristicsCachePort characteristicsCache;
+  private final CurrencyCachePort currencyCache;
+  private final StageCachePort stageCache;
+  private final ExpirationPolicy expirationPolicy;
+
+  public GameSaveSectionsCacheAdapter(
+      CharacteristicsCachePort characteristicsCache,
+      CurrencyCachePort currencyCache,
+      StageCachePort stageCache,
+      ExpirationPolicy expirationPolicy) {
+    this.characteristicsCache = characteristicsCache;
+    this.currencyCache = currencyCache;
+    this.stageCache = stageCache;
+    this.expirationPolicy = expirationPolicy;
+  }
+
+  @Override
+  public Optional<GameSaveSections> get(String key) {
+    expirationPolicy.recordAccess(key);
+    return Optional.ofNullable(getMany(List.of(key)).get(key));
+  }
+
+  @Override
+  public Map<String, GameSaveSections> getMany(Collection<String> keys) {
+    return sections(
+        keys,
+        characteristicsCache.getMany(keys),
+        currencyCache.getMany(keys),
+        stageCache.getMany(keys));
+  }
+
+  @Override
+  public Map<String, GameSaveSections> getManyStale(Collection<String> keys) {
+    return sections(
+        keys,
+        characteristicsCache.getManyStale(keys),
+        currencyCache.getManyStale(keys),
+        stageCache.getManyStale(keys));
+  }
+
+  private static Map<String, GameSaveSections> sections(
+      Collection<String> keys,
+      Map<String, Characteristics> characteristics,
+      Map<String, Currency> currencies,
+      Map<String, Stage> stages) {
+    Map<String, GameSaveSections> sections = new HashMap<>();
+    for (String key : keys) {
+      GameSaveSections gameSaveSections =
+          new GameSaveSections(characteristics.get(key), currencies.get(key), stages.get(key));
+      if (gameSaveSections.characteristics() != null
+          || gameSaveSections.currency() != null
+          || gameSaveSections.stage() != null) {
+        sections.put(key, gameSaveSections);
+      }
+    }
+    return sections;
+  }
+}
@@ -19,12 +19,15 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsCache
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.adapter.ValkeyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.impl.save.characteristics.CharacteristicsHash;
 import com.lsadf.core.infra.valkey.cache.impl.save.characteristics.CharacteristicsHashMapper;
 import com.lsadf.core.infra.valkey.cache.impl.save.characteristics.CharacteristicsHashRepository;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.convert.RedisConverter;
 
 public class CharacteristicsCacheRepositoryAdapter
     extends ValkeyCacheRepositoryAdapter<Characteristics, CharacteristicsHash, UUID>
@@ -34,14 +37,25 @@ public class CharacteristicsCacheRepositoryAdapter
 
   public CharacteristicsCacheRepositoryAdapter(
       CharacteristicsHashRepository characteristicsHashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    super(characteristicsHashRepository);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        characteristicsHashRepository,
+        redisOperations,
+        readOperations,
+        redisConverter,
+        CharacteristicsHash.class,
+        expirationPolicy);
     this.hashMapper = CHARACTERISTICS_HASH_MAPPER;
     this.expirationSeconds = valkeyCacheExpirationProperties.getCharacteristicsExpirationSeconds();
   }
 
   @Override
   public Optional<Characteristics> get(String key) {
+    expirationPolicy.recordAccess(key);
     UUID uuid = UUID.fromString(key);
     Optional<CharacteristicsHash> hashOptional = this.repository.findById(uuid);
     if (hashOptional.isPresent()) {
@@ -53,19 +67,21 @@ public class CharacteristicsCacheRepositoryAdapter
 
   @Override
   public void set(String key, Characteristics value) {
-    UUID uuid = UUID.fromString(key);
-    CharacteristicsHash hash =
-        CharacteristicsHash.builder()
-            .attack(value.attack())
-            .id(uuid)
-            .expiration(this.expirationSeconds)
-            .resistance(value.resistance())
-            .critChance(value.critChance())
-            .critDamage(value.critDamage())
-            .health(value.health())
-            .build();
+    repository.save(toHash(key, value));
+  }
 
-    this.repository.save(hash);
+  @Override
+  protected CharacteristicsHash toHash(String key, Characteristics value) {
+    UUID uuid = UUID.fromString(key);
+    return CharacteristicsHash.builder()
+        .attack(value.attack())
+        .id(uuid)
+        .expiration(keyExpirationSeconds(key))
+        .resistance(value.resistance())
+        .critChance(value.critChance())
+        .critDamage(value.critDamage())
+        .health(value.health())
+        .build();
   }
 
   @Override
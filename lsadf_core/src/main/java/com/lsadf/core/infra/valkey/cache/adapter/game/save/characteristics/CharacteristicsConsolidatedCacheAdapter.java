@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics;
+
+import static com.lsadf.core.infra.valkey.cache.impl.save.characteristics.CharacteristicsHash.CharacteristicsHashAttributes.*;
+
+import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.infra.valkey.cache.adapter.ConsolidatedGameSaveCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/** Stores the characteristics of a game save in the consolidated game save hash. */
+public class CharacteristicsConsolidatedCacheAdapter
+    extends ConsolidatedGameSaveCacheAdapter<Characteristics>
+    implements CharacteristicsCachePort {
+
+  private static final List<String> FIELDS =
+      List.of(
+          CHARACTERISTICS_ATTACK,
+          CHARACTERISTICS_CRIT_CHANCE,
+          CHARACTERISTICS_CRIT_DAMAGE,
+          CHARACTERISTICS_HEALTH,
+          CHARACTERISTICS_RESISTANCE);
+
+  public CharacteristicsConsolidatedCacheAdapter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisOperations<String, String> readOperations,
+      CharacteristicsCachePort legacyCache,
+      boolean legacyFallback,
+      long expirationSeconds,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        redisTemplate,
+        readOperations,
+        legacyCache,
+        legacyFallback,
+        expirationSeconds,
+        expirationPolicy,
+        CHARACTERISTICS_HASH_KEY,
+        FIELDS);
+  }
+
+  @Override
+  protected List<@Nullable Long> toFieldValues(Characteristics value) {
+    return Arrays.asList(
+        value.attack(),
+        value.critChance(),
+        value.critDamage(),
+        value.health(),
+        value.resistance());
+  }
+
+  @Override
+  protected Characteristics fromFieldValues(List<@Nullable Long> fieldValues) {
+    return Characteristics.builder()
+        .attack(fieldValues.get(0))
+        .critChance(fieldValues.get(1))
+        .critDamage(fieldValues.get(2))
+        .health(fieldValues.get(3))
+        .resistance(fieldValues.get(4))
+        .build();
+  }
+}
@@ -19,12 +19,15 @@ import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.adapter.ValkeyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.impl.save.currency.CurrencyHash;
 import com.lsadf.core.infra.valkey.cache.impl.save.currency.CurrencyHashMapper;
 import com.lsadf.core.infra.valkey.cache.impl.save.currency.CurrencyHashRepository;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.convert.RedisConverter;
 
 public class CurrencyCacheRepositoryAdapter
     extends ValkeyCacheRepositoryAdapter<Currency, CurrencyHash, UUID>
@@ -35,14 +38,25 @@ public class CurrencyCacheRepositoryAdapter
 
   public CurrencyCacheRepositoryAdapter(
       CurrencyHashRepository currencyHashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    super(currencyHashRepository);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        currencyHashRepository,
+        redisOperations,
+        readOperations,
+        redisConverter,
+        CurrencyHash.class,
+        expirationPolicy);
     this.hashMapper = CURRENCY_HASH_MAPPER;
     this.expirationSeconds = valkeyCacheExpirationProperties.getCurrencyExpirationSeconds();
   }
 
   @Override
   public Optional<Currency> get(String key) {
+    expirationPolicy.recordAccess(key);
     UUID uuid = UUID.fromString(key);
     Optional<CurrencyHash> currencyHashOptional = repository.findById(uuid);
     if (currencyHashOptional.isPresent()) {
@@ -54,17 +68,20 @@ public class CurrencyCacheRepositoryAdapter
 
   @Override
   public void set(String key, Currency value) {
+    repository.save(toHash(key, value));
+  }
+
+  @Override
+  protected CurrencyHash toHash(String key, Currency value) {
     UUID uuid = UUID.fromString(key);
-    CurrencyHash hash =
-        CurrencyHash.builder()
-            .id(uuid)
-            .gold(value.gold())
-            .emerald(value.emerald())
-            .diamond(value.diamond())
-            .expiration(this.expirationSeconds)
-            .amethyst(value.amethyst())
-            .build();
-    repository.save(hash);
+    return CurrencyHash.builder()
+        .id(uuid)
+        .gold(value.gold())
+        .emerald(value.emerald())
+        .diamond(value.diamond())
+        .expiration(keyExpirationSeconds(key))
+        .amethyst(value.amethyst())
+        .build();
   }
 
   @Override
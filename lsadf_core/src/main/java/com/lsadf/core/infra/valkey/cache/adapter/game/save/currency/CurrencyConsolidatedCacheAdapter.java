@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.save.currency;
+
+import static com.lsadf.core.infra.valkey.cache.impl.save.currency.CurrencyHash.CurrencyHashAttributes.*;
+
+import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.infra.valkey.cache.adapter.ConsolidatedGameSaveCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/** Stores the currency of a game save in the consolidated game save hash. */
+public class CurrencyConsolidatedCacheAdapter extends ConsolidatedGameSaveCacheAdapter<Currency>
+    implements CurrencyCachePort {
+
+  private static final List<String> FIELDS =
+      List.of(CURRENCY_GOLD, CURRENCY_DIAMOND, CURRENCY_EMERALD, CURRENCY_AMETHYST);
+
+  public CurrencyConsolidatedCacheAdapter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisOperations<String, String> readOperations,
+      CurrencyCachePort legacyCache,
+      boolean legacyFallback,
+      long expirationSeconds,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        redisTemplate,
+        readOperations,
+        legacyCache,
+        legacyFallback,
+        expirationSeconds,
+        expirationPolicy,
+        CURRENCY_HASH_KEY,
+        FIELDS);
+  }
+
+  @Override
+  protected List<@Nullable Long> toFieldValues(Currency value) {
+    return Arrays.asList(value.gold(), value.diamond(), value.emerald(), value.amethyst());
+  }
+
+  @Override
+  protected Currency fromFieldValues(List<@Nullable Long> fieldValues) {
+    return Currency.builder()
+        .gold(fieldValues.get(0))
+        .diamond(fieldValues.get(1))
+        .emerald(fieldValues.get(2))
+        .amethyst(fieldValues.get(3))
+        .build();
+  }
+}
@@ -20,11 +20,14 @@ import com.lsadf.core.domain.game.save.metadata.GameMetadata;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.HashRepository;
 import com.lsadf.core.infra.valkey.cache.adapter.ValkeyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.impl.save.metadata.GameMetadataHash;
 import com.lsadf.core.infra.valkey.cache.impl.save.metadata.GameMetadataHashMapper;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.convert.RedisConverter;
 
 public class GameMetadataCacheRepositoryAdapter
     extends ValkeyCacheRepositoryAdapter<GameMetadata, GameMetadataHash, UUID>
@@ -35,8 +38,17 @@ public class GameMetadataCacheRepositoryAdapter
 
   public GameMetadataCacheRepositoryAdapter(
       HashRepository<GameMetadataHash, UUID> repository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    super(repository);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter) {
+    super(
+        repository,
+        redisOperations,
+        readOperations,
+        redisConverter,
+        GameMetadataHash.class,
+        ExpirationPolicy.FIXED);
     this.hashMapper = HASH_MAPPER;
     this.expirationSeconds = valkeyCacheExpirationProperties.getGameMetadataExpirationSeconds();
   }
@@ -50,15 +62,18 @@ public class GameMetadataCacheRepositoryAdapter
 
   @Override
   public void set(String key, GameMetadata value) {
+    repository.save(toHash(key, value));
+  }
+
+  @Override
+  protected GameMetadataHash toHash(String key, GameMetadata value) {
     UUID uuid = UUID.fromString(key);
-    GameMetadataHash hash =
-        GameMetadataHash.builder()
-            .id(uuid)
-            .nickname(value.nickname())
-            .expiration(expirationSeconds)
-            .userEmail(value.userEmail())
-            .build();
-    repository.save(hash);
+    return GameMetadataHash.builder()
+        .id(uuid)
+        .nickname(value.nickname())
+        .expiration(expirationSeconds)
+        .userEmail(value.userEmail())
+        .build();
   }
 
   @Override
@@ -0,0 +1,22 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata;
+
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
+import com.lsadf.core.infra.valkey.cache.adapter.NoOpCacheAdapter;
+
+public class NoOpGameMetadataNegativeCacheAdapter extends NoOpCacheAdapter<Boolean>
+    implements GameMetadataNegativeCachePort {}
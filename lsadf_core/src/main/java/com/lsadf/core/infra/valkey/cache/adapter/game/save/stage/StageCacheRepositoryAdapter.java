@@ -20,11 +20,14 @@ import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.HashRepository;
 import com.lsadf.core.infra.valkey.cache.adapter.ValkeyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.impl.save.stage.StageHash;
 import com.lsadf.core.infra.valkey.cache.impl.save.stage.StageHashMapper;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.convert.RedisConverter;
 
 public class StageCacheRepositoryAdapter
     extends ValkeyCacheRepositoryAdapter<Stage, StageHash, UUID> implements StageCachePort {
@@ -32,14 +35,25 @@ public class StageCacheRepositoryAdapter
 
   public StageCacheRepositoryAdapter(
       HashRepository<StageHash, UUID> repository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    super(repository);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        repository,
+        redisOperations,
+        readOperations,
+        redisConverter,
+        StageHash.class,
+        expirationPolicy);
     this.hashMapper = HASH_MAPPER;
     this.expirationSeconds = valkeyCacheExpirationProperties.getStageExpirationSeconds();
   }
 
   @Override
   public Optional<Stage> get(String key) {
+    expirationPolicy.recordAccess(key);
     UUID uuid = UUID.fromString(key);
     Optional<StageHash> optional = repository.findById(uuid);
     return optional.map(stageHash -> hashMapper.map(stageHash));
@@ -47,16 +61,19 @@ public class StageCacheRepositoryAdapter
 
   @Override
   public void set(String key, Stage value) {
+    repository.save(toHash(key, value));
+  }
+
+  @Override
+  protected StageHash toHash(String key, Stage value) {
     UUID uuid = UUID.fromString(key);
-    StageHash hash =
-        StageHash.builder()
-            .id(uuid)
-            .maxStage(value.maxStage())
-            .expiration(this.expirationSeconds)
-            .wave(value.wave())
-            .currentStage(value.currentStage())
-            .build();
-    repository.save(hash);
+    return StageHash.builder()
+        .id(uuid)
+        .maxStage(value.maxStage())
+        .expiration(keyExpirationSeconds(key))
+        .wave(value.wave())
+        .currentStage(value.currentStage())
+        .build();
   }
 
   @Override
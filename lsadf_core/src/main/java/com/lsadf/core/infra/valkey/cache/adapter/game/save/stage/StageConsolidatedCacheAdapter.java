@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.save.stage;
+
+import static com.lsadf.core.infra.valkey.cache.impl.save.stage.StageHash.StageHashAttributes.*;
+
+import com.lsadf.core.application.game.save.stage.StageCachePort;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.cache.adapter.ConsolidatedGameSaveCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/** Stores the stage of a game save in the consolidated game save hash. */
+public class StageConsolidatedCacheAdapter extends ConsolidatedGameSaveCacheAdapter<Stage>
+    implements StageCachePort {
+
+  private static final List<String> FIELDS =
+      List.of(STAGE_CURRENT_STAGE, STAGE_MAX_STAGE, STAGE_WAVE);
+
+  public StageConsolidatedCacheAdapter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisOperations<String, String> readOperations,
+      StageCachePort legacyCache,
+      boolean legacyFallback,
+      long expirationSeconds,
+      ExpirationPolicy expirationPolicy) {
+    super(
+        redisTemplate,
+        readOperations,
+        legacyCache,
+        legacyFallback,
+        expirationSeconds,
+        expirationPolicy,
+        STAGE_HASH_KEY,
+        FIELDS);
+  }
+
+  @Override
+  protected List<@Nullable Long> toFieldValues(Stage value) {
+    return Arrays.asList(value.currentStage(), value.maxStage(), value.wave());
+  }
+
+  @Override
+  protected Stage fromFieldValues(List<@Nullable Long> fieldValues) {
+    return Stage.builder()
+        .currentStage(fieldValues.get(0))
+        .maxStage(fieldValues.get(1))
+        .wave(fieldValues.get(2))
+        .build();
+  }
+}
@@ -20,11 +20,14 @@ import com.lsadf.core.domain.game.session.GameSession;
 import com.lsadf.core.infra.valkey.cache.HashModelMapper;
 import com.lsadf.core.infra.valkey.cache.HashRepository;
 import com.lsadf.core.infra.valkey.cache.adapter.ValkeyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.game.session.GameSessionHash;
 import com.lsadf.core.infra.valkey.cache.game.session.GameSessionHashMapper;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.convert.RedisConverter;
 
 public class GameSessionCacheRepositoryAdapter
     extends ValkeyCacheRepositoryAdapter<GameSession, GameSessionHash, UUID>
@@ -35,8 +38,17 @@ public class GameSessionCacheRepositoryAdapter
 
   public GameSessionCacheRepositoryAdapter(
       HashRepository<GameSessionHash, UUID> repository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    super(repository);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      RedisOperations<String, String> redisOperations,
+      RedisOperations<String, String> readOperations,
+      RedisConverter redisConverter) {
+    super(
+        repository,
+        redisOperations,
+        readOperations,
+        redisConverter,
+        GameSessionHash.class,
+        ExpirationPolicy.FIXED);
     this.hashMapper = HASH_MAPPER;
     this.expirationSeconds = valkeyCacheExpirationProperties.getGameSessionExpirationSeconds();
   }
@@ -50,18 +62,20 @@ public class GameSessionCacheRepositoryAdapter
 
   @Override
   public void set(String key, GameSession value) {
-    UUID uuid = UUID.fromString(key);
-    GameSessionHash hash =
-        GameSessionHash.builder()
-            .id(uuid)
-            .expiration(this.expirationSeconds)
-            .gameSaveId(value.getGameSaveId())
-            .endTime(value.getEndTime())
-            .version(value.getVersion())
-            .userEmail(value.getUserEmail())
-            .build();
+    repository.save(toHash(key, value));
+  }
 
-    repository.save(hash);
+  @Override
+  protected GameSessionHash toHash(String key, GameSession value) {
+    UUID uuid = UUID.fromString(key);
+    return GameSessionHash.builder()
+        .id(uuid)
+        .expiration(this.expirationSeconds)
+        .gameSaveId(value.getGameSaveId())
+        .endTime(value.getEndTime())
+        .version(value.getVersion())
+        .userEmail(value.getUserEmail())
+        .build();
   }
 
   @Override
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.adapter.game.session;
+
+import com.lsadf.core.application.game.session.GameSessionCachePort;
+import com.lsadf.core.domain.game.session.GameSession;
+import com.lsadf.core.infra.valkey.cache.adapter.NearHistoCacheAdapter;
+import java.time.Duration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+public class NearGameSessionCacheAdapter extends NearHistoCacheAdapter<GameSession>
+    implements GameSessionCachePort {
+  private static final String NAME = "game-session";
+
+  public NearGameSessionCacheAdapter(
+      GameSessionCachePort delegate,
+      RedisTemplate<String, String> redisTemplate,
+      String channel,
+      String instanceId,
+      long maximumSize,
+      Duration expireAfterWrite) {
+    super(delegate, redisTemplate, channel, NAME, instanceId, maximumSize, expireAfterWrite);
+  }
+}
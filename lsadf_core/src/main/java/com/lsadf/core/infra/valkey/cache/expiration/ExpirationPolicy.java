@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.expiration;
+
+import com.lsadf.core.domain.cache.HotKey;
+import java.util.List;
+
+/**
+ * Policy computing the time to live of the cached values. The cache adapters report the accesses
+ * to their keys, so a policy can adapt the time to live of a key to how often it is read.
+ */
+@FunctionalInterface
+public interface ExpirationPolicy {
+
+  /** Policy keeping the configured time to live of every key. */
+  ExpirationPolicy FIXED = (key, baseExpirationSeconds) -> baseExpirationSeconds;
+
+  /**
+   * Computes the time to live of a key.
+   *
+   * @param key the cache key
+   * @param baseExpirationSeconds the time to live configured for the type of the value, not
+   *     positive when the values never expire
+   * @return the time to live of the key, in seconds
+   */
+  long expirationSeconds(String key, long baseExpirationSeconds);
+
+  /**
+   * Records an access to a key.
+   *
+   * @param key the cache key
+   */
+  default void recordAccess(String key) {}
+
+  /**
+   * Lists the most accessed keys, by descending number of accesses.
+   *
+   * @param limit the maximum number of keys to list
+   * @return the most accessed keys
+   */
+  default List<HotKey> hotKeys(int limit) {
+    return List.of();
+  }
+}
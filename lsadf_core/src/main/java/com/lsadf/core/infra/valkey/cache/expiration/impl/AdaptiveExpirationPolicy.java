@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.expiration.impl;
+
+import com.lsadf.core.domain.cache.HotKey;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link ExpirationPolicy} interface adapting the time to live of a key to
+ * how often it is accessed.
+ *
+ * <p>Accesses are counted approximately in a count-min sketch, aged periodically so that the
+ * counts follow the recent traffic. The configured time to live of a key is scaled by the ratio of
+ * its count to a baseline count, then bounded: keys accessed more often than the baseline are kept
+ * longer, up to the maximum, and the other keys keep the configured time to live. A key is never
+ * given less than the configured time to live, so that a write-behind value only written, never
+ * read, is still cached until it is flushed. Values configured to never expire are left unchanged.
+ *
+ * <p>The keys reaching the baseline count are tracked as hot keys, in a bounded map evicting the
+ * least accessed one when full.
+ */
+public class AdaptiveExpirationPolicy implements ExpirationPolicy {
+
+  private final CountMinSketch sketch;
+  private final long maxExpirationSeconds;
+  private final int baselineAccessCount;
+  private final int hotKeysCapacity;
+  private final Map<String, Integer> hotKeys = new ConcurrentHashMap<>();
+
+  public AdaptiveExpirationPolicy(
+      long maxExpirationSeconds,
+      int baselineAccessCount,
+      int sketchWidth,
+      int hotKeysCapacity) {
+    if (baselineAccessCount <= 0) {
+      throw new IllegalArgumentException("The baseline access count must be positive");
+    }
+    this.sketch = new CountMinSketch(sketchWidth);
+    this.maxExpirationSeconds = maxExpirationSeconds;
+    this.baselineAccessCount = baselineAccessCount;
+    this.hotKeysCapacity = hotKeysCapacity;
+  }
+
+  @Override
+  public long expirationSeconds(String key, long baseExpirationSeconds) {
+    if (baseExpirationSeconds <= 0) {
+      return baseExpirationSeconds;
+    }
+    long scaled =
+        Math.round((double) baseExpirationSeconds * sketch.estimate(key) / baselineAccessCount);
+    return Math.clamp(
+        scaled, baseExpirationSeconds, Math.max(baseExpirationSeconds, maxExpirationSeconds));
+  }
+
+  @Override
+  public void recordAccess(String key) {
+    sketch.increment(key);
+    int accessCount = sketch.estimate(key);
+    if (accessCount < baselineAccessCount) {
+      return;
+    }
+    hotKeys.put(key, accessCount);
+    if (hotKeys.size() > hotKeysCapacity) {
+      evictColdestHotKeys();
+    }
+  }
+
+  @Override
+  public List<HotKey> hotKeys(int limit) {
+    return hotKeys.keySet().stream()
+        .map(key -> new HotKey(key, (long) sketch.estimate(key)))
+        .sorted(Comparator.comparing(HotKey::accessCount).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private synchronized void evictColdestHotKeys() {
+    while (hotKeys.size() > hotKeysCapacity) {
+      hotKeys.entrySet().stream()
+          .min(Map.Entry.comparingByValue())
+          .ifPresent(coldest -> hotKeys.remove(coldest.getKey()));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.expiration.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch estimating how often keys are accessed, in a fixed amount of memory whatever
+ * the number of keys. Every key increments one counter in each of the rows of the sketch, and its
+ * count is estimated as the smallest of them, which never underestimates it.
+ *
+ * <p>Once the number of recorded accesses reaches ten times the width of the sketch, every counter
+ * is halved, so the estimates follow the recent accesses rather than the whole history.
+ */
+final class CountMinSketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAXIMUM_WIDTH = 1 << 24;
+  private static final long[] SEEDS = {
+    0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+  };
+
+  private final AtomicIntegerArray counters;
+  private final int width;
+  private final int sampleSize;
+  private final AtomicInteger additions = new AtomicInteger();
+
+  /**
+   * Creates a sketch.
+   *
+   * @param width the number of counters per row, rounded up to a power of two
+   */
+  CountMinSketch(int width) {
+    if (width <= 0) {
+      throw new IllegalArgumentException("The width of the sketch must be positive");
+    }
+    this.width = width == 1 ? 1 : Integer.highestOneBit(Math.min(width, MAXIMUM_WIDTH) - 1) << 1;
+    this.sampleSize = 10 * this.width;
+    this.counters = new AtomicIntegerArray(DEPTH * this.width);
+  }
+
+  /**
+   * Records an access to a key.
+   *
+   * @param key the accessed key
+   */
+  void increment(String key) {
+    int hash = spread(key.hashCode());
+    for (int row = 0; row < DEPTH; row++) {
+      counters.getAndUpdate(
+          counterIndex(hash, row), count -> count == Integer.MAX_VALUE ? count : count + 1);
+    }
+    if (additions.incrementAndGet() == sampleSize) {
+      age();
+    }
+  }
+
+  /**
+   * Estimates the number of recent accesses to a key.
+   *
+   * @param key the key
+   * @return the estimated number of accesses, never lower than the actual one since the last aging
+   */
+  int estimate(String key) {
+    int hash = spread(key.hashCode());
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters.get(counterIndex(hash, row)));
+    }
+    return estimate;
+  }
+
+  private void age() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.getAndUpdate(i, count -> count >>> 1);
+    }
+    additions.set(sampleSize / 2);
+  }
+
+  private int counterIndex(int hash, int row) {
+    long rowHash = (hash + SEEDS[row]) * SEEDS[row];
+    rowHash += rowHash >>> 32;
+    return row * width + ((int) rowHash & (width - 1));
+  }
+
+  private static int spread(int hash) {
+    int spread = (hash ^ (hash >>> 16)) * 0x45D9F3B;
+    return spread ^ (spread >>> 16);
+  }
+}
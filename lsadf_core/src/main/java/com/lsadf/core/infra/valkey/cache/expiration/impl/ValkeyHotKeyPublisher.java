@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.expiration.impl;
+
+import com.lsadf.core.domain.cache.HotKey;
+import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Periodically publishes the hot keys counted by the expiration policy of the instance to a sorted
+ * set of its own, scored by their number of accesses, so that any instance, the admin one
+ * included, can report the hot keys of every replica.
+ *
+ * <p>The sorted set is replaced at every publication and expires after a few publication
+ * intervals, so the hot keys of a stopped instance disappear on their own.
+ */
+@Slf4j
+public class ValkeyHotKeyPublisher {
+
+  private static final int EXPIRATION_INTERVALS = 3;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService scheduler;
+  private final ExpirationPolicy expirationPolicy;
+  private final String instanceId;
+  private final int limit;
+  private final long publishIntervalSeconds;
+
+  public ValkeyHotKeyPublisher(
+      RedisTemplate<String, String> redisTemplate,
+      ScheduledExecutorService scheduler,
+      ExpirationPolicy expirationPolicy,
+      String instanceId,
+      int limit,
+      long publishIntervalSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.scheduler = scheduler;
+    this.expirationPolicy = expirationPolicy;
+    this.instanceId = instanceId;
+    this.limit = limit;
+    this.publishIntervalSeconds = publishIntervalSeconds;
+  }
+
+  @PostConstruct
+  public void startPublisher() {
+    log.info(
+        "Starting publisher of the hot keys of instance {} with publish interval of {} seconds",
+        instanceId,
+        publishIntervalSeconds);
+    scheduler.scheduleWithFixedDelay(
+        this::publishHotKeys, publishIntervalSeconds, publishIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stopPublisher() {
+    log.info("Stopping publisher of the hot keys of instance {}", instanceId);
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Replaces the published hot keys of the instance with its current ones. */
+  public void publishHotKeys() {
+    try {
+      List<HotKey> hotKeys = expirationPolicy.hotKeys(limit);
+      byte[] rawKey = (ValkeyConstants.HOT_KEYS + instanceId).getBytes(StandardCharsets.UTF_8);
+      Set<Tuple> tuples =
+          hotKeys.stream()
+              .<Tuple>map(
+                  hotKey ->
+                      new DefaultTuple(
+                          hotKey.key().getBytes(StandardCharsets.UTF_8),
+                          hotKey.accessCount().doubleValue()))
+              .collect(Collectors.toSet());
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                connection.keyCommands().del(rawKey);
+                if (!tuples.isEmpty()) {
+                  connection.zSetCommands().zAdd(rawKey, tuples);
+                  connection
+                      .keyCommands()
+                      .expire(rawKey, EXPIRATION_INTERVALS * publishIntervalSeconds);
+                }
+                return null;
+              });
+      log.debug("Published {} hot keys of instance {}", hotKeys.size(), instanceId);
+    } catch (Exception e) {
+      log.error("Error publishing the hot keys of instance {}", instanceId, e);
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.lsadf.core.infra.valkey.cache.flush;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CacheFlushService {
@@ -26,6 +27,14 @@ public interface CacheFlushService {
    */
   void flushGameSave(UUID gameSaveId);
 
+  /**
+   * Flush all data for a batch of game saves. The cached values of the whole batch are read and
+   * removed in pipelined calls, and persisted with batch updates in a single transaction.
+   *
+   * @param gameSaveIds the game save IDs to flush
+   */
+  void flushGameSaves(List<UUID> gameSaveIds);
+
   /**
    * Flushes all cached data for all game saves in the system. This operation removes any temporary
    * or cached state associated with game saves to ensure a clean state or reflect the most
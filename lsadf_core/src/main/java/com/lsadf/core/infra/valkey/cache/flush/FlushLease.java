@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.cache.flush;
+
+/**
+ * Lease granted to an instance on the game saves it claims for flushing. Claimed game saves are
+ * kept in the processing sorted set scored with their lease expiry, and their owner is recorded in
+ * a separate hash. Once a lease has expired without being released, the game save is considered
+ * abandoned and can be re-queued or taken over by another instance.
+ *
+ * @param ownerId id of the instance owning the lease
+ * @param durationMs duration of the lease in milliseconds
+ */
+public record FlushLease(String ownerId, long durationMs) {
+
+  /**
+   * Returns the expiry of a lease granted at the given time.
+   *
+   * @param currentTime the time the lease is granted at, in milliseconds
+   * @return the lease expiry, in milliseconds
+   */
+  public long expiresAt(long currentTime) {
+    return currentTime + durationMs;
+  }
+}
@@ -17,10 +17,14 @@ package com.lsadf.core.infra.valkey.cache.flush;
 
 import lombok.Getter;
 
+/**
+ * Sorted sets of the game saves to flush. Their keys share the hash tag of the flush keys, so that
+ * the flush scripts, which access several of them at once, run on a single slot of a cluster.
+ */
 @Getter
 public enum FlushStatus {
-  PENDING("game:pending_flush"),
-  PROCESSING("game:processing_flush");
+  PENDING("{game-flush}:pending"),
+  PROCESSING("{game-flush}:processing");
 
   FlushStatus(String key) {
     this.key = key;
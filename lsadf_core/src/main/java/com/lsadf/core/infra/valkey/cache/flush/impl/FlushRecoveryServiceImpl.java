@@ -16,8 +16,11 @@
 package com.lsadf.core.infra.valkey.cache.flush.impl;
 
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushRecoveryService;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
+import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -25,23 +28,39 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 
+/**
+ * Flushes at startup the game saves left in the processing sorted set. Only the game saves whose
+ * lease expired, or whose lease is still owned by this instance from a previous run, are taken
+ * over: the ones leased by other running instances are left to them. The game saves left by an
+ * older version, in the legacy processing set or under the flush keys used before they shared a
+ * hash tag, are moved back to the pending set first.
+ */
 @Slf4j
 public class FlushRecoveryServiceImpl implements FlushRecoveryService {
 
+  private static final int LEGACY_REQUEUE_BATCH_SIZE = 500;
+
   private final RedisTemplate<String, String> redisTemplate;
   private final CacheFlushService cacheFlushService;
+  private final FlushLease flushLease;
 
   public FlushRecoveryServiceImpl(
-      RedisTemplate<String, String> redisTemplate, CacheFlushService cacheFlushService) {
+      RedisTemplate<String, String> redisTemplate,
+      CacheFlushService cacheFlushService,
+      FlushLease flushLease) {
     this.redisTemplate = redisTemplate;
     this.cacheFlushService = cacheFlushService;
+    this.flushLease = flushLease;
   }
 
   @EventListener(ApplicationReadyEvent.class)
   @Override
   public void recoverPendingFlush() {
+    requeueLegacyProcessingEntries();
+    requeueUntaggedEntries();
     try {
-      Set<String> pendingIds = redisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey());
+      Set<String> pendingIds =
+          redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1);
       if (pendingIds == null) {
         log.error("Pending flushes set is null");
         return;
@@ -50,14 +69,46 @@ public class FlushRecoveryServiceImpl implements FlushRecoveryService {
         log.debug("No pending flushes found");
         return;
       }
-      for (String id : pendingIds) {
+      List<String> reclaimedIds =
+          ValkeyFlushUtils.reclaimLeases(
+              redisTemplate, pendingIds, System.currentTimeMillis(), flushLease, true);
+      for (String id : reclaimedIds) {
         UUID uuid = UUID.fromString(id);
         cacheFlushService.flushGameSave(uuid);
-        redisTemplate.opsForSet().remove(FlushStatus.PROCESSING.getKey(), id);
+        ValkeyFlushUtils.removeFromProcessing(redisTemplate, id, flushLease);
       }
-      log.info("Successfully recovered {} pending flushes", pendingIds.size());
+      log.info(
+          "Successfully recovered {} pending flushes, {} still leased by other instances",
+          reclaimedIds.size(),
+          pendingIds.size() - reclaimedIds.size());
     } catch (Exception e) {
       log.error("Error recovering pending flushes", e);
     }
   }
+
+  private void requeueLegacyProcessingEntries() {
+    try {
+      long requeued =
+          ValkeyFlushUtils.requeueLegacyProcessingEntries(
+              redisTemplate, System.currentTimeMillis(), LEGACY_REQUEUE_BATCH_SIZE);
+      if (requeued > 0) {
+        log.info("Re-queued {} game saves left in the legacy processing set", requeued);
+      }
+    } catch (Exception e) {
+      log.error("Error re-queuing the game saves left in the legacy processing set", e);
+    }
+  }
+
+  private void requeueUntaggedEntries() {
+    try {
+      long requeued =
+          ValkeyFlushUtils.requeueUntaggedEntries(
+              redisTemplate, System.currentTimeMillis(), LEGACY_REQUEUE_BATCH_SIZE);
+      if (requeued > 0) {
+        log.info("Re-queued {} game saves left under the untagged flush keys", requeued);
+      }
+    } catch (Exception e) {
+      log.error("Error re-queuing the game saves left under the untagged flush keys", e);
+    }
+  }
 }
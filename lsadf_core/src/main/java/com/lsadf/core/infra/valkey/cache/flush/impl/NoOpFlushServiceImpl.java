@@ -16,6 +16,7 @@
 package com.lsadf.core.infra.valkey.cache.flush.impl;
 
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import java.util.List;
 import java.util.UUID;
 
 public class NoOpFlushServiceImpl implements CacheFlushService {
@@ -24,6 +25,11 @@ public class NoOpFlushServiceImpl implements CacheFlushService {
     // do nothing
   }
 
+  @Override
+  public void flushGameSaves(List<UUID> gameSaveIds) {
+    // do nothing
+  }
+
   @Override
   public void flushGameSaves() {
     // do nothing
@@ -15,6 +15,7 @@
  */
 package com.lsadf.core.infra.valkey.cache.flush.impl;
 
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
 import com.lsadf.core.application.game.save.characteristics.command.PersistCharacteristicsCommand;
@@ -24,18 +25,25 @@ import com.lsadf.core.application.game.save.currency.command.PersistCurrencyComm
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageCommandService;
 import com.lsadf.core.application.game.save.stage.command.PersistStageCommand;
+import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
 import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 public class RedisCacheFlushServiceImpl implements CacheFlushService {
@@ -49,7 +57,10 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
   private final StageCommandService stageService;
   private final StageCachePort stageCache;
 
+  private final GameSaveSectionsCachePort gameSaveSectionsCache;
+
   private final RedisTemplate<String, String> redisTemplate;
+  private final FlushLease flushLease;
 
   public RedisCacheFlushServiceImpl(
       CharacteristicsCommandService characteristicsService,
@@ -58,14 +69,18 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
       CharacteristicsCachePort characteristicsCache,
       CurrencyCachePort currencyCache,
       StageCachePort stageCache,
-      RedisTemplate<String, String> redisTemplate) {
+      GameSaveSectionsCachePort gameSaveSectionsCache,
+      RedisTemplate<String, String> redisTemplate,
+      FlushLease flushLease) {
     this.characteristicsService = characteristicsService;
     this.currencyService = currencyService;
     this.stageService = stageService;
     this.characteristicsCache = characteristicsCache;
     this.currencyCache = currencyCache;
     this.stageCache = stageCache;
+    this.gameSaveSectionsCache = gameSaveSectionsCache;
     this.redisTemplate = redisTemplate;
+    this.flushLease = flushLease;
   }
 
   private void flushCharacteristics(UUID gameSaveId) {
@@ -77,7 +92,7 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
         PersistCharacteristicsCommand command =
             PersistCharacteristicsCommand.fromCharacteristics(gameSaveId, characteristics);
         characteristicsService.persistCharacteristics(command);
-        characteristicsCache.unset(gameSaveId.toString());
+        unsetAfterCommit(characteristicsCache, Map.of(gameSaveId.toString(), characteristics));
         log.debug("Successfully flushed characteristics for game save {}", gameSaveId);
       }
     } catch (Exception e) {
@@ -93,7 +108,7 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
         Currency currency = currencyOpt.get();
         var command = PersistCurrencyCommand.fromCurrency(gameSaveId, currency);
         currencyService.persistCurrency(command);
-        currencyCache.unset(gameSaveId.toString());
+        unsetAfterCommit(currencyCache, Map.of(gameSaveId.toString(), currency));
         log.debug("Successfully flushed currency for game save {}", gameSaveId);
       }
     } catch (Exception e) {
@@ -109,7 +124,7 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
         Stage stage = stageOpt.get();
         var command = PersistStageCommand.fromStage(gameSaveId, stage);
         stageService.persistStage(command);
-        stageCache.unset(gameSaveId.toString());
+        unsetAfterCommit(stageCache, Map.of(gameSaveId.toString(), stage));
         log.debug("Successfully flushed stage for game save {}", gameSaveId);
       }
     } catch (Exception e) {
@@ -124,40 +139,100 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
     flush(gameSaveId);
   }
 
+  @Override
+  @Transactional
+  public void flushGameSaves(List<UUID> gameSaveIds) {
+    if (gameSaveIds.isEmpty()) {
+      return;
+    }
+    log.debug("Flushing all data for a batch of {} game saves", gameSaveIds.size());
+    List<String> keys = gameSaveIds.stream().map(UUID::toString).toList();
+    try {
+      // All the sections of a game save are read at once
+      Map<String, Characteristics> characteristics = new HashMap<>();
+      Map<String, Currency> currencies = new HashMap<>();
+      Map<String, Stage> stages = new HashMap<>();
+      gameSaveSectionsCache
+          .getMany(keys)
+          .forEach(
+              (key, sections) -> {
+                if (sections.characteristics() != null) {
+                  characteristics.put(key, sections.characteristics());
+                }
+                if (sections.currency() != null) {
+                  currencies.put(key, sections.currency());
+                }
+                if (sections.stage() != null) {
+                  stages.put(key, sections.stage());
+                }
+              });
+
+      characteristicsService.persistCharacteristicsBatch(
+          characteristics.entrySet().stream()
+              .map(
+                  entry ->
+                      PersistCharacteristicsCommand.fromCharacteristics(
+                          UUID.fromString(entry.getKey()), entry.getValue()))
+              .toList());
+      currencyService.persistCurrencyBatch(
+          currencies.entrySet().stream()
+              .map(
+                  entry ->
+                      PersistCurrencyCommand.fromCurrency(
+                          UUID.fromString(entry.getKey()), entry.getValue()))
+              .toList());
+      stageService.persistStageBatch(
+          stages.entrySet().stream()
+              .map(
+                  entry ->
+                      PersistStageCommand.fromStage(
+                          UUID.fromString(entry.getKey()), entry.getValue()))
+              .toList());
+
+      unsetAfterCommit(characteristicsCache, characteristics);
+      unsetAfterCommit(currencyCache, currencies);
+      unsetAfterCommit(stageCache, stages);
+      log.debug("Successfully flushed a batch of {} game saves", gameSaveIds.size());
+    } catch (Exception e) {
+      log.error("Error flushing a batch of {} game saves", gameSaveIds.size(), e);
+      throw e;
+    }
+  }
+
   @Override
   @Transactional
   public void flushGameSaves() {
     long currentTime = System.currentTimeMillis();
 
-    // Get all entries from both pending and processing sets
-    Set<String> pendingEntries =
-        redisTemplate.opsForZSet().rangeByScore(FlushStatus.PENDING.getKey(), 0, -1);
+    // Get the entries already in processing, then claim all the pending ones
     Set<String> processingEntries =
-        redisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey());
+        redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1);
+    Set<String> pendingEntries =
+        ValkeyFlushUtils.claimAllEntries(redisTemplate, currentTime, Integer.MAX_VALUE, flushLease)
+            .keySet();
 
     // Process pending entries
-    if (pendingEntries != null) {
-      pendingEntries.forEach(
-          gameSaveId -> {
-            if (ValkeyFlushUtils.moveToProcessingWithTransaction(
-                redisTemplate, gameSaveId, currentTime)) {
-              try {
-                flush(UUID.fromString(gameSaveId));
-                ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId);
-              } catch (Exception e) {
-                log.error("Error processing pending flush for game save {}", gameSaveId, e);
-              }
-            }
-          });
-    }
+    pendingEntries.forEach(
+        gameSaveId -> {
+          try {
+            flush(UUID.fromString(gameSaveId));
+            ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId, flushLease);
+          } catch (Exception e) {
+            log.error("Error processing pending flush for game save {}", gameSaveId, e);
+          }
+        });
 
-    // Process entries that were already in processing (recovery)
+    // Process entries that were already in processing and whose lease expired (recovery), the
+    // ones still leased by a running instance are being flushed by it
     if (processingEntries != null) {
-      processingEntries.forEach(
+      List<String> expiredEntries =
+          ValkeyFlushUtils.reclaimLeases(
+              redisTemplate, processingEntries, currentTime, flushLease, false);
+      expiredEntries.forEach(
           gameSaveId -> {
             try {
               flush(UUID.fromString(gameSaveId));
-              ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId);
+              ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId, flushLease);
             } catch (Exception e) {
               log.error("Error processing existing flush for game save {}", gameSaveId, e);
             }
@@ -165,6 +240,28 @@ public class RedisCacheFlushServiceImpl implements CacheFlushService {
     }
   }
 
+  /**
+   * Unsets the flushed values from the cache once the transaction persisting them has committed,
+   * so that a rollback leaves them cached for the next flush. Only the values unchanged since they
+   * were read are unset: a value written in the meantime stays cached until it is flushed in turn.
+   */
+  private static <T> void unsetAfterCommit(CachePort<T> cache, Map<String, T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      cache.unsetManyIfUnchanged(values);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            cache.unsetManyIfUnchanged(values);
+          }
+        });
+  }
+
   private void flush(UUID gameSaveId) {
     log.debug("Flushing all data for game save {}", gameSaveId);
     try {
@@ -16,15 +16,25 @@
 package com.lsadf.core.infra.valkey.cache.flush.scheduler.impl;
 
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
-import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.scheduler.FlushScheduler;
 import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -34,46 +44,109 @@ import org.springframework.data.redis.core.RedisTemplate;
  * game saves ready for flushing and processes them accordingly.
  *
  * <p>The scheduler relies on a Redis sorted set to track pending flush game saves and their
- * corresponding timestamps. Game saves that are ready for flushing are moved to a separate
- * processing set before being flushed to ensure atomicity and prevent race conditions.
+ * corresponding timestamps. Game saves that are ready for flushing are claimed with a server-side
+ * script, which moves up to {@code flushBatchSize * partitionCount} of them at once to a separate
+ * processing set, so several instances can drain the pending set without duplicated work. Claimed
+ * game saves are flushed in batches of {@code flushBatchSize}; if a batch fails, its game saves are
+ * flushed one by one so a single faulty save does not hold back the rest of the batch.
+ *
+ * <p>Claimed game saves are held under a lease of this instance until they are flushed. A reaper
+ * periodically moves the game saves whose lease expired, left behind by a crashed or stalled
+ * instance, back to the pending set, so any running instance flushes them without waiting for a
+ * restart. The lease duration must therefore exceed the time needed to flush a claimed chunk.
+ *
+ * <p>Claimed game saves are split into {@code partitionCount} partitions by hashing their id, and
+ * each partition is flushed by a worker of the given executor. The executor is expected to be
+ * bounded, as every running worker holds a database connection. The lag of the oldest claimed game
+ * save and the number of claimed game saves of each partition are exposed as gauges.
  */
 @Slf4j
 public class FlushSchedulerImpl implements FlushScheduler {
 
+  private static final String PARTITION_LAG_METRIC = "lsadf.flush.partition.lag";
+  private static final String PARTITION_BACKLOG_METRIC = "lsadf.flush.partition.backlog";
+  private static final String PARTITION_TAG = "partition";
+
   private final RedisTemplate<String, String> redisTemplate;
   private final CacheFlushService cacheFlushService;
   private final ScheduledExecutorService scheduler;
+  private final ExecutorService workerExecutor;
   private final long checkIntervalSeconds;
+  private final int flushBatchSize;
+  private final int partitionCount;
+  private final FlushLease flushLease;
+  private final long leaseReaperIntervalSeconds;
+
+  private final AtomicLongArray partitionLagMs;
+  private final AtomicLongArray partitionBacklog;
 
   public FlushSchedulerImpl(
       RedisTemplate<String, String> redisTemplate,
       CacheFlushService cacheFlushService,
       ScheduledExecutorService scheduler,
-      long checkIntervalSeconds) {
+      ExecutorService workerExecutor,
+      MeterRegistry meterRegistry,
+      long checkIntervalSeconds,
+      int flushBatchSize,
+      int partitionCount,
+      FlushLease flushLease,
+      long leaseReaperIntervalSeconds) {
     this.redisTemplate = redisTemplate;
     this.cacheFlushService = cacheFlushService;
     this.scheduler = scheduler;
+    this.workerExecutor = workerExecutor;
     this.checkIntervalSeconds = checkIntervalSeconds;
+    this.flushBatchSize = flushBatchSize;
+    this.partitionCount = partitionCount;
+    this.flushLease = flushLease;
+    this.leaseReaperIntervalSeconds = leaseReaperIntervalSeconds;
+    this.partitionLagMs = new AtomicLongArray(partitionCount);
+    this.partitionBacklog = new AtomicLongArray(partitionCount);
+    registerPartitionMetrics(meterRegistry);
+  }
+
+  /**
+   * Returns the partition a game save belongs to.
+   *
+   * @param gameSaveId the game save ID
+   * @param partitionCount the number of partitions
+   * @return the partition index, between 0 and {@code partitionCount - 1}
+   */
+  public static int partitionOf(String gameSaveId, int partitionCount) {
+    return Math.floorMod(gameSaveId.hashCode(), partitionCount);
   }
 
   @PostConstruct
   public void startScheduler() {
     log.info(
-        "Starting ZSET flush scheduler with check interval of {} seconds", checkIntervalSeconds);
+        "Starting ZSET flush scheduler with check interval of {} seconds and {} partitions as {}",
+        checkIntervalSeconds,
+        partitionCount,
+        flushLease.ownerId());
     scheduler.scheduleWithFixedDelay(
         this::processEntriesToFlush, 0, checkIntervalSeconds, TimeUnit.SECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::requeueExpiredLeases,
+        leaseReaperIntervalSeconds,
+        leaseReaperIntervalSeconds,
+        TimeUnit.SECONDS);
   }
 
   @PreDestroy
   public void stopScheduler() {
     log.info("Stopping ZSET flush scheduler");
-    scheduler.shutdown();
+    shutdown(scheduler);
+    shutdown(workerExecutor);
+  }
+
+  private static void shutdown(ExecutorService executorService) {
+    executorService.shutdown();
     try {
-      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
-        scheduler.shutdownNow();
+      if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+        executorService.shutdownNow();
       }
     } catch (InterruptedException e) {
-      scheduler.shutdownNow();
+      executorService.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
@@ -81,50 +154,177 @@ public class FlushSchedulerImpl implements FlushScheduler {
   @Override
   public void processEntriesToFlush() {
     long currentTime = System.currentTimeMillis();
+    int claimLimit = flushBatchSize * partitionCount;
+    long[] oldestScores = new long[partitionCount];
+    long[] claimedCounts = new long[partitionCount];
+    Arrays.fill(oldestScores, currentTime);
 
     try {
-      // Get entries ready to flush (score <= currentTime)
-      Set<String> readyEntries =
-          redisTemplate.opsForZSet().rangeByScore(FlushStatus.PENDING.getKey(), 0, currentTime);
+      int claimedTotal = 0;
+      int successProcessed = 0;
+      Map<String, Double> claimed;
+      do {
+        // Claim entries ready to flush until none are left. Every round reads the time again, as
+        // it is both the ready cutoff and the lease start: claiming a later round with the time of
+        // the first one would grant leases already expired once flushing a backlog outlasts a
+        // lease, and the reaper would re-queue them while they are being flushed
+        long claimTime = System.currentTimeMillis();
+        claimed =
+            ValkeyFlushUtils.claimReadyEntries(redisTemplate, claimTime, claimLimit, flushLease);
+        if (claimed.isEmpty()) {
+          break;
+        }
+        claimedTotal += claimed.size();
+        successProcessed += flushPartitions(partition(claimed, oldestScores, claimedCounts));
+      } while (claimed.size() >= claimLimit);
 
-      if (readyEntries == null || readyEntries.isEmpty()) {
+      if (claimedTotal == 0) {
         log.debug("No entries ready for flushing");
         return;
       }
 
-      log.info("Found {} entries ready for flushing", readyEntries.size());
+      log.info("Successfully flushed {} of {} claimed entries", successProcessed, claimedTotal);
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while flushing ready entries");
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.error("Error processing ready entries for flushing", e);
+    } finally {
+      for (int i = 0; i < partitionCount; i++) {
+        partitionLagMs.set(i, Math.max(0, currentTime - oldestScores[i]));
+        partitionBacklog.set(i, claimedCounts[i]);
+      }
+    }
+  }
 
-      int successProcessed = 0;
+  /**
+   * Moves the game saves whose lease expired back to the pending set, so they are claimed again by
+   * the next flush cycle of any instance.
+   */
+  public void requeueExpiredLeases() {
+    long currentTime = System.currentTimeMillis();
+    int limit = flushBatchSize * partitionCount;
+    try {
+      int requeuedTotal = 0;
+      List<String> requeued;
+      do {
+        requeued = ValkeyFlushUtils.requeueExpiredLeases(redisTemplate, currentTime, limit);
+        requeuedTotal += requeued.size();
+      } while (requeued.size() >= limit);
 
-      for (String gameSaveId : readyEntries) {
-        if (processGameSaveFlush(gameSaveId, currentTime)) successProcessed += 1;
+      if (requeuedTotal > 0) {
+        log.warn("Re-queued {} game saves whose flush lease expired", requeuedTotal);
       }
-
-      log.info("Successfully flushed {} entries", successProcessed);
     } catch (Exception e) {
-      log.error("Error processing ready entries for flushing", e);
+      log.error("Error re-queuing game saves whose flush lease expired", e);
     }
   }
 
-  private boolean processGameSaveFlush(String gameSaveId, long currentTime) {
-    if (!ValkeyFlushUtils.moveToProcessingWithTransaction(redisTemplate, gameSaveId, currentTime)) {
-      log.error("Failed to move game save {} to processing set", gameSaveId);
-      return false;
+  /**
+   * Splits the claimed entries into partitions, keeping track of the oldest pending score and of
+   * the number of entries of every partition.
+   */
+  private List<List<String>> partition(
+      Map<String, Double> claimed, long[] oldestScores, long[] claimedCounts) {
+    List<List<String>> partitions = new ArrayList<>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    claimed.forEach(
+        (gameSaveId, score) -> {
+          int partition = partitionOf(gameSaveId, partitionCount);
+          partitions.get(partition).add(gameSaveId);
+          oldestScores[partition] = Math.min(oldestScores[partition], score.longValue());
+          claimedCounts[partition] += 1;
+        });
+    return partitions;
+  }
+
+  /**
+   * Flushes the non-empty partitions in parallel and waits for all of them. The result of every
+   * partition is read, so a failing partition is logged on its own, counts as no game save flushed,
+   * and does not hide the results of the others.
+   */
+  private int flushPartitions(List<List<String>> partitions) throws InterruptedException {
+    List<Integer> flushedPartitions = new ArrayList<>();
+    List<Callable<Integer>> tasks = new ArrayList<>();
+    for (int i = 0; i < partitions.size(); i++) {
+      List<String> partition = partitions.get(i);
+      if (!partition.isEmpty()) {
+        flushedPartitions.add(i);
+        tasks.add(() -> processPartitionFlush(partition));
+      }
+    }
+    List<Future<Integer>> results = workerExecutor.invokeAll(tasks);
+    int successProcessed = 0;
+    for (int i = 0; i < results.size(); i++) {
+      try {
+        successProcessed += results.get(i).get();
+      } catch (ExecutionException e) {
+        int partition = flushedPartitions.get(i);
+        log.error(
+            "Error flushing partition {} of {} claimed game saves",
+            partition,
+            partitions.get(partition).size(),
+            e.getCause());
+      }
+    }
+    return successProcessed;
+  }
+
+  private int processPartitionFlush(List<String> gameSaveIds) {
+    int successProcessed = 0;
+    for (int from = 0; from < gameSaveIds.size(); from += flushBatchSize) {
+      List<String> batch =
+          gameSaveIds.subList(from, Math.min(from + flushBatchSize, gameSaveIds.size()));
+      successProcessed += processBatchFlush(batch);
+    }
+    return successProcessed;
+  }
+
+  private int processBatchFlush(List<String> gameSaveIds) {
+    try {
+      cacheFlushService.flushGameSaves(gameSaveIds.stream().map(UUID::fromString).toList());
+      ValkeyFlushUtils.removeAllFromProcessing(redisTemplate, gameSaveIds, flushLease);
+      log.debug("Successfully flushed batch of {} game saves to database", gameSaveIds.size());
+      return gameSaveIds.size();
+    } catch (Exception e) {
+      log.error(
+          "Error flushing batch of {} game saves, flushing them one by one", gameSaveIds.size(), e);
+      int successProcessed = 0;
+      for (String gameSaveId : gameSaveIds) {
+        if (processGameSaveFlush(gameSaveId)) successProcessed += 1;
+      }
+      return successProcessed;
     }
-    flushGameSave(gameSaveId);
-    ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId);
-    log.debug("Successfully processed flush for game save {}", gameSaveId);
-    return true;
   }
 
-  private void flushGameSave(String gameSaveId) {
+  private boolean processGameSaveFlush(String gameSaveId) {
     try {
       UUID gameSaveUuid = UUID.fromString(gameSaveId);
       cacheFlushService.flushGameSave(gameSaveUuid);
       log.debug("Successfully flushed game save {} to database", gameSaveId);
     } catch (Exception e) {
+      // Left in the processing set, re-queued by the lease reaper once its lease expires
       log.error("Error flushing game save {} to database", gameSaveId, e);
-      throw e;
+      return false;
+    }
+    ValkeyFlushUtils.removeFromProcessing(redisTemplate, gameSaveId, flushLease);
+    return true;
+  }
+
+  private void registerPartitionMetrics(MeterRegistry meterRegistry) {
+    for (int i = 0; i < partitionCount; i++) {
+      final int partition = i;
+      Gauge.builder(PARTITION_LAG_METRIC, partitionLagMs, lags -> lags.get(partition))
+          .description("Time since the oldest claimed game save of the partition became flushable")
+          .baseUnit("milliseconds")
+          .tag(PARTITION_TAG, String.valueOf(partition))
+          .register(meterRegistry);
+      Gauge.builder(PARTITION_BACKLOG_METRIC, partitionBacklog, sizes -> sizes.get(partition))
+          .description("Number of game saves of the partition claimed during the last flush cycle")
+          .tag(PARTITION_TAG, String.valueOf(partition))
+          .register(meterRegistry);
     }
   }
 }
@@ -16,6 +16,8 @@
 package com.lsadf.core.infra.valkey.cache.manager;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.domain.cache.HotKey;
+import java.util.List;
 
 public class NoOpCacheManager implements CacheManager {
 
@@ -38,4 +40,9 @@ public class NoOpCacheManager implements CacheManager {
   public void clearGameSaveValues(String key) {
     // Do nothing
   }
+
+  @Override
+  public List<HotKey> getHotKeys(int limit) {
+    return List.of();
+  }
 }
@@ -16,38 +16,60 @@
 package com.lsadf.core.infra.valkey.cache.manager;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
+import com.lsadf.core.domain.cache.HotKey;
+import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyProperties;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 
 @Slf4j
 public class ValkeyCacheManager implements CacheManager {
 
   private final GameMetadataCachePort gameMetadataCache;
+  private final GameMetadataNegativeCachePort gameMetadataNegativeCache;
+  private final InventoryCachePort inventoryCache;
   private final CharacteristicsCachePort characteristicsCache;
   private final CurrencyCachePort currencyCache;
   private final StageCachePort stageCache;
   private final GameSessionCachePort gameSessionCache;
+  private final RedisTemplate<String, String> redisTemplate;
 
   private final AtomicBoolean isEnabled;
 
   public ValkeyCacheManager(
       GameMetadataCachePort gameMetadataCache,
+      GameMetadataNegativeCachePort gameMetadataNegativeCache,
+      InventoryCachePort inventoryCache,
       CharacteristicsCachePort characteristicsCache,
       CurrencyCachePort currencyCache,
       StageCachePort stageCache,
       ValkeyProperties valkeyProperties,
-      GameSessionCachePort gameSessionCache) {
+      GameSessionCachePort gameSessionCache,
+      RedisTemplate<String, String> redisTemplate) {
     this.characteristicsCache = characteristicsCache;
     this.currencyCache = currencyCache;
     this.stageCache = stageCache;
     this.gameMetadataCache = gameMetadataCache;
+    this.gameMetadataNegativeCache = gameMetadataNegativeCache;
+    this.inventoryCache = inventoryCache;
     this.gameSessionCache = gameSessionCache;
+    this.redisTemplate = redisTemplate;
     this.isEnabled = new AtomicBoolean(valkeyProperties.isEnabled());
   }
 
@@ -71,6 +93,8 @@ public class ValkeyCacheManager implements CacheManager {
     currencyCache.clear();
     stageCache.clear();
     gameMetadataCache.clear();
+    gameMetadataNegativeCache.clear();
+    inventoryCache.clear();
     gameSessionCache.clear();
     // clean
     log.info("Caches cleared");
@@ -83,6 +107,49 @@ public class ValkeyCacheManager implements CacheManager {
     currencyCache.unset(key);
     stageCache.unset(key);
     gameMetadataCache.unset(key);
+    inventoryCache.invalidate(key);
     log.info("CachePort cleared for key: {}", key);
   }
+
+  /**
+   * Merges the hot keys published by every running instance, summing the accesses counted for a
+   * key by several of them.
+   */
+  @Override
+  public List<HotKey> getHotKeys(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    Map<String, Long> accessCounts = new HashMap<>();
+    try (Stream<List<String>> batches =
+        CacheUtils.scanKeys(
+            redisTemplate,
+            ValkeyConstants.HOT_KEYS + "*",
+            DataType.ZSET,
+            CacheUtils.SCAN_BATCH_SIZE)) {
+      batches
+          .flatMap(List::stream)
+          .forEach(instanceKey -> addAccessCounts(instanceKey, limit, accessCounts));
+    }
+    return accessCounts.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .limit(limit)
+        .map(entry -> new HotKey(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
+  private void addAccessCounts(String instanceKey, int limit, Map<String, Long> accessCounts) {
+    Set<TypedTuple<String>> hotKeys =
+        redisTemplate.opsForZSet().reverseRangeWithScores(instanceKey, 0, limit - 1L);
+    if (hotKeys == null) {
+      return;
+    }
+    for (TypedTuple<String> hotKey : hotKeys) {
+      String key = hotKey.getValue();
+      Double accessCount = hotKey.getScore();
+      if (key != null && accessCount != null) {
+        accessCounts.merge(key, accessCount.longValue(), Long::sum);
+      }
+    }
+  }
 }
@@ -15,23 +15,59 @@
  */
 package com.lsadf.core.infra.valkey.cache.util;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ConvertingCursor;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @UtilityClass
 @Slf4j
 public class CacheUtils {
 
+  /** Number of keys requested per SCAN call, and read or removed per batch. */
+  public static final int SCAN_BATCH_SIZE = 500;
+
+  private static final byte[] MERGE_HASH_FIELDS_SCRIPT = loadScript("merge_hash_fields.lua");
+
+  private static final byte[] INIT_HASH_FIELDS_SCRIPT = loadScript("init_hash_fields.lua");
+
+  private static final byte[] REPLACE_HASH_FIELDS_SCRIPT = loadScript("replace_hash_fields.lua");
+
+  private static final byte[] UNSET_HASH_FIELDS_IF_UNCHANGED_SCRIPT =
+      loadScript("unset_hash_fields_if_unchanged.lua");
+
+  private static final byte[] UNSET_VALUE_IF_UNCHANGED_SCRIPT =
+      loadScript("unset_value_if_unchanged.lua");
+
+  private static final Long WRITTEN = 1L;
+
   /**
    * Get all keyName entries
    *
@@ -43,10 +79,9 @@ public class CacheUtils {
       RedisTemplate<String, T> redisTemplate, String keyName) {
     String entryType = keyName.substring(0, keyName.length() - 1);
     Map<String, T> map = new HashMap<>();
-    ScanOptions scanOptions = ScanOptions.scanOptions().match(keyName + "*").build();
-    try {
-      RedisKeyCommands commands = initRedisKeyCommands(redisTemplate);
-      iterateOverKeys(commands, scanOptions, keyName, redisTemplate, map::put);
+    try (Stream<Map.Entry<String, T>> entries =
+        streamEntries(redisTemplate, keyName, SCAN_BATCH_SIZE)) {
+      entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
     } catch (DataAccessException e) {
       log.warn("Error while getting " + entryType + " from redis cache", e);
     }
@@ -55,48 +90,108 @@ public class CacheUtils {
   }
 
   /**
-   * Iterates over the keys of the cache
+   * Streams the entries of the cache lazily: the keys are scanned page by page, and the values of
+   * each page are read with a single MGET, so only one page is held in memory at a time. The
+   * returned stream holds a connection until it is closed.
    *
-   * @param commands the RedisKeyCommands
-   * @param scanOptions the scan options
-   * @param pattern the pattern to match
    * @param redisTemplate the redis template
-   * @param consumer the consumer
+   * @param keyName the key name
+   * @param batchSize the number of keys per page
    * @param <T> the type of the value
+   * @return the entries of the cache, by key without the key name
+   */
+  public static <T> Stream<Map.Entry<String, T>> streamEntries(
+      RedisTemplate<String, T> redisTemplate, String keyName, int batchSize) {
+    return scanKeys(redisTemplate, keyName + "*", null, batchSize)
+        .flatMap(keys -> multiGet(redisTemplate, keyName, keys).stream());
+  }
+
+  /**
+   * Scans the keys matching the pattern page by page, with SCAN calls using the page size as COUNT
+   * hint. A cluster only scans the keys of the node it is sent to, so the primaries of a cluster
+   * are scanned one after the other. The returned stream holds a connection until it is closed.
+   *
+   * @param redisOperations the redis operations
+   * @param pattern the pattern to match
+   * @param type the type of the keys to match, or null to match all types
+   * @param batchSize the number of keys per page
+   * @return the pages of matching keys
    */
-  private static <T> void iterateOverKeys(
-      RedisKeyCommands commands,
-      ScanOptions scanOptions,
+  public static Stream<List<String>> scanKeys(
+      RedisOperations<String, ?> redisOperations,
       String pattern,
-      RedisTemplate<String, T> redisTemplate,
-      KeyValueConsumer<T> consumer) {
-    try (Cursor<byte[]> cursor = commands.scan(scanOptions)) {
-      while (cursor.hasNext()) {
-        String key = new String(cursor.next());
-        String gameSaveId = key.substring(pattern.length());
-        T value = redisTemplate.opsForValue().get(key);
-        if (value != null) {
-          consumer.accept(gameSaveId, value);
-        }
-      }
-    } catch (Exception e) {
-      log.warn("Error while scanning entries from gold cache", e);
+      @Nullable DataType type,
+      int batchSize) {
+    ScanOptions.ScanOptionsBuilder scanOptions =
+        ScanOptions.scanOptions().match(pattern).count(batchSize);
+    if (type != null) {
+      scanOptions.type(type);
+    }
+    ScanOptions options = scanOptions.build();
+    List<RedisClusterNode> primaries = clusterPrimaries(redisOperations);
+    if (primaries.isEmpty()) {
+      return batches(redisOperations.scan(options), batchSize);
     }
+    @SuppressWarnings("unchecked")
+    RedisSerializer<String> keySerializer =
+        (RedisSerializer<String>) redisOperations.getKeySerializer();
+    return primaries.stream()
+        .flatMap(
+            primary ->
+                batches(
+                    redisOperations.executeWithStickyConnection(
+                        connection ->
+                            new ConvertingCursor<>(
+                                ((RedisClusterConnection) connection).scan(primary, options),
+                                keySerializer::deserialize)),
+                    batchSize));
+  }
+
+  private static List<RedisClusterNode> clusterPrimaries(
+      RedisOperations<String, ?> redisOperations) {
+    List<RedisClusterNode> primaries =
+        redisOperations.execute(
+            (RedisCallback<List<RedisClusterNode>>)
+                connection ->
+                    connection instanceof RedisClusterConnection clusterConnection
+                        ? clusterConnection.clusterGetNodes().stream()
+                            .filter(RedisClusterNode::isMaster)
+                            .toList()
+                        : List.of());
+    return primaries == null ? List.of() : primaries;
+  }
+
+  private static Stream<List<String>> batches(Cursor<String> cursor, int batchSize) {
+    Iterator<List<String>> batches = new KeyBatchIterator(cursor, batchSize);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(cursor::close);
   }
 
   /**
-   * Initialize the RedisKeyCommands
+   * Reads the values of a page of keys with a single MGET.
    *
    * @param redisTemplate the redis template
-   * @return the RedisKeyCommands
+   * @param keyName the key name
+   * @param keys the keys to read, with the key name
+   * @param <T> the type of the value
+   * @return the entries present in the cache, by key without the key name
    */
-  private static RedisKeyCommands initRedisKeyCommands(RedisTemplate<?, ?> redisTemplate) {
-    RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
-    if (connectionFactory == null) {
-      throw new RedisConnectionFailureException("No RedisConnectionFactory available");
+  private static <T> List<Map.Entry<String, T>> multiGet(
+      RedisTemplate<String, T> redisTemplate, String keyName, List<String> keys) {
+    List<T> values = redisTemplate.opsForValue().multiGet(keys);
+    List<Map.Entry<String, T>> entries = new ArrayList<>(keys.size());
+    if (values == null) {
+      return entries;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      T value = values.get(i);
+      if (value != null) {
+        entries.add(Map.entry(keys.get(i).substring(keyName.length()), value));
+      }
     }
-    RedisConnection connection = connectionFactory.getConnection();
-    return connection.keyCommands();
+    return entries;
   }
 
   /**
@@ -109,21 +204,294 @@ public class CacheUtils {
   public static <T> void clearCache(RedisTemplate<String, T> redisTemplate, String keyName) {
     String entryType = keyName.substring(0, keyName.length() - 1);
     log.info("Clearing {} cache", entryType);
-    RedisKeyCommands commands = initRedisKeyCommands(redisTemplate);
-    ScanOptions scanOptions = ScanOptions.scanOptions().match(keyName + "*").build();
-    try {
-      iterateOverKeys(
-          commands,
-          scanOptions,
-          keyName,
-          redisTemplate,
-          (gameSaveId, value) -> {
-            var result = redisTemplate.delete(keyName + gameSaveId);
-            log.info("Deleted key: {} with result: {}", gameSaveId, result);
-          });
-      log.info("{} cache cleared", entryType);
+    try (Stream<List<String>> batches =
+        scanKeys(redisTemplate, keyName + "*", null, SCAN_BATCH_SIZE)) {
+      long removed =
+          batches
+              .mapToLong(
+                  keys -> {
+                    Long result = redisTemplate.unlink(keys);
+                    return result == null ? 0L : result;
+                  })
+              .sum();
+      log.info("{} cache cleared, {} keys removed", entryType, removed);
     } catch (DataAccessException e) {
       log.warn("Error while clearing {} cache", entryType, e);
     }
   }
+
+  /**
+   * Merges fields into several cached hashes with pipelined calls of an atomic script, so that the
+   * whole merge costs a single round-trip and never overwrites fields written concurrently by
+   * another client. A hash is only written when it holds a cached value, that is when one of the
+   * presence fields is set, or when the hash exists if there is no presence field. The time to live
+   * of the merged hashes is refreshed.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields to write, by hash key
+   * @param presenceFields the fields telling whether a hash holds a cached value
+   * @param expirationSeconds the time to live of the hashes, left unchanged when not positive
+   * @return the keys of the hashes whose fields were merged
+   */
+  public static Set<String> mergeHashFields(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> presenceFields,
+      long expirationSeconds) {
+    return mergeHashFields(redisOperations, fieldsByKey, presenceFields, key -> expirationSeconds);
+  }
+
+  /**
+   * Merges fields into several cached hashes like {@link #mergeHashFields(RedisOperations, Map,
+   * List, long)}, with a time to live of its own for every hash.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields to write, by hash key
+   * @param presenceFields the fields telling whether a hash holds a cached value
+   * @param expirationSeconds the time to live of a hash by hash key, left unchanged when not
+   *     positive
+   * @return the keys of the hashes whose fields were merged
+   */
+  public static Set<String> mergeHashFields(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> presenceFields,
+      ToLongFunction<String> expirationSeconds) {
+    return evalHashFieldsScript(
+        redisOperations, MERGE_HASH_FIELDS_SCRIPT, fieldsByKey, presenceFields, expirationSeconds);
+  }
+
+  /**
+   * Writes fields into several hashes with pipelined calls of an atomic script, unless they already
+   * hold a cached value, that is when one of the presence fields is set, or when the hash exists if
+   * there is no presence field. Unlike a read followed by a write, this never overwrites a value
+   * written concurrently by another client. The time to live of the written hashes is set.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields to write, by hash key
+   * @param presenceFields the fields telling whether a hash holds a cached value
+   * @param expirationSeconds the time to live of the hashes, left unchanged when not positive
+   * @return the keys of the hashes whose fields were written
+   */
+  public static Set<String> initHashFields(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> presenceFields,
+      long expirationSeconds) {
+    return initHashFields(redisOperations, fieldsByKey, presenceFields, key -> expirationSeconds);
+  }
+
+  /**
+   * Writes fields into several hashes like {@link #initHashFields(RedisOperations, Map, List,
+   * long)}, with a time to live of its own for every hash.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields to write, by hash key
+   * @param presenceFields the fields telling whether a hash holds a cached value
+   * @param expirationSeconds the time to live of a hash by hash key, left unchanged when not
+   *     positive
+   * @return the keys of the hashes whose fields were written
+   */
+  public static Set<String> initHashFields(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> presenceFields,
+      ToLongFunction<String> expirationSeconds) {
+    return evalHashFieldsScript(
+        redisOperations, INIT_HASH_FIELDS_SCRIPT, fieldsByKey, presenceFields, expirationSeconds);
+  }
+
+  /**
+   * Replaces several hashes by the given fields with pipelined calls of an atomic script. Unlike a
+   * removal followed by a write, no client ever reads a hash removed or half written.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields to write, by hash key
+   * @param expirationSeconds the time to live of a hash by hash key, left unset when not positive
+   * @return the keys of the written hashes
+   */
+  public static Set<String> replaceHashFields(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      ToLongFunction<String> expirationSeconds) {
+    return evalHashFieldsScript(
+        redisOperations, REPLACE_HASH_FIELDS_SCRIPT, fieldsByKey, List.of(), expirationSeconds);
+  }
+
+  private static Set<String> evalHashFieldsScript(
+      RedisOperations<String, ?> redisOperations,
+      byte[] script,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> presenceFields,
+      ToLongFunction<String> expirationSeconds) {
+    Set<String> written = new HashSet<>();
+    if (fieldsByKey.isEmpty()) {
+      return written;
+    }
+    List<String> keys = List.copyOf(fieldsByKey.keySet());
+    List<Object> results =
+        redisOperations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String key : keys) {
+                    List<byte[]> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(rawString(key));
+                    keysAndArgs.add(rawString(Long.toString(expirationSeconds.applyAsLong(key))));
+                    keysAndArgs.add(rawString(Integer.toString(presenceFields.size())));
+                    presenceFields.forEach(field -> keysAndArgs.add(rawString(field)));
+                    fieldsByKey
+                        .get(key)
+                        .forEach(
+                            (field, value) -> {
+                              keysAndArgs.add(rawString(field));
+                              keysAndArgs.add(value);
+                            });
+                    connection
+                        .scriptingCommands()
+                        .eval(script, ReturnType.INTEGER, 1, keysAndArgs.toArray(byte[][]::new));
+                  }
+                  return null;
+                });
+    for (int i = 0; i < keys.size(); i++) {
+      if (WRITTEN.equals(results.get(i))) {
+        written.add(keys.get(i));
+      }
+    }
+    return written;
+  }
+
+  /**
+   * Removes the fields of several cached hashes with pipelined calls of an atomic script, unless
+   * one of the compared fields changed since the hash was read. Unlike a read followed by a
+   * removal, this never removes a value written concurrently by another client.
+   *
+   * @param redisOperations the redis operations
+   * @param fieldsByKey the fields read, by hash key; a compared field absent from them was unset
+   * @param comparedFields the fields compared, and removed unless the whole hash is
+   * @param deleteKey true to remove the whole hash, false to remove only the compared fields
+   * @return the keys of the hashes whose fields were removed
+   */
+  public static Set<String> unsetHashFieldsIfUnchanged(
+      RedisOperations<String, ?> redisOperations,
+      Map<String, Map<String, byte[]>> fieldsByKey,
+      List<String> comparedFields,
+      boolean deleteKey) {
+    Set<String> removed = new HashSet<>();
+    if (fieldsByKey.isEmpty()) {
+      return removed;
+    }
+    List<String> keys = List.copyOf(fieldsByKey.keySet());
+    List<Object> results =
+        redisOperations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String key : keys) {
+                    List<byte[]> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(rawString(key));
+                    keysAndArgs.add(rawString(deleteKey ? "1" : "0"));
+                    keysAndArgs.add(rawString(Integer.toString(comparedFields.size())));
+                    comparedFields.forEach(field -> keysAndArgs.add(rawString(field)));
+                    fieldsByKey
+                        .get(key)
+                        .forEach(
+                            (field, value) -> {
+                              if (comparedFields.contains(field)) {
+                                keysAndArgs.add(rawString(field));
+                                keysAndArgs.add(value);
+                              }
+                            });
+                    connection
+                        .scriptingCommands()
+                        .eval(
+                            UNSET_HASH_FIELDS_IF_UNCHANGED_SCRIPT,
+                            ReturnType.INTEGER,
+                            1,
+                            keysAndArgs.toArray(byte[][]::new));
+                  }
+                  return null;
+                });
+    for (int i = 0; i < keys.size(); i++) {
+      if (WRITTEN.equals(results.get(i))) {
+        removed.add(keys.get(i));
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Removes several cached values with pipelined calls of an atomic script, unless they changed
+   * since they were read.
+   *
+   * @param redisOperations the redis operations
+   * @param rawValuesByKey the serialized values read, by key
+   * @return the keys whose value was removed
+   */
+  public static Set<String> unsetValuesIfUnchanged(
+      RedisOperations<String, ?> redisOperations, Map<String, byte[]> rawValuesByKey) {
+    Set<String> removed = new HashSet<>();
+    if (rawValuesByKey.isEmpty()) {
+      return removed;
+    }
+    List<String> keys = List.copyOf(rawValuesByKey.keySet());
+    List<Object> results =
+        redisOperations.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String key : keys) {
+                    connection
+                        .scriptingCommands()
+                        .eval(
+                            UNSET_VALUE_IF_UNCHANGED_SCRIPT,
+                            ReturnType.INTEGER,
+                            1,
+                            rawString(key),
+                            rawValuesByKey.get(key));
+                  }
+                  return null;
+                });
+    for (int i = 0; i < keys.size(); i++) {
+      if (WRITTEN.equals(results.get(i))) {
+        removed.add(keys.get(i));
+      }
+    }
+    return removed;
+  }
+
+  private static byte[] loadScript(String name) {
+    return RedisScript.of(new ClassPathResource("valkey/scripts/" + name))
+        .getScriptAsString()
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] rawString(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Groups the keys returned by a cursor in pages of a fixed size. */
+  private static final class KeyBatchIterator implements Iterator<List<String>> {
+    private final Cursor<String> cursor;
+    private final int batchSize;
+
+    private KeyBatchIterator(Cursor<String> cursor, int batchSize) {
+      this.cursor = cursor;
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return cursor.hasNext();
+    }
+
+    @Override
+    public List<String> next() {
+      if (!cursor.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<String> batch = new ArrayList<>(batchSize);
+      while (batch.size() < batchSize && cursor.hasNext()) {
+        batch.add(cursor.next());
+      }
+      return batch;
+    }
+  }
 }
@@ -15,70 +15,333 @@
  */
 package com.lsadf.core.infra.valkey.cache.util;
 
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisOperations;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @UtilityClass
 @Slf4j
 public class ValkeyFlushUtils {
 
+  /**
+   * Hash mapping every game save of the processing sorted set to the instance owning its lease. Its
+   * key shares the hash tag of the {@link FlushStatus} keys.
+   */
+  public static final String PROCESSING_OWNERS_KEY = "{game-flush}:owners";
+
+  /** Plain set of the game saves being flushed, as used before the claims were leased */
+  public static final String LEGACY_PROCESSING_KEY = "game:processing_flush";
+
+  /** Pending flush sorted set, as named before the flush keys shared a hash tag */
+  public static final String UNTAGGED_PENDING_KEY = "game:pending_flush";
+
+  /** Processing sorted set, as named before the flush keys shared a hash tag */
+  public static final String UNTAGGED_PROCESSING_KEY = "game:processing_flush_claims";
+
+  /** Owners hash of the processing sorted set, as named before the flush keys shared a hash tag */
+  public static final String UNTAGGED_PROCESSING_OWNERS_KEY = "game:processing_flush_owners";
+
+  private static final String UNBOUNDED_SCORE = "+inf";
+  private static final String TAKE_OVER_OWNED = "1";
+  private static final String KEEP_OWNED = "0";
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_READY_ENTRIES_SCRIPT =
+      RedisScript.of(
+          new ClassPathResource("valkey/scripts/claim_ready_flush_entries.lua"), List.class);
+
+  private static final RedisScript<Long> RELEASE_LEASES_SCRIPT =
+      RedisScript.of(new ClassPathResource("valkey/scripts/release_flush_leases.lua"), Long.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RECLAIM_LEASES_SCRIPT =
+      RedisScript.of(new ClassPathResource("valkey/scripts/reclaim_flush_leases.lua"), List.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REQUEUE_EXPIRED_LEASES_SCRIPT =
+      RedisScript.of(
+          new ClassPathResource("valkey/scripts/requeue_expired_flush_leases.lua"), List.class);
+
+  /**
+   * Releases the lease held on a flushed game save, unless it has been taken over by another
+   * instance in the meantime.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param gameSaveId ID of the flushed game save
+   * @param lease Lease of the releasing instance
+   */
   public static void removeFromProcessing(
-      RedisTemplate<String, String> redisTemplate, String gameSaveId) {
+      RedisTemplate<String, String> redisTemplate, String gameSaveId, FlushLease lease) {
     try {
-      redisTemplate.opsForSet().remove(FlushStatus.PROCESSING.getKey(), gameSaveId);
+      release(redisTemplate, List.of(gameSaveId), lease);
     } catch (Exception e) {
       log.error("Error removing game save {} from processing set", gameSaveId, e);
     }
   }
 
   /**
-   * Moves a game save from the pending flush sorted set to the processing set using Redis
-   * MULTI/EXEC. This alternative implementation uses Redis transactions instead of Lua script.
+   * Releases the leases held on flushed game saves, except the ones taken over by another instance
+   * in the meantime.
    *
    * @param redisTemplate Redis template to use for operations
-   * @param gameSaveId ID of the game save to move
-   * @param currentTime Current time to compare against score in the sorted set
-   * @return true if the game save was moved successfully, false otherwise
+   * @param gameSaveIds IDs of the flushed game saves
+   * @param lease Lease of the releasing instance
    */
-  public static boolean moveToProcessingWithTransaction(
-      RedisTemplate<String, String> redisTemplate, String gameSaveId, long currentTime) {
+  public static void removeAllFromProcessing(
+      RedisTemplate<String, String> redisTemplate,
+      Collection<String> gameSaveIds,
+      FlushLease lease) {
+    if (gameSaveIds.isEmpty()) {
+      return;
+    }
     try {
-      return redisTemplate.execute(
-          new SessionCallback<>() {
-            @Override
-            @SuppressWarnings("unchecked")
-            public Boolean execute(RedisOperations operations) throws DataAccessException {
-              // First check the score to see if this entry should be processed
-              Double score =
-                  operations.opsForZSet().score(FlushStatus.PENDING.getKey(), gameSaveId);
-              if (score == null || score > currentTime) {
-                return false;
-              }
-
-              // Start transaction
-              operations.multi();
-
-              // Remove from sorted set and add to processing set
-              operations.opsForZSet().remove(FlushStatus.PENDING.getKey(), gameSaveId);
-              operations.opsForSet().add(FlushStatus.PROCESSING.getKey(), gameSaveId);
-
-              // Execute transaction
-              List<Object> results = operations.exec();
-              // Check if both operations were successful
-              var result1 = (Long) results.get(0);
-              var result2 = (Long) results.get(1);
-              return result1 == 1 && result2 == 1;
-            }
-          });
+      release(redisTemplate, gameSaveIds, lease);
     } catch (Exception e) {
-      log.error("Error moving game save {} to processing set using transaction", gameSaveId, e);
-      return false;
+      log.error("Error removing {} game saves from processing set", gameSaveIds.size(), e);
+    }
+  }
+
+  /**
+   * Atomically claims up to {@code limit} game saves of the pending flush sorted set whose score is
+   * lower than or equal to {@code currentTime}, and moves them to the processing sorted set under a
+   * lease of the given instance. The claim runs server-side in a single call, so several instances
+   * can drain the pending set concurrently without flushing the same game save twice.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param currentTime Current time, used both as the maximum score and as the lease start
+   * @param limit Maximum number of game saves to claim
+   * @param lease Lease granted on the claimed game saves
+   * @return the claimed game save IDs, mapped to their score in the pending flush sorted set
+   */
+  public static Map<String, Double> claimReadyEntries(
+      RedisTemplate<String, String> redisTemplate, long currentTime, int limit, FlushLease lease) {
+    return claim(redisTemplate, String.valueOf(currentTime), currentTime, limit, lease);
+  }
+
+  /**
+   * Atomically claims up to {@code limit} game saves of the pending flush sorted set, whatever
+   * their score, and moves them to the processing sorted set under a lease of the given instance.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param currentTime Current time, used as the lease start
+   * @param limit Maximum number of game saves to claim
+   * @param lease Lease granted on the claimed game saves
+   * @return the claimed game save IDs, mapped to their score in the pending flush sorted set
+   */
+  public static Map<String, Double> claimAllEntries(
+      RedisTemplate<String, String> redisTemplate, long currentTime, int limit, FlushLease lease) {
+    return claim(redisTemplate, UNBOUNDED_SCORE, currentTime, limit, lease);
+  }
+
+  /**
+   * Atomically takes over the leases of the given processing game saves that expired before
+   * {@code currentTime}, and, if {@code takeOverOwned} is set, the ones already owned by the
+   * instance of the given lease, as left behind by a previous run of the same instance. Leases
+   * still held by other instances are left untouched.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param gameSaveIds IDs of the processing game saves to take over
+   * @param currentTime Current time, used both to detect expired leases and as the lease start
+   * @param lease Lease granted on the reclaimed game saves
+   * @param takeOverOwned Whether to take over the leases already owned by the instance
+   * @return the IDs of the reclaimed game saves
+   */
+  public static List<String> reclaimLeases(
+      RedisTemplate<String, String> redisTemplate,
+      Collection<String> gameSaveIds,
+      long currentTime,
+      FlushLease lease,
+      boolean takeOverOwned) {
+    if (gameSaveIds.isEmpty()) {
+      return List.of();
+    }
+    List<Object> args = new ArrayList<>(gameSaveIds.size() + 4);
+    args.add(String.valueOf(currentTime));
+    args.add(String.valueOf(lease.expiresAt(currentTime)));
+    args.add(lease.ownerId());
+    args.add(takeOverOwned ? TAKE_OVER_OWNED : KEEP_OWNED);
+    args.addAll(gameSaveIds);
+    List<?> reclaimed =
+        redisTemplate.execute(
+            RECLAIM_LEASES_SCRIPT,
+            List.of(FlushStatus.PROCESSING.getKey(), PROCESSING_OWNERS_KEY),
+            args.toArray());
+    return toStrings(reclaimed);
+  }
+
+  /**
+   * Moves up to {@code limit} game saves of the processing sorted set whose lease expired before
+   * {@code currentTime} back to the pending flush sorted set, ready to be flushed right away.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param currentTime Current time, used both to detect expired leases and as the pending score
+   * @param limit Maximum number of game saves to re-queue
+   * @return the IDs of the re-queued game saves
+   */
+  public static List<String> requeueExpiredLeases(
+      RedisTemplate<String, String> redisTemplate, long currentTime, int limit) {
+    List<?> requeued =
+        redisTemplate.execute(
+            REQUEUE_EXPIRED_LEASES_SCRIPT,
+            List.of(
+                FlushStatus.PROCESSING.getKey(),
+                PROCESSING_OWNERS_KEY,
+                FlushStatus.PENDING.getKey()),
+            String.valueOf(currentTime),
+            String.valueOf(limit));
+    return toStrings(requeued);
+  }
+
+  /**
+   * Moves the game saves left in the legacy processing set by an older version back to the pending
+   * flush sorted set, ready to be flushed right away. Game saves already pending keep their score.
+   * The legacy set is drained page by page, and every page is added to the pending set before being
+   * removed from the legacy one, so an interrupted move loses no game save.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param currentTime Current time, used as the pending score
+   * @param batchSize Number of game saves moved per page
+   * @return the number of game saves moved
+   */
+  public static long requeueLegacyProcessingEntries(
+      RedisTemplate<String, String> redisTemplate, long currentTime, int batchSize) {
+    if (redisTemplate.type(LEGACY_PROCESSING_KEY) != DataType.SET) {
+      return 0;
+    }
+    long requeued = 0;
+    Set<String> gameSaveIds =
+        redisTemplate.opsForSet().distinctRandomMembers(LEGACY_PROCESSING_KEY, batchSize);
+    while (gameSaveIds != null && !gameSaveIds.isEmpty()) {
+      redisTemplate
+          .opsForZSet()
+          .addIfAbsent(FlushStatus.PENDING.getKey(), toTuples(gameSaveIds, currentTime));
+      redisTemplate.opsForSet().remove(LEGACY_PROCESSING_KEY, gameSaveIds.toArray());
+      requeued += gameSaveIds.size();
+      gameSaveIds =
+          redisTemplate.opsForSet().distinctRandomMembers(LEGACY_PROCESSING_KEY, batchSize);
+    }
+    return requeued;
+  }
+
+  /**
+   * Moves the game saves left under the flush keys used before they shared a hash tag to the
+   * current ones. Pending game saves keep their score, and processing ones are made ready to be
+   * flushed right away, their leases being dropped. Game saves already pending keep their score.
+   * Every page is added to the pending set before being removed from the untagged keys, so an
+   * interrupted move loses no game save.
+   *
+   * @param redisTemplate Redis template to use for operations
+   * @param currentTime Current time, used as the pending score of the processing game saves
+   * @param batchSize Number of game saves moved per page
+   * @return the number of game saves moved
+   */
+  public static long requeueUntaggedEntries(
+      RedisTemplate<String, String> redisTemplate, long currentTime, int batchSize) {
+    long requeued = 0;
+    Set<ZSetOperations.TypedTuple<String>> pendingEntries =
+        redisTemplate.opsForZSet().rangeWithScores(UNTAGGED_PENDING_KEY, 0, batchSize - 1L);
+    while (pendingEntries != null && !pendingEntries.isEmpty()) {
+      redisTemplate.opsForZSet().addIfAbsent(FlushStatus.PENDING.getKey(), pendingEntries);
+      redisTemplate
+          .opsForZSet()
+          .remove(
+              UNTAGGED_PENDING_KEY,
+              pendingEntries.stream().map(ZSetOperations.TypedTuple::getValue).toArray());
+      requeued += pendingEntries.size();
+      pendingEntries =
+          redisTemplate.opsForZSet().rangeWithScores(UNTAGGED_PENDING_KEY, 0, batchSize - 1L);
+    }
+
+    Set<String> processingIds =
+        redisTemplate.opsForZSet().range(UNTAGGED_PROCESSING_KEY, 0, batchSize - 1L);
+    while (processingIds != null && !processingIds.isEmpty()) {
+      redisTemplate
+          .opsForZSet()
+          .addIfAbsent(FlushStatus.PENDING.getKey(), toTuples(processingIds, currentTime));
+      redisTemplate.opsForZSet().remove(UNTAGGED_PROCESSING_KEY, processingIds.toArray());
+      redisTemplate.opsForHash().delete(UNTAGGED_PROCESSING_OWNERS_KEY, processingIds.toArray());
+      requeued += processingIds.size();
+      processingIds = redisTemplate.opsForZSet().range(UNTAGGED_PROCESSING_KEY, 0, batchSize - 1L);
+    }
+    return requeued;
+  }
+
+  private static Set<ZSetOperations.TypedTuple<String>> toTuples(
+      Collection<String> gameSaveIds, long score) {
+    Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+    for (String gameSaveId : gameSaveIds) {
+      entries.add(ZSetOperations.TypedTuple.of(gameSaveId, (double) score));
+    }
+    return entries;
+  }
+
+  private static Map<String, Double> claim(
+      RedisTemplate<String, String> redisTemplate,
+      String maxScore,
+      long currentTime,
+      int limit,
+      FlushLease lease) {
+    List<?> entries =
+        redisTemplate.execute(
+            CLAIM_READY_ENTRIES_SCRIPT,
+            List.of(
+                FlushStatus.PENDING.getKey(),
+                FlushStatus.PROCESSING.getKey(),
+                PROCESSING_OWNERS_KEY),
+            maxScore,
+            String.valueOf(lease.expiresAt(currentTime)),
+            String.valueOf(limit),
+            lease.ownerId());
+    Map<String, Double> claimed = new LinkedHashMap<>();
+    if (entries == null) {
+      return claimed;
+    }
+    for (int i = 0; i + 1 < entries.size(); i += 2) {
+      claimed.put(
+          String.valueOf(entries.get(i)), Double.valueOf(String.valueOf(entries.get(i + 1))));
+    }
+    return claimed;
+  }
+
+  private static void release(
+      RedisTemplate<String, String> redisTemplate,
+      Collection<String> gameSaveIds,
+      FlushLease lease) {
+    List<Object> args = new ArrayList<>(gameSaveIds.size() + 1);
+    args.add(lease.ownerId());
+    args.addAll(gameSaveIds);
+    Long released =
+        redisTemplate.execute(
+            RELEASE_LEASES_SCRIPT,
+            List.of(FlushStatus.PROCESSING.getKey(), PROCESSING_OWNERS_KEY),
+            args.toArray());
+    if (released != null && released < gameSaveIds.size()) {
+      log.warn(
+          "{} of {} flushed game saves were no longer leased by instance {}",
+          gameSaveIds.size() - released,
+          gameSaveIds.size(),
+          lease.ownerId());
+    }
+  }
+
+  private static List<String> toStrings(@Nullable List<?> values) {
+    if (values == null) {
+      return List.of();
     }
+    return values.stream().map(String::valueOf).toList();
   }
 }
@@ -16,14 +16,21 @@
 package com.lsadf.core.infra.valkey.config.cache;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
+import com.lsadf.core.infra.valkey.cache.adapter.game.inventory.NoOpInventoryCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.GameSaveSectionsCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics.NoOpCharacteristicsCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.NoOpCurrencyCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.NoOpGameMetadataCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.NoOpGameMetadataNegativeCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.stage.NoOpStageCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
 import com.lsadf.core.infra.valkey.cache.flush.impl.NoOpFlushServiceImpl;
 import com.lsadf.core.infra.valkey.cache.manager.NoOpCacheManager;
@@ -60,8 +67,27 @@ public class NoValkeyCacheConfiguration {
     return new NoOpStageCacheAdapter();
   }
 
+  @Bean
+  public GameSaveSectionsCachePort noOpGameSaveSectionsCachePort(
+      CharacteristicsCachePort characteristicsCachePort,
+      CurrencyCachePort currencyCachePort,
+      StageCachePort stageCachePort) {
+    return new GameSaveSectionsCacheAdapter(
+        characteristicsCachePort, currencyCachePort, stageCachePort, ExpirationPolicy.FIXED);
+  }
+
   @Bean
   public GameMetadataCachePort noOpGameMetadataCachePort() {
     return new NoOpGameMetadataCacheAdapter();
   }
+
+  @Bean
+  public GameMetadataNegativeCachePort noOpGameMetadataNegativeCachePort() {
+    return new NoOpGameMetadataNegativeCacheAdapter();
+  }
+
+  @Bean
+  public InventoryCachePort noOpInventoryCachePort() {
+    return new NoOpInventoryCacheAdapter();
+  }
 }
@@ -16,39 +16,69 @@
 package com.lsadf.core.infra.valkey.config.cache;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyCommandService;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.save.stage.StageCommandService;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
+import com.lsadf.core.domain.game.inventory.Item;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.domain.game.save.metadata.GameMetadata;
 import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.infra.valkey.ValkeyConstants;
+import com.lsadf.core.infra.valkey.ValkeyInstance;
+import com.lsadf.core.infra.valkey.cache.adapter.game.inventory.InventoryCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.inventory.NoOpInventoryCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics.CharacteristicsCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.CurrencyCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.GameMetadataCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.GameMetadataNegativeCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.stage.StageCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import com.lsadf.core.infra.valkey.cache.expiration.impl.ValkeyHotKeyPublisher;
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushRecoveryService;
 import com.lsadf.core.infra.valkey.cache.flush.impl.FlushRecoveryServiceImpl;
 import com.lsadf.core.infra.valkey.cache.flush.impl.RedisCacheFlushServiceImpl;
 import com.lsadf.core.infra.valkey.cache.listener.ValkeyRepositoryKeyExpirationListener;
 import com.lsadf.core.infra.valkey.cache.manager.ValkeyCacheManager;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyAdaptiveExpirationProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamPersistenceProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyInventoryCacheProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyPoolProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyProperties;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.api.StatefulConnection;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
@@ -62,6 +92,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class ValkeyCacheConfiguration {
 
   @Bean
+  @Primary
   public RedisTemplate<String, String> redisTemplate(
       RedisConnectionFactory redisConnectionFactory) {
     RedisTemplate<String, String> template = new StringRedisTemplate();
@@ -69,10 +100,38 @@ public class ValkeyCacheConfiguration {
     return template;
   }
 
+  /**
+   * Creates the template of the cache reads tolerating replication lag, sent through the
+   * connections following the configured read policy.
+   */
+  @Bean
+  public RedisTemplate<String, String> valkeyReadRedisTemplate(
+      @Qualifier("valkeyReadConnectionFactory")
+          RedisConnectionFactory valkeyReadConnectionFactory) {
+    RedisTemplate<String, String> template = new StringRedisTemplate();
+    template.setConnectionFactory(valkeyReadConnectionFactory);
+    return template;
+  }
+
+  @Bean
+  public ValkeyInstance valkeyInstance(ValkeyProperties valkeyProperties) {
+    return ValkeyInstance.of(valkeyProperties.getInstanceId());
+  }
+
+  @Bean
+  public FlushLease flushLease(
+      ValkeyInstance valkeyInstance,
+      ValkeyGameStreamPersistenceProperties valkeyGameStreamPersistenceProperties) {
+    return new FlushLease(
+        valkeyInstance.id(), valkeyGameStreamPersistenceProperties.getFlushLeaseMs());
+  }
+
   @Bean
   public FlushRecoveryService flushRecoveryService(
-      RedisTemplate<String, String> redisTemplate, CacheFlushService cacheFlushService) {
-    return new FlushRecoveryServiceImpl(redisTemplate, cacheFlushService);
+      RedisTemplate<String, String> redisTemplate,
+      CacheFlushService cacheFlushService,
+      FlushLease flushLease) {
+    return new FlushRecoveryServiceImpl(redisTemplate, cacheFlushService, flushLease);
   }
 
   @Bean
@@ -85,6 +144,57 @@ public class ValkeyCacheConfiguration {
     return template;
   }
 
+  @Bean
+  public RedisTemplate<String, Boolean> redisBooleanTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisTemplate<String, Boolean> template = new RedisTemplate<>();
+    template.setConnectionFactory(redisConnectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new GenericToStringSerializer<>(Boolean.class));
+    return template;
+  }
+
+  /**
+   * Creates the negative cache of the game metadata, recording the ids looked up without game save
+   * so that repeated lookups of unknown ids do not reach the database.
+   */
+  @Bean
+  public GameMetadataNegativeCachePort gameMetadataNegativeCachePort(
+      RedisTemplate<String, Boolean> redisBooleanTemplate,
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
+    return new GameMetadataNegativeCacheAdapter(
+        redisBooleanTemplate,
+        valkeyCacheExpirationProperties.getMissingGameMetadataExpirationSeconds());
+  }
+
+  @Bean
+  public RedisTemplate<String, Set<Item>> inventoryRedisTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisTemplate<String, Set<Item>> template = new RedisTemplate<>();
+    template.setConnectionFactory(redisConnectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+    return template;
+  }
+
+  /**
+   * Creates the cache of the inventory snapshots. It is optional: when disabled, every inventory
+   * read goes to the database.
+   */
+  @Bean
+  public InventoryCachePort inventoryCachePort(
+      RedisTemplate<String, Set<Item>> inventoryRedisTemplate,
+      RedisTemplate<String, String> redisTemplate,
+      ValkeyInventoryCacheProperties valkeyInventoryCacheProperties) {
+    if (!valkeyInventoryCacheProperties.isEnabled()) {
+      return new NoOpInventoryCacheAdapter();
+    }
+    return new InventoryCacheAdapter(
+        inventoryRedisTemplate,
+        redisTemplate,
+        valkeyInventoryCacheProperties.getExpirationSeconds());
+  }
+
   @Bean
   public RedisTemplate<String, GameMetadata> gameMetadataRedisTemplate(
       RedisConnectionFactory redisConnectionFactory) {
@@ -140,24 +250,134 @@ public class ValkeyCacheConfiguration {
       CurrencyCachePort currencyCache,
       StageCachePort stageCache,
       GameSessionCachePort gameSessionCache,
-      ValkeyProperties valkeyProperties) {
+      GameMetadataNegativeCachePort gameMetadataNegativeCache,
+      InventoryCachePort inventoryCache,
+      ValkeyProperties valkeyProperties,
+      RedisTemplate<String, String> redisTemplate) {
     return new ValkeyCacheManager(
         gameMetadataCache,
+        gameMetadataNegativeCache,
+        inventoryCache,
         characteristicsCache,
         currencyCache,
         stageCache,
         valkeyProperties,
-        gameSessionCache);
+        gameSessionCache,
+        redisTemplate);
+  }
+
+  /**
+   * Creates the publisher of the hot game saves counted by the adaptive expiration policy of the
+   * instance, so that the hot keys of every replica can be reported.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "valkey.cache.adaptive-expiration",
+      name = "enabled",
+      havingValue = "true")
+  public ValkeyHotKeyPublisher valkeyHotKeyPublisher(
+      RedisTemplate<String, String> redisTemplate,
+      ScheduledExecutorService hotKeyPublisherExecutorService,
+      ExpirationPolicy gameSaveExpirationPolicy,
+      ValkeyInstance valkeyInstance,
+      ValkeyAdaptiveExpirationProperties valkeyAdaptiveExpirationProperties) {
+    return new ValkeyHotKeyPublisher(
+        redisTemplate,
+        hotKeyPublisherExecutorService,
+        gameSaveExpirationPolicy,
+        valkeyInstance.id(),
+        valkeyAdaptiveExpirationProperties.getHotKeysCapacity(),
+        valkeyAdaptiveExpirationProperties.getPublishIntervalSeconds());
   }
 
+  /** Creates a scheduled executor service publishing the hot keys of the instance. */
   @Bean
-  public LettuceConnectionFactory redisConnectionFactory(ValkeyProperties valkeyProperties) {
-    RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
-    configuration.setHostName(valkeyProperties.getHost());
-    configuration.setPort(valkeyProperties.getPort());
-    configuration.setDatabase(valkeyProperties.getDatabase());
-    configuration.setPassword(valkeyProperties.getPassword());
-    return new LettuceConnectionFactory(configuration);
+  @ConditionalOnProperty(
+      prefix = "valkey.cache.adaptive-expiration",
+      name = "enabled",
+      havingValue = "true")
+  public ScheduledExecutorService hotKeyPublisherExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+  }
+
+  /**
+   * Creates the connection factory of the application. Every command sent through it, writes,
+   * scripts, streams and the reads of the flush included, goes to the primary.
+   */
+  @Bean
+  @Primary
+  public LettuceConnectionFactory redisConnectionFactory(
+      ValkeyProperties valkeyProperties, ValkeyPoolProperties valkeyPoolProperties) {
+    return connectionFactory(valkeyProperties, valkeyPoolProperties, null);
+  }
+
+  /**
+   * Creates the connection factory of the cache reads tolerating replication lag. Read-only
+   * commands sent through it follow the configured read policy, which can offload them to the
+   * replicas.
+   */
+  @Bean
+  public LettuceConnectionFactory valkeyReadConnectionFactory(
+      ValkeyProperties valkeyProperties, ValkeyPoolProperties valkeyPoolProperties) {
+    return connectionFactory(
+        valkeyProperties, valkeyPoolProperties, ReadFrom.valueOf(valkeyProperties.getReadFrom()));
+  }
+
+  private static LettuceConnectionFactory connectionFactory(
+      ValkeyProperties valkeyProperties,
+      ValkeyPoolProperties valkeyPoolProperties,
+      @Nullable ReadFrom readFrom) {
+    LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfiguration;
+    if (valkeyPoolProperties.isEnabled()) {
+      GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig =
+          new GenericObjectPoolConfig<>();
+      poolConfig.setMaxTotal(valkeyPoolProperties.getMaxActive());
+      poolConfig.setMaxIdle(valkeyPoolProperties.getMaxIdle());
+      poolConfig.setMinIdle(valkeyPoolProperties.getMinIdle());
+      poolConfig.setMaxWait(Duration.ofMillis(valkeyPoolProperties.getMaxWaitMs()));
+      clientConfiguration = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+    } else {
+      clientConfiguration = LettuceClientConfiguration.builder();
+    }
+    if (readFrom != null) {
+      clientConfiguration.readFrom(readFrom);
+    }
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(
+            redisConfiguration(valkeyProperties), clientConfiguration.build());
+    // Pooled connections are only used when the native connection is not shared
+    connectionFactory.setShareNativeConnection(!valkeyPoolProperties.isEnabled());
+    return connectionFactory;
+  }
+
+  private static RedisConfiguration redisConfiguration(ValkeyProperties valkeyProperties) {
+    return switch (valkeyProperties.getTopology()) {
+      case STANDALONE -> {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
+        configuration.setHostName(valkeyProperties.getHost());
+        configuration.setPort(valkeyProperties.getPort());
+        configuration.setDatabase(valkeyProperties.getDatabase());
+        configuration.setPassword(valkeyProperties.getPassword());
+        yield configuration;
+      }
+      case SENTINEL -> {
+        String master = valkeyProperties.getSentinelMaster();
+        if (master == null) {
+          throw new IllegalStateException("The sentinel topology requires a sentinel master");
+        }
+        RedisSentinelConfiguration configuration =
+            new RedisSentinelConfiguration(master, Set.copyOf(valkeyProperties.getNodes()));
+        configuration.setDatabase(valkeyProperties.getDatabase());
+        configuration.setPassword(valkeyProperties.getPassword());
+        yield configuration;
+      }
+      case CLUSTER -> {
+        RedisClusterConfiguration configuration =
+            new RedisClusterConfiguration(valkeyProperties.getNodes());
+        configuration.setPassword(valkeyProperties.getPassword());
+        yield configuration;
+      }
+    };
   }
 
   @Bean
@@ -181,7 +401,9 @@ public class ValkeyCacheConfiguration {
       CharacteristicsCachePort characteristicsCachePort,
       CurrencyCachePort currencyCachePort,
       StageCachePort stageCachePort,
-      RedisTemplate<String, String> redisTemplate) {
+      GameSaveSectionsCachePort gameSaveSectionsCachePort,
+      RedisTemplate<String, String> redisTemplate,
+      FlushLease flushLease) {
     return new RedisCacheFlushServiceImpl(
         characteristicsService,
         currencyService,
@@ -189,7 +411,9 @@ public class ValkeyCacheConfiguration {
         characteristicsCachePort,
         currencyCachePort,
         stageCachePort,
-        redisTemplate);
+        gameSaveSectionsCachePort,
+        redisTemplate,
+        flushLease);
   }
 
   @Bean
@@ -15,25 +15,47 @@
  */
 package com.lsadf.core.infra.valkey.config.cache;
 
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
 import com.lsadf.core.application.game.save.stage.StageCachePort;
 import com.lsadf.core.application.game.session.GameSessionCachePort;
+import com.lsadf.core.infra.valkey.ValkeyInstance;
+import com.lsadf.core.infra.valkey.cache.adapter.ConsolidatedGameSaveSectionsCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.GameSaveSectionsCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics.CharacteristicsCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics.CharacteristicsConsolidatedCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.CurrencyCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.CurrencyConsolidatedCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.GameMetadataCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.metadata.NearGameMetadataCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.save.stage.StageCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.stage.StageConsolidatedCacheAdapter;
 import com.lsadf.core.infra.valkey.cache.adapter.game.session.GameSessionCacheRepositoryAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.session.NearGameSessionCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import com.lsadf.core.infra.valkey.cache.expiration.impl.AdaptiveExpirationPolicy;
 import com.lsadf.core.infra.valkey.cache.game.session.GameSessionHashRepository;
 import com.lsadf.core.infra.valkey.cache.impl.save.characteristics.CharacteristicsHashRepository;
 import com.lsadf.core.infra.valkey.cache.impl.save.currency.CurrencyHashRepository;
 import com.lsadf.core.infra.valkey.cache.impl.save.metadata.GameMetadataHashRepository;
 import com.lsadf.core.infra.valkey.cache.impl.save.stage.StageHashRepository;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyAdaptiveExpirationProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyCacheExpirationProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyGameSaveCacheProperties;
+import com.lsadf.core.infra.valkey.config.properties.ValkeyNearCacheProperties;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 @Configuration
@@ -42,41 +64,242 @@ import org.springframework.data.redis.repository.configuration.EnableRedisReposi
     shadowCopy = RedisKeyValueAdapter.ShadowCopy.OFF,
     enableKeyspaceEvents = RedisKeyValueAdapter.EnableKeyspaceEvents.OFF)
 public class ValkeyCacheRepositoryConfiguration {
+  /**
+   * Creates the expiration policy of the game save caches. When adaptive expiration is enabled, the
+   * time to live of a game save is extended by how often it is read, up to the configured maximum.
+   */
+  @Bean
+  public ExpirationPolicy gameSaveExpirationPolicy(
+      ValkeyAdaptiveExpirationProperties valkeyAdaptiveExpirationProperties) {
+    if (!valkeyAdaptiveExpirationProperties.isEnabled()) {
+      return ExpirationPolicy.FIXED;
+    }
+    return new AdaptiveExpirationPolicy(
+        valkeyAdaptiveExpirationProperties.getMaxSeconds(),
+        valkeyAdaptiveExpirationProperties.getBaselineAccessCount(),
+        valkeyAdaptiveExpirationProperties.getSketchWidth(),
+        valkeyAdaptiveExpirationProperties.getHotKeysCapacity());
+  }
+
+  /**
+   * Creates the characteristics cache. When the game save cache is consolidated, characteristics
+   * are stored in the hash shared by all the sections of a game save, which expires after the
+   * longest expiration of the sections.
+   */
   @Bean
   public CharacteristicsCachePort characteristicsCachePort(
       CharacteristicsHashRepository characteristicsHashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    return new CharacteristicsCacheRepositoryAdapter(
-        characteristicsHashRepository, valkeyCacheExpirationProperties);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      ValkeyGameSaveCacheProperties valkeyGameSaveCacheProperties,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      RedisConverter redisConverter,
+      ExpirationPolicy gameSaveExpirationPolicy) {
+    CharacteristicsCachePort characteristicsCachePort =
+        new CharacteristicsCacheRepositoryAdapter(
+            characteristicsHashRepository,
+            valkeyCacheExpirationProperties,
+            redisTemplate,
+            valkeyReadRedisTemplate,
+            redisConverter,
+            gameSaveExpirationPolicy);
+    if (!valkeyGameSaveCacheProperties.isConsolidated()) {
+      return characteristicsCachePort;
+    }
+    return new CharacteristicsConsolidatedCacheAdapter(
+        redisTemplate,
+        valkeyReadRedisTemplate,
+        characteristicsCachePort,
+        valkeyGameSaveCacheProperties.isLegacyFallback(),
+        consolidatedExpirationSeconds(valkeyCacheExpirationProperties),
+        gameSaveExpirationPolicy);
   }
 
+  /**
+   * Creates the currency cache. When the game save cache is consolidated, currencies are stored in
+   * the hash shared by all the sections of a game save, which expires after the longest expiration
+   * of the sections.
+   */
   @Bean
   public CurrencyCachePort currencyCachePort(
       CurrencyHashRepository currencyHashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    return new CurrencyCacheRepositoryAdapter(
-        currencyHashRepository, valkeyCacheExpirationProperties);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      ValkeyGameSaveCacheProperties valkeyGameSaveCacheProperties,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      RedisConverter redisConverter,
+      ExpirationPolicy gameSaveExpirationPolicy) {
+    CurrencyCachePort currencyCachePort =
+        new CurrencyCacheRepositoryAdapter(
+            currencyHashRepository,
+            valkeyCacheExpirationProperties,
+            redisTemplate,
+            valkeyReadRedisTemplate,
+            redisConverter,
+            gameSaveExpirationPolicy);
+    if (!valkeyGameSaveCacheProperties.isConsolidated()) {
+      return currencyCachePort;
+    }
+    return new CurrencyConsolidatedCacheAdapter(
+        redisTemplate,
+        valkeyReadRedisTemplate,
+        currencyCachePort,
+        valkeyGameSaveCacheProperties.isLegacyFallback(),
+        consolidatedExpirationSeconds(valkeyCacheExpirationProperties),
+        gameSaveExpirationPolicy);
   }
 
+  /**
+   * Creates the game session cache. When the near cache is enabled, sessions are also kept in a
+   * bounded in-process cache, invalidated across instances through a Valkey channel.
+   */
   @Bean
   public GameSessionCachePort gameSessionCachePort(
       GameSessionHashRepository hashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    return new GameSessionCacheRepositoryAdapter(hashRepository, valkeyCacheExpirationProperties);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      ValkeyNearCacheProperties valkeyNearCacheProperties,
+      ValkeyInstance valkeyInstance,
+      RedisMessageListenerContainer keyExpirationListenerContainer,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      RedisConverter redisConverter) {
+    GameSessionCachePort gameSessionCachePort =
+        new GameSessionCacheRepositoryAdapter(
+            hashRepository,
+            valkeyCacheExpirationProperties,
+            redisTemplate,
+            valkeyReadRedisTemplate,
+            redisConverter);
+    if (!valkeyNearCacheProperties.isEnabled()) {
+      return gameSessionCachePort;
+    }
+    NearGameSessionCacheAdapter nearGameSessionCacheAdapter =
+        new NearGameSessionCacheAdapter(
+            gameSessionCachePort,
+            redisTemplate,
+            valkeyNearCacheProperties.getInvalidationChannel(),
+            valkeyInstance.id(),
+            valkeyNearCacheProperties.getMaximumSize(),
+            Duration.ofSeconds(valkeyNearCacheProperties.getExpireAfterWriteSeconds()));
+    keyExpirationListenerContainer.addMessageListener(
+        nearGameSessionCacheAdapter,
+        new ChannelTopic(valkeyNearCacheProperties.getInvalidationChannel()));
+    return nearGameSessionCacheAdapter;
   }
 
+  /**
+   * Creates the game metadata cache. When the near cache is enabled, metadata are also kept in a
+   * bounded in-process cache, invalidated across instances through a Valkey channel.
+   */
   @Bean
   public GameMetadataCachePort gameMetadataCachePort(
       GameMetadataHashRepository gameMetadataHashRepository,
-      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    return new GameMetadataCacheRepositoryAdapter(
-        gameMetadataHashRepository, valkeyCacheExpirationProperties);
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      ValkeyNearCacheProperties valkeyNearCacheProperties,
+      ValkeyInstance valkeyInstance,
+      RedisMessageListenerContainer keyExpirationListenerContainer,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      RedisConverter redisConverter) {
+    GameMetadataCachePort gameMetadataCachePort =
+        new GameMetadataCacheRepositoryAdapter(
+            gameMetadataHashRepository,
+            valkeyCacheExpirationProperties,
+            redisTemplate,
+            valkeyReadRedisTemplate,
+            redisConverter);
+    if (!valkeyNearCacheProperties.isEnabled()) {
+      return gameMetadataCachePort;
+    }
+    NearGameMetadataCacheAdapter nearGameMetadataCacheAdapter =
+        new NearGameMetadataCacheAdapter(
+            gameMetadataCachePort,
+            redisTemplate,
+            valkeyNearCacheProperties.getInvalidationChannel(),
+            valkeyInstance.id(),
+            valkeyNearCacheProperties.getMaximumSize(),
+            Duration.ofSeconds(valkeyNearCacheProperties.getExpireAfterWriteSeconds()));
+    keyExpirationListenerContainer.addMessageListener(
+        nearGameMetadataCacheAdapter,
+        new ChannelTopic(valkeyNearCacheProperties.getInvalidationChannel()));
+    return nearGameMetadataCacheAdapter;
   }
 
+  /**
+   * Creates the stage cache. When the game save cache is consolidated, stages are stored in the
+   * hash shared by all the sections of a game save, which expires after the longest expiration of
+   * the sections.
+   */
   @Bean
   public StageCachePort stageCachePort(
       StageHashRepository stageHashRepository,
+      ValkeyCacheExpirationProperties valkeyCacheExpirationProperties,
+      ValkeyGameSaveCacheProperties valkeyGameSaveCacheProperties,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      RedisConverter redisConverter,
+      ExpirationPolicy gameSaveExpirationPolicy) {
+    StageCachePort stageCachePort =
+        new StageCacheRepositoryAdapter(
+            stageHashRepository,
+            valkeyCacheExpirationProperties,
+            redisTemplate,
+            valkeyReadRedisTemplate,
+            redisConverter,
+            gameSaveExpirationPolicy);
+    if (!valkeyGameSaveCacheProperties.isConsolidated()) {
+      return stageCachePort;
+    }
+    return new StageConsolidatedCacheAdapter(
+        redisTemplate,
+        valkeyReadRedisTemplate,
+        stageCachePort,
+        valkeyGameSaveCacheProperties.isLegacyFallback(),
+        consolidatedExpirationSeconds(valkeyCacheExpirationProperties),
+        gameSaveExpirationPolicy);
+  }
+
+  /**
+   * Creates the reader of all the cached sections of game saves at once. When the game save cache
+   * is consolidated, the sections of a game save are read from its hash with a single HMGET.
+   */
+  @Bean
+  public GameSaveSectionsCachePort gameSaveSectionsCachePort(
+      CharacteristicsCachePort characteristicsCachePort,
+      CurrencyCachePort currencyCachePort,
+      StageCachePort stageCachePort,
+      RedisTemplate<String, String> redisTemplate,
+      @Qualifier("valkeyReadRedisTemplate") RedisTemplate<String, String> valkeyReadRedisTemplate,
+      ExpirationPolicy gameSaveExpirationPolicy) {
+    if (characteristicsCachePort instanceof CharacteristicsConsolidatedCacheAdapter characteristics
+        && currencyCachePort instanceof CurrencyConsolidatedCacheAdapter currency
+        && stageCachePort instanceof StageConsolidatedCacheAdapter stage) {
+      return new ConsolidatedGameSaveSectionsCacheAdapter(
+          redisTemplate,
+          valkeyReadRedisTemplate,
+          characteristics,
+          currency,
+          stage,
+          gameSaveExpirationPolicy);
+    }
+    return new GameSaveSectionsCacheAdapter(
+        characteristicsCachePort, currencyCachePort, stageCachePort, gameSaveExpirationPolicy);
+  }
+
+  /**
+   * Returns the expiration of the consolidated game save hash, shared by all its sections: the
+   * longest expiration of the sections, or no expiration if one of them never expires.
+   */
+  private static long consolidatedExpirationSeconds(
       ValkeyCacheExpirationProperties valkeyCacheExpirationProperties) {
-    return new StageCacheRepositoryAdapter(stageHashRepository, valkeyCacheExpirationProperties);
+    List<Integer> expirations =
+        List.of(
+            valkeyCacheExpirationProperties.getCharacteristicsExpirationSeconds(),
+            valkeyCacheExpirationProperties.getCurrencyExpirationSeconds(),
+            valkeyCacheExpirationProperties.getStageExpirationSeconds());
+    if (expirations.stream().anyMatch(expiration -> expiration <= 0)) {
+      return -1;
+    }
+    return Collections.max(expirations);
   }
 }
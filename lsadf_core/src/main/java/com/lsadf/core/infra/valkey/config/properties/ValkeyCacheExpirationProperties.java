@@ -27,5 +27,6 @@ public class ValkeyCacheExpirationProperties {
   private Integer currencyExpirationSeconds;
   private Integer stageExpirationSeconds;
   private Integer gameMetadataExpirationSeconds;
+  private Integer missingGameMetadataExpirationSeconds;
   private Integer gameSessionExpirationSeconds;
 }
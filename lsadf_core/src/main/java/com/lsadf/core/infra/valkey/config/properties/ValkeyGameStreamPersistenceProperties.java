@@ -27,4 +27,9 @@ import lombok.NoArgsConstructor;
 public class ValkeyGameStreamPersistenceProperties {
   @Positive @NotNull private Long debounceWindowMs;
   @Positive @NotNull private Long checkIntervalSeconds;
+  @Positive @NotNull private Integer flushBatchSize;
+  @Positive @NotNull private Integer flushPartitions;
+  @Positive @NotNull private Integer flushMaxConcurrency;
+  @Positive @NotNull private Long flushLeaseMs;
+  @Positive @NotNull private Long leaseReaperIntervalSeconds;
 }
@@ -15,7 +15,11 @@
  */
 package com.lsadf.core.infra.valkey.config.properties;
 
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -25,5 +29,27 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ValkeyGameStreamProperties {
   @NotEmpty private String streamKey;
+
+  /**
+   * Number of shards of the game stream. The groups of new shards are created from their first
+   * record, but the records left in the shards of the previous count are no longer read: before
+   * changing it, stop the producers and wait for the consumers to drain the stream.
+   */
+  @Positive @NotNull private Integer shards;
+
   @NotEmpty private String consumerGroup;
+  @NotEmpty private String deadLetterStreamKey;
+  @Positive @NotNull private Long deadLetterMaxLength;
+  @Positive @NotNull private Integer maxDeliveries;
+  @Positive @NotNull private Long pendingIdleMs;
+  @Positive @NotNull private Long pendingSweepIntervalSeconds;
+  @Positive @NotNull private Integer pendingSweepBatchSize;
+  private boolean batchConsumerEnabled;
+  @Positive @NotNull private Integer batchSize;
+  @Positive @NotNull private Long batchBlockMs;
+  @Positive @NotNull private Long trimIntervalSeconds;
+  @PositiveOrZero @NotNull private Long retentionMs;
+  @NotNull private ValkeyEventSerializationFormat serializationFormat;
+  private boolean coalescingEnabled;
+  @Positive @NotNull private Long coalescingWindowMs;
 }
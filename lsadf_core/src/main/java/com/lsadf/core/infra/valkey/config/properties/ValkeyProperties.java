@@ -15,9 +15,13 @@
  */
 package com.lsadf.core.infra.valkey.config.properties;
 
+import com.lsadf.core.infra.valkey.ValkeyTopology;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +33,23 @@ public class ValkeyProperties {
   private int database;
   private String password;
   private boolean embedded;
+
+  /**
+   * Stable identifier of this instance, such as the pod name; the random fallback changes on every
+   * restart.
+   */
+  @Nullable private String instanceId;
+
+  private ValkeyTopology topology = ValkeyTopology.STANDALONE;
+
+  /** Sentinel or cluster nodes, as host:port. */
+  private List<String> nodes = new ArrayList<>();
+
+  @Nullable private String sentinelMaster;
+
+  /**
+   * Read policy of the reads tolerating replication lag, as a Lettuce ReadFrom name such as
+   * upstream or replicaPreferred. Writes and every other read always go to the primary.
+   */
+  private String readFrom = "upstream";
 }
@@ -18,42 +18,32 @@ package com.lsadf.core.infra.valkey.config.stream;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsEventPublisherPort;
 import com.lsadf.core.application.game.save.currency.CurrencyEventPublisherPort;
 import com.lsadf.core.application.game.save.stage.StageEventPublisherPort;
-import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamProperties;
 import com.lsadf.core.infra.valkey.stream.adapter.CharacteristicsEventPublisherAdapter;
 import com.lsadf.core.infra.valkey.stream.adapter.CurrencyEventPublisherAdapter;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
 import com.lsadf.core.infra.valkey.stream.adapter.StageEventPublisherAdapter;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import tools.jackson.databind.ObjectMapper;
 
 @Configuration
 public class ValkeyStreamAdapterConfiguration {
   @Bean
   public CharacteristicsEventPublisherPort characteristicsEventPublisherPort(
-      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer,
-      ValkeyGameStreamProperties valkeyGameStreamProperties,
-      ObjectMapper objectMapper) {
-    return new CharacteristicsEventPublisherAdapter(
-        streamProducer, valkeyGameStreamProperties.getStreamKey(), objectMapper);
+      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer, StreamShards gameStreamShards) {
+    return new CharacteristicsEventPublisherAdapter(streamProducer, gameStreamShards);
   }
 
   @Bean
   public StageEventPublisherPort stageEventPublisherPort(
-      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer,
-      ValkeyGameStreamProperties valkeyGameStreamProperties,
-      ObjectMapper objectMapper) {
-    return new StageEventPublisherAdapter(
-        valkeyGameStreamProperties.getStreamKey(), streamProducer, objectMapper);
+      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer, StreamShards gameStreamShards) {
+    return new StageEventPublisherAdapter(gameStreamShards, streamProducer);
   }
 
   @Bean
   public CurrencyEventPublisherPort currencyEventPublisherPort(
-      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer,
-      ValkeyGameStreamProperties valkeyGameStreamProperties,
-      ObjectMapper objectMapper) {
-    return new CurrencyEventPublisherAdapter(
-        streamProducer, valkeyGameStreamProperties.getStreamKey(), objectMapper);
+      StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer, StreamShards gameStreamShards) {
+    return new CurrencyEventPublisherAdapter(streamProducer, gameStreamShards);
   }
 }
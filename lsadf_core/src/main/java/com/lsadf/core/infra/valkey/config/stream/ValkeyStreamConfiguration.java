@@ -16,11 +16,17 @@
 package com.lsadf.core.infra.valkey.config.stream;
 
 import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamProperties;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
 import com.lsadf.core.infra.valkey.stream.consumer.StreamConsumer;
+import com.lsadf.core.infra.valkey.stream.consumer.impl.ValkeyStreamBatchPoller;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.CompactGameValkeyEventSerializer;
 import com.lsadf.core.infra.valkey.stream.serializer.impl.GameValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.VersionedGameValkeyEventSerializer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -48,10 +54,25 @@ import tools.jackson.databind.ObjectMapper;
 @ConditionalOnProperty(prefix = "valkey.config", name = "enabled", havingValue = "true")
 public class ValkeyStreamConfiguration {
 
+  /** Creates the shards of the game stream, the records of a game save going to one shard. */
+  @Bean
+  public StreamShards gameStreamShards(ValkeyGameStreamProperties valkeyGameStreamProperties) {
+    return new StreamShards(
+        valkeyGameStreamProperties.getStreamKey(), valkeyGameStreamProperties.getShards());
+  }
+
+  /**
+   * Creates the serializer of the game stream events. Events are written with the configured
+   * format, and read with the format of their version header whatever the configured one.
+   */
   @Bean
   public ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> eventSerializer(
-      ObjectMapper objectMapper) {
-    return new GameValkeyEventSerializer(objectMapper);
+      ObjectMapper objectMapper, ValkeyGameStreamProperties valkeyGameStreamProperties) {
+    GameValkeyEventSerializer jsonSerializer = new GameValkeyEventSerializer(objectMapper);
+    return new VersionedGameValkeyEventSerializer(
+        valkeyGameStreamProperties.getSerializationFormat(),
+        jsonSerializer,
+        new CompactGameValkeyEventSerializer(jsonSerializer));
   }
 
   @Bean
@@ -74,19 +95,82 @@ public class ValkeyStreamConfiguration {
     return StreamMessageListenerContainer.create(connectionFactory, options);
   }
 
+  /** Subscribes the consumer to every shard of the game stream, through the group of each shard. */
   @Bean
-  public Subscription gameConsumerSubscription(
+  @ConditionalOnProperty(
+      prefix = "valkey.stream.game",
+      name = "batch-consumer-enabled",
+      havingValue = "false",
+      matchIfMissing = true)
+  public List<Subscription> gameConsumerSubscriptions(
       ValkeyGameStreamProperties valkeyGameStreamProperties,
+      StreamShards gameStreamShards,
       StreamMessageListenerContainer<String, MapRecord<String, String, String>> listenerContainer,
       StreamConsumer dataConsumer,
       RedisTemplate<String, String> redisTemplate) {
 
-    String streamKey = valkeyGameStreamProperties.getStreamKey();
     String groupName = valkeyGameStreamProperties.getConsumerGroup();
     String consumerName = dataConsumer.getId();
 
+    List<Subscription> subscriptions = new ArrayList<>();
+    for (String streamKey : gameStreamShards.keys()) {
+      createConsumerGroup(redisTemplate, streamKey, groupName);
+
+      // Records are acknowledged once handled, failed ones stay pending for the sweeper
+      subscriptions.add(
+          listenerContainer.receive(
+              Consumer.from(groupName, consumerName),
+              StreamOffset.create(streamKey, ReadOffset.lastConsumed()),
+              dataConsumer::consume));
+
+      log.info(
+          "Subscription created for consumer '{}' on group '{}', stream '{}'",
+          consumerName,
+          groupName,
+          streamKey);
+    }
+
+    listenerContainer.start();
+    return subscriptions;
+  }
+
+  /**
+   * Creates the poller reading the game stream in batches, used instead of the listener container
+   * subscription when batch consumption is enabled.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "valkey.stream.game",
+      name = "batch-consumer-enabled",
+      havingValue = "true")
+  public ValkeyStreamBatchPoller gameStreamBatchPoller(
+      ValkeyGameStreamProperties valkeyGameStreamProperties,
+      StreamShards gameStreamShards,
+      StreamConsumer dataConsumer,
+      RedisTemplate<String, String> redisTemplate) {
+    String groupName = valkeyGameStreamProperties.getConsumerGroup();
+
+    gameStreamShards
+        .keys()
+        .forEach(streamKey -> createConsumerGroup(redisTemplate, streamKey, groupName));
+
+    return new ValkeyStreamBatchPoller(
+        redisTemplate,
+        dataConsumer,
+        gameStreamShards.keys(),
+        groupName,
+        valkeyGameStreamProperties.getBatchSize(),
+        Duration.ofMillis(valkeyGameStreamProperties.getBatchBlockMs()));
+  }
+
+  /**
+   * Creates the consumer group of a shard from its first record, so that the records written to a
+   * shard before its group exists, as after the shard count changed, are consumed too.
+   */
+  private static void createConsumerGroup(
+      RedisTemplate<String, String> redisTemplate, String streamKey, String groupName) {
     try {
-      redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("$"), groupName);
+      redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), groupName);
       log.info("Consumer group '{}' created for stream '{}'", groupName, streamKey);
     } catch (RedisSystemException e) {
       if (e.getRootCause() != null
@@ -108,20 +192,5 @@ public class ValkeyStreamConfiguration {
           e.getMessage(),
           e);
     }
-
-    Subscription subscription =
-        listenerContainer.receiveAutoAck(
-            Consumer.from(groupName, consumerName),
-            StreamOffset.create(streamKey, ReadOffset.lastConsumed()),
-            dataConsumer::handleEvent);
-
-    log.info(
-        "Subscription created for consumer '{}' on group '{}', stream '{}'",
-        consumerName,
-        groupName,
-        streamKey);
-
-    listenerContainer.start();
-    return subscription;
   }
 }
@@ -15,20 +15,63 @@
  */
 package com.lsadf.core.infra.valkey.config.stream;
 
+import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamProperties;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
+import com.lsadf.core.infra.valkey.stream.producer.impl.CoalescingStreamProducer;
 import com.lsadf.core.infra.valkey.stream.producer.impl.ValkeyStreamProducer;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
 
 @Configuration
 public class ValkeyStreamProducerConfiguration {
+  /** Creates the producer of the game stream, appending every update as its own record. */
   @Bean
+  @ConditionalOnProperty(
+      prefix = "valkey.stream.game",
+      name = "coalescing-enabled",
+      havingValue = "false",
+      matchIfMissing = true)
   public StreamProducer<ValkeyGameSaveUpdatedEvent> gameSaveEventProducer(
       RedisTemplate<String, String> redisTemplate,
       ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> valkeyEventSerializer) {
     return new ValkeyStreamProducer<>(redisTemplate, valkeyEventSerializer);
   }
+
+  /**
+   * Creates the coalescing producer of the game stream, used instead of the plain producer when
+   * coalescing is enabled. The updates of a game save published within the coalescing window are
+   * merged into a single record, and the records of a window are appended to the stream in one
+   * pipelined batch.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "valkey.stream.game",
+      name = "coalescing-enabled",
+      havingValue = "true")
+  public StreamProducer<ValkeyGameSaveUpdatedEvent> coalescingGameSaveEventProducer(
+      RedisTemplate<String, String> redisTemplate,
+      ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> valkeyEventSerializer,
+      ScheduledExecutorService streamCoalescingExecutorService,
+      ValkeyGameStreamProperties valkeyGameStreamProperties) {
+    return new CoalescingStreamProducer(
+        new ValkeyStreamProducer<>(redisTemplate, valkeyEventSerializer),
+        streamCoalescingExecutorService,
+        valkeyGameStreamProperties.getCoalescingWindowMs());
+  }
+
+  /** Creates a scheduled executor service flushing the coalescing buffer of the game stream. */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "valkey.stream.game",
+      name = "coalescing-enabled",
+      havingValue = "true")
+  public ScheduledExecutorService streamCoalescingExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+  }
 }
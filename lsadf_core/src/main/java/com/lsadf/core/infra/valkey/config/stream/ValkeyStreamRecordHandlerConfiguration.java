@@ -26,7 +26,6 @@ import com.lsadf.core.infra.valkey.stream.consumer.handler.impl.EventHandlerRegi
 import com.lsadf.core.infra.valkey.stream.consumer.handler.impl.StageUpdateEventHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import tools.jackson.databind.ObjectMapper;
 
 @Configuration
 public class ValkeyStreamRecordHandlerConfiguration {
@@ -37,11 +36,10 @@ public class ValkeyStreamRecordHandlerConfiguration {
 
   @Bean
   public EventHandler characteristicsUpdateEventHandler(
-      ObjectMapper objectMapper,
       CharacteristicsCommandService characteristicsService,
       EventHandlerRegistry eventHandlerRegistry) {
     EventHandler characteristicsUpdateEventHandler =
-        new CharacteristicsUpdateEventHandler(characteristicsService, objectMapper);
+        new CharacteristicsUpdateEventHandler(characteristicsService);
     eventHandlerRegistry.registerHandler(
         characteristicsUpdateEventHandler.getEventType(), characteristicsUpdateEventHandler);
     return characteristicsUpdateEventHandler;
@@ -49,10 +47,8 @@ public class ValkeyStreamRecordHandlerConfiguration {
 
   @Bean
   public EventHandler stageUpdateEventHandler(
-      ObjectMapper objectMapper,
-      StageCommandService stageService,
-      EventHandlerRegistry eventHandlerRegistry) {
-    EventHandler stageUpdateEventHandler = new StageUpdateEventHandler(stageService, objectMapper);
+      StageCommandService stageService, EventHandlerRegistry eventHandlerRegistry) {
+    EventHandler stageUpdateEventHandler = new StageUpdateEventHandler(stageService);
     eventHandlerRegistry.registerHandler(
         stageUpdateEventHandler.getEventType(), stageUpdateEventHandler);
     return stageUpdateEventHandler;
@@ -60,11 +56,8 @@ public class ValkeyStreamRecordHandlerConfiguration {
 
   @Bean
   public EventHandler currencyUpdateEventHandler(
-      ObjectMapper objectMapper,
-      CurrencyCommandService currencyService,
-      EventHandlerRegistry eventHandlerRegistry) {
-    EventHandler currencyUpdateEventHandler =
-        new CurrencyUpdateEventHandler(currencyService, objectMapper);
+      CurrencyCommandService currencyService, EventHandlerRegistry eventHandlerRegistry) {
+    EventHandler currencyUpdateEventHandler = new CurrencyUpdateEventHandler(currencyService);
     eventHandlerRegistry.registerHandler(
         currencyUpdateEventHandler.getEventType(), currencyUpdateEventHandler);
     return currencyUpdateEventHandler;
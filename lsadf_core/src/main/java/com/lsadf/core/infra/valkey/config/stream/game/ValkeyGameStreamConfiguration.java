@@ -15,17 +15,32 @@
  */
 package com.lsadf.core.infra.valkey.config.stream.game;
 
+import com.lsadf.core.infra.valkey.ValkeyInstance;
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.scheduler.FlushScheduler;
 import com.lsadf.core.infra.valkey.cache.flush.scheduler.impl.FlushSchedulerImpl;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamPersistenceProperties;
 import com.lsadf.core.infra.valkey.config.properties.ValkeyGameStreamProperties;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
+import com.lsadf.core.infra.valkey.stream.consumer.PendingRecordsSweeper;
 import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandlerRegistry;
 import com.lsadf.core.infra.valkey.stream.consumer.impl.GameStreamConsumer;
+import com.lsadf.core.infra.valkey.stream.consumer.impl.ValkeyPendingRecordsSweeper;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.trimmer.StreamTrimmer;
+import com.lsadf.core.infra.valkey.stream.trimmer.impl.ValkeyStreamTrimmer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,23 +57,71 @@ public class ValkeyGameStreamConfiguration {
 
   /**
    * Creates a debounced persistence stream consumer that updates ZSET timestamps when game save
-   * events are received.
+   * events are received. The consumer is named after the instance, so the consumer group spreads
+   * the stream records across the replicas. The ids of the last records applied are kept as long as
+   * a record can stay pending before being dead-lettered: one idle time and one sweep interval per
+   * delivery.
    */
   @Bean
   public GameStreamConsumer debouncedPersistenceConsumer(
       RedisTemplate<String, String> redisTemplate,
       ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> gameValkeyEventSerializer,
       EventHandlerRegistry eventHandlerRegistry,
+      ValkeyInstance valkeyInstance,
       ValkeyGameStreamProperties valkeyGameStreamProperties,
       ValkeyGameStreamPersistenceProperties valkeyGameStreamPersistenceProperties) {
     return new GameStreamConsumer(
-        "game-stream-consumer",
+        "game-stream-consumer-" + valkeyInstance.id(),
         valkeyGameStreamProperties.getStreamKey(),
         valkeyGameStreamProperties.getConsumerGroup(),
         redisTemplate,
         gameValkeyEventSerializer,
         eventHandlerRegistry,
-        valkeyGameStreamPersistenceProperties.getDebounceWindowMs());
+        valkeyGameStreamPersistenceProperties.getDebounceWindowMs(),
+        Duration.ofMillis(valkeyGameStreamProperties.getPendingIdleMs())
+            .plusSeconds(valkeyGameStreamProperties.getPendingSweepIntervalSeconds())
+            .multipliedBy(valkeyGameStreamProperties.getMaxDeliveries()));
+  }
+
+  @Bean
+  public PendingRecordsSweeper gamePendingRecordsSweeper(
+      RedisTemplate<String, String> redisTemplate,
+      GameStreamConsumer debouncedPersistenceConsumer,
+      ScheduledExecutorService pendingRecordsSweeperExecutorService,
+      StreamShards gameStreamShards,
+      ValkeyGameStreamProperties valkeyGameStreamProperties) {
+    return new ValkeyPendingRecordsSweeper(
+        redisTemplate,
+        debouncedPersistenceConsumer,
+        pendingRecordsSweeperExecutorService,
+        gameStreamShards.keys(),
+        valkeyGameStreamProperties.getConsumerGroup(),
+        valkeyGameStreamProperties.getDeadLetterStreamKey(),
+        valkeyGameStreamProperties.getDeadLetterMaxLength(),
+        Duration.ofMillis(valkeyGameStreamProperties.getPendingIdleMs()),
+        valkeyGameStreamProperties.getMaxDeliveries(),
+        valkeyGameStreamProperties.getPendingSweepBatchSize(),
+        valkeyGameStreamProperties.getPendingSweepIntervalSeconds());
+  }
+
+  /**
+   * Creates the trimmer of the game stream. Only the records acknowledged by every consumer group
+   * are trimmed, so the stream stays bounded without losing records not consumed yet.
+   */
+  @Bean
+  public StreamTrimmer gameStreamTrimmer(
+      RedisTemplate<String, String> redisTemplate,
+      ScheduledExecutorService streamTrimmerExecutorService,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      StreamShards gameStreamShards,
+      ValkeyGameStreamProperties valkeyGameStreamProperties) {
+    return new ValkeyStreamTrimmer(
+        redisTemplate,
+        streamTrimmerExecutorService,
+        meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+        gameStreamShards.keys(),
+        Duration.ofMillis(valkeyGameStreamProperties.getRetentionMs()),
+        valkeyGameStreamProperties.getTrimIntervalSeconds());
   }
 
   @Bean
@@ -66,12 +129,45 @@ public class ValkeyGameStreamConfiguration {
       RedisTemplate<String, String> redisTemplate,
       CacheFlushService cacheFlushService,
       ScheduledExecutorService flushSchedulerExecutorService,
+      ExecutorService flushWorkerExecutorService,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      FlushLease flushLease,
       ValkeyGameStreamPersistenceProperties valkeyGameStreamPersistenceProperties) {
     return new FlushSchedulerImpl(
         redisTemplate,
         cacheFlushService,
         flushSchedulerExecutorService,
-        valkeyGameStreamPersistenceProperties.getCheckIntervalSeconds());
+        flushWorkerExecutorService,
+        meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+        valkeyGameStreamPersistenceProperties.getCheckIntervalSeconds(),
+        valkeyGameStreamPersistenceProperties.getFlushBatchSize(),
+        valkeyGameStreamPersistenceProperties.getFlushPartitions(),
+        flushLease,
+        valkeyGameStreamPersistenceProperties.getLeaseReaperIntervalSeconds());
+  }
+
+  /**
+   * Creates the bounded pool of virtual-thread workers flushing the partitions of a flush cycle.
+   * Every worker holds a database connection while flushing a batch, so the configured maximum
+   * concurrency is capped to half of the Hikari pool, leaving the other half to request traffic.
+   */
+  @Bean
+  public ExecutorService flushWorkerExecutorService(
+      ObjectProvider<DataSource> dataSource,
+      ValkeyGameStreamPersistenceProperties valkeyGameStreamPersistenceProperties) {
+    int concurrency =
+        flushConcurrency(
+            valkeyGameStreamPersistenceProperties.getFlushMaxConcurrency(),
+            dataSource.getIfAvailable());
+    return Executors.newFixedThreadPool(
+        concurrency, Thread.ofVirtual().name("flush-worker-", 0).factory());
+  }
+
+  private static int flushConcurrency(int maxConcurrency, @Nullable DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikariDataSource) {
+      return Math.max(1, Math.min(maxConcurrency, hikariDataSource.getMaximumPoolSize() / 2));
+    }
+    return maxConcurrency;
   }
 
   /**
@@ -82,4 +178,16 @@ public class ValkeyGameStreamConfiguration {
   public ScheduledExecutorService flushSchedulerExecutorService() {
     return Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
   }
+
+  /** Creates a scheduled executor service for the pending records sweeper of the game stream. */
+  @Bean
+  public ScheduledExecutorService pendingRecordsSweeperExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+  }
+
+  /** Creates a scheduled executor service for the trimmer of the game stream. */
+  @Bean
+  public ScheduledExecutorService streamTrimmerExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Shards of a stream, spreading its records over several keys so they hash to different cluster
+ * slots. Shard {@code i} of stream {@code key} is named {@code key:{i}}, the braces making the
+ * shard index the hash tag of the key. The records of a game save always go to the same shard,
+ * preserving their order. A single shard keeps the unsharded stream key.
+ *
+ * @param streamKey the key of the stream
+ * @param shardCount the number of shards of the stream
+ */
+public record StreamShards(String streamKey, int shardCount) {
+
+  public StreamShards {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("shard count must be positive: " + shardCount);
+    }
+  }
+
+  /**
+   * Returns the key of the shard holding the records of the given game save.
+   *
+   * @param gameSaveId the game save ID
+   * @return the key of the shard
+   */
+  public String keyOf(UUID gameSaveId) {
+    return keyOf(Math.floorMod(gameSaveId.hashCode(), shardCount));
+  }
+
+  /**
+   * Returns the keys of all the shards.
+   *
+   * @return the keys of the shards, by shard index
+   */
+  public List<String> keys() {
+    return IntStream.range(0, shardCount).mapToObj(this::keyOf).toList();
+  }
+
+  private String keyOf(int shard) {
+    return shardCount == 1 ? streamKey : streamKey + ":{" + shard + "}";
+  }
+}
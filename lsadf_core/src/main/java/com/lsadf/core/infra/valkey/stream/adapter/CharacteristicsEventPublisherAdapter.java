@@ -19,29 +19,28 @@ import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventT
 
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsEventPublisherPort;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.ObjectMapper;
 
 @RequiredArgsConstructor
 public class CharacteristicsEventPublisherAdapter implements CharacteristicsEventPublisherPort {
 
   private final StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer;
-  private final String streamKey;
-  private final ObjectMapper objectMapper;
+  private final StreamShards streamShards;
 
   @Override
   public void publishCharacteristicsUpdatedEvent(
       String userEmail, UUID gameSaveId, Characteristics characteristics, UUID gameSessionId) {
     Map<String, String> characteristicsMap =
-        objectMapper.convertValue(characteristics, new TypeReference<>() {});
+        GameSaveEventPayloads.fromCharacteristics(characteristics);
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent =
         new ValkeyGameSaveUpdatedEvent(
             CHARACTERISTICS_UPDATED, gameSaveId, userEmail, gameSessionId, characteristicsMap);
-    streamProducer.publishEvent(streamKey, valkeyGameSaveUpdatedEvent);
+    streamProducer.publishEvent(streamShards.keyOf(gameSaveId), valkeyGameSaveUpdatedEvent);
   }
 }
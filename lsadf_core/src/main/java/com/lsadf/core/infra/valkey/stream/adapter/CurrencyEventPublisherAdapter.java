@@ -19,28 +19,27 @@ import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventT
 
 import com.lsadf.core.application.game.save.currency.CurrencyEventPublisherPort;
 import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.ObjectMapper;
 
 @RequiredArgsConstructor
 public class CurrencyEventPublisherAdapter implements CurrencyEventPublisherPort {
 
   private final StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer;
-  private final String streamKey;
-  private final ObjectMapper objectMapper;
+  private final StreamShards streamShards;
 
   @Override
   public void publishCurrencyUpdatedEvent(
       String userEmail, UUID gameSaveId, Currency currency, UUID sessionId) {
-    Map<String, String> currencyMap = objectMapper.convertValue(currency, new TypeReference<>() {});
+    Map<String, String> currencyMap = GameSaveEventPayloads.fromCurrency(currency);
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent =
         new ValkeyGameSaveUpdatedEvent(
             CURRENCY_UPDATED, gameSaveId, userEmail, sessionId, currencyMap);
-    streamProducer.publishEvent(streamKey, valkeyGameSaveUpdatedEvent);
+    streamProducer.publishEvent(streamShards.keyOf(gameSaveId), valkeyGameSaveUpdatedEvent);
   }
 }
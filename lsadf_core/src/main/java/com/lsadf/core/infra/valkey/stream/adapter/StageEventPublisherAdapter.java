@@ -19,28 +19,27 @@ import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventT
 
 import com.lsadf.core.application.game.save.stage.StageEventPublisherPort;
 import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.stream.StreamShards;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.ObjectMapper;
 
 @RequiredArgsConstructor
 public class StageEventPublisherAdapter implements StageEventPublisherPort {
 
-  private final String streamKey;
+  private final StreamShards streamShards;
   private final StreamProducer<ValkeyGameSaveUpdatedEvent> streamProducer;
-  private final ObjectMapper objectMapper;
 
   @Override
   public void publishStageUpdatedEvent(
       String userEmail, UUID gameSaveId, Stage stage, UUID gameSessionId) {
-    Map<String, String> stageMap = objectMapper.convertValue(stage, new TypeReference<>() {});
+    Map<String, String> stageMap = GameSaveEventPayloads.fromStage(stage);
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent =
         new ValkeyGameSaveUpdatedEvent(
             STAGE_UPDATED, gameSaveId, userEmail, gameSessionId, stageMap);
-    streamProducer.publishEvent(streamKey, valkeyGameSaveUpdatedEvent);
+    streamProducer.publishEvent(streamShards.keyOf(gameSaveId), valkeyGameSaveUpdatedEvent);
   }
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.consumer;
+
+@FunctionalInterface
+public interface PendingRecordsSweeper {
+  /**
+   * Sweeps the pending entries list of the consumer group for records that stayed unacknowledged
+   * for too long, because their handling failed or because their consumer died. Such records are
+   * claimed and handled again, or moved to the dead-letter stream once they were delivered too
+   * many times.
+   */
+  void sweepPendingRecords();
+}
@@ -15,10 +15,36 @@
  */
 package com.lsadf.core.infra.valkey.stream.consumer;
 
+import java.util.List;
 import org.springframework.data.redis.connection.stream.MapRecord;
 
 public interface StreamConsumer {
   void handleEvent(MapRecord<String, String, String> mapRecord);
 
+  /**
+   * Handles a record read through the consumer group, and acknowledges it once handled. A record
+   * whose handling fails is left unacknowledged in the pending entries list of the group, to be
+   * retried or dead-lettered by the {@link PendingRecordsSweeper}.
+   *
+   * @param mapRecord the record to consume
+   * @return true if the record was handled and acknowledged, false otherwise
+   */
+  boolean consume(MapRecord<String, String, String> mapRecord);
+
+  /**
+   * Handles a batch of records read through the consumer group, and acknowledges the ones handled.
+   * Consumers should override this to apply the whole batch in as few round-trips as possible.
+   *
+   * @param mapRecords the records to consume, in stream order
+   * @return the number of records handled and acknowledged
+   */
+  default int consumeAll(List<MapRecord<String, String, String>> mapRecords) {
+    int consumed = 0;
+    for (MapRecord<String, String, String> mapRecord : mapRecords) {
+      if (consume(mapRecord)) consumed += 1;
+    }
+    return consumed;
+  }
+
   String getId();
 }
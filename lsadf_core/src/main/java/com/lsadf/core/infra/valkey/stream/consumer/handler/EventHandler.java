@@ -17,10 +17,24 @@ package com.lsadf.core.infra.valkey.stream.consumer.handler;
 
 import com.lsadf.core.shared.event.Event;
 import com.lsadf.core.shared.event.EventType;
+import java.util.List;
 import tools.jackson.core.JacksonException;
 
 public interface EventHandler {
   void handleEvent(Event event) throws JacksonException;
 
+  /**
+   * Handles several events of the handled type at once. Handlers backed by a remote store should
+   * override this to apply all the events in as few round-trips as possible.
+   *
+   * @param events the events to handle, in order
+   * @throws JacksonException if the payload of an event cannot be converted
+   */
+  default void handleEvents(List<Event> events) throws JacksonException {
+    for (Event event : events) {
+      handleEvent(event);
+    }
+  }
+
   EventType getEventType();
 }
@@ -21,21 +21,19 @@ import com.lsadf.core.application.game.save.characteristics.CharacteristicsComma
 import com.lsadf.core.application.game.save.characteristics.command.UpdateCacheCharacteristicsCommand;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandler;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.shared.event.Event;
 import com.lsadf.core.shared.event.EventType;
+import java.util.List;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
 
 public class CharacteristicsUpdateEventHandler implements EventHandler {
 
   private final CharacteristicsCommandService characteristicsService;
-  private final ObjectMapper objectMapper;
 
-  public CharacteristicsUpdateEventHandler(
-      CharacteristicsCommandService characteristicsService, ObjectMapper objectMapper) {
+  public CharacteristicsUpdateEventHandler(CharacteristicsCommandService characteristicsService) {
     this.characteristicsService = characteristicsService;
-    this.objectMapper = objectMapper;
   }
 
   @Override
@@ -45,14 +43,22 @@ public class CharacteristicsUpdateEventHandler implements EventHandler {
 
   @Override
   public void handleEvent(Event event) throws JacksonException {
+    characteristicsService.updateCacheCharacteristics(toCommand(event));
+  }
+
+  @Override
+  public void handleEvents(List<Event> events) throws JacksonException {
+    characteristicsService.updateCacheCharacteristicsBatch(
+        events.stream().map(this::toCommand).toList());
+  }
+
+  private UpdateCacheCharacteristicsCommand toCommand(Event event) {
     // string to map
 
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent = (ValkeyGameSaveUpdatedEvent) event;
     Characteristics characteristics =
-        objectMapper.convertValue(valkeyGameSaveUpdatedEvent.getPayload(), Characteristics.class);
-    var command =
-        UpdateCacheCharacteristicsCommand.fromCharacteristics(
-            valkeyGameSaveUpdatedEvent.getGameSaveId(), characteristics);
-    characteristicsService.updateCacheCharacteristics(command);
+        GameSaveEventPayloads.toCharacteristics(valkeyGameSaveUpdatedEvent.getPayload());
+    return UpdateCacheCharacteristicsCommand.fromCharacteristics(
+        valkeyGameSaveUpdatedEvent.getGameSaveId(), characteristics);
   }
 }
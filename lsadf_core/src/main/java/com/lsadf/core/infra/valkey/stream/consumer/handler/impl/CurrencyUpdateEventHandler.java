@@ -21,21 +21,19 @@ import com.lsadf.core.application.game.save.currency.CurrencyCommandService;
 import com.lsadf.core.application.game.save.currency.command.UpdateCacheCurrencyCommand;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandler;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.shared.event.Event;
 import com.lsadf.core.shared.event.EventType;
+import java.util.List;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
 
 public class CurrencyUpdateEventHandler implements EventHandler {
 
   private final CurrencyCommandService currencyService;
-  private final ObjectMapper objectMapper;
 
-  public CurrencyUpdateEventHandler(
-      CurrencyCommandService currencyService, ObjectMapper objectMapper) {
+  public CurrencyUpdateEventHandler(CurrencyCommandService currencyService) {
     this.currencyService = currencyService;
-    this.objectMapper = objectMapper;
   }
 
   @Override
@@ -45,12 +43,18 @@ public class CurrencyUpdateEventHandler implements EventHandler {
 
   @Override
   public void handleEvent(Event event) throws JacksonException {
+    currencyService.updateCacheCurrency(toCommand(event));
+  }
+
+  @Override
+  public void handleEvents(List<Event> events) throws JacksonException {
+    currencyService.updateCacheCurrencyBatch(events.stream().map(this::toCommand).toList());
+  }
+
+  private UpdateCacheCurrencyCommand toCommand(Event event) {
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent = (ValkeyGameSaveUpdatedEvent) event;
-    Currency currency =
-        objectMapper.convertValue(valkeyGameSaveUpdatedEvent.getPayload(), Currency.class);
-    UpdateCacheCurrencyCommand command =
-        UpdateCacheCurrencyCommand.fromCurrency(
-            valkeyGameSaveUpdatedEvent.getGameSaveId(), currency);
-    currencyService.updateCacheCurrency(command);
+    Currency currency = GameSaveEventPayloads.toCurrency(valkeyGameSaveUpdatedEvent.getPayload());
+    return UpdateCacheCurrencyCommand.fromCurrency(
+        valkeyGameSaveUpdatedEvent.getGameSaveId(), currency);
   }
 }
@@ -21,20 +21,19 @@ import com.lsadf.core.application.game.save.stage.StageCommandService;
 import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageCommand;
 import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandler;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.shared.event.Event;
 import com.lsadf.core.shared.event.EventType;
+import java.util.List;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
 
 public class StageUpdateEventHandler implements EventHandler {
 
   private final StageCommandService stageService;
-  private final ObjectMapper objectMapper;
 
-  public StageUpdateEventHandler(StageCommandService stageService, ObjectMapper objectMapper) {
+  public StageUpdateEventHandler(StageCommandService stageService) {
     this.stageService = stageService;
-    this.objectMapper = objectMapper;
   }
 
   @Override
@@ -44,10 +43,17 @@ public class StageUpdateEventHandler implements EventHandler {
 
   @Override
   public void handleEvent(Event event) throws JacksonException {
+    stageService.updateCacheStage(toCommand(event));
+  }
+
+  @Override
+  public void handleEvents(List<Event> events) throws JacksonException {
+    stageService.updateCacheStageBatch(events.stream().map(this::toCommand).toList());
+  }
+
+  private UpdateCacheStageCommand toCommand(Event event) {
     ValkeyGameSaveUpdatedEvent valkeyGameSaveUpdatedEvent = (ValkeyGameSaveUpdatedEvent) event;
-    Stage stage = objectMapper.convertValue(valkeyGameSaveUpdatedEvent.getPayload(), Stage.class);
-    UpdateCacheStageCommand command =
-        UpdateCacheStageCommand.fromStage(valkeyGameSaveUpdatedEvent.getGameSaveId(), stage);
-    stageService.updateCacheStage(command);
+    Stage stage = GameSaveEventPayloads.toStage(valkeyGameSaveUpdatedEvent.getPayload());
+    return UpdateCacheStageCommand.fromStage(valkeyGameSaveUpdatedEvent.getGameSaveId(), stage);
   }
 }
@@ -15,6 +15,7 @@
  */
 package com.lsadf.core.infra.valkey.stream.consumer.impl;
 
+import com.lsadf.core.infra.valkey.ValkeyConstants;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
 import com.lsadf.core.infra.valkey.stream.consumer.StreamConsumer;
 import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandler;
@@ -22,23 +23,60 @@ import com.lsadf.core.infra.valkey.stream.consumer.handler.EventHandlerRegistry;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.exception.EventHandlingException;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import com.lsadf.core.shared.event.Event;
+import com.lsadf.core.shared.event.EventType;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import tools.jackson.core.JacksonException;
 
 /**
  * Stream consumer that handles debounced persistence by managing ZSET timestamps for game save
  * entries that need to be flushed to the database.
+ *
+ * <p>The handlers write absolute values, so the records of a game save must be applied in stream
+ * order. A record may however be applied after a later one: when it was delivered to another
+ * consumer of the group, or when it is claimed back by the pending records sweeper. The id of the
+ * last record applied is thus kept by game save and event type, and a record that is not later than
+ * it is acknowledged without being applied. These ids are kept for {@code
+ * appliedRecordIdsRetention}, which must exceed the time a record can stay pending before being
+ * dead-lettered.
  */
 @Slf4j
 public class GameStreamConsumer extends ValkeyStreamConsumer implements StreamConsumer {
 
-  private final RedisTemplate<String, String> redisTemplate;
+  private static final byte[] SET_APPLIED_STREAM_IDS_SCRIPT =
+      RedisScript.of(new ClassPathResource("valkey/scripts/set_applied_stream_ids.lua"))
+          .getScriptAsString()
+          .getBytes(StandardCharsets.UTF_8);
+
+  private static final Comparator<RecordId> RECORD_ID_ORDER =
+      Comparator.comparing(RecordId::getTimestamp).thenComparing(RecordId::getSequence);
+
   private final ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> gameValkeyEventSerializer;
   private final long debounceWindowMs;
   private final EventHandlerRegistry handlerRegistry;
+  private final Duration appliedRecordIdsRetention;
 
   public GameStreamConsumer(
       String id,
@@ -47,12 +85,13 @@ public class GameStreamConsumer extends ValkeyStreamConsumer implements StreamCo
       RedisTemplate<String, String> redisTemplate,
       ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> gameValkeyEventSerializer,
       EventHandlerRegistry handlerRegistry,
-      long debounceWindowMs) {
-    super(id, streamKey, consumerGroup);
-    this.redisTemplate = redisTemplate;
+      long debounceWindowMs,
+      Duration appliedRecordIdsRetention) {
+    super(id, streamKey, consumerGroup, redisTemplate);
     this.handlerRegistry = handlerRegistry;
     this.gameValkeyEventSerializer = gameValkeyEventSerializer;
     this.debounceWindowMs = debounceWindowMs;
+    this.appliedRecordIdsRetention = appliedRecordIdsRetention;
   }
 
   @Override
@@ -80,6 +119,16 @@ public class GameStreamConsumer extends ValkeyStreamConsumer implements StreamCo
       throw new IllegalArgumentException(
           "No handler found for event type: " + event.getEventType());
     }
+    AppliedRecordKey appliedRecordKey = AppliedRecordKey.of(event);
+    RecordId lastAppliedId = lastAppliedIds(List.of(appliedRecordKey)).get(appliedRecordKey);
+    if (isOutdated(message.getId(), lastAppliedId)) {
+      log.info(
+          "Skipping record {} of game save {}, applied after record {}",
+          message.getId(),
+          event.getGameSaveId(),
+          lastAppliedId);
+      return;
+    }
     EventHandler handler = optionalHandler.get();
     try {
       handler.handleEvent(event);
@@ -87,12 +136,203 @@ public class GameStreamConsumer extends ValkeyStreamConsumer implements StreamCo
       log.error("Error handling event: {}", event, e);
       throw new EventHandlingException(e);
     }
+    setAppliedIds(List.of(new DeserializedRecord(message, event)));
 
     // Add/update the game save in ZSET with new flush timestamp
     // This resets the debounce window every time there's an update
     resetDebounceWindow(event);
   }
 
+  /**
+   * Consumes a batch of records at once. The updates of a game save carried by records of the same
+   * event type are coalesced field by field, the last record winning, so every game save is written
+   * once per event type. The coalesced updates of every event type are applied with a single batch
+   * call, and the debounce windows of all the updated game saves are reset with a single ZADD.
+   * Records that cannot be deserialized, or whose event type fails to apply, are left pending.
+   * Records older than the last record applied to their game save are acknowledged unapplied.
+   */
+  @Override
+  public int consumeAll(List<MapRecord<String, String, String>> mapRecords) {
+    List<DeserializedRecord> deserializedRecords = new ArrayList<>();
+    for (MapRecord<String, String, String> mapRecord : mapRecords) {
+      try {
+        deserializedRecords.add(
+            new DeserializedRecord(
+                mapRecord, gameValkeyEventSerializer.deserialize(mapRecord.getValue())));
+      } catch (Exception e) {
+        log.error("Error deserializing record {}, leaving it pending", mapRecord.getId(), e);
+      }
+    }
+    Map<AppliedRecordKey, RecordId> lastAppliedIds =
+        lastAppliedIds(
+            deserializedRecords.stream()
+                .map(deserializedRecord -> AppliedRecordKey.of(deserializedRecord.event()))
+                .distinct()
+                .toList());
+
+    Map<EventType, Map<UUID, ValkeyGameSaveUpdatedEvent>> coalescedEvents = new LinkedHashMap<>();
+    Map<EventType, List<DeserializedRecord>> records = new HashMap<>();
+    Map<String, List<RecordId>> handledRecordIds = new HashMap<>();
+    for (DeserializedRecord deserializedRecord : deserializedRecords) {
+      MapRecord<String, String, String> mapRecord = deserializedRecord.mapRecord();
+      ValkeyGameSaveUpdatedEvent event = deserializedRecord.event();
+      RecordId lastAppliedId = lastAppliedIds.get(AppliedRecordKey.of(event));
+      if (isOutdated(mapRecord.getId(), lastAppliedId)) {
+        log.info(
+            "Skipping record {} of game save {}, applied after record {}",
+            mapRecord.getId(),
+            event.getGameSaveId(),
+            lastAppliedId);
+        handledRecordIds
+            .computeIfAbsent(mapRecord.getStream(), stream -> new ArrayList<>())
+            .add(mapRecord.getId());
+        continue;
+      }
+      coalescedEvents
+          .computeIfAbsent(event.getEventType(), eventType -> new LinkedHashMap<>())
+          .merge(event.getGameSaveId(), event, ValkeyGameSaveUpdatedEvent::coalesce);
+      records
+          .computeIfAbsent(event.getEventType(), eventType -> new ArrayList<>())
+          .add(deserializedRecord);
+    }
+
+    Set<String> updatedGameSaveIds = new LinkedHashSet<>();
+    List<DeserializedRecord> appliedRecords = new ArrayList<>();
+    coalescedEvents.forEach(
+        (eventType, events) -> {
+          Optional<EventHandler> optionalHandler = handlerRegistry.getHandler(eventType);
+          if (optionalHandler.isEmpty()) {
+            log.error("No handler found for event type: {}", eventType);
+            return;
+          }
+          try {
+            optionalHandler.get().handleEvents(new ArrayList<Event>(events.values()));
+          } catch (Exception e) {
+            log.error("Error handling {} coalesced {} events", events.size(), eventType, e);
+            return;
+          }
+          events.keySet().forEach(gameSaveId -> updatedGameSaveIds.add(gameSaveId.toString()));
+          appliedRecords.addAll(records.get(eventType));
+          records
+              .get(eventType)
+              .forEach(
+                  deserializedRecord ->
+                      handledRecordIds
+                          .computeIfAbsent(
+                              deserializedRecord.mapRecord().getStream(),
+                              stream -> new ArrayList<>())
+                          .add(deserializedRecord.mapRecord().getId()));
+        });
+    if (handledRecordIds.isEmpty()) {
+      return 0;
+    }
+
+    if (!appliedRecords.isEmpty()) {
+      setAppliedIds(appliedRecords);
+      resetDebounceWindows(updatedGameSaveIds);
+    }
+    // The records of a batch may come from several shards of the stream
+    int handledRecords = 0;
+    for (Map.Entry<String, List<RecordId>> entry : handledRecordIds.entrySet()) {
+      redisTemplate
+          .opsForStream()
+          .acknowledge(entry.getKey(), consumerGroup, entry.getValue().toArray(RecordId[]::new));
+      handledRecords += entry.getValue().size();
+    }
+    log.debug(
+        "Consumed {} of {} records, updating {} game saves",
+        handledRecords,
+        mapRecords.size(),
+        updatedGameSaveIds.size());
+    return handledRecords;
+  }
+
+  /**
+   * Reads the ids of the last records applied, by game save and event type, with a single
+   * pipelined call.
+   */
+  private Map<AppliedRecordKey, RecordId> lastAppliedIds(Collection<AppliedRecordKey> keys) {
+    Map<AppliedRecordKey, RecordId> lastAppliedIds = new HashMap<>();
+    if (keys.isEmpty()) {
+      return lastAppliedIds;
+    }
+    List<AppliedRecordKey> orderedKeys = List.copyOf(keys);
+    List<Object> values =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (AppliedRecordKey key : orderedKeys) {
+                    connection
+                        .hashCommands()
+                        .hGet(rawString(key.hashKey()), rawString(key.eventType().getValue()));
+                  }
+                  return null;
+                });
+    for (int i = 0; i < orderedKeys.size() && i < values.size(); i++) {
+      if (values.get(i) instanceof String lastAppliedId) {
+        lastAppliedIds.put(orderedKeys.get(i), RecordId.of(lastAppliedId));
+      }
+    }
+    return lastAppliedIds;
+  }
+
+  /**
+   * Records the ids of the given applied records as the last ones applied to their game save, with
+   * pipelined calls of an atomic script that never moves an id backwards.
+   */
+  private void setAppliedIds(List<DeserializedRecord> appliedRecords) {
+    Map<String, Map<String, String>> idsByHashKey = new LinkedHashMap<>();
+    for (DeserializedRecord appliedRecord : appliedRecords) {
+      AppliedRecordKey key = AppliedRecordKey.of(appliedRecord.event());
+      idsByHashKey
+          .computeIfAbsent(key.hashKey(), hashKey -> new LinkedHashMap<>())
+          .merge(
+              key.eventType().getValue(),
+              appliedRecord.mapRecord().getId().getValue(),
+              (current, id) ->
+                  isOutdated(RecordId.of(id), RecordId.of(current)) ? current : id);
+    }
+    byte[] retentionMs = rawString(Long.toString(appliedRecordIdsRetention.toMillis()));
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              idsByHashKey.forEach(
+                  (hashKey, ids) -> {
+                    List<byte[]> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(rawString(hashKey));
+                    keysAndArgs.add(retentionMs);
+                    ids.forEach(
+                        (eventType, id) -> {
+                          keysAndArgs.add(rawString(eventType));
+                          keysAndArgs.add(rawString(id));
+                        });
+                    connection
+                        .scriptingCommands()
+                        .eval(
+                            SET_APPLIED_STREAM_IDS_SCRIPT,
+                            ReturnType.INTEGER,
+                            1,
+                            keysAndArgs.toArray(byte[][]::new));
+                  });
+              return null;
+            });
+  }
+
+  private static boolean isOutdated(RecordId recordId, @Nullable RecordId lastAppliedId) {
+    return lastAppliedId != null && RECORD_ID_ORDER.compare(recordId, lastAppliedId) <= 0;
+  }
+
+  private static byte[] rawString(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void resetDebounceWindows(Set<String> gameSaveIds) {
+    double flushTimestamp = (double) System.currentTimeMillis() + debounceWindowMs;
+    Set<TypedTuple<String>> entries = new LinkedHashSet<>();
+    gameSaveIds.forEach(gameSaveId -> entries.add(TypedTuple.of(gameSaveId, flushTimestamp)));
+    redisTemplate.opsForZSet().add(FlushStatus.PENDING.getKey(), entries);
+  }
+
   private void resetDebounceWindow(ValkeyGameSaveUpdatedEvent event) {
     String gameSaveId = event.getGameSaveId().toString();
     long currentTimestamp = System.currentTimeMillis();
@@ -104,4 +344,19 @@ public class GameStreamConsumer extends ValkeyStreamConsumer implements StreamCo
         flushTimestamp,
         debounceWindowMs);
   }
+
+  private record DeserializedRecord(
+      MapRecord<String, String, String> mapRecord, ValkeyGameSaveUpdatedEvent event) {}
+
+  /** The game save and event type the last applied record id is kept for. */
+  private record AppliedRecordKey(UUID gameSaveId, EventType eventType) {
+
+    private static AppliedRecordKey of(ValkeyGameSaveUpdatedEvent event) {
+      return new AppliedRecordKey(event.getGameSaveId(), event.getEventType());
+    }
+
+    private String hashKey() {
+      return ValkeyConstants.GAME_STREAM_APPLIED_IDS + gameSaveId;
+    }
+  }
 }
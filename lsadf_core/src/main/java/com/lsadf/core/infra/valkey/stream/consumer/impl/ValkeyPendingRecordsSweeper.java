@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.consumer.impl;
+
+import com.lsadf.core.infra.valkey.stream.consumer.PendingRecordsSweeper;
+import com.lsadf.core.infra.valkey.stream.consumer.StreamConsumer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Implementation of the {@link PendingRecordsSweeper} interface that periodically pages through the
+ * pending entries list of a consumer group, on every shard of the stream.
+ *
+ * <p>Entries idle for at least {@code minIdle} are claimed by this instance with an idle-guarded
+ * XCLAIM, so a record is only re-processed by one of the instances sweeping concurrently, and the
+ * record of a consumer that died with unacknowledged records is picked up by the survivors. The
+ * delivery count maintained by the server acts as retry counter: a record delivered {@code
+ * maxDeliveries} times is considered a poison record, copied to the dead-letter stream with its
+ * original id and delivery count, and acknowledged. The dead-letter stream is trimmed to about
+ * {@code deadLetterMaxLength} records after each sweep that fed it.
+ *
+ * <p>Once their pending records are claimed, the consumers left in the group by stopped instances
+ * are deleted, provided they stayed idle for {@code minIdle}: a running instance reads far more
+ * often, and an idle consumer deleted by mistake is created again by its next read.
+ */
+@Slf4j
+public class ValkeyPendingRecordsSweeper implements PendingRecordsSweeper {
+
+  public static final String DEAD_LETTER_SOURCE_ID = "deadLetterSourceId";
+  public static final String DEAD_LETTER_DELIVERY_COUNT = "deadLetterDeliveryCount";
+
+  private static final RedisScript<Long> DELETE_IDLE_CONSUMERS_SCRIPT =
+      RedisScript.of(
+          new ClassPathResource("valkey/scripts/delete_idle_stream_consumers.lua"), Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final StreamConsumer streamConsumer;
+  private final ScheduledExecutorService scheduler;
+  private final List<String> streamKeys;
+  private final String consumerGroup;
+  private final String deadLetterStreamKey;
+  private final long deadLetterMaxLength;
+  private final Duration minIdle;
+  private final long maxDeliveries;
+  private final int batchSize;
+  private final long sweepIntervalSeconds;
+
+  public ValkeyPendingRecordsSweeper(
+      RedisTemplate<String, String> redisTemplate,
+      StreamConsumer streamConsumer,
+      ScheduledExecutorService scheduler,
+      List<String> streamKeys,
+      String consumerGroup,
+      String deadLetterStreamKey,
+      long deadLetterMaxLength,
+      Duration minIdle,
+      long maxDeliveries,
+      int batchSize,
+      long sweepIntervalSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.streamConsumer = streamConsumer;
+    this.scheduler = scheduler;
+    this.streamKeys = List.copyOf(streamKeys);
+    this.consumerGroup = consumerGroup;
+    this.deadLetterStreamKey = deadLetterStreamKey;
+    this.deadLetterMaxLength = deadLetterMaxLength;
+    this.minIdle = minIdle;
+    this.maxDeliveries = maxDeliveries;
+    this.batchSize = batchSize;
+    this.sweepIntervalSeconds = sweepIntervalSeconds;
+  }
+
+  @PostConstruct
+  public void startSweeper() {
+    log.info(
+        "Starting pending records sweeper of streams {} with sweep interval of {} seconds",
+        streamKeys,
+        sweepIntervalSeconds);
+    scheduler.scheduleWithFixedDelay(
+        this::sweepPendingRecords, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stopSweeper() {
+    log.info("Stopping pending records sweeper of streams {}", streamKeys);
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void sweepPendingRecords() {
+    streamKeys.forEach(this::sweepPendingRecords);
+  }
+
+  private void sweepPendingRecords(String streamKey) {
+    try {
+      SweepResult result = new SweepResult();
+      Range<String> range = Range.unbounded();
+      PendingMessages pendingMessages;
+      do {
+        pendingMessages =
+            redisTemplate.opsForStream().pending(streamKey, consumerGroup, range, batchSize);
+        sweepPage(streamKey, pendingMessages, result);
+        if (!pendingMessages.isEmpty()) {
+          RecordId lastId = pendingMessages.get(pendingMessages.size() - 1).getId();
+          range = Range.rightUnbounded(Range.Bound.exclusive(lastId.getValue()));
+        }
+      } while (pendingMessages.size() >= batchSize);
+      deleteIdleConsumers(streamKey);
+
+      if (result.idle == 0) {
+        log.debug("No idle pending records found in stream {}", streamKey);
+        return;
+      }
+      if (result.deadLettered > 0) {
+        redisTemplate.opsForStream().trim(deadLetterStreamKey, deadLetterMaxLength, true);
+      }
+      log.info(
+          "Recovered {} of {} idle pending records and dead-lettered {} records of stream {}",
+          result.recovered,
+          result.claimed,
+          result.deadLettered,
+          streamKey);
+    } catch (Exception e) {
+      log.error("Error sweeping pending records of stream {}", streamKey, e);
+    }
+  }
+
+  /**
+   * Retries or dead-letters the idle records of one page of the pending entries list. Each page is
+   * handled before the next one is read, so the records behind a head of poison records are still
+   * swept.
+   */
+  private void sweepPage(String streamKey, PendingMessages pendingMessages, SweepResult result) {
+    List<RecordId> retryIds = new ArrayList<>();
+    Map<RecordId, Long> poisonDeliveryCounts = new LinkedHashMap<>();
+    for (PendingMessage pendingMessage : pendingMessages) {
+      if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+        continue;
+      }
+      if (pendingMessage.getTotalDeliveryCount() >= maxDeliveries) {
+        poisonDeliveryCounts.put(pendingMessage.getId(), pendingMessage.getTotalDeliveryCount());
+      } else {
+        retryIds.add(pendingMessage.getId());
+      }
+    }
+    result.idle += retryIds.size() + poisonDeliveryCounts.size();
+    if (!poisonDeliveryCounts.isEmpty()) {
+      result.deadLettered += deadLetter(streamKey, poisonDeliveryCounts);
+    }
+    List<MapRecord<String, String, String>> claimed = claim(streamKey, retryIds);
+    result.claimed += claimed.size();
+    for (MapRecord<String, String, String> mapRecord : claimed) {
+      if (streamConsumer.consume(mapRecord)) result.recovered += 1;
+    }
+  }
+
+  /**
+   * Claims the given poison records, copies them to the dead-letter stream and acknowledges them.
+   * Records claimed meanwhile by another instance are left to it.
+   */
+  private int deadLetter(String streamKey, Map<RecordId, Long> poisonDeliveryCounts) {
+    List<MapRecord<String, String, String>> claimed =
+        claim(streamKey, new ArrayList<>(poisonDeliveryCounts.keySet()));
+    for (MapRecord<String, String, String> mapRecord : claimed) {
+      Map<String, String> fields = new HashMap<>(mapRecord.getValue());
+      fields.put(DEAD_LETTER_SOURCE_ID, mapRecord.getId().getValue());
+      fields.put(
+          DEAD_LETTER_DELIVERY_COUNT,
+          String.valueOf(poisonDeliveryCounts.getOrDefault(mapRecord.getId(), maxDeliveries)));
+      redisTemplate
+          .opsForStream()
+          .add(StreamRecords.mapBacked(fields).withStreamKey(deadLetterStreamKey));
+      redisTemplate.opsForStream().acknowledge(consumerGroup, mapRecord);
+      log.warn(
+          "Moved record {} of stream {} to dead-letter stream {} after {} deliveries",
+          mapRecord.getId(),
+          streamKey,
+          deadLetterStreamKey,
+          fields.get(DEAD_LETTER_DELIVERY_COUNT));
+    }
+    return claimed.size();
+  }
+
+  /**
+   * Deletes the consumers of the group idle for {@code minIdle} and without pending records, with
+   * an atomic script so that a consumer reading meanwhile keeps its records.
+   */
+  private void deleteIdleConsumers(String streamKey) {
+    Long deleted =
+        redisTemplate.execute(
+            DELETE_IDLE_CONSUMERS_SCRIPT,
+            List.of(streamKey),
+            consumerGroup,
+            String.valueOf(minIdle.toMillis()),
+            streamConsumer.getId());
+    if (deleted != null && deleted > 0) {
+      log.info("Deleted {} idle consumers of stream {}", deleted, streamKey);
+    }
+  }
+
+  private List<MapRecord<String, String, String>> claim(
+      String streamKey, List<RecordId> recordIds) {
+    if (recordIds.isEmpty()) {
+      return List.of();
+    }
+    return redisTemplate
+        .<String, String>opsForStream()
+        .claim(
+            streamKey,
+            consumerGroup,
+            streamConsumer.getId(),
+            XClaimOptions.minIdle(minIdle).ids(recordIds));
+  }
+
+  /** Counters of one sweep of a stream, summed over the pages of its pending entries list. */
+  private static final class SweepResult {
+    private int idle;
+    private int claimed;
+    private int recovered;
+    private int deadLettered;
+  }
+}
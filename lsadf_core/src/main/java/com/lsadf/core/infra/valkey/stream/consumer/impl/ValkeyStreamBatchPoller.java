@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.consumer.impl;
+
+import com.lsadf.core.infra.valkey.stream.consumer.StreamConsumer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Polls streams on behalf of a consumer group member, reading up to {@code batchSize} records per
+ * blocking XREADGROUP and handing them to {@link StreamConsumer#consumeAll(List)} at once, so the
+ * consumer can coalesce the updates of a batch instead of handling records one by one. Every stream
+ * is polled by its own thread, as the shards of a stream may live on different cluster nodes.
+ */
+@Slf4j
+public class ValkeyStreamBatchPoller {
+
+  private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final StreamConsumer streamConsumer;
+  private final List<String> streamKeys;
+  private final String consumerGroup;
+  private final int batchSize;
+  private final Duration blockTimeout;
+
+  private final List<Thread> pollingThreads = new ArrayList<>();
+  private volatile boolean running;
+
+  public ValkeyStreamBatchPoller(
+      RedisTemplate<String, String> redisTemplate,
+      StreamConsumer streamConsumer,
+      List<String> streamKeys,
+      String consumerGroup,
+      int batchSize,
+      Duration blockTimeout) {
+    this.redisTemplate = redisTemplate;
+    this.streamConsumer = streamConsumer;
+    this.streamKeys = List.copyOf(streamKeys);
+    this.consumerGroup = consumerGroup;
+    this.batchSize = batchSize;
+    this.blockTimeout = blockTimeout;
+  }
+
+  @PostConstruct
+  public void startPolling() {
+    log.info(
+        "Starting batch polling of streams {} by consumer {} with batches of {} records",
+        streamKeys,
+        streamConsumer.getId(),
+        batchSize);
+    running = true;
+    for (String streamKey : streamKeys) {
+      pollingThreads.add(
+          Thread.ofVirtual()
+              .name("stream-batch-poller-" + streamKey)
+              .start(() -> pollLoop(streamKey)));
+    }
+  }
+
+  @PreDestroy
+  public void stopPolling() {
+    log.info("Stopping batch polling of streams {}", streamKeys);
+    running = false;
+    try {
+      // Let the in-flight batches complete, their records are acknowledged once handled
+      for (Thread thread : pollingThreads) {
+        thread.join(blockTimeout.plus(ERROR_BACKOFF));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Reads and consumes one batch of records of the given stream.
+   *
+   * @param streamKey the key of the stream
+   * @return the number of records read
+   */
+  public int pollOnce(String streamKey) {
+    List<MapRecord<String, String, String>> mapRecords =
+        redisTemplate
+            .<String, String>opsForStream()
+            .read(
+                Consumer.from(consumerGroup, streamConsumer.getId()),
+                StreamReadOptions.empty().count(batchSize).block(blockTimeout),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+    if (mapRecords == null || mapRecords.isEmpty()) {
+      return 0;
+    }
+    int consumed = streamConsumer.consumeAll(mapRecords);
+    if (consumed < mapRecords.size()) {
+      log.warn(
+          "{} of {} records of stream {} left pending for a retry",
+          mapRecords.size() - consumed,
+          mapRecords.size(),
+          streamKey);
+    }
+    return mapRecords.size();
+  }
+
+  private void pollLoop(String streamKey) {
+    while (running) {
+      try {
+        pollOnce(streamKey);
+      } catch (Exception e) {
+        log.error("Error polling stream {}, backing off", streamKey, e);
+        try {
+          Thread.sleep(ERROR_BACKOFF);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+}
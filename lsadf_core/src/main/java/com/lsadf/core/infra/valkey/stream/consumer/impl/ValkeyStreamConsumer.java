@@ -20,6 +20,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
 
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,4 +30,21 @@ public abstract class ValkeyStreamConsumer implements StreamConsumer {
   @Getter protected final String id;
   protected final String streamKey;
   protected final String consumerGroup;
+  protected final RedisTemplate<String, String> redisTemplate;
+
+  @Override
+  public boolean consume(MapRecord<String, String, String> mapRecord) {
+    try {
+      handleEvent(mapRecord);
+    } catch (Exception e) {
+      log.error(
+          "Error handling record {} of stream {}, leaving it pending for a retry",
+          mapRecord.getId(),
+          streamKey,
+          e);
+      return false;
+    }
+    redisTemplate.opsForStream().acknowledge(consumerGroup, mapRecord);
+    return true;
+  }
 }
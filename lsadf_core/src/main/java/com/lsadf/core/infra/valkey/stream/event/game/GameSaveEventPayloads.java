@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.event.game;
+
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility class converting the sections of a game save to and from the payload of the game save
+ * events. Every property is read or written directly as a field of the payload, named after the
+ * property, with its decimal value, or null when the property is unset.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GameSaveEventPayloads {
+
+  /** Fields of the payload of the currency updates, in the order of the currency properties. */
+  public static final List<String> CURRENCY_FIELDS =
+      List.of("gold", "diamond", "emerald", "amethyst");
+
+  /** Fields of the payload of the stage updates, in the order of the stage properties. */
+  public static final List<String> STAGE_FIELDS = List.of("currentStage", "maxStage", "wave");
+
+  /**
+   * Fields of the payload of the characteristics updates, in the order of the characteristics
+   * properties.
+   */
+  public static final List<String> CHARACTERISTICS_FIELDS =
+      List.of("attack", "critChance", "critDamage", "health", "resistance");
+
+  public static Map<String, String> fromCurrency(Currency currency) {
+    return toPayload(
+        CURRENCY_FIELDS,
+        currency.gold(),
+        currency.diamond(),
+        currency.emerald(),
+        currency.amethyst());
+  }
+
+  public static Currency toCurrency(Map<String, String> payload) {
+    List<@Nullable Long> values = fromPayload(CURRENCY_FIELDS, payload);
+    return new Currency(values.get(0), values.get(1), values.get(2), values.get(3));
+  }
+
+  public static Map<String, String> fromStage(Stage stage) {
+    return toPayload(STAGE_FIELDS, stage.currentStage(), stage.maxStage(), stage.wave());
+  }
+
+  public static Stage toStage(Map<String, String> payload) {
+    List<@Nullable Long> values = fromPayload(STAGE_FIELDS, payload);
+    return new Stage(values.get(0), values.get(1), values.get(2));
+  }
+
+  public static Map<String, String> fromCharacteristics(Characteristics characteristics) {
+    return toPayload(
+        CHARACTERISTICS_FIELDS,
+        characteristics.attack(),
+        characteristics.critChance(),
+        characteristics.critDamage(),
+        characteristics.health(),
+        characteristics.resistance());
+  }
+
+  public static Characteristics toCharacteristics(Map<String, String> payload) {
+    List<@Nullable Long> values = fromPayload(CHARACTERISTICS_FIELDS, payload);
+    return new Characteristics(
+        values.get(0), values.get(1), values.get(2), values.get(3), values.get(4));
+  }
+
+  private static Map<String, String> toPayload(List<String> fields, @Nullable Long... values) {
+    Map<String, String> payload = HashMap.newHashMap(fields.size());
+    for (int i = 0; i < fields.size(); i++) {
+      Long value = values[i];
+      payload.put(fields.get(i), value == null ? null : value.toString());
+    }
+    return payload;
+  }
+
+  /**
+   * Reads the values of the given fields of a payload.
+   *
+   * @throws NumberFormatException if a value is not a decimal number
+   */
+  private static List<@Nullable Long> fromPayload(
+      List<String> fields, Map<String, String> payload) {
+    List<@Nullable Long> values = new ArrayList<>(fields.size());
+    for (String field : fields) {
+      String value = payload.get(field);
+      values.add(value == null ? null : Long.valueOf(value));
+    }
+    return values;
+  }
+}
@@ -19,6 +19,7 @@ import com.lsadf.core.shared.event.AEvent;
 import com.lsadf.core.shared.event.Event;
 import com.lsadf.core.shared.event.EventType;
 import java.io.Serial;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import lombok.*;
@@ -47,6 +48,32 @@ public class ValkeyGameSaveUpdatedEvent extends AEvent implements Event {
     this.payload = payload;
   }
 
+  /**
+   * Coalesces this update of a game save with a later update of the same game save: the payload
+   * fields set by the later update override the ones of this update, the fields it leaves unset are
+   * kept.
+   *
+   * @param latest the later update
+   * @return the coalesced update
+   */
+  public ValkeyGameSaveUpdatedEvent coalesce(ValkeyGameSaveUpdatedEvent latest) {
+    Map<String, String> coalescedPayload = new HashMap<>(payload);
+    latest
+        .getPayload()
+        .forEach(
+            (field, value) -> {
+              if (value != null) {
+                coalescedPayload.put(field, value);
+              }
+            });
+    return new ValkeyGameSaveUpdatedEvent(
+        latest.getEventType(),
+        latest.getGameSaveId(),
+        latest.getUserId(),
+        latest.getGameSessionId(),
+        coalescedPayload);
+  }
+
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   public static final class GameSaveEventAttributes {
     public static final String GAME_SAVE_ID = "gameSaveId";
@@ -16,9 +16,31 @@
 package com.lsadf.core.infra.valkey.stream.producer;
 
 import com.lsadf.core.shared.event.Event;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.redis.connection.stream.RecordId;
 
 @FunctionalInterface
 public interface StreamProducer<T extends Event> {
+  /**
+   * Publishes an event to a stream.
+   *
+   * @param streamKey the key of the stream
+   * @param event the event to publish
+   * @return the id of the published record, or null if the event is buffered to be published later
+   */
+  @Nullable
   RecordId publishEvent(String streamKey, T event);
+
+  /**
+   * Publishes events to their streams. The default implementation publishes them one by one;
+   * implementations can override it to publish them in a single round-trip.
+   *
+   * @param eventsByStreamKey the events to publish, grouped by the key of their stream
+   */
+  default void publishEvents(Map<String, List<T>> eventsByStreamKey) {
+    eventsByStreamKey.forEach(
+        (streamKey, events) -> events.forEach(event -> publishEvent(streamKey, event)));
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.producer.impl;
+
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
+import com.lsadf.core.shared.event.EventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+/**
+ * Decorator of a {@link StreamProducer} coalescing the game save updates published within a short
+ * window before handing them to the delegate producer.
+ *
+ * <p>Updates are buffered per stream, game save and event type, and an update replaces the
+ * buffered one while keeping the fields it leaves unset, so a burst of updates of the same game
+ * save produces a single stream record. The buffer is flushed every {@code window} as one batch
+ * of the delegate, and drained a last time on shutdown. A failed flush puts the events back in the
+ * buffer, behind any update buffered in the meantime, to be retried on the next window.
+ */
+@Slf4j
+public class CoalescingStreamProducer implements StreamProducer<ValkeyGameSaveUpdatedEvent> {
+
+  private final StreamProducer<ValkeyGameSaveUpdatedEvent> delegate;
+  private final ScheduledExecutorService scheduler;
+  private final long windowMs;
+  private final ReentrantLock lock = new ReentrantLock();
+  private Map<BufferKey, ValkeyGameSaveUpdatedEvent> buffer = new LinkedHashMap<>();
+  private boolean closed;
+
+  public CoalescingStreamProducer(
+      StreamProducer<ValkeyGameSaveUpdatedEvent> delegate,
+      ScheduledExecutorService scheduler,
+      long windowMs) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+    this.windowMs = windowMs;
+  }
+
+  @PostConstruct
+  public void startFlusher() {
+    log.info("Starting coalescing stream producer with a window of {} ms", windowMs);
+    scheduler.scheduleWithFixedDelay(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stopFlusher() {
+    log.info("Stopping coalescing stream producer, draining buffered events");
+    lock.lock();
+    try {
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    lock.lock();
+    try {
+      if (!buffer.isEmpty()) {
+        log.error("Could not drain {} buffered events on shutdown", buffer.size());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Buffers the event until the next flush. Once the producer is stopped, events are published
+   * directly to the delegate.
+   *
+   * @return the id of the published record once the producer is stopped, null otherwise
+   */
+  @Override
+  public @Nullable RecordId publishEvent(String streamKey, ValkeyGameSaveUpdatedEvent event) {
+    lock.lock();
+    try {
+      if (!closed) {
+        buffer.merge(
+            new BufferKey(streamKey, event.getGameSaveId(), event.getEventType()),
+            event,
+            ValkeyGameSaveUpdatedEvent::coalesce);
+        return null;
+      }
+    } finally {
+      lock.unlock();
+    }
+    return delegate.publishEvent(streamKey, event);
+  }
+
+  /** Publishes all the buffered events to the delegate as one batch. */
+  public void flush() {
+    Map<BufferKey, ValkeyGameSaveUpdatedEvent> flushed;
+    lock.lock();
+    try {
+      if (buffer.isEmpty()) {
+        return;
+      }
+      flushed = buffer;
+      buffer = new LinkedHashMap<>();
+    } finally {
+      lock.unlock();
+    }
+
+    Map<String, List<ValkeyGameSaveUpdatedEvent>> eventsByStreamKey = new LinkedHashMap<>();
+    flushed.forEach(
+        (bufferKey, event) ->
+            eventsByStreamKey
+                .computeIfAbsent(bufferKey.streamKey(), streamKey -> new ArrayList<>())
+                .add(event));
+    try {
+      delegate.publishEvents(eventsByStreamKey);
+      log.debug("Published {} coalesced events", flushed.size());
+    } catch (Exception e) {
+      log.error("Error publishing {} coalesced events, retrying on next flush", flushed.size(), e);
+      rebuffer(flushed);
+    }
+  }
+
+  private void rebuffer(Map<BufferKey, ValkeyGameSaveUpdatedEvent> flushed) {
+    lock.lock();
+    try {
+      Map<BufferKey, ValkeyGameSaveUpdatedEvent> newer = buffer;
+      buffer = new LinkedHashMap<>(flushed);
+      newer.forEach(
+          (bufferKey, event) ->
+              buffer.merge(bufferKey, event, ValkeyGameSaveUpdatedEvent::coalesce));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private record BufferKey(String streamKey, UUID gameSaveId, EventType eventType) {}
+}
@@ -19,9 +19,14 @@ import com.lsadf.core.infra.valkey.stream.exception.EventHandlingException;
 import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
 import com.lsadf.core.shared.event.Event;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import tools.jackson.core.JacksonException;
 
@@ -52,4 +57,47 @@ public class ValkeyStreamProducer<T extends Event> implements StreamProducer<T>
       throw e;
     }
   }
+
+  /**
+   * Serializes all the events first, then appends them to their streams with pipelined XADD calls,
+   * so a batch of events costs a single round-trip.
+   */
+  @Override
+  public void publishEvents(Map<String, List<T>> eventsByStreamKey) {
+    List<ByteRecord> byteRecords = new ArrayList<>();
+    eventsByStreamKey.forEach(
+        (streamKey, events) -> {
+          byte[] rawStreamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+          for (T event : events) {
+            byteRecords.add(
+                StreamRecords.rawBytes(rawEventData(streamKey, event)).withStreamKey(rawStreamKey));
+          }
+        });
+    if (byteRecords.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              byteRecords.forEach(byteRecord -> connection.streamCommands().xAdd(byteRecord));
+              return null;
+            });
+  }
+
+  private Map<byte[], byte[]> rawEventData(String streamKey, T event) {
+    try {
+      Map<byte[], byte[]> rawEventData = new LinkedHashMap<>();
+      valkeyEventSerializer
+          .serialize(event)
+          .forEach(
+              (field, value) ->
+                  rawEventData.put(
+                      field.getBytes(StandardCharsets.UTF_8),
+                      value.getBytes(StandardCharsets.UTF_8)));
+      return rawEventData;
+    } catch (JacksonException e) {
+      log.error("JsonProcessingException error serializing event for stream {}", streamKey, e);
+      throw new EventHandlingException(e);
+    }
+  }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.serializer;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+/** Encoding formats of the events written to the streams, identified by a version header. */
+@Getter
+public enum ValkeyEventSerializationFormat {
+  /** Every attribute in its own field, the payload as a nested JSON document. */
+  JSON("1"),
+  /** Every attribute and payload value packed in a single field, in a fixed order. */
+  COMPACT("2");
+
+  /**
+   * Field of a stream record holding the version of its format. Records without it were written
+   * before formats were versioned, with the JSON format.
+   */
+  public static final String VERSION_FIELD = "v";
+
+  ValkeyEventSerializationFormat(String version) {
+    this.version = version;
+  }
+
+  private final String version;
+
+  public static ValkeyEventSerializationFormat fromVersion(@Nullable String version) {
+    if (version == null) {
+      return JSON;
+    }
+    for (var format : values()) {
+      if (format.version.equals(version)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("event serialization version not found: " + version);
+  }
+}
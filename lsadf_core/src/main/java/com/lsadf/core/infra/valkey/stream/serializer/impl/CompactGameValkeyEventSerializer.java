@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.serializer.impl;
+
+import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.CHARACTERISTICS_UPDATED;
+import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.CURRENCY_UPDATED;
+import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.STAGE_UPDATED;
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.COMPACT;
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.VERSION_FIELD;
+
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType;
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+
+/**
+ * Serializes game save events with the compact format: the attributes of the event and the values
+ * of its payload are packed in a fixed order in a single field of the stream record, next to the
+ * version header. The names of the payload fields are implied by the event type, so neither they
+ * nor a nested JSON document are written, and reading an event back involves no JSON parsing.
+ *
+ * <p>Events the compact format cannot represent exactly, because their payload holds a field
+ * unknown to their event type, an empty value or a value containing the separator, are written with
+ * the JSON format instead.
+ */
+@RequiredArgsConstructor
+public class CompactGameValkeyEventSerializer
+    implements ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> {
+
+  public static final String DATA_FIELD = "d";
+
+  private static final char SEPARATOR = '\u001F';
+  private static final int HEADER_SIZE = 5;
+  private static final Map<ValkeyGameSaveEventType, List<String>> PAYLOAD_LAYOUTS =
+      new EnumMap<>(
+          Map.of(
+              CURRENCY_UPDATED,
+              GameSaveEventPayloads.CURRENCY_FIELDS,
+              STAGE_UPDATED,
+              GameSaveEventPayloads.STAGE_FIELDS,
+              CHARACTERISTICS_UPDATED,
+              GameSaveEventPayloads.CHARACTERISTICS_FIELDS));
+
+  private final GameValkeyEventSerializer jsonSerializer;
+
+  @Override
+  public Map<String, String> serialize(ValkeyGameSaveUpdatedEvent event) throws JacksonException {
+    List<String> layout = PAYLOAD_LAYOUTS.get(event.getEventType());
+    if (layout == null || !isPackable(event, layout)) {
+      return jsonSerializer.serialize(event);
+    }
+    StringBuilder data = new StringBuilder(128);
+    data.append(event.getEventType().getValue())
+        .append(SEPARATOR)
+        .append(event.getGameSaveId())
+        .append(SEPARATOR)
+        .append(event.getUserId())
+        .append(SEPARATOR)
+        .append(event.getTimestamp())
+        .append(SEPARATOR);
+    if (event.getGameSessionId() != null) {
+      data.append(event.getGameSessionId());
+    }
+    for (String field : layout) {
+      data.append(SEPARATOR);
+      String value = event.getPayload().get(field);
+      if (value != null) {
+        data.append(value);
+      }
+    }
+
+    Map<String, String> map = HashMap.newHashMap(2);
+    map.put(VERSION_FIELD, COMPACT.getVersion());
+    map.put(DATA_FIELD, data.toString());
+    return map;
+  }
+
+  @Override
+  public ValkeyGameSaveUpdatedEvent deserialize(Map<String, String> map) {
+    String data = map.get(DATA_FIELD);
+    if (data == null) {
+      throw new IllegalArgumentException("compact event data not found");
+    }
+    List<String> values = split(data);
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.enumFromString(values.getFirst());
+    List<String> layout = PAYLOAD_LAYOUTS.get(eventType);
+    if (layout == null || values.size() != HEADER_SIZE + layout.size()) {
+      throw new IllegalArgumentException("malformed compact event of type: " + eventType);
+    }
+    UUID gameSaveId = UUID.fromString(values.get(1));
+    String userId = values.get(2);
+    String gameSessionId = values.get(4);
+    Map<String, String> payload = HashMap.newHashMap(layout.size());
+    for (int i = 0; i < layout.size(); i++) {
+      payload.put(layout.get(i), emptyToNull(values.get(HEADER_SIZE + i)));
+    }
+
+    return new ValkeyGameSaveUpdatedEvent(
+        eventType,
+        gameSaveId,
+        userId,
+        gameSessionId.isEmpty() ? null : UUID.fromString(gameSessionId),
+        payload);
+  }
+
+  private static boolean isPackable(ValkeyGameSaveUpdatedEvent event, List<String> layout) {
+    if (event.getUserId().indexOf(SEPARATOR) >= 0) {
+      return false;
+    }
+    for (Map.Entry<String, String> entry : event.getPayload().entrySet()) {
+      String value = entry.getValue();
+      if (!layout.contains(entry.getKey())
+          || (value != null && (value.isEmpty() || value.indexOf(SEPARATOR) >= 0))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<String> split(String data) {
+    List<String> values = new ArrayList<>();
+    int start = 0;
+    int end;
+    while ((end = data.indexOf(SEPARATOR, start)) >= 0) {
+      values.add(data.substring(start, end));
+      start = end + 1;
+    }
+    values.add(data.substring(start));
+    return values;
+  }
+
+  private static @Nullable String emptyToNull(String value) {
+    return value.isEmpty() ? null : value;
+  }
+}
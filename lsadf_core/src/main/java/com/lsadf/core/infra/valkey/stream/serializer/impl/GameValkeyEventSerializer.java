@@ -16,6 +16,8 @@
 package com.lsadf.core.infra.valkey.stream.serializer.impl;
 
 import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent.GameSaveEventAttributes.*;
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.JSON;
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.VERSION_FIELD;
 import static com.lsadf.core.shared.event.AEvent.EventAttributes.EVENT_TYPE;
 import static com.lsadf.core.shared.event.AEvent.EventAttributes.TIMESTAMP;
 
@@ -39,7 +41,8 @@ public class GameValkeyEventSerializer
 
   @Override
   public Map<String, String> serialize(ValkeyGameSaveUpdatedEvent event) throws JacksonException {
-    Map<String, String> map = HashMap.newHashMap(5);
+    Map<String, String> map = HashMap.newHashMap(7);
+    map.put(VERSION_FIELD, JSON.getVersion());
     map.put(EVENT_TYPE, event.getEventType().getValue());
     map.put(GAME_SAVE_ID, event.getGameSaveId().toString());
     map.put(USER_ID, event.getUserId());
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.serializer.impl;
+
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.VERSION_FIELD;
+
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat;
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.core.JacksonException;
+
+/**
+ * Serializes game save events with the configured format, and deserializes every event with the
+ * format named by its version header. Instances configured with different formats can therefore
+ * share a stream, which allows switching formats with a rolling deployment.
+ */
+@RequiredArgsConstructor
+public class VersionedGameValkeyEventSerializer
+    implements ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> {
+
+  private final ValkeyEventSerializationFormat format;
+  private final GameValkeyEventSerializer jsonSerializer;
+  private final CompactGameValkeyEventSerializer compactSerializer;
+
+  @Override
+  public Map<String, String> serialize(ValkeyGameSaveUpdatedEvent event) throws JacksonException {
+    return serializerOf(format).serialize(event);
+  }
+
+  @Override
+  public ValkeyGameSaveUpdatedEvent deserialize(Map<String, String> map) throws JacksonException {
+    return serializerOf(ValkeyEventSerializationFormat.fromVersion(map.get(VERSION_FIELD)))
+        .deserialize(map);
+  }
+
+  private ValkeyEventSerializer<ValkeyGameSaveUpdatedEvent> serializerOf(
+      ValkeyEventSerializationFormat format) {
+    return switch (format) {
+      case JSON -> jsonSerializer;
+      case COMPACT -> compactSerializer;
+    };
+  }
+}
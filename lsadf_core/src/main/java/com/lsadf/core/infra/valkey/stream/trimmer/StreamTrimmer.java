@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.trimmer;
+
+@FunctionalInterface
+public interface StreamTrimmer {
+  /**
+   * Trims the entries of the stream that every consumer group has read and acknowledged, keeping
+   * the entries of the retention window. Entries not yet delivered to a group, or still pending in
+   * one, are never trimmed.
+   */
+  void trimStream();
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.valkey.stream.trimmer.impl;
+
+import com.lsadf.core.infra.valkey.stream.trimmer.StreamTrimmer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoStream;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Implementation of the {@link StreamTrimmer} interface that periodically trims every shard of a
+ * stream with an approximate XTRIM MINID.
+ *
+ * <p>The trimming point is computed server-side from the consumer groups of the stream: the oldest
+ * entry still pending in a group, or the last entry delivered to it, so only entries every group
+ * has acknowledged are trimmed. A non-zero {@code retention} additionally keeps the acknowledged
+ * entries younger than it, for inspection. The length of every shard, the number of entries pending
+ * across its groups and the lag of its slowest group are refreshed every cycle and exposed as
+ * gauges tagged with the key of the shard.
+ */
+@Slf4j
+public class ValkeyStreamTrimmer implements StreamTrimmer {
+
+  private static final String STREAM_LENGTH_METRIC = "lsadf.stream.length";
+  private static final String STREAM_PENDING_METRIC = "lsadf.stream.pending";
+  private static final String STREAM_LAG_METRIC = "lsadf.stream.consumer.lag";
+  private static final String STREAM_TAG = "stream";
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TRIM_CONSUMED_ENTRIES_SCRIPT =
+      RedisScript.of(
+          new ClassPathResource("valkey/scripts/trim_consumed_stream_entries.lua"), List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ScheduledExecutorService scheduler;
+  private final List<String> streamKeys;
+  private final Duration retention;
+  private final long trimIntervalSeconds;
+  private final Map<String, StreamMetrics> streamMetrics = new LinkedHashMap<>();
+
+  public ValkeyStreamTrimmer(
+      RedisTemplate<String, String> redisTemplate,
+      ScheduledExecutorService scheduler,
+      MeterRegistry meterRegistry,
+      List<String> streamKeys,
+      Duration retention,
+      long trimIntervalSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.scheduler = scheduler;
+    this.streamKeys = List.copyOf(streamKeys);
+    this.retention = retention;
+    this.trimIntervalSeconds = trimIntervalSeconds;
+    streamKeys.forEach(
+        streamKey -> streamMetrics.put(streamKey, registerStreamMetrics(meterRegistry, streamKey)));
+  }
+
+  @PostConstruct
+  public void startTrimmer() {
+    log.info(
+        "Starting trimmer of streams {} with trim interval of {} seconds and retention of {}",
+        streamKeys,
+        trimIntervalSeconds,
+        retention);
+    scheduler.scheduleWithFixedDelay(
+        this::trimStream, trimIntervalSeconds, trimIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stopTrimmer() {
+    log.info("Stopping trimmer of streams {}", streamKeys);
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void trimStream() {
+    String retentionFloor =
+        retention.isZero()
+            ? ""
+            : RecordId.of(System.currentTimeMillis() - retention.toMillis(), 0L).getValue();
+    streamKeys.forEach(streamKey -> trimStream(streamKey, retentionFloor));
+  }
+
+  private void trimStream(String streamKey, String retentionFloor) {
+    try {
+      List<?> result =
+          redisTemplate.execute(TRIM_CONSUMED_ENTRIES_SCRIPT, List.of(streamKey), retentionFloor);
+      if (result == null || result.isEmpty()) {
+        log.debug("Stream {} has no consumer group, skipping trimming", streamKey);
+      } else {
+        log.debug(
+            "Trimmed {} entries of stream {} older than {}",
+            result.get(0),
+            streamKey,
+            result.get(1));
+      }
+      refreshStreamMetrics(streamKey, streamMetrics.get(streamKey));
+    } catch (Exception e) {
+      log.error("Error trimming stream {}", streamKey, e);
+    }
+  }
+
+  private void refreshStreamMetrics(String streamKey, StreamMetrics metrics) {
+    if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+      metrics.length().set(0);
+      metrics.pending().set(0);
+      metrics.lagMs().set(0);
+      return;
+    }
+    XInfoStream info = redisTemplate.opsForStream().info(streamKey);
+    XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+    long lastGeneratedMs = RecordId.of(info.lastGeneratedId()).getTimestamp();
+    long pending = 0;
+    long maxLagMs = 0;
+    for (int i = 0; i < groups.size(); i++) {
+      XInfoGroup group = groups.get(i);
+      pending += group.pendingCount();
+      long lastDeliveredMs = RecordId.of(group.lastDeliveredId()).getTimestamp();
+      maxLagMs = Math.max(maxLagMs, lastGeneratedMs - lastDeliveredMs);
+    }
+    metrics.length().set(info.streamLength());
+    metrics.pending().set(pending);
+    metrics.lagMs().set(maxLagMs);
+  }
+
+  private static StreamMetrics registerStreamMetrics(
+      MeterRegistry meterRegistry, String streamKey) {
+    StreamMetrics metrics = new StreamMetrics(new AtomicLong(), new AtomicLong(), new AtomicLong());
+    Gauge.builder(STREAM_LENGTH_METRIC, metrics.length(), AtomicLong::get)
+        .description("Number of entries of the stream")
+        .tag(STREAM_TAG, streamKey)
+        .register(meterRegistry);
+    Gauge.builder(STREAM_PENDING_METRIC, metrics.pending(), AtomicLong::get)
+        .description("Number of entries delivered but not yet acknowledged across consumer groups")
+        .tag(STREAM_TAG, streamKey)
+        .register(meterRegistry);
+    Gauge.builder(STREAM_LAG_METRIC, metrics.lagMs(), AtomicLong::get)
+        .description("Time between the last entry added and the last one read by the slowest group")
+        .baseUnit("milliseconds")
+        .tag(STREAM_TAG, streamKey)
+        .register(meterRegistry);
+    return metrics;
+  }
+
+  private record StreamMetrics(AtomicLong length, AtomicLong pending, AtomicLong lagMs) {}
+}
@@ -91,5 +91,17 @@ public final class ParameterConstants {
    */
   public static final String CODE = "code";
 
+  /**
+   * Represents a constant parameter key used for identifying and accessing the "limit" parameter
+   * in request handling within controllers, bounding the number of returned items.
+   */
+  public static final String LIMIT = "limit";
+
+  /**
+   * Represents a constant parameter key used for identifying and accessing the "page_token"
+   * parameter in request handling within controllers, holding the position of the requested page.
+   */
+  public static final String PAGE_TOKEN = "page_token";
+
   public static final String X_GAME_SESSION_ID = "X-GameSession-ID";
 }
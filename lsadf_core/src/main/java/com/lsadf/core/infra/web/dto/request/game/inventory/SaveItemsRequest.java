@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.request.game.inventory;
+
+import com.lsadf.core.infra.web.dto.request.Request;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serial;
+import java.util.List;
+import lombok.Builder;
+
+/** Request DTO for creating or replacing several items of an inventory at once */
+@Builder
+public record SaveItemsRequest(
+    @Schema(description = "Items to create or replace, identified by their client id")
+        @NotNull
+        @Size(max = SaveItemsRequest.MAX_ITEMS)
+        List<@NotNull @Valid ItemRequest> items)
+    implements Request {
+
+  public static final int MAX_ITEMS = 500;
+
+  @Serial private static final long serialVersionUID = 3920184756120394857L;
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.request.game.save;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility class converting a {@link GameSaveCursor} to and from the opaque page token handed out to
+ * the clients paginating through the game saves. The token is the URL-safe Base64 encoding of the
+ * creation date in microseconds since the epoch, the precision of the database timestamps, and of
+ * the id of the last game save of a page.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GameSavePageToken {
+
+  private static final char SEPARATOR = '_';
+
+  /**
+   * Encodes the given cursor into a page token
+   *
+   * @param cursor the cursor to encode
+   * @return the page token
+   */
+  public static String encode(GameSaveCursor cursor) {
+    long createdAt = ChronoUnit.MICROS.between(Instant.EPOCH, cursor.createdAt());
+    String value = createdAt + String.valueOf(SEPARATOR) + cursor.id();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+
+  /**
+   * Decodes the given page token into a cursor
+   *
+   * @param pageToken the page token to decode
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the page token is invalid
+   */
+  public static GameSaveCursor decode(String pageToken) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(pageToken), UTF_8);
+      int separatorIndex = value.indexOf(SEPARATOR);
+      long createdAt = Long.parseLong(value.substring(0, separatorIndex));
+      UUID id = UUID.fromString(value.substring(separatorIndex + 1));
+      return new GameSaveCursor(Instant.EPOCH.plus(createdAt, ChronoUnit.MICROS), id);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.response.cache;
+
+import com.lsadf.core.infra.web.dto.response.Response;
+import java.io.Serial;
+import lombok.Builder;
+
+@Builder
+public record HotKeyResponse(String key, Long accessCount) implements Response {
+
+  @Serial private static final long serialVersionUID = -2061847339526172953L;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.response.cache;
+
+import com.lsadf.core.domain.cache.HotKey;
+import com.lsadf.core.infra.web.dto.response.ModelResponseMapper;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/** Mapper converting {@link HotKey} model objects into {@link HotKeyResponse} objects. */
+@Mapper
+public interface HotKeyResponseMapper extends ModelResponseMapper<HotKey, HotKeyResponse> {
+
+  HotKeyResponseMapper INSTANCE = Mappers.getMapper(HotKeyResponseMapper.class);
+
+  /**
+   * Maps a HotKey model object to a HotKeyResponse object.
+   *
+   * @param model the HotKey model object
+   * @return a HotKeyResponse object populated with data from the given HotKey model
+   */
+  @Override
+  HotKeyResponse map(HotKey model);
+}
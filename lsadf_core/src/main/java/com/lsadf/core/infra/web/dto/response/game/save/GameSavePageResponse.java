@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.response.game.save;
+
+import com.lsadf.core.infra.web.dto.response.Response;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serial;
+import java.util.List;
+import lombok.Builder;
+import org.jspecify.annotations.Nullable;
+
+@Schema(name = "GameSavePageResponse", description = "Page of Game Saves")
+@Builder
+public record GameSavePageResponse(
+    List<GameSaveResponse> gameSaves, @Nullable String nextPageToken) implements Response {
+
+  @Serial private static final long serialVersionUID = 7519460287305519842L;
+}
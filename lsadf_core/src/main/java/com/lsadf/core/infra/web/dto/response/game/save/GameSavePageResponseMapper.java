@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.infra.web.dto.response.game.save;
+
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSavePageToken;
+import com.lsadf.core.infra.web.dto.response.ModelResponseMapper;
+import org.jspecify.annotations.Nullable;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper converting {@link GameSavePage} model objects into {@link GameSavePageResponse} objects.
+ * The cursor of the next page is handed out as an opaque {@link GameSavePageToken}.
+ */
+@Mapper(uses = GameSaveResponseMapper.class)
+public interface GameSavePageResponseMapper
+    extends ModelResponseMapper<GameSavePage, GameSavePageResponse> {
+
+  GameSavePageResponseMapper INSTANCE = Mappers.getMapper(GameSavePageResponseMapper.class);
+
+  /**
+   * Maps a GameSavePage model object to a GameSavePageResponse object.
+   *
+   * @param model the GameSavePage model object
+   * @return a GameSavePageResponse object populated with data from the given GameSavePage model
+   */
+  @Override
+  @Mapping(target = "nextPageToken", source = "nextCursor")
+  GameSavePageResponse map(GameSavePage model);
+
+  /**
+   * Maps the cursor of the next page to its page token.
+   *
+   * @param cursor the cursor of the next page, or null if there is none
+   * @return the page token, or null if there is no next page
+   */
+  default @Nullable String mapCursor(@Nullable GameSaveCursor cursor) {
+    return cursor == null ? null : GameSavePageToken.encode(cursor);
+  }
+}
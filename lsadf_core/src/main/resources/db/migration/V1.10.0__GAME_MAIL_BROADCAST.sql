@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- Broadcasts compute the expiration date of every mail they insert from the template they join:
+-- only look the template up when the expiration date is not provided
+CREATE OR REPLACE FUNCTION set_mail_expiration()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    DECLARE
+        v_expiration_days INTEGER;
+    BEGIN
+        IF NEW.tgmi_expires_at IS NOT NULL THEN
+            RETURN NEW;
+        END IF;
+
+        -- Get expiration days from the template
+        SELECT tgmt_expiration_days
+        INTO v_expiration_days
+        FROM t_game_mail_template_tgmt
+        WHERE tgmt_id = NEW.tgmt_id;
+
+        -- Set the expiration date based on created_at + expiration_days
+        NEW.tgmi_expires_at := NEW.tgmi_created_at + INTERVAL '1 day' * v_expiration_days;
+
+        RETURN NEW;
+    END;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- Inventory writes are batched: touch the game save timestamp once per statement instead of once
+-- per item or additional stat row
+DROP TRIGGER trg_item_update_game_save ON t_item_tgit;
+DROP TRIGGER trg_additional_stat_update_game_save ON t_additional_stat_tias;
+
+CREATE OR REPLACE FUNCTION update_game_save_timestamp_from_items()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE t_game_metadata_tgme
+    SET tgme_updated_at = CURRENT_TIMESTAMP
+    WHERE tgme_id IN (SELECT DISTINCT tgme_id FROM changed_items);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_game_save_timestamp_from_additional_stats()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE t_game_metadata_tgme
+    SET tgme_updated_at = CURRENT_TIMESTAMP
+    WHERE tgme_id IN (SELECT DISTINCT tgit.tgme_id
+                      FROM t_item_tgit tgit
+                               JOIN changed_additional_stats tias ON tias.tgit_id = tgit.tgit_id);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables can only be declared on single-event triggers
+CREATE TRIGGER trg_item_insert_update_game_save
+    AFTER INSERT
+    ON t_item_tgit
+    REFERENCING NEW TABLE AS changed_items
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_items();
+
+CREATE TRIGGER trg_item_update_update_game_save
+    AFTER UPDATE
+    ON t_item_tgit
+    REFERENCING NEW TABLE AS changed_items
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_items();
+
+CREATE TRIGGER trg_item_delete_update_game_save
+    AFTER DELETE
+    ON t_item_tgit
+    REFERENCING OLD TABLE AS changed_items
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_items();
+
+CREATE TRIGGER trg_additional_stat_insert_update_game_save
+    AFTER INSERT
+    ON t_additional_stat_tias
+    REFERENCING NEW TABLE AS changed_additional_stats
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_additional_stats();
+
+CREATE TRIGGER trg_additional_stat_update_update_game_save
+    AFTER UPDATE
+    ON t_additional_stat_tias
+    REFERENCING NEW TABLE AS changed_additional_stats
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_additional_stats();
+
+CREATE TRIGGER trg_additional_stat_delete_update_game_save
+    AFTER DELETE
+    ON t_additional_stat_tias
+    REFERENCING OLD TABLE AS changed_additional_stats
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_game_save_timestamp_from_additional_stats();
@@ -0,0 +1,19 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- Keyset pagination compares (tgme_created_at, tgme_id) with the values of the last row of the
+-- previous page, which the page token carries with the full microsecond precision of the column
+CREATE INDEX idx_tgme_created_at_id ON t_game_metadata_tgme (tgme_created_at, tgme_id);
@@ -0,0 +1,22 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- Game save searches filter the user emails and nicknames with LIKE patterns, which may start with
+-- a wildcard: trigram indexes serve them without scanning the whole table
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_tgme_user_email_trgm ON t_game_metadata_tgme USING gin (tgme_user_email gin_trgm_ops);
+CREATE INDEX idx_tgme_nickname_trgm ON t_game_metadata_tgme USING gin (tgme_nickname gin_trgm_ops);
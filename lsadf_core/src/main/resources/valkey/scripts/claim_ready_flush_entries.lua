@@ -0,0 +1,14 @@
+-- Atomically claims the game saves ready to be flushed.
+--
+-- Moves up to ARGV[3] members of the pending flush sorted set (KEYS[1]) whose score is lower than
+-- or equal to ARGV[1] into the processing sorted set (KEYS[2]), scored with the lease expiry
+-- ARGV[2], and records the instance ARGV[4] as their owner in the owners hash (KEYS[3]). Returns
+-- the claimed members with their pending score, as a flat list
+-- [member1, score1, member2, score2, ...].
+local entries = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[3])
+for i = 1, #entries, 2 do
+  redis.call('ZREM', KEYS[1], entries[i])
+  redis.call('ZADD', KEYS[2], ARGV[2], entries[i])
+  redis.call('HSET', KEYS[3], entries[i], ARGV[4])
+end
+return entries
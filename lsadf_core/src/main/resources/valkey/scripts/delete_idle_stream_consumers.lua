@@ -0,0 +1,18 @@
+-- Deletes the consumers of a group left by stopped instances.
+--
+-- ARGV[1] is the consumer group of the stream (KEYS[1]), ARGV[2] the minimum idle time in
+-- milliseconds and ARGV[3] the name of the calling consumer, which is never deleted. A consumer is
+-- only deleted while it has no pending record, so no record is lost with it. Returns the number of
+-- consumers deleted.
+local deleted = 0
+for _, consumer in ipairs(redis.call('XINFO', 'CONSUMERS', KEYS[1], ARGV[1])) do
+  local info = {}
+  for i = 1, #consumer, 2 do
+    info[consumer[i]] = consumer[i + 1]
+  end
+  if info['name'] ~= ARGV[3] and info['pending'] == 0 and info['idle'] >= tonumber(ARGV[2]) then
+    redis.call('XGROUP', 'DELCONSUMER', KEYS[1], ARGV[1], info['name'])
+    deleted = deleted + 1
+  end
+end
+return deleted
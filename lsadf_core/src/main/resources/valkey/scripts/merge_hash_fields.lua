@@ -0,0 +1,30 @@
+-- Merges fields into a cached hash, unless the hash holds no cached value.
+--
+-- ARGV[1] is the time to live of the hash in seconds, left unchanged when not positive, and
+-- ARGV[2] the number n of presence fields ARGV[3..n+2]. The hash (KEYS[1]) holds a cached value
+-- when one of the presence fields is set, or when it exists if there is no presence field. The
+-- remaining arguments are the field/value pairs to write. Returns 1 if the fields were merged, 0
+-- if nothing was written.
+local presence_count = tonumber(ARGV[2])
+local present = presence_count == 0 and redis.call('EXISTS', KEYS[1]) == 1
+for i = 3, presence_count + 2 do
+  if present then
+    break
+  end
+  present = redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1
+end
+if not present then
+  return 0
+end
+local fields = {}
+for i = presence_count + 3, #ARGV do
+  fields[#fields + 1] = ARGV[i]
+end
+if #fields > 0 then
+  redis.call('HSET', KEYS[1], unpack(fields))
+end
+local ttl = tonumber(ARGV[1])
+if ttl > 0 then
+  redis.call('EXPIRE', KEYS[1], ttl)
+end
+return 1
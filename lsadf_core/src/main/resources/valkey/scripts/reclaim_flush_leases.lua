@@ -0,0 +1,19 @@
+-- Atomically takes over the leases of abandoned game saves.
+--
+-- For each member ARGV[5..n] of the processing sorted set (KEYS[1]) whose lease expired before
+-- ARGV[1], or whose lease is owned by the instance ARGV[3] when ARGV[4] is '1', renews the lease
+-- until ARGV[2] and records ARGV[3] as its owner in the owners hash (KEYS[2]). Leases still held by
+-- other instances are left untouched. Returns the reclaimed members.
+local reclaimed = {}
+for i = 5, #ARGV do
+  local expiry = redis.call('ZSCORE', KEYS[1], ARGV[i])
+  if expiry then
+    local owned = ARGV[4] == '1' and redis.call('HGET', KEYS[2], ARGV[i]) == ARGV[3]
+    if tonumber(expiry) <= tonumber(ARGV[1]) or owned then
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[i])
+      redis.call('HSET', KEYS[2], ARGV[i], ARGV[3])
+      reclaimed[#reclaimed + 1] = ARGV[i]
+    end
+  end
+end
+return reclaimed
@@ -0,0 +1,14 @@
+-- Releases the leases held by an instance on flushed game saves.
+--
+-- Removes the members ARGV[2..n] from the processing sorted set (KEYS[1]) and from the owners hash
+-- (KEYS[2]), unless their lease is now owned by another instance than ARGV[1], which happens when
+-- the lease expired and was taken over in the meantime. Returns the number of released members.
+local released = 0
+for i = 2, #ARGV do
+  local owner = redis.call('HGET', KEYS[2], ARGV[i])
+  if not owner or owner == ARGV[1] then
+    released = released + redis.call('ZREM', KEYS[1], ARGV[i])
+    redis.call('HDEL', KEYS[2], ARGV[i])
+  end
+end
+return released
@@ -0,0 +1,22 @@
+-- Replaces a hash by the given fields, so that no client ever reads the hash removed or half
+-- written.
+--
+-- Takes the same arguments as merge_hash_fields.lua: ARGV[1] is the time to live of the hash in
+-- seconds, left unset when not positive, and ARGV[2] the number n of presence fields
+-- ARGV[3..n+2], which are ignored. The remaining arguments are the field/value pairs to write to
+-- the hash (KEYS[1]). Returns 1 if the hash was written, 0 if there was no field to write.
+local presence_count = tonumber(ARGV[2])
+local fields = {}
+for i = presence_count + 3, #ARGV do
+  fields[#fields + 1] = ARGV[i]
+end
+redis.call('DEL', KEYS[1])
+if #fields == 0 then
+  return 0
+end
+redis.call('HSET', KEYS[1], unpack(fields))
+local ttl = tonumber(ARGV[1])
+if ttl > 0 then
+  redis.call('EXPIRE', KEYS[1], ttl)
+end
+return 1
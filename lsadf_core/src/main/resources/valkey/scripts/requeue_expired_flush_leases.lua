@@ -0,0 +1,13 @@
+-- Re-queues the game saves whose flush lease expired.
+--
+-- Moves up to ARGV[2] members of the processing sorted set (KEYS[1]) whose lease expired before
+-- ARGV[1] back to the pending flush sorted set (KEYS[3]), ready to be flushed at ARGV[1], and
+-- drops their owner from the owners hash (KEYS[2]). A member already pending with an earlier score
+-- keeps it. Returns the re-queued members.
+local entries = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+for i = 1, #entries do
+  redis.call('ZREM', KEYS[1], entries[i])
+  redis.call('HDEL', KEYS[2], entries[i])
+  redis.call('ZADD', KEYS[3], 'LT', ARGV[1], entries[i])
+end
+return entries
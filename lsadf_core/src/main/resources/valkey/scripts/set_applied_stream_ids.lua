@@ -0,0 +1,22 @@
+-- Records the ids of the last stream records applied to a game save, by event type.
+--
+-- ARGV[1] is the time to live of the hash (KEYS[1]) in milliseconds. The remaining arguments are
+-- event type / record id pairs; the id of an event type is only replaced by a later id, so that a
+-- record applied late never moves it backwards. Returns the number of ids replaced.
+local function is_after(id, other)
+  local ms, seq = string.match(id, '^(%d+)-(%d+)$')
+  local other_ms, other_seq = string.match(other, '^(%d+)-(%d+)$')
+  ms, other_ms = tonumber(ms), tonumber(other_ms)
+  return ms > other_ms or (ms == other_ms and tonumber(seq) > tonumber(other_seq))
+end
+
+local replaced = 0
+for i = 2, #ARGV, 2 do
+  local current = redis.call('HGET', KEYS[1], ARGV[i])
+  if not current or is_after(ARGV[i + 1], current) then
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+    replaced = replaced + 1
+  end
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return replaced
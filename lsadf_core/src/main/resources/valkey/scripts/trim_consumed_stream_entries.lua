@@ -0,0 +1,49 @@
+-- Trims the entries of a stream every consumer group is done with.
+--
+-- An entry of the stream (KEYS[1]) may be trimmed once every consumer group read it and none of
+-- them still holds it unacknowledged. The trimming point is the lowest, across the groups, of the
+-- oldest pending entry of the group or, when the group has no pending entry, of its last delivered
+-- entry. It is further lowered to ARGV[1] when given, keeping the entries of the retention window.
+-- Trimming is approximate, so entries older than the trimming point may be kept a while longer.
+-- Returns the number of trimmed entries and the trimming point, or an empty array when the stream
+-- has no consumer group.
+local function is_before(id, other_id)
+  local ms, seq = string.match(id, '(%d+)-(%d+)')
+  local other_ms, other_seq = string.match(other_id, '(%d+)-(%d+)')
+  if tonumber(ms) ~= tonumber(other_ms) then
+    return tonumber(ms) < tonumber(other_ms)
+  end
+  return tonumber(seq) < tonumber(other_seq)
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return {}
+end
+local groups = redis.call('XINFO', 'GROUPS', KEYS[1])
+if #groups == 0 then
+  return {}
+end
+local min_id
+for i = 1, #groups do
+  local name, last_delivered_id
+  for j = 1, #groups[i], 2 do
+    if groups[i][j] == 'name' then
+      name = groups[i][j + 1]
+    elseif groups[i][j] == 'last-delivered-id' then
+      last_delivered_id = groups[i][j + 1]
+    end
+  end
+  local candidate = last_delivered_id
+  local pending = redis.call('XPENDING', KEYS[1], name)
+  if pending[1] > 0 then
+    candidate = pending[2]
+  end
+  if min_id == nil or is_before(candidate, min_id) then
+    min_id = candidate
+  end
+end
+if ARGV[1] ~= '' and is_before(ARGV[1], min_id) then
+  min_id = ARGV[1]
+end
+local trimmed = redis.call('XTRIM', KEYS[1], 'MINID', '~', min_id)
+return {trimmed, min_id}
@@ -0,0 +1,32 @@
+-- Removes the fields of a cached hash, unless they changed since they were read.
+--
+-- ARGV[1] is 1 to remove the whole hash (KEYS[1]), 0 to remove only the compared fields, and
+-- ARGV[2] the number n of compared fields ARGV[3..n+2]. The remaining arguments are the
+-- field/value pairs read; a compared field without a pair was read unset. Returns 1 if the fields
+-- were removed, 0 if one of them changed or if the hash does not exist.
+local delete_key = ARGV[1] == '1'
+local compared_count = tonumber(ARGV[2])
+local expected = {}
+for i = compared_count + 3, #ARGV, 2 do
+  expected[ARGV[i]] = ARGV[i + 1]
+end
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return 0
+end
+local fields = {}
+for i = 3, compared_count + 2 do
+  local current = redis.call('HGET', KEYS[1], ARGV[i])
+  if current == false then
+    current = nil
+  end
+  if current ~= expected[ARGV[i]] then
+    return 0
+  end
+  fields[#fields + 1] = ARGV[i]
+end
+if delete_key then
+  redis.call('UNLINK', KEYS[1])
+elseif #fields > 0 then
+  redis.call('HDEL', KEYS[1], unpack(fields))
+end
+return 1
@@ -0,0 +1,9 @@
+-- Removes a cached value, unless it changed since it was read.
+--
+-- ARGV[1] is the serialized value read from KEYS[1]. Returns 1 if the value was removed, 0 if it
+-- changed or if it is no longer cached.
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+  return 0
+end
+redis.call('UNLINK', KEYS[1])
+return 1
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.benchmark.valkey;
+
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType;
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.CompactGameValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.GameValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.VersionedGameValkeyEventSerializer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares the serialization formats of the game stream events on a currency update, the most
+ * frequent event. Run it with {@code mvn -pl lsadf_core -Pbenchmark verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameValkeyEventSerializerBenchmark {
+
+  @Param({"JSON", "COMPACT"})
+  private ValkeyEventSerializationFormat format;
+
+  private VersionedGameValkeyEventSerializer serializer;
+  private ValkeyGameSaveUpdatedEvent event;
+  private Map<String, String> serializedEvent;
+
+  @Setup
+  public void setUp() {
+    GameValkeyEventSerializer jsonSerializer =
+        new GameValkeyEventSerializer(JsonMapper.builder().build());
+    serializer =
+        new VersionedGameValkeyEventSerializer(
+            format, jsonSerializer, new CompactGameValkeyEventSerializer(jsonSerializer));
+    Map<String, String> payload = new HashMap<>();
+    payload.put("gold", "1250000");
+    payload.put("diamond", "3400");
+    payload.put("emerald", null);
+    payload.put("amethyst", "12");
+    event =
+        new ValkeyGameSaveUpdatedEvent(
+            ValkeyGameSaveEventType.CURRENCY_UPDATED,
+            UUID.randomUUID(),
+            "paimon@test.com",
+            UUID.randomUUID(),
+            payload);
+    serializedEvent = serializer.serialize(event);
+  }
+
+  @Benchmark
+  public Map<String, String> serialize() {
+    return serializer.serialize(event);
+  }
+
+  @Benchmark
+  public ValkeyGameSaveUpdatedEvent deserialize() {
+    return serializer.deserialize(serializedEvent);
+  }
+}
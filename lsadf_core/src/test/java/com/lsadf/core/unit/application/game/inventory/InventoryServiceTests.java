@@ -17,10 +17,16 @@ package com.lsadf.core.unit.application.game.inventory;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
 import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.inventory.impl.InventoryServiceImpl;
 import com.lsadf.core.application.game.save.metadata.GameMetadataService;
@@ -42,6 +48,10 @@ class InventoryServiceTests {
 
   @Mock private GameMetadataService gameMetadataService;
 
+  @Mock private InventoryCachePort inventoryCachePort;
+
+  @Mock private CacheManager cacheManager;
+
   @InjectMocks private InventoryServiceImpl inventoryService;
 
   private UUID gameSaveId;
@@ -91,6 +101,9 @@ class InventoryServiceTests {
     // Arrange
     Set<Item> expectedItems = Set.of(mockItem);
     when(gameMetadataService.existsById(gameSaveId)).thenReturn(true);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(inventoryCachePort.getGeneration(gameSaveId.toString())).thenReturn(OptionalLong.of(3));
+    when(inventoryCachePort.get(gameSaveId.toString(), 3)).thenReturn(Optional.empty());
     when(inventoryRepositoryPort.findAllItemsByGameSaveId(gameSaveId)).thenReturn(expectedItems);
 
     // Act
@@ -100,6 +113,42 @@ class InventoryServiceTests {
     assertEquals(expectedItems, result);
     verify(gameMetadataService).existsById(gameSaveId);
     verify(inventoryRepositoryPort).findAllItemsByGameSaveId(gameSaveId);
+    verify(inventoryCachePort).set(gameSaveId.toString(), 3, expectedItems);
+  }
+
+  @Test
+  void test_getInventoryItems_returnsCachedSnapshot_when_cached() {
+    // Arrange
+    Set<Item> cachedItems = Set.of(mockItem);
+    when(gameMetadataService.existsById(gameSaveId)).thenReturn(true);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(inventoryCachePort.getGeneration(gameSaveId.toString())).thenReturn(OptionalLong.of(3));
+    when(inventoryCachePort.get(gameSaveId.toString(), 3)).thenReturn(Optional.of(cachedItems));
+
+    // Act
+    Set<Item> result = inventoryService.getInventoryItems(gameSaveId);
+
+    // Assert
+    assertEquals(cachedItems, result);
+    verify(inventoryRepositoryPort, never()).findAllItemsByGameSaveId(gameSaveId);
+    verify(inventoryCachePort, never()).set(any(), anyLong(), any());
+  }
+
+  @Test
+  void test_getInventoryItems_skipsCache_when_cacheDisabled() {
+    // Arrange
+    Set<Item> expectedItems = Set.of(mockItem);
+    when(gameMetadataService.existsById(gameSaveId)).thenReturn(true);
+    when(cacheManager.isEnabled()).thenReturn(false);
+    when(inventoryRepositoryPort.findAllItemsByGameSaveId(gameSaveId)).thenReturn(expectedItems);
+
+    // Act
+    Set<Item> result = inventoryService.getInventoryItems(gameSaveId);
+
+    // Assert
+    assertEquals(expectedItems, result);
+    verify(inventoryCachePort, never()).getGeneration(any());
+    verify(inventoryCachePort, never()).set(any(), anyLong(), any());
   }
 
   @Test
@@ -144,6 +193,7 @@ class InventoryServiceTests {
     verify(gameMetadataService).existsById(gameSaveId);
     verify(inventoryRepositoryPort).existsByClientId(itemClientId);
     verify(inventoryRepositoryPort).createItem(eq(gameSaveId), any(Item.class));
+    verify(inventoryCachePort).invalidate(gameSaveId.toString());
   }
 
   @Test
@@ -230,6 +280,53 @@ class InventoryServiceTests {
     verify(inventoryRepositoryPort).updateItem(eq(gameSaveId), any(Item.class));
   }
 
+  @Test
+  void test_saveItemsInInventory_throwsNotFoundException_when_gameSaveIdNotExists() {
+    // Arrange
+    when(gameMetadataService.existsById(gameSaveId)).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(
+        NotFoundException.class,
+        () -> inventoryService.saveItemsInInventory(gameSaveId, List.of(itemRequest)));
+    verify(inventoryRepositoryPort, never()).saveItems(any(), any());
+  }
+
+  @Test
+  void test_saveItemsInInventory_throwsIllegalArgumentException_when_duplicateClientIds() {
+    // Arrange
+    when(gameMetadataService.existsById(gameSaveId)).thenReturn(true);
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> inventoryService.saveItemsInInventory(gameSaveId, List.of(itemRequest, itemRequest)));
+    verify(inventoryRepositoryPort, never()).saveItems(any(), any());
+  }
+
+  @Test
+  void test_saveItemsInInventory_when_success() {
+    // Arrange
+    when(gameMetadataService.existsById(gameSaveId)).thenReturn(true);
+    when(inventoryRepositoryPort.saveItems(eq(gameSaveId), anyList()))
+        .thenReturn(List.of(mockItem));
+
+    // Act
+    List<Item> result = inventoryService.saveItemsInInventory(gameSaveId, List.of(itemRequest));
+
+    // Assert
+    assertEquals(List.of(mockItem), result);
+    verify(inventoryRepositoryPort)
+        .saveItems(
+            eq(gameSaveId),
+            argThat(
+                items ->
+                    items.size() == 1
+                        && items.getFirst().getClientId().equals(itemClientId)
+                        && items.getFirst().getItemType() == ItemType.SWORD
+                        && items.getFirst().getItemRarity() == ItemRarity.MYTHIC));
+  }
+
   @Test
   void test_clearInventory_when_success() {
     // Arrange
@@ -241,6 +338,7 @@ class InventoryServiceTests {
     // Assert
     verify(gameMetadataService).existsById(gameSaveId);
     verify(inventoryRepositoryPort).deleteAllItemsByGameSaveId(gameSaveId);
+    verify(inventoryCachePort).invalidate(gameSaveId.toString());
   }
 
   @Test
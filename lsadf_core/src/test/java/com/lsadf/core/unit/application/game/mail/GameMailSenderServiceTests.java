@@ -15,6 +15,7 @@
  */
 package com.lsadf.core.unit.application.game.mail;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -119,16 +120,33 @@ class GameMailSenderServiceTests {
   }
 
   @Test
-  void test_sendGameMailToAllGameSaves_success_when_noGameSaves() {
+  void test_sendGameMailToAllGameSaves_throwsNotFoundException_when_gameMailTemplateDoesNotExist() {
     // Given
-    when(gameSaveService.getGameSaves()).thenReturn(java.util.List.of());
+    UUID gameTemplateId = UUID.randomUUID();
+    when(gameMailTemplateQueryService.existsById(gameTemplateId)).thenReturn(false);
+
+    // When & Then
+    assertThrows(
+        NotFoundException.class,
+        () -> gameMailSenderService.sendGameMailToAllGameSaves(gameTemplateId));
+
+    // Verify
+    verify(gameMailRepositoryPort, never()).createGameEmailsForAllGameSaves(any());
+  }
 
+  @Test
+  void test_sendGameMailToAllGameSaves_returnsSentCount_when_gameMailTemplateExists() {
+    // Given
     UUID gameTemplateId = UUID.randomUUID();
+    when(gameMailTemplateQueryService.existsById(gameTemplateId)).thenReturn(true);
+    when(gameMailRepositoryPort.createGameEmailsForAllGameSaves(gameTemplateId)).thenReturn(3L);
+
     // When
-    gameMailSenderService.sendGameMailToAllGameSaves(gameTemplateId);
+    long sentCount = gameMailSenderService.sendGameMailToAllGameSaves(gameTemplateId);
 
     // Then
-    verify(gameSaveService).getGameSaves();
-    verifyNoMoreInteractions(gameSaveService, gameMailTemplateQueryService, gameMailRepositoryPort);
+    assertEquals(3L, sentCount);
+    verify(gameMailRepositoryPort).createGameEmailsForAllGameSaves(gameTemplateId);
+    verifyNoInteractions(gameSaveService);
   }
 }
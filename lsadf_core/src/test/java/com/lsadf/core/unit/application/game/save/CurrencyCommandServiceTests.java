@@ -19,7 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,7 +37,10 @@ import com.lsadf.core.application.game.save.currency.command.PersistCurrencyComm
 import com.lsadf.core.application.game.save.currency.command.UpdateCacheCurrencyCommand;
 import com.lsadf.core.application.game.save.currency.impl.CurrencyCommandServiceImpl;
 import com.lsadf.core.domain.game.save.currency.Currency;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -157,6 +162,132 @@ class CurrencyCommandServiceTests {
     verify(currencyQueryService).retrieveCurrency(UUID);
   }
 
+  @Test
+  void test_updateCacheCurrencyBatch_mergesAndSavesOnce_when_partialCurrencies() {
+    // Arrange
+    java.util.UUID otherId = java.util.UUID.randomUUID();
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(currencyCache.getMany(List.of(UUID.toString(), otherId.toString())))
+        .thenReturn(Map.of(UUID.toString(), CACHED_CURRENCY));
+    when(currencyQueryService.retrieveCurrency(otherId)).thenReturn(DEFAULT_CURRENCY);
+    var commands =
+        List.of(
+            UpdateCacheCurrencyCommand.fromCurrency(UUID, new Currency(10L, null, null, null)),
+            UpdateCacheCurrencyCommand.fromCurrency(otherId, new Currency(null, 3L, null, null)),
+            UpdateCacheCurrencyCommand.fromCurrency(UUID, new Currency(null, 25L, null, null)));
+
+    // Act
+    currencyService.updateCacheCurrencyBatch(commands);
+
+    // Assert
+    Currency expectedCurrency =
+        new Currency(10L, 25L, CACHED_CURRENCY.emerald(), CACHED_CURRENCY.amethyst());
+    Currency expectedOtherCurrency = new Currency(0L, 3L, 0L, 0L);
+    verify(currencyCache)
+        .setMany(
+            Map.of(UUID.toString(), expectedCurrency, otherId.toString(), expectedOtherCurrency));
+    verify(currencyCache, never()).set(anyString(), any(Currency.class));
+    verify(currencyQueryService, times(1)).retrieveCurrency(otherId);
+  }
+
+  @Test
+  void test_updateCacheCurrency_mergesInCache_when_partialCurrencyCached() {
+    // Arrange
+    Currency currency = new Currency(10L, null, null, null);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(currencyCache.merge(UUID.toString(), currency)).thenReturn(true);
+    var command = UpdateCacheCurrencyCommand.fromCurrency(UUID, currency);
+
+    // Act
+    currencyService.updateCacheCurrency(command);
+
+    // Assert
+    verify(currencyCache, never()).get(anyString());
+    verify(currencyCache, never()).set(anyString(), any(Currency.class));
+    verify(currencyQueryService, never()).retrieveCurrency(any());
+  }
+
+  @Test
+  void test_updateCacheCurrencyBatch_setsOnlyUnmergedCurrencies_when_someCurrenciesCached() {
+    // Arrange
+    java.util.UUID otherId = java.util.UUID.randomUUID();
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(currencyCache.mergeMany(
+            Map.of(
+                UUID.toString(),
+                new Currency(10L, 25L, null, null),
+                otherId.toString(),
+                new Currency(null, 3L, null, null))))
+        .thenReturn(Set.of(UUID.toString()));
+    when(currencyCache.getMany(List.of(otherId.toString()))).thenReturn(Map.of());
+    when(currencyQueryService.retrieveCurrency(otherId)).thenReturn(DEFAULT_CURRENCY);
+    var commands =
+        List.of(
+            UpdateCacheCurrencyCommand.fromCurrency(UUID, new Currency(10L, null, null, null)),
+            UpdateCacheCurrencyCommand.fromCurrency(otherId, new Currency(null, 3L, null, null)),
+            UpdateCacheCurrencyCommand.fromCurrency(UUID, new Currency(null, 25L, null, null)));
+
+    // Act
+    currencyService.updateCacheCurrencyBatch(commands);
+
+    // Assert
+    verify(currencyCache).setMany(Map.of(otherId.toString(), new Currency(0L, 3L, 0L, 0L)));
+    verify(currencyQueryService, never()).retrieveCurrency(UUID);
+  }
+
+  @Test
+  void test_updateCacheCurrency_mergesInCacheAfterSeeding_when_currencyNotCached() {
+    // Arrange
+    Currency currency = new Currency(10L, null, null, null);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(currencyCache.merge(UUID.toString(), currency)).thenReturn(false, true);
+    when(currencyCache.get(UUID.toString())).thenReturn(Optional.empty());
+    when(currencyQueryService.retrieveCurrency(UUID)).thenReturn(CACHED_CURRENCY);
+    var command = UpdateCacheCurrencyCommand.fromCurrency(UUID, currency);
+
+    // Act
+    currencyService.updateCacheCurrency(command);
+
+    // Assert
+    verify(currencyCache).setManyIfAbsent(Map.of(UUID.toString(), CACHED_CURRENCY));
+    verify(currencyCache, times(2)).merge(UUID.toString(), currency);
+    verify(currencyCache, never()).set(anyString(), any(Currency.class));
+  }
+
+  @Test
+  void test_updateCacheCurrencyBatch_mergesInCacheAfterSeeding_when_currenciesNotCached() {
+    // Arrange
+    Currency update = new Currency(10L, null, null, null);
+    Map<String, Currency> partialUpdates = Map.of(UUID.toString(), update);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(currencyCache.mergeMany(partialUpdates)).thenReturn(Set.of(), Set.of(UUID.toString()));
+    when(currencyCache.getMany(List.of(UUID.toString()))).thenReturn(Map.of());
+    when(currencyQueryService.retrieveCurrency(UUID)).thenReturn(CACHED_CURRENCY);
+    var commands = List.of(UpdateCacheCurrencyCommand.fromCurrency(UUID, update));
+
+    // Act
+    currencyService.updateCacheCurrencyBatch(commands);
+
+    // Assert
+    verify(currencyCache).setManyIfAbsent(Map.of(UUID.toString(), CACHED_CURRENCY));
+    verify(currencyCache, times(2)).mergeMany(partialUpdates);
+    verify(currencyCache, never()).setMany(anyMap());
+  }
+
+  @Test
+  void test_updateCacheCurrencyBatch_doesNothing_when_cacheDisabled() {
+    // Arrange
+    when(cacheManager.isEnabled()).thenReturn(false);
+    var commands =
+        List.of(UpdateCacheCurrencyCommand.fromCurrency(UUID, new Currency(1L, 2L, 3L, 4L)));
+
+    // Act
+    currencyService.updateCacheCurrencyBatch(commands);
+
+    // Assert
+    verify(currencyCache, never()).setMany(anyMap());
+  }
+
   @Test
   void test_initializeDefaultCurrency_returnsDefaultCurrency() {
     // Arrange
@@ -18,11 +18,13 @@ package com.lsadf.core.unit.application.game.save;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.cache.CacheManager;
 import com.lsadf.core.application.game.save.metadata.GameMetadataCachePort;
+import com.lsadf.core.application.game.save.metadata.GameMetadataNegativeCachePort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataRepositoryPort;
 import com.lsadf.core.application.game.save.metadata.GameMetadataService;
 import com.lsadf.core.application.game.save.metadata.impl.GameMetadataServiceImpl;
@@ -36,6 +38,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -44,6 +48,7 @@ class GameMetadataServiceTests {
   @Mock private CacheManager cacheManager;
   @Mock private GameMetadataRepositoryPort gameMetadataRepositoryPort;
   @Mock private GameMetadataCachePort gameMetadataCachePort;
+  @Mock private GameMetadataNegativeCachePort gameMetadataNegativeCachePort;
 
   private GameMetadataService gameMetadataService;
 
@@ -60,7 +65,10 @@ class GameMetadataServiceTests {
     openMocks = MockitoAnnotations.openMocks(this);
     gameMetadataService =
         new GameMetadataServiceImpl(
-            cacheManager, gameMetadataRepositoryPort, gameMetadataCachePort);
+            cacheManager,
+            gameMetadataRepositoryPort,
+            gameMetadataCachePort,
+            gameMetadataNegativeCachePort);
   }
 
   @Test
@@ -89,6 +97,106 @@ class GameMetadataServiceTests {
     verify(gameMetadataRepositoryPort).existsById(gameSaveId);
   }
 
+  @Test
+  void test_existsById_returnsFalse_withoutDatabase_when_idInNegativeCache() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameMetadataCachePort.get(gameSaveId.toString())).thenReturn(Optional.empty());
+    when(gameMetadataNegativeCachePort.get(gameSaveId.toString())).thenReturn(Optional.of(true));
+
+    // Act
+    boolean result = gameMetadataService.existsById(gameSaveId);
+
+    // Assert
+    assertFalse(result);
+    verify(gameMetadataRepositoryPort, never()).findById(gameSaveId);
+  }
+
+  @Test
+  void test_existsById_recordsMissingId_when_gameMetadataNotFound() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameMetadataCachePort.get(gameSaveId.toString())).thenReturn(Optional.empty());
+    when(gameMetadataNegativeCachePort.get(gameSaveId.toString())).thenReturn(Optional.empty());
+    when(gameMetadataRepositoryPort.findById(gameSaveId)).thenReturn(Optional.empty());
+
+    // Act
+    boolean result = gameMetadataService.existsById(gameSaveId);
+
+    // Assert
+    assertFalse(result);
+    verify(gameMetadataNegativeCachePort).set(gameSaveId.toString(), true);
+  }
+
+  @Test
+  void test_existsById_cachesGameMetadata_when_foundInDatabase() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    GameMetadata gameMetadata =
+        GameMetadata.builder()
+            .id(gameSaveId)
+            .userEmail("test@example.com")
+            .nickname("TestNickname")
+            .createdAt(new Date())
+            .updatedAt(new Date())
+            .build();
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameMetadataCachePort.get(gameSaveId.toString())).thenReturn(Optional.empty());
+    when(gameMetadataNegativeCachePort.get(gameSaveId.toString())).thenReturn(Optional.empty());
+    when(gameMetadataRepositoryPort.findById(gameSaveId)).thenReturn(Optional.of(gameMetadata));
+
+    // Act
+    boolean result = gameMetadataService.existsById(gameSaveId);
+
+    // Assert
+    assertTrue(result);
+    verify(gameMetadataCachePort).set(gameSaveId.toString(), gameMetadata);
+    verify(gameMetadataNegativeCachePort, never()).set(gameSaveId.toString(), true);
+  }
+
+  @Test
+  void test_createNewGameMetadata_clearsNegativeCache_when_idGiven() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    String username = "test@example.com";
+    String nickname = "TestNickname";
+    when(cacheManager.isEnabled()).thenReturn(true);
+
+    // Act
+    gameMetadataService.createNewGameMetadata(gameSaveId, username, nickname);
+
+    // Assert
+    verify(gameMetadataNegativeCachePort).unset(gameSaveId.toString());
+  }
+
+  @Test
+  void test_createNewGameMetadata_clearsNegativeCacheAfterCommit_when_inTransaction() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    String username = "test@example.com";
+    String nickname = "TestNickname";
+    when(cacheManager.isEnabled()).thenReturn(true);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // Act
+      gameMetadataService.createNewGameMetadata(gameSaveId, username, nickname);
+
+      // Assert
+      verify(gameMetadataRepositoryPort).create(gameSaveId, username, nickname);
+      verify(gameMetadataNegativeCachePort, never()).unset(gameSaveId.toString());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      verify(gameMetadataNegativeCachePort).unset(gameSaveId.toString());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
   @Test
   void test_existsByNickname_returnsTrue_when_nicknameExists() {
     // Arrange
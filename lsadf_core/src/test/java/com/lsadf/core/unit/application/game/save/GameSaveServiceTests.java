@@ -19,11 +19,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.cache.CacheManager;
+import com.lsadf.core.application.game.inventory.InventoryCachePort;
+import com.lsadf.core.application.game.inventory.InventoryRepositoryPort;
 import com.lsadf.core.application.game.save.GameSaveRepositoryPort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort.GameSaveSections;
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
@@ -41,7 +49,10 @@ import com.lsadf.core.application.game.save.stage.StageCommandService;
 import com.lsadf.core.application.game.save.stage.command.InitializeDefaultStageCommand;
 import com.lsadf.core.application.game.save.stage.command.InitializeStageCommand;
 import com.lsadf.core.application.user.UserService;
+import com.lsadf.core.domain.game.inventory.Item;
 import com.lsadf.core.domain.game.save.GameSave;
+import com.lsadf.core.domain.game.save.GameSaveCursor;
+import com.lsadf.core.domain.game.save.GameSavePage;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.domain.game.save.metadata.GameMetadata;
@@ -49,16 +60,24 @@ import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.exception.AlreadyExistingGameSaveException;
 import com.lsadf.core.exception.http.ForbiddenException;
 import com.lsadf.core.exception.http.NotFoundException;
+import com.lsadf.core.infra.web.JsonAttributes;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
 import com.lsadf.core.infra.web.dto.request.game.characteristics.CharacteristicsRequest;
 import com.lsadf.core.infra.web.dto.request.game.currency.CurrencyRequest;
 import com.lsadf.core.infra.web.dto.request.game.metadata.GameMetadataRequest;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.AdminGameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.GameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.save.creation.SimpleGameSaveCreationRequest;
 import com.lsadf.core.infra.web.dto.request.game.stage.StageRequest;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.*;
@@ -83,6 +102,9 @@ class GameSaveServiceTests {
   @Mock private StageCachePort stageCache;
   @Mock private GameMetadataCachePort gameMetadataCache;
   @Mock private GameSaveRepositoryPort gameSaveRepositoryPort;
+  @Mock private GameSaveSectionsCachePort gameSaveSectionsCache;
+  @Mock private InventoryRepositoryPort inventoryRepositoryPort;
+  @Mock private InventoryCachePort inventoryCache;
 
   private GameSaveService gameSaveService;
 
@@ -119,6 +141,9 @@ class GameSaveServiceTests {
 
   private static final Stage CACHED_STAGE = Stage.builder().currentStage(20L).maxStage(40L).build();
 
+  private static final GameSaveSections CACHED_SECTIONS =
+      new GameSaveSections(CACHED_CHARACERISTICS, CACHED_CURRENCY, CACHED_STAGE);
+
   private static final GameMetadata DB_METADATA =
       GameMetadata.builder()
           .id(UUID)
@@ -156,7 +181,10 @@ class GameSaveServiceTests {
         gameMetadataCache,
         stageCache,
         currencyCache,
-        characteristicsCache);
+        characteristicsCache,
+        gameSaveSectionsCache,
+        inventoryRepositoryPort,
+        inventoryCache);
     gameSaveService =
         new GameSaveServiceImpl(
             gameMetadataService,
@@ -165,11 +193,14 @@ class GameSaveServiceTests {
             currencyService,
             userService,
             gameSaveRepositoryPort,
+            inventoryRepositoryPort,
             cacheManager,
             gameMetadataCache,
             stageCache,
             currencyCache,
-            characteristicsCache);
+            characteristicsCache,
+            gameSaveSectionsCache,
+            inventoryCache);
   }
 
   @Test
@@ -181,18 +212,14 @@ class GameSaveServiceTests {
   @Test
   void test_getGameSave_returnsGameSave_when_existingGameSaveIdAndCached() {
     when(gameSaveRepositoryPort.findById(any(UUID.class))).thenReturn(Optional.of(gameSave));
-    when(characteristicsCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CHARACERISTICS));
-    when(stageCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_STAGE));
-    when(currencyCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CURRENCY));
+    when(gameSaveSectionsCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_SECTIONS));
     var actual = gameSaveService.getGameSave(UUID);
     assertThat(actual).isEqualTo(cachedGameSave);
   }
 
   @Test
   void test_getGameSave_returnsGameSave_when_existingGameSaveIdAndNotCached() {
-    when(characteristicsCache.get(UUID.toString())).thenReturn(Optional.empty());
-    when(stageCache.get(UUID.toString())).thenReturn(Optional.empty());
-    when(currencyCache.get(UUID.toString())).thenReturn(Optional.empty());
+    when(gameSaveSectionsCache.get(UUID.toString())).thenReturn(Optional.empty());
     when(gameSaveRepositoryPort.findById(any(UUID.class))).thenReturn(Optional.of(gameSave));
     var actual = gameSaveService.getGameSave(UUID);
     assertThat(actual).isEqualTo(gameSave);
@@ -392,9 +419,9 @@ class GameSaveServiceTests {
     Stream<GameSave> gameSaves = Stream.of(gameSave);
     when(cacheManager.isEnabled()).thenReturn(true);
     when(userService.checkUsernameExists(USER_EMAIL)).thenReturn(true);
-    when(characteristicsCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CHARACERISTICS));
-    when(stageCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_STAGE));
-    when(currencyCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CURRENCY));
+    List<String> ids = List.of(UUID.toString());
+    when(gameSaveSectionsCache.getManyStale(ids))
+        .thenReturn(Map.of(UUID.toString(), CACHED_SECTIONS));
     when(gameSaveRepositoryPort.findByUserEmail(USER_EMAIL)).thenReturn(gameSaves);
     var actual = gameSaveService.getGameSavesByUsername(USER_EMAIL);
     assertThat(actual).hasSize(1);
@@ -415,12 +442,113 @@ class GameSaveServiceTests {
     Stream<GameSave> gameSaves = Stream.of(gameSave);
     when(cacheManager.isEnabled()).thenReturn(true);
     when(gameSaveRepositoryPort.findAll()).thenReturn(gameSaves);
-    when(characteristicsCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CHARACERISTICS));
-    when(stageCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_STAGE));
-    when(currencyCache.get(UUID.toString())).thenReturn(Optional.of(CACHED_CURRENCY));
+    List<String> ids = List.of(UUID.toString());
+    when(gameSaveSectionsCache.getManyStale(ids))
+        .thenReturn(Map.of(UUID.toString(), CACHED_SECTIONS));
     var actual = gameSaveService.getGameSaves();
     assertThat(actual).hasSize(1);
     var actualCachedGameSave = actual.get(0);
     assertThat(actualCachedGameSave).isEqualTo(cachedGameSave);
   }
+
+  @Test
+  void test_getGameSavesPage_returnsNextCursor_when_moreGameSavesRemain() {
+    GameSave nextGameSave =
+        GameSave.builder()
+            .metadata(
+                GameMetadata.builder()
+                    .id(java.util.UUID.randomUUID())
+                    .userEmail(USER_EMAIL)
+                    .nickname("nextGame")
+                    .createdAt(new Date())
+                    .updatedAt(new Date())
+                    .build())
+            .build();
+    when(cacheManager.isEnabled()).thenReturn(false);
+    when(gameSaveRepositoryPort.findPage(null, 2)).thenReturn(List.of(gameSave, nextGameSave));
+    GameSavePage actual = gameSaveService.getGameSavesPage(null, 1);
+    assertThat(actual.gameSaves()).containsExactly(gameSave);
+    assertThat(actual.nextCursor())
+        .isEqualTo(new GameSaveCursor(DB_METADATA.createdAt().toInstant(), DB_METADATA.id()));
+  }
+
+  @Test
+  void test_getGameSavesPage_returnsNoNextCursor_when_lastPage() {
+    GameSaveCursor after = new GameSaveCursor(Instant.now(), java.util.UUID.randomUUID());
+    when(cacheManager.isEnabled()).thenReturn(false);
+    when(gameSaveRepositoryPort.findPage(after, 11)).thenReturn(List.of(gameSave));
+    GameSavePage actual = gameSaveService.getGameSavesPage(after, 10);
+    assertThat(actual.gameSaves()).containsExactly(gameSave);
+    assertThat(actual.nextCursor()).isNull();
+  }
+
+  @Test
+  void test_getGameSavesPage_returnsCachedGameSaves_when_cached() {
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameSaveRepositoryPort.findPage(null, 11)).thenReturn(List.of(gameSave));
+    List<String> ids = List.of(UUID.toString());
+    when(gameSaveSectionsCache.getManyStale(ids))
+        .thenReturn(Map.of(UUID.toString(), CACHED_SECTIONS));
+    GameSavePage actual = gameSaveService.getGameSavesPage(null, 10);
+    assertThat(actual.gameSaves()).containsExactly(cachedGameSave);
+  }
+
+  @Test
+  void test_exportGameSaves_passesCachedGameSavesToConsumer_when_cached() {
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameSaveRepositoryPort.findAll()).thenReturn(Stream.of(gameSave));
+    List<String> ids = List.of(UUID.toString());
+    when(gameSaveSectionsCache.getManyStale(ids))
+        .thenReturn(Map.of(UUID.toString(), CACHED_SECTIONS));
+    List<GameSave> exported = new ArrayList<>();
+    gameSaveService.exportGameSaves(exported::add);
+    assertThat(exported).containsExactly(cachedGameSave);
+  }
+
+  @Test
+  void test_searchGameSaves_overlaysCachedDataOnReturnedGameSaves_when_cached() {
+    List<Filter> filters = List.of(new Filter(JsonAttributes.NICKNAME, "aNew%"));
+    List<GameSaveSortingParameter> orderBy = List.of(GameSaveSortingParameter.NICKNAME);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameSaveRepositoryPort.search(filters, orderBy, 10)).thenReturn(List.of(gameSave));
+    List<String> ids = List.of(UUID.toString());
+    when(gameSaveSectionsCache.getManyStale(ids))
+        .thenReturn(Map.of(UUID.toString(), CACHED_SECTIONS));
+    var actual = gameSaveService.searchGameSaves(filters, orderBy, 10);
+    assertThat(actual).containsExactly(cachedGameSave);
+  }
+
+  @Test
+  void test_warmUpCache_setsAbsentCachedData_when_cacheEnabled() {
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameSaveRepositoryPort.findById(UUID)).thenReturn(Optional.of(gameSave));
+    when(inventoryCache.getGeneration(UUID.toString())).thenReturn(OptionalLong.of(3L));
+    when(inventoryCache.get(UUID.toString(), 3L)).thenReturn(Optional.empty());
+    Set<Item> items = Set.of(Item.builder().clientId("client-id").build());
+    when(inventoryRepositoryPort.findAllItemsByGameSaveId(UUID)).thenReturn(items);
+    gameSaveService.warmUpCache(UUID);
+    verify(gameMetadataCache).setManyIfAbsent(Map.of(UUID.toString(), DB_METADATA));
+    verify(characteristicsCache).setManyIfAbsent(Map.of(UUID.toString(), DB_CHARACERISTICS));
+    verify(currencyCache).setManyIfAbsent(Map.of(UUID.toString(), DB_CURRENCY));
+    verify(stageCache).setManyIfAbsent(Map.of(UUID.toString(), DB_STAGE));
+    verify(inventoryCache).set(UUID.toString(), 3L, items);
+  }
+
+  @Test
+  void test_warmUpCache_keepsInventorySnapshot_when_alreadyCached() {
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(gameSaveRepositoryPort.findById(UUID)).thenReturn(Optional.of(gameSave));
+    when(inventoryCache.getGeneration(UUID.toString())).thenReturn(OptionalLong.of(3L));
+    when(inventoryCache.get(UUID.toString(), 3L)).thenReturn(Optional.of(Set.of()));
+    gameSaveService.warmUpCache(UUID);
+    verify(inventoryRepositoryPort, never()).findAllItemsByGameSaveId(UUID);
+    verify(inventoryCache, never()).set(anyString(), anyLong(), any());
+  }
+
+  @Test
+  void test_warmUpCache_doesNothing_when_noCache() {
+    when(cacheManager.isEnabled()).thenReturn(false);
+    gameSaveService.warmUpCache(UUID);
+    verify(gameSaveRepositoryPort, never()).findById(UUID);
+  }
 }
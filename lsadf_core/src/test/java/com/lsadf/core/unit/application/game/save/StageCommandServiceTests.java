@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +36,7 @@ import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageComman
 import com.lsadf.core.application.game.save.stage.impl.StageCommandServiceImpl;
 import com.lsadf.core.application.shared.CachePort;
 import com.lsadf.core.domain.game.save.stage.Stage;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -152,6 +154,25 @@ class StageCommandServiceTests {
     verify(stageQueryService).retrieveStage(UUID);
   }
 
+  @Test
+  void test_updateCacheStage_mergesInCacheAfterSeeding_when_stageNotCached() {
+    // Arrange
+    Stage stage = new Stage(8L, null, 16L);
+    when(cacheManager.isEnabled()).thenReturn(true);
+    when(stageCache.merge(UUID.toString(), stage)).thenReturn(false, true);
+    when(stageCache.get(UUID.toString())).thenReturn(Optional.empty());
+    when(stageQueryService.retrieveStage(UUID)).thenReturn(CACHED_STAGE);
+    var command = UpdateCacheStageCommand.fromStage(UUID, stage);
+
+    // Act
+    stageService.updateCacheStage(command);
+
+    // Assert
+    verify(stageCache).setManyIfAbsent(Map.of(UUID.toString(), CACHED_STAGE));
+    verify(stageCache, times(2)).merge(UUID.toString(), stage);
+    verify(stageCache, never()).set(anyString(), any(Stage.class));
+  }
+
   @Test
   void test_initializeDefaultStage_returnsDefaultStage() {
     // Arrange
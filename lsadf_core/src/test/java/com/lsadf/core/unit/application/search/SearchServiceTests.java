@@ -19,6 +19,7 @@ import static com.lsadf.core.infra.web.JsonAttributes.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.game.save.GameSaveService;
 import com.lsadf.core.application.search.SearchService;
@@ -32,6 +33,7 @@ import com.lsadf.core.domain.game.save.stage.Stage;
 import com.lsadf.core.domain.user.User;
 import com.lsadf.core.infra.persistence.impl.game.save.metadata.GameMetadataEntityMapper;
 import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
 import com.lsadf.core.infra.web.dto.request.search.SearchRequest;
 import com.lsadf.core.infra.web.dto.request.user.UserSortingParameter;
 import java.util.*;
@@ -133,8 +135,6 @@ class SearchServiceTests {
     Stream<User> users = Stream.of(USER1, USER2, USER3);
     lenient().when(userService.getUsers()).thenReturn(users);
 
-    Stream<GameSave> gameSaves = Stream.of(GAME_SAVE_1, GAME_SAVE_2, GAME_SAVE_3);
-    lenient().when(gameSaveService.getGameSaves()).thenReturn(gameSaves.toList());
   }
 
   @Test
@@ -230,6 +230,11 @@ class SearchServiceTests {
   void test_searchGameSaves_filtersCorrectly_when_filterOnGameSaveId() {
     Filter filter = new Filter(ID, UUID_1.toString());
     SearchRequest request = new SearchRequest(List.of(filter));
+    when(gameSaveService.searchGameSaves(
+            List.of(filter),
+            List.of(GameSaveSortingParameter.NONE),
+            SearchService.DEFAULT_GAME_SAVE_SEARCH_LIMIT))
+        .thenReturn(List.of(GAME_SAVE_1));
 
     List<GameSave> result = searchService.searchGameSaves(request).toList();
     assertThat(result).hasSize(1);
@@ -242,13 +247,15 @@ class SearchServiceTests {
   }
 
   @Test
-  void test_searchGameSaves_throwsException_when_filterOnInvalidGameSaveFilterType() {
-    Filter filter = new Filter("INVALID", UUID_1.toString());
-    SearchRequest request = new SearchRequest(List.of(filter));
+  void test_searchGameSaves_passesSortingAndLimitToGameSaveService() {
+    SearchRequest request = new SearchRequest(new ArrayList<>());
+    List<GameSaveSortingParameter> orderBy = List.of(GameSaveSortingParameter.GOLD_DESC);
+    when(gameSaveService.searchGameSaves(List.of(), orderBy, 2))
+        .thenReturn(List.of(GAME_SAVE_2, GAME_SAVE_3));
 
-    assertThatThrownBy(() -> searchService.searchGameSaves(request))
-        .isInstanceOf(IllegalArgumentException.class)
-        .hasMessage("Invalid filter type");
+    List<GameSave> result = searchService.searchGameSaves(request, orderBy, 2).toList();
+
+    assertThat(result).containsExactly(GAME_SAVE_2, GAME_SAVE_3);
   }
 
   @Test
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.persistence.view;
+
+import static com.lsadf.core.infra.web.JsonAttributes.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lsadf.core.infra.persistence.impl.view.GameSaveSearchQueryBuilder;
+import com.lsadf.core.infra.persistence.impl.view.GameSaveSearchQueryBuilder.GameSaveSearchQuery;
+import com.lsadf.core.infra.web.dto.request.common.Filter;
+import com.lsadf.core.infra.web.dto.request.game.save.GameSaveSortingParameter;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class GameSaveSearchQueryBuilderTests {
+
+  @Test
+  void build_shouldOrderByIdAndLimit_whenNoFilterNorSorting() {
+    // Act
+    GameSaveSearchQuery query = new GameSaveSearchQueryBuilder().limit(10).build();
+
+    // Assert
+    assertThat(query.sql())
+        .isEqualTo("select * from v_game_save_vgsa order by tgme_id ASC limit :limit");
+    assertThat(query.parameters().getValue("limit")).isEqualTo(10);
+  }
+
+  @Test
+  void build_shouldCompareIds_whenIdFilterHasNoWildcard() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+
+    // Act
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder()
+            .filters(List.of(new Filter(ID, id.toString())))
+            .limit(10)
+            .build();
+
+    // Assert
+    assertThat(query.sql()).contains("where tgme_id = :filter_0");
+    assertThat(query.parameters().getValue("filter_0")).isEqualTo(id);
+  }
+
+  @Test
+  void build_shouldMatchIdsAsText_whenIdFilterHasWildcard() {
+    // Act
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder()
+            .filters(List.of(new Filter(ID, "6679%")))
+            .limit(10)
+            .build();
+
+    // Assert
+    assertThat(query.sql()).contains("where cast(tgme_id as text) like :filter_0");
+    assertThat(query.parameters().getValue("filter_0")).isEqualTo("6679%");
+  }
+
+  @Test
+  void build_shouldCombineFiltersWithAnd_whenSeveralFilters() {
+    // Act
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder()
+            .filters(
+                List.of(
+                    new Filter(USER_EMAIL_CAMEL_CASE, "%@test.com"), new Filter(NICKNAME, "San_")))
+            .limit(10)
+            .build();
+
+    // Assert
+    assertThat(query.sql())
+        .contains("where tgme_user_email like :filter_0 and tgme_nickname like :filter_1");
+    assertThat(query.parameters().getValue("filter_0")).isEqualTo("%@test.com");
+    assertThat(query.parameters().getValue("filter_1")).isEqualTo("San_");
+  }
+
+  @Test
+  void build_shouldOrderBySortingParameters_thenById() {
+    // Act
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder()
+            .orderBy(
+                List.of(
+                    GameSaveSortingParameter.NONE,
+                    GameSaveSortingParameter.GOLD_DESC,
+                    GameSaveSortingParameter.NICKNAME))
+            .limit(10)
+            .build();
+
+    // Assert
+    assertThat(query.sql())
+        .endsWith("order by tgcu_gold_amount DESC, tgme_nickname ASC, tgme_id ASC limit :limit");
+  }
+
+  @Test
+  void build_shouldNotRepeatId_whenSortedById() {
+    // Act
+    GameSaveSearchQuery query =
+        new GameSaveSearchQueryBuilder()
+            .orderBy(List.of(GameSaveSortingParameter.ID_DESC))
+            .limit(10)
+            .build();
+
+    // Assert
+    assertThat(query.sql()).endsWith("order by tgme_id DESC limit :limit");
+  }
+
+  @Test
+  void filter_shouldThrowException_whenFilterTypeIsInvalid() {
+    // Arrange
+    GameSaveSearchQueryBuilder builder = new GameSaveSearchQueryBuilder();
+    Filter filter = new Filter("INVALID", "value");
+
+    // Act & Assert
+    assertThatThrownBy(() -> builder.filter(filter))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid filter type");
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.CurrencyConsolidatedCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class ConsolidatedGameSaveCacheAdapterTests {
+
+  private static final String GAME_SAVE_ID = "36f27c2a-06e8-4bdb-bf59-56999116f5ef";
+  private static final String HASH_KEY = "game_save:" + GAME_SAVE_ID;
+  private static final List<String> FIELDS =
+      List.of("currency.gold", "currency.diamond", "currency.emerald", "currency.amethyst");
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock private RedisOperations<String, String> readOperations;
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisConnection connection;
+
+  @Mock private CurrencyCachePort legacyCache;
+
+  private CurrencyConsolidatedCacheAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter =
+        new CurrencyConsolidatedCacheAdapter(
+            redisTemplate, readOperations, legacyCache, true, 60, ExpirationPolicy.FIXED);
+  }
+
+  @Test
+  void get_shouldReadTheSectionFieldsOfTheGameSaveHash() {
+    // Arrange
+    when(redisTemplate.<String, String>opsForHash().multiGet(HASH_KEY, FIELDS))
+        .thenReturn(Arrays.asList("1", "2", null, "4"));
+
+    // Act
+    Optional<Currency> currency = adapter.get(GAME_SAVE_ID);
+
+    // Assert
+    assertThat(currency)
+        .contains(Currency.builder().gold(1L).diamond(2L).emerald(null).amethyst(4L).build());
+    verify(legacyCache, never()).get(any());
+  }
+
+  @Test
+  void get_shouldMigrateValuesOnlyFoundInTheLegacyCache() {
+    // Arrange
+    Currency currency = Currency.builder().gold(1L).diamond(2L).emerald(3L).amethyst(4L).build();
+    when(redisTemplate.<String, String>opsForHash().multiGet(HASH_KEY, FIELDS))
+        .thenReturn(Arrays.asList(null, null, null, null));
+    when(legacyCache.get(GAME_SAVE_ID)).thenReturn(Optional.of(currency));
+
+    // Act
+    Optional<Currency> result = adapter.get(GAME_SAVE_ID);
+
+    // Assert
+    assertThat(result).contains(currency);
+    verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    verify(legacyCache).unsetMany(Set.of(GAME_SAVE_ID));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void getManyStale_shouldReadThroughReadOperationsWithoutMigrating() {
+    // Arrange
+    Currency currency = Currency.builder().gold(1L).diamond(2L).emerald(3L).amethyst(4L).build();
+    when(readOperations.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+        .thenReturn(List.of(Arrays.asList(null, null, null, null)));
+    when(legacyCache.getManyStale(List.of(GAME_SAVE_ID)))
+        .thenReturn(Map.of(GAME_SAVE_ID, currency));
+
+    // Act
+    Map<String, Currency> result = adapter.getManyStale(List.of(GAME_SAVE_ID));
+
+    // Assert
+    assertThat(result).containsEntry(GAME_SAVE_ID, currency);
+    verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    verify(legacyCache, never()).unsetMany(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void setMany_shouldSetPresentFieldsAndRemoveAbsentOnes() {
+    // Arrange
+    Currency currency = Currency.builder().gold(10L).diamond(20L).emerald(30L).build();
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+              return List.of();
+            });
+
+    // Act
+    adapter.setMany(Map.of(GAME_SAVE_ID, currency));
+
+    // Assert
+    byte[] rawKey = HASH_KEY.getBytes(StandardCharsets.UTF_8);
+    ArgumentCaptor<Map<byte[], byte[]>> fields = ArgumentCaptor.forClass(Map.class);
+    verify(connection.hashCommands()).hMSet(any(byte[].class), fields.capture());
+    assertThat(fields.getValue())
+        .hasSize(3)
+        .allSatisfy(
+            (field, value) ->
+                assertThat(new String(field, StandardCharsets.UTF_8)).startsWith("currency."));
+    verify(connection.hashCommands())
+        .hDel(rawKey, "currency.amethyst".getBytes(StandardCharsets.UTF_8));
+    verify(connection.keyCommands()).expire(rawKey, 60L);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void unsetManyIfUnchanged_shouldCompareAndRemoveTheSectionFieldsAtomically() {
+    // Arrange
+    Currency currency = Currency.builder().gold(10L).diamond(20L).emerald(30L).build();
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+              return List.of(1L);
+            });
+
+    // Act
+    Set<String> removed = adapter.unsetManyIfUnchanged(Map.of(GAME_SAVE_ID, currency));
+
+    // Assert
+    assertThat(removed).containsExactly(GAME_SAVE_ID);
+    verify(connection.scriptingCommands())
+        .eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class));
+    verify(connection.hashCommands(), never()).hDel(any(byte[].class), any(byte[][].class));
+    verify(legacyCache).unsetManyIfUnchanged(Map.of(GAME_SAVE_ID, currency));
+  }
+}
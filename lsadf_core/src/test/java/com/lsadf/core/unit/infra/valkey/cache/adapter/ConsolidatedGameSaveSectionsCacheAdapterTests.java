@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort.GameSaveSections;
+import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
+import com.lsadf.core.application.game.save.currency.CurrencyCachePort;
+import com.lsadf.core.application.game.save.stage.StageCachePort;
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.cache.adapter.ConsolidatedGameSaveSectionsCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.characteristics.CharacteristicsConsolidatedCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.currency.CurrencyConsolidatedCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.adapter.game.save.stage.StageConsolidatedCacheAdapter;
+import com.lsadf.core.infra.valkey.cache.expiration.ExpirationPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class ConsolidatedGameSaveSectionsCacheAdapterTests {
+
+  private static final String GAME_SAVE_ID = "36f27c2a-06e8-4bdb-bf59-56999116f5ef";
+  private static final String HASH_KEY = "game_save:" + GAME_SAVE_ID;
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock private RedisOperations<String, String> readOperations;
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisConnection connection;
+
+  @Mock private CharacteristicsCachePort legacyCharacteristicsCache;
+
+  @Mock private CurrencyCachePort legacyCurrencyCache;
+
+  @Mock private StageCachePort legacyStageCache;
+
+  @Mock private ExpirationPolicy expirationPolicy;
+
+  private ConsolidatedGameSaveSectionsCacheAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter =
+        new ConsolidatedGameSaveSectionsCacheAdapter(
+            redisTemplate,
+            readOperations,
+            new CharacteristicsConsolidatedCacheAdapter(
+                redisTemplate,
+                readOperations,
+                legacyCharacteristicsCache,
+                true,
+                60,
+                ExpirationPolicy.FIXED),
+            new CurrencyConsolidatedCacheAdapter(
+                redisTemplate,
+                readOperations,
+                legacyCurrencyCache,
+                true,
+                60,
+                ExpirationPolicy.FIXED),
+            new StageConsolidatedCacheAdapter(
+                redisTemplate, readOperations, legacyStageCache, true, 60, ExpirationPolicy.FIXED),
+            expirationPolicy);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void getMany_shouldReadAllTheSectionsOfAGameSaveWithOneHmget() {
+    // Arrange
+    when(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+              return List.of(
+                  Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"));
+            });
+
+    // Act
+    Map<String, GameSaveSections> sections = adapter.getMany(List.of(GAME_SAVE_ID));
+
+    // Assert
+    ArgumentCaptor<byte[][]> fields = ArgumentCaptor.forClass(byte[][].class);
+    verify(connection.hashCommands())
+        .hMGet(
+            eq(HASH_KEY.getBytes(StandardCharsets.UTF_8)),
+            fields.capture());
+    assertThat(fields.getValue()).hasNumberOfRows(12);
+    assertThat(sections)
+        .containsEntry(
+            GAME_SAVE_ID,
+            new GameSaveSections(
+                Characteristics.builder()
+                    .attack(1L)
+                    .critChance(2L)
+                    .critDamage(3L)
+                    .health(4L)
+                    .resistance(5L)
+                    .build(),
+                Currency.builder().gold(6L).diamond(7L).emerald(8L).amethyst(9L).build(),
+                Stage.builder().currentStage(10L).maxStage(11L).wave(12L).build()));
+    verify(legacyCharacteristicsCache, never()).getMany(any());
+    verify(legacyCurrencyCache, never()).getMany(any());
+    verify(legacyStageCache, never()).getMany(any());
+    verify(expirationPolicy, never()).recordAccess(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void get_shouldRecordASingleAccessToTheGameSave() {
+    // Arrange
+    when(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+        .thenReturn(
+            List.of(Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12")));
+
+    // Act
+    Optional<GameSaveSections> sections = adapter.get(GAME_SAVE_ID);
+
+    // Assert
+    assertThat(sections).isPresent();
+    verify(expirationPolicy).recordAccess(GAME_SAVE_ID);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void getManyStale_shouldReadTheSectionsMissingFromTheHashFromTheLegacyCaches() {
+    // Arrange
+    Stage stage = Stage.builder().currentStage(10L).maxStage(11L).wave(12L).build();
+    when(readOperations.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+        .thenReturn(
+            List.of(
+                Arrays.asList("1", "2", "3", "4", "5", null, null, null, null, null, null, null)));
+    when(legacyCurrencyCache.getManyStale(List.of(GAME_SAVE_ID))).thenReturn(Map.of());
+    when(legacyStageCache.getManyStale(List.of(GAME_SAVE_ID)))
+        .thenReturn(Map.of(GAME_SAVE_ID, stage));
+
+    // Act
+    Map<String, GameSaveSections> sections = adapter.getManyStale(List.of(GAME_SAVE_ID));
+
+    // Assert
+    assertThat(sections.get(GAME_SAVE_ID).characteristics()).isNotNull();
+    assertThat(sections.get(GAME_SAVE_ID).currency()).isNull();
+    assertThat(sections.get(GAME_SAVE_ID).stage()).isEqualTo(stage);
+    verify(legacyCharacteristicsCache, never()).getManyStale(any());
+    verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    verify(legacyStageCache, never()).unsetMany(any());
+  }
+}
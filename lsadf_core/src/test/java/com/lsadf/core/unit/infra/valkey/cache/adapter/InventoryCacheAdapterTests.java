@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.domain.game.inventory.Item;
+import com.lsadf.core.infra.valkey.cache.adapter.game.inventory.InventoryCacheAdapter;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryCacheAdapterTests {
+
+  private static final String GAME_SAVE_ID = "game-save-id";
+  private static final String GENERATION_KEY = "inventory_generation:" + GAME_SAVE_ID;
+  private static final int EXPIRATION_SECONDS = 300;
+
+  @Mock private RedisTemplate<String, Set<Item>> redisTemplate;
+
+  @Mock private ValueOperations<String, Set<Item>> valueOperations;
+
+  @Mock private RedisTemplate<String, String> generationRedisTemplate;
+
+  @Mock private ValueOperations<String, String> generationValueOperations;
+
+  private InventoryCacheAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new InventoryCacheAdapter(redisTemplate, generationRedisTemplate, EXPIRATION_SECONDS);
+  }
+
+  @Test
+  void getGeneration_shouldStartFromZero_whenInventoryWasNeverWritten() {
+    // Arrange
+    when(generationRedisTemplate.opsForValue()).thenReturn(generationValueOperations);
+    when(generationValueOperations.get(GENERATION_KEY)).thenReturn(null);
+
+    // Act
+    OptionalLong generation = adapter.getGeneration(GAME_SAVE_ID);
+
+    // Assert
+    assertThat(generation).hasValue(0);
+  }
+
+  @Test
+  void setAndGet_shouldUseTheKeyOfTheGeneration() {
+    // Arrange
+    Set<Item> items = Set.of(Item.builder().clientId("client-id").build());
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get("inventory:" + GAME_SAVE_ID + ":4")).thenReturn(items);
+
+    // Act
+    adapter.set(GAME_SAVE_ID, 3, items);
+    Optional<Set<Item>> cached = adapter.get(GAME_SAVE_ID, 4);
+
+    // Assert
+    verify(valueOperations)
+        .set("inventory:" + GAME_SAVE_ID + ":3", items, EXPIRATION_SECONDS, TimeUnit.SECONDS);
+    assertThat(cached).contains(items);
+  }
+
+  @Test
+  void invalidate_shouldBumpTheGeneration_withoutEverExpiringIt() {
+    // Arrange
+    when(generationRedisTemplate.opsForValue()).thenReturn(generationValueOperations);
+
+    // Act
+    adapter.invalidate(GAME_SAVE_ID);
+
+    // Assert
+    verify(generationValueOperations).increment(GENERATION_KEY);
+    verify(generationRedisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.application.shared.CachePort;
+import com.lsadf.core.infra.valkey.cache.adapter.NearCacheAdapter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheAdapterTests {
+
+  private static final String CHANNEL = "near-cache-invalidation";
+  private static final String NAME = "test-cache";
+  private static final String INSTANCE_ID = "instance-1";
+  private static final String SEPARATOR = "\u001F";
+
+  @Mock private CachePort<String> delegate;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  private NearCacheAdapter<String> nearCache;
+
+  @BeforeEach
+  void setUp() {
+    nearCache =
+        new NearCacheAdapter<>(
+            delegate, redisTemplate, CHANNEL, NAME, INSTANCE_ID, 100L, Duration.ofMinutes(1));
+  }
+
+  @Test
+  void get_shouldHitDelegateOnlyOnce_whenValueIsCachedLocally() {
+    // Arrange
+    when(delegate.get("key")).thenReturn(Optional.of("value"));
+
+    // Act
+    Optional<String> first = nearCache.get("key");
+    Optional<String> second = nearCache.get("key");
+
+    // Assert
+    assertThat(first).contains("value");
+    assertThat(second).contains("value");
+    verify(delegate, times(1)).get("key");
+  }
+
+  @Test
+  void get_shouldNotKeepValueLocally_whenRemoteEntryExpired() {
+    // Arrange
+    when(delegate.get("key")).thenReturn(Optional.of("value"));
+    when(delegate.getExpirationSeconds("key")).thenReturn(OptionalLong.of(0));
+
+    // Act
+    nearCache.get("key");
+    Optional<String> second = nearCache.get("key");
+
+    // Assert
+    assertThat(second).contains("value");
+    verify(delegate, times(2)).get("key");
+  }
+
+  @Test
+  void get_shouldNotKeepValueLocally_whenKeyIsInvalidatedDuringTheRead() {
+    // Arrange
+    when(delegate.get("key"))
+        .thenAnswer(
+            invocation -> {
+              nearCache.onMessage(
+                  message("instance-2" + SEPARATOR + NAME + SEPARATOR + "key"), null);
+              return Optional.of("stale");
+            })
+        .thenReturn(Optional.of("fresh"));
+
+    // Act
+    Optional<String> first = nearCache.get("key");
+    Optional<String> second = nearCache.get("key");
+
+    // Assert
+    assertThat(first).contains("stale");
+    assertThat(second).contains("fresh");
+  }
+
+  @Test
+  void getMany_shouldOnlyFetchMissingKeysFromDelegate() {
+    // Arrange
+    nearCache.set("cached", "cachedValue");
+    when(delegate.getMany(List.of("missing"))).thenReturn(Map.of("missing", "missingValue"));
+
+    // Act
+    Map<String, String> values = nearCache.getMany(List.of("cached", "missing"));
+
+    // Assert
+    assertThat(values)
+        .containsEntry("cached", "cachedValue")
+        .containsEntry("missing", "missingValue");
+  }
+
+  @Test
+  void set_shouldWriteThroughAndPublishInvalidation() {
+    // Act
+    nearCache.set("key", "value");
+
+    // Assert
+    verify(delegate).set("key", "value");
+    verify(redisTemplate)
+        .convertAndSend(CHANNEL, INSTANCE_ID + SEPARATOR + NAME + SEPARATOR + "key");
+    assertThat(nearCache.get("key")).contains("value");
+    verify(delegate, never()).get(anyString());
+  }
+
+  @Test
+  void onMessage_shouldInvalidateKeysWrittenByAnotherInstance() {
+    // Arrange
+    nearCache.set("key", "stale");
+    when(delegate.get("key")).thenReturn(Optional.of("fresh"));
+
+    // Act
+    nearCache.onMessage(message("instance-2" + SEPARATOR + NAME + SEPARATOR + "key"), null);
+
+    // Assert
+    assertThat(nearCache.get("key")).contains("fresh");
+  }
+
+  @Test
+  void onMessage_shouldIgnoreOwnMessagesAndOtherCaches() {
+    // Arrange
+    nearCache.set("key", "value");
+
+    // Act
+    nearCache.onMessage(message(INSTANCE_ID + SEPARATOR + NAME + SEPARATOR + "key"), null);
+    nearCache.onMessage(
+        message("instance-2" + SEPARATOR + "other-cache" + SEPARATOR + "key"), null);
+
+    // Assert
+    assertThat(nearCache.get("key")).contains("value");
+    verify(delegate, never()).get(anyString());
+  }
+
+  @Test
+  void onMessage_shouldInvalidateEverything_whenMessageHasNoKey() {
+    // Arrange
+    nearCache.set("key", "stale");
+    when(delegate.get("key")).thenReturn(Optional.empty());
+
+    // Act
+    nearCache.onMessage(message("instance-2" + SEPARATOR + NAME), null);
+
+    // Assert
+    assertThat(nearCache.get("key")).isEmpty();
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage(
+        CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+}
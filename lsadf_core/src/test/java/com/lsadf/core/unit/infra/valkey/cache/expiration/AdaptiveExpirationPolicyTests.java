@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lsadf.core.domain.cache.HotKey;
+import com.lsadf.core.infra.valkey.cache.expiration.impl.AdaptiveExpirationPolicy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveExpirationPolicyTests {
+
+  private static final long BASE_EXPIRATION_SECONDS = 600;
+
+  private final AdaptiveExpirationPolicy policy =
+      new AdaptiveExpirationPolicy(3600, 4, 1024, 2);
+
+  @Test
+  void expirationSeconds_shouldKeepBaseExpiration_whenValuesNeverExpire() {
+    // Act
+    long expirationSeconds = policy.expirationSeconds("game-save", -1);
+
+    // Assert
+    assertThat(expirationSeconds).isEqualTo(-1);
+  }
+
+  @Test
+  void expirationSeconds_shouldKeepBaseExpiration_whenKeyNeverAccessed() {
+    // Act
+    long expirationSeconds = policy.expirationSeconds("game-save", BASE_EXPIRATION_SECONDS);
+
+    // Assert
+    assertThat(expirationSeconds).isEqualTo(BASE_EXPIRATION_SECONDS);
+  }
+
+  @Test
+  void expirationSeconds_shouldKeepBaseExpiration_whenKeyAccessedLessThanBaseline() {
+    // Arrange
+    recordAccesses("game-save", 1);
+
+    // Act
+    long expirationSeconds = policy.expirationSeconds("game-save", BASE_EXPIRATION_SECONDS);
+
+    // Assert
+    assertThat(expirationSeconds).isEqualTo(BASE_EXPIRATION_SECONDS);
+  }
+
+  @Test
+  void expirationSeconds_shouldKeepBaseExpiration_whenAboveMaximum() {
+    // Arrange
+    recordAccesses("game-save", 100);
+
+    // Act
+    long expirationSeconds = policy.expirationSeconds("game-save", 7200);
+
+    // Assert
+    assertThat(expirationSeconds).isEqualTo(7200);
+  }
+
+  @Test
+  void expirationSeconds_shouldScaleBaseExpiration_withAccessCount() {
+    // Arrange
+    recordAccesses("baseline", 4);
+    recordAccesses("hot", 8);
+
+    // Act
+    long baselineExpirationSeconds = policy.expirationSeconds("baseline", BASE_EXPIRATION_SECONDS);
+    long hotExpirationSeconds = policy.expirationSeconds("hot", BASE_EXPIRATION_SECONDS);
+
+    // Assert
+    assertThat(baselineExpirationSeconds).isEqualTo(BASE_EXPIRATION_SECONDS);
+    assertThat(hotExpirationSeconds).isEqualTo(2 * BASE_EXPIRATION_SECONDS);
+  }
+
+  @Test
+  void expirationSeconds_shouldReturnMaximum_whenKeyVeryHot() {
+    // Arrange
+    recordAccesses("game-save", 100);
+
+    // Act
+    long expirationSeconds = policy.expirationSeconds("game-save", BASE_EXPIRATION_SECONDS);
+
+    // Assert
+    assertThat(expirationSeconds).isEqualTo(3600);
+  }
+
+  @Test
+  void hotKeys_shouldReturnMostAccessedKeys_byDescendingAccessCount() {
+    // Arrange
+    recordAccesses("warm", 5);
+    recordAccesses("hottest", 10);
+    recordAccesses("hot", 6);
+    recordAccesses("cold", 1);
+
+    // Act
+    List<HotKey> hotKeys = policy.hotKeys(10);
+
+    // Assert
+    assertThat(hotKeys).containsExactly(new HotKey("hottest", 10L), new HotKey("hot", 6L));
+  }
+
+  @Test
+  void hotKeys_shouldReturnAtMostLimitKeys() {
+    // Arrange
+    recordAccesses("hottest", 10);
+    recordAccesses("hot", 6);
+
+    // Act
+    List<HotKey> hotKeys = policy.hotKeys(1);
+
+    // Assert
+    assertThat(hotKeys).containsExactly(new HotKey("hottest", 10L));
+  }
+
+  private void recordAccesses(String key, int count) {
+    for (int i = 0; i < count; i++) {
+      policy.recordAccess(key);
+    }
+  }
+}
@@ -15,12 +15,19 @@
  */
 package com.lsadf.core.unit.infra.valkey.cache.flush;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
 import com.lsadf.core.infra.valkey.cache.flush.impl.FlushRecoveryServiceImpl;
+import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -29,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,25 +51,31 @@ class FlushRecoveryServiceTests {
   @Mock private CacheFlushService cacheFlushService;
 
   private static final UUID UUID = java.util.UUID.randomUUID();
+  private static final FlushLease FLUSH_LEASE = new FlushLease("instance-1", 60_000);
 
   private FlushRecoveryServiceImpl flushRecoveryService;
 
+  private MockedStatic<ValkeyFlushUtils> mockedFlushUtils;
+
   private AutoCloseable openMocks;
 
   @BeforeEach
   void init() {
     openMocks = MockitoAnnotations.openMocks(this);
-    flushRecoveryService = new FlushRecoveryServiceImpl(redisTemplate, cacheFlushService);
+    mockedFlushUtils = mockStatic(ValkeyFlushUtils.class);
+    flushRecoveryService =
+        new FlushRecoveryServiceImpl(redisTemplate, cacheFlushService, FLUSH_LEASE);
   }
 
   @AfterEach
   void tearDown() throws Exception {
+    mockedFlushUtils.close();
     openMocks.close();
   }
 
   @Test
   void test_recoverPendingFlush_doesNothing_when_noPendingFlush() {
-    when(redisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey()))
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
         .thenReturn(new HashSet<>());
     flushRecoveryService.recoverPendingFlush();
 
@@ -70,10 +84,56 @@ class FlushRecoveryServiceTests {
 
   @Test
   void test_recoverPendingFlush_flushesPendingEntries() {
-    when(redisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey()))
-        .thenReturn(Set.of(UUID.toString()));
+    Set<String> pendingIds = Set.of(UUID.toString());
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
+        .thenReturn(pendingIds);
+    mockReclaimedLeases(pendingIds, List.of(UUID.toString()));
     flushRecoveryService.recoverPendingFlush();
 
     Mockito.verify(cacheFlushService).flushGameSave(UUID);
+    mockedFlushUtils.verify(
+        () -> ValkeyFlushUtils.removeFromProcessing(redisTemplate, UUID.toString(), FLUSH_LEASE));
+  }
+
+  @Test
+  void test_recoverPendingFlush_skipsEntries_when_leasedByAnotherInstance() {
+    Set<String> pendingIds = Set.of(UUID.toString());
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
+        .thenReturn(pendingIds);
+    mockReclaimedLeases(pendingIds, List.of());
+    flushRecoveryService.recoverPendingFlush();
+
+    Mockito.verify(cacheFlushService, Mockito.never()).flushGameSave(UUID);
+  }
+
+  @Test
+  void test_recoverPendingFlush_requeuesLegacyProcessingEntries() {
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
+        .thenReturn(new HashSet<>());
+    flushRecoveryService.recoverPendingFlush();
+
+    mockedFlushUtils.verify(
+        () ->
+            ValkeyFlushUtils.requeueLegacyProcessingEntries(
+                eq(redisTemplate), anyLong(), anyInt()));
+  }
+
+  @Test
+  void test_recoverPendingFlush_requeuesUntaggedEntries() {
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
+        .thenReturn(new HashSet<>());
+    flushRecoveryService.recoverPendingFlush();
+
+    mockedFlushUtils.verify(
+        () -> ValkeyFlushUtils.requeueUntaggedEntries(eq(redisTemplate), anyLong(), anyInt()));
+  }
+
+  private void mockReclaimedLeases(Set<String> pendingIds, List<String> reclaimedIds) {
+    mockedFlushUtils
+        .when(
+            () ->
+                ValkeyFlushUtils.reclaimLeases(
+                    eq(redisTemplate), eq(pendingIds), anyLong(), eq(FLUSH_LEASE), eq(true)))
+        .thenReturn(reclaimedIds);
   }
 }
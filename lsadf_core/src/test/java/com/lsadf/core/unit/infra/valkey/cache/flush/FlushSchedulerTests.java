@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.flush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.lsadf.core.infra.valkey.cache.flush.CacheFlushService;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
+import com.lsadf.core.infra.valkey.cache.flush.scheduler.impl.FlushSchedulerImpl;
+import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FlushSchedulerTests {
+
+  private static final int PARTITIONS = 4;
+  private static final int BATCH_SIZE = 100;
+  private static final FlushLease FLUSH_LEASE = new FlushLease("instance-1", 60_000);
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock private CacheFlushService cacheFlushService;
+
+  @Mock private ScheduledExecutorService scheduler;
+
+  private ExecutorService workerExecutor;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private FlushSchedulerImpl flushScheduler;
+
+  private MockedStatic<ValkeyFlushUtils> mockedFlushUtils;
+
+  private AutoCloseable openMocks;
+
+  @BeforeEach
+  void init() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    mockedFlushUtils = mockStatic(ValkeyFlushUtils.class);
+    workerExecutor = Executors.newFixedThreadPool(2, Thread.ofVirtual().factory());
+    meterRegistry = new SimpleMeterRegistry();
+    flushScheduler =
+        new FlushSchedulerImpl(
+            redisTemplate,
+            cacheFlushService,
+            scheduler,
+            workerExecutor,
+            meterRegistry,
+            30,
+            BATCH_SIZE,
+            PARTITIONS,
+            FLUSH_LEASE,
+            30);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    workerExecutor.shutdownNow();
+    mockedFlushUtils.close();
+    openMocks.close();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void test_processEntriesToFlush_flushesEachPartitionSeparately() {
+    Set<String> gameSaveIds = mockReadyEntries(10);
+
+    flushScheduler.processEntriesToFlush();
+
+    ArgumentCaptor<List<UUID>> captor = ArgumentCaptor.forClass(List.class);
+    verify(cacheFlushService, atLeastOnce()).flushGameSaves(captor.capture());
+    Set<String> flushed = new HashSet<>();
+    for (List<UUID> batch : captor.getAllValues()) {
+      Set<Integer> partitions = new HashSet<>();
+      batch.forEach(
+          id -> partitions.add(FlushSchedulerImpl.partitionOf(id.toString(), PARTITIONS)));
+      assertThat(partitions).hasSize(1);
+      batch.forEach(id -> flushed.add(id.toString()));
+    }
+    assertThat(flushed).isEqualTo(gameSaveIds);
+
+    double backlog = 0;
+    for (int i = 0; i < PARTITIONS; i++) {
+      backlog +=
+          meterRegistry
+              .get("lsadf.flush.partition.backlog")
+              .tag("partition", String.valueOf(i))
+              .gauge()
+              .value();
+      assertThat(
+              meterRegistry
+                  .get("lsadf.flush.partition.lag")
+                  .tag("partition", String.valueOf(i))
+                  .gauge()
+                  .value())
+          .isGreaterThanOrEqualTo(0);
+    }
+    assertThat(backlog).isEqualTo(gameSaveIds.size());
+  }
+
+  @Test
+  void test_processEntriesToFlush_fallsBackToSingleFlush_when_batchFails() {
+    Set<String> gameSaveIds = mockReadyEntries(3);
+    doThrow(new IllegalStateException("batch failure"))
+        .when(cacheFlushService)
+        .flushGameSaves(any());
+
+    flushScheduler.processEntriesToFlush();
+
+    for (String gameSaveId : gameSaveIds) {
+      verify(cacheFlushService).flushGameSave(UUID.fromString(gameSaveId));
+    }
+  }
+
+  @Test
+  void test_processEntriesToFlush_keepsClaiming_when_partitionsFail() {
+    int limit = BATCH_SIZE * PARTITIONS;
+    Map<String, Double> fullChunk = new HashMap<>();
+    for (int i = 0; i < limit; i++) {
+      fullChunk.put(UUID.randomUUID().toString(), 0.0);
+    }
+    mockedFlushUtils
+        .when(
+            () ->
+                ValkeyFlushUtils.claimReadyEntries(
+                    eq(redisTemplate), anyLong(), eq(limit), eq(FLUSH_LEASE)))
+        .thenReturn(fullChunk)
+        .thenReturn(Map.of());
+    doThrow(new IllegalStateException("batch failure"))
+        .when(cacheFlushService)
+        .flushGameSaves(any());
+    mockedFlushUtils
+        .when(() -> ValkeyFlushUtils.removeFromProcessing(eq(redisTemplate), any(), any()))
+        .thenThrow(new IllegalStateException("release failure"));
+
+    flushScheduler.processEntriesToFlush();
+
+    mockedFlushUtils.verify(
+        () ->
+            ValkeyFlushUtils.claimReadyEntries(
+                eq(redisTemplate), anyLong(), eq(limit), eq(FLUSH_LEASE)),
+        times(2));
+  }
+
+  @Test
+  void test_processEntriesToFlush_claimsEachRoundAtTheCurrentTime() {
+    FlushLease shortLease = new FlushLease("instance-1", 50);
+    FlushSchedulerImpl shortLeaseScheduler =
+        new FlushSchedulerImpl(
+            redisTemplate,
+            cacheFlushService,
+            scheduler,
+            workerExecutor,
+            meterRegistry,
+            30,
+            BATCH_SIZE,
+            PARTITIONS,
+            shortLease,
+            30);
+    int limit = BATCH_SIZE * PARTITIONS;
+    Map<String, Double> fullChunk = new HashMap<>();
+    for (int i = 0; i < limit; i++) {
+      fullChunk.put(UUID.randomUUID().toString(), 0.0);
+    }
+    mockedFlushUtils
+        .when(
+            () ->
+                ValkeyFlushUtils.claimReadyEntries(
+                    eq(redisTemplate), anyLong(), eq(limit), eq(shortLease)))
+        .thenReturn(fullChunk)
+        .thenReturn(Map.of());
+    // Flushing the first round outlasts the lease
+    doAnswer(
+            invocation -> {
+              Thread.sleep(2 * shortLease.durationMs());
+              return null;
+            })
+        .when(cacheFlushService)
+        .flushGameSaves(any());
+
+    shortLeaseScheduler.processEntriesToFlush();
+
+    ArgumentCaptor<Long> claimTimes = ArgumentCaptor.forClass(Long.class);
+    mockedFlushUtils.verify(
+        () ->
+            ValkeyFlushUtils.claimReadyEntries(
+                eq(redisTemplate), claimTimes.capture(), eq(limit), eq(shortLease)),
+        times(2));
+    List<Long> rounds = claimTimes.getAllValues();
+    assertThat(rounds.get(1) - rounds.get(0)).isGreaterThanOrEqualTo(shortLease.durationMs());
+  }
+
+  @Test
+  void test_processEntriesToFlush_releasesLeases_when_batchFlushed() {
+    Set<String> gameSaveIds = mockReadyEntries(1);
+
+    flushScheduler.processEntriesToFlush();
+
+    mockedFlushUtils.verify(
+        () ->
+            ValkeyFlushUtils.removeAllFromProcessing(
+                redisTemplate, List.copyOf(gameSaveIds), FLUSH_LEASE));
+  }
+
+  @Test
+  void test_processEntriesToFlush_doesNothing_when_noReadyEntries() {
+    mockedFlushUtils
+        .when(
+            () ->
+                ValkeyFlushUtils.claimReadyEntries(
+                    eq(redisTemplate), anyLong(), anyInt(), eq(FLUSH_LEASE)))
+        .thenReturn(Map.of());
+
+    flushScheduler.processEntriesToFlush();
+
+    verify(cacheFlushService, never()).flushGameSaves(any());
+    verify(cacheFlushService, never()).flushGameSave(any());
+  }
+
+  @Test
+  void test_requeueExpiredLeases_requeuesUntilNoneLeft() {
+    int limit = BATCH_SIZE * PARTITIONS;
+    List<String> fullChunk = new ArrayList<>();
+    for (int i = 0; i < limit; i++) {
+      fullChunk.add(UUID.randomUUID().toString());
+    }
+    mockedFlushUtils
+        .when(() -> ValkeyFlushUtils.requeueExpiredLeases(eq(redisTemplate), anyLong(), eq(limit)))
+        .thenReturn(fullChunk)
+        .thenReturn(List.of(UUID.randomUUID().toString()));
+
+    flushScheduler.requeueExpiredLeases();
+
+    mockedFlushUtils.verify(
+        () -> ValkeyFlushUtils.requeueExpiredLeases(eq(redisTemplate), anyLong(), eq(limit)),
+        times(2));
+    verify(cacheFlushService, never()).flushGameSave(any());
+  }
+
+  private Set<String> mockReadyEntries(int count) {
+    double score = System.currentTimeMillis() - 1000;
+    Map<String, Double> readyEntries = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      readyEntries.put(UUID.randomUUID().toString(), score);
+    }
+    mockedFlushUtils
+        .when(
+            () ->
+                ValkeyFlushUtils.claimReadyEntries(
+                    eq(redisTemplate), anyLong(), anyInt(), eq(FLUSH_LEASE)))
+        .thenReturn(readyEntries);
+    return readyEntries.keySet();
+  }
+}
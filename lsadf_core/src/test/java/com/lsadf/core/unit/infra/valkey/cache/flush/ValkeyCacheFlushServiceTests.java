@@ -17,6 +17,8 @@ package com.lsadf.core.unit.infra.valkey.cache.flush;
 
 import static org.mockito.Mockito.*;
 
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort;
+import com.lsadf.core.application.game.save.GameSaveSectionsCachePort.GameSaveSections;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCachePort;
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
 import com.lsadf.core.application.game.save.characteristics.command.PersistCharacteristicsCommand;
@@ -29,9 +31,12 @@ import com.lsadf.core.application.game.save.stage.command.PersistStageCommand;
 import com.lsadf.core.domain.game.save.characteristics.Characteristics;
 import com.lsadf.core.domain.game.save.currency.Currency;
 import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.cache.flush.FlushLease;
 import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
 import com.lsadf.core.infra.valkey.cache.flush.impl.RedisCacheFlushServiceImpl;
 import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -43,6 +48,8 @@ import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -56,6 +63,8 @@ class ValkeyCacheFlushServiceTests {
 
   @Mock private StageCachePort stageCache;
 
+  @Mock private GameSaveSectionsCachePort gameSaveSectionsCache;
+
   @Mock private CharacteristicsCommandService characteristicsService;
 
   @Mock CurrencyCommandService currencyService;
@@ -69,6 +78,7 @@ class ValkeyCacheFlushServiceTests {
 
   private static final UUID UUID_1 = java.util.UUID.randomUUID();
   private static final UUID UUID_2 = java.util.UUID.randomUUID();
+  private static final FlushLease FLUSH_LEASE = new FlushLease("instance-1", 60_000);
 
   @AfterEach
   void tearDown() throws Exception {
@@ -86,7 +96,9 @@ class ValkeyCacheFlushServiceTests {
             characteristicsCache,
             currencyCache,
             stageCache,
-            redisTemplate);
+            gameSaveSectionsCache,
+            redisTemplate,
+            FLUSH_LEASE);
   }
 
   @Test
@@ -146,9 +158,7 @@ class ValkeyCacheFlushServiceTests {
     when(currencyCache.get(UUID_2.toString())).thenReturn(Optional.of(currency2));
     when(stageCache.get(UUID_2.toString())).thenReturn(Optional.of(stage2));
 
-    when(redisTemplate.opsForZSet().rangeByScore(FlushStatus.PENDING.getKey(), 0, -1))
-        .thenReturn(Set.of(UUID_1.toString()));
-    when(redisTemplate.opsForSet().members(FlushStatus.PROCESSING.getKey()))
+    when(redisTemplate.opsForZSet().range(FlushStatus.PROCESSING.getKey(), 0, -1))
         .thenReturn(Set.of(UUID_2.toString()));
 
     try (MockedStatic<ValkeyFlushUtils> mockedFlushUtils = mockStatic(ValkeyFlushUtils.class)) {
@@ -156,9 +166,19 @@ class ValkeyCacheFlushServiceTests {
       mockedFlushUtils
           .when(
               () ->
-                  ValkeyFlushUtils.moveToProcessingWithTransaction(
-                      eq(redisTemplate), any(), anyLong()))
-          .thenReturn(true);
+                  ValkeyFlushUtils.claimAllEntries(
+                      eq(redisTemplate), anyLong(), anyInt(), eq(FLUSH_LEASE)))
+          .thenReturn(Map.of(UUID_1.toString(), 0.0));
+      mockedFlushUtils
+          .when(
+              () ->
+                  ValkeyFlushUtils.reclaimLeases(
+                      eq(redisTemplate),
+                      eq(Set.of(UUID_2.toString())),
+                      anyLong(),
+                      eq(FLUSH_LEASE),
+                      eq(false)))
+          .thenReturn(List.of(UUID_2.toString()));
 
       redisCacheFlushService.flushGameSaves();
       var characteristicsCommand1 =
@@ -180,4 +200,70 @@ class ValkeyCacheFlushServiceTests {
       verify(stageService).persistStage(stageCommand2);
     }
   }
+
+  @Test
+  void test_flushGameSaves_batch() {
+    Stage stage1 = Stage.builder().currentStage(1L).maxStage(2L).build();
+    Characteristics characteristics1 =
+        Characteristics.builder()
+            .attack(1L)
+            .critChance(2L)
+            .critDamage(3L)
+            .health(4L)
+            .resistance(5L)
+            .build();
+    Currency currency2 =
+        Currency.builder().gold(10L).amethyst(20L).diamond(30L).emerald(40L).build();
+    List<String> keys = List.of(UUID_1.toString(), UUID_2.toString());
+
+    when(gameSaveSectionsCache.getMany(keys))
+        .thenReturn(
+            Map.of(
+                UUID_1.toString(),
+                new GameSaveSections(characteristics1, null, stage1),
+                UUID_2.toString(),
+                new GameSaveSections(null, currency2, null)));
+
+    redisCacheFlushService.flushGameSaves(List.of(UUID_1, UUID_2));
+
+    verify(characteristicsService)
+        .persistCharacteristicsBatch(
+            List.of(PersistCharacteristicsCommand.fromCharacteristics(UUID_1, characteristics1)));
+    verify(currencyService)
+        .persistCurrencyBatch(List.of(PersistCurrencyCommand.fromCurrency(UUID_2, currency2)));
+    verify(stageService).persistStageBatch(List.of(PersistStageCommand.fromStage(UUID_1, stage1)));
+    verify(characteristicsCache)
+        .unsetManyIfUnchanged(Map.of(UUID_1.toString(), characteristics1));
+    verify(currencyCache).unsetManyIfUnchanged(Map.of(UUID_2.toString(), currency2));
+    verify(stageCache).unsetManyIfUnchanged(Map.of(UUID_1.toString(), stage1));
+    verify(characteristicsService, never()).persistCharacteristics(any());
+    verify(currencyService, never()).persistCurrency(any());
+    verify(stageService, never()).persistStage(any());
+  }
+
+  @Test
+  void test_flushGameSaves_batch_unsetsCacheAfterCommit() {
+    Currency currency = Currency.builder().gold(1L).amethyst(2L).diamond(3L).emerald(4L).build();
+    List<String> keys = List.of(UUID_1.toString());
+    when(gameSaveSectionsCache.getMany(keys))
+        .thenReturn(Map.of(UUID_1.toString(), new GameSaveSections(null, currency, null)));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      redisCacheFlushService.flushGameSaves(List.of(UUID_1));
+
+      verify(currencyService)
+          .persistCurrencyBatch(List.of(PersistCurrencyCommand.fromCurrency(UUID_1, currency)));
+      verify(currencyCache, never()).unsetManyIfUnchanged(any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      verify(currencyCache).unsetManyIfUnchanged(Map.of(UUID_1.toString(), currency));
+      verify(characteristicsCache, never()).unsetManyIfUnchanged(any());
+      verify(stageCache, never()).unsetManyIfUnchanged(any());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.infra.valkey.cache.util.CacheUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+@ExtendWith(MockitoExtension.class)
+class CacheUtilsTests {
+
+  private static final String KEY_NAME = "currency:";
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Test
+  void streamEntries_shouldReadEachPageOfKeysWithOneMultiGet() {
+    // Arrange
+    Cursor<String> cursor = mockCursor("currency:1", "currency:2", "currency:3");
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    when(redisTemplate.opsForValue().multiGet(List.of("currency:1", "currency:2")))
+        .thenReturn(Arrays.asList("a", null));
+    when(redisTemplate.opsForValue().multiGet(List.of("currency:3"))).thenReturn(List.of("c"));
+
+    // Act
+    List<Map.Entry<String, String>> entries;
+    try (Stream<Map.Entry<String, String>> stream =
+        CacheUtils.streamEntries(redisTemplate, KEY_NAME, 2)) {
+      entries = stream.toList();
+    }
+
+    // Assert
+    assertThat(entries).containsExactly(Map.entry("1", "a"), Map.entry("3", "c"));
+    verify(cursor).close();
+  }
+
+  @Test
+  void clearCache_shouldUnlinkKeysPageByPage() {
+    // Arrange
+    Cursor<String> cursor = mockCursor("currency:1", "currency:2");
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    when(redisTemplate.unlink(List.of("currency:1", "currency:2"))).thenReturn(2L);
+
+    // Act
+    CacheUtils.clearCache(redisTemplate, KEY_NAME);
+
+    // Assert
+    verify(redisTemplate).unlink(List.of("currency:1", "currency:2"));
+    verify(cursor).close();
+  }
+
+  @Test
+  void mergeHashFields_shouldReturnTheKeysOfTheMergedHashes() {
+    // Arrange
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L, 0L));
+    Map<String, Map<String, byte[]>> fieldsByKey = new LinkedHashMap<>();
+    fieldsByKey.put("currency:1", Map.of("gold", "10".getBytes(StandardCharsets.UTF_8)));
+    fieldsByKey.put("currency:2", Map.of("gold", "20".getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    Set<String> merged = CacheUtils.mergeHashFields(redisTemplate, fieldsByKey, List.of(), 60);
+
+    // Assert
+    assertThat(merged).containsExactly("currency:1");
+  }
+
+  @Test
+  void replaceHashFields_shouldReturnTheKeysOfTheWrittenHashes() {
+    // Arrange
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L, 1L));
+    Map<String, Map<String, byte[]>> fieldsByKey = new LinkedHashMap<>();
+    fieldsByKey.put("currency:1", Map.of("gold", "10".getBytes(StandardCharsets.UTF_8)));
+    fieldsByKey.put("currency:2", Map.of("gold", "20".getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    Set<String> written = CacheUtils.replaceHashFields(redisTemplate, fieldsByKey, key -> 60);
+
+    // Assert
+    assertThat(written).containsExactlyInAnyOrder("currency:1", "currency:2");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Cursor<String> mockCursor(String... keys) {
+    Cursor<String> cursor = mock(Cursor.class);
+    Iterator<String> iterator = List.of(keys).iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> iterator.next());
+    return cursor;
+  }
+}
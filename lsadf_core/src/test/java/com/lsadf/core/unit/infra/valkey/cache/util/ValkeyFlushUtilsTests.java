@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.cache.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.infra.valkey.cache.flush.FlushStatus;
+import com.lsadf.core.infra.valkey.cache.util.ValkeyFlushUtils;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ValkeyFlushUtilsTests {
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Test
+  void requeueLegacyProcessingEntries_shouldAddEveryPageToPendingBeforeRemovingIt() {
+    // Arrange
+    when(redisTemplate.type(ValkeyFlushUtils.LEGACY_PROCESSING_KEY)).thenReturn(DataType.SET);
+    when(redisTemplate
+            .opsForSet()
+            .distinctRandomMembers(ValkeyFlushUtils.LEGACY_PROCESSING_KEY, 2))
+        .thenReturn(Set.of("1", "2"))
+        .thenReturn(Set.of("3"))
+        .thenReturn(Set.of());
+
+    // Act
+    long requeued = ValkeyFlushUtils.requeueLegacyProcessingEntries(redisTemplate, 1000L, 2);
+
+    // Assert
+    assertThat(requeued).isEqualTo(3);
+    InOrder order = inOrder(redisTemplate.opsForZSet(), redisTemplate.opsForSet());
+    order
+        .verify(redisTemplate.opsForZSet())
+        .addIfAbsent(
+            FlushStatus.PENDING.getKey(),
+            Set.of(
+                ZSetOperations.TypedTuple.of("1", 1000.0),
+                ZSetOperations.TypedTuple.of("2", 1000.0)));
+    order
+        .verify(redisTemplate.opsForSet())
+        .remove(eq(ValkeyFlushUtils.LEGACY_PROCESSING_KEY), any(Object[].class));
+  }
+
+  @Test
+  void requeueLegacyProcessingEntries_shouldDoNothing_when_legacySetIsAbsent() {
+    // Arrange
+    when(redisTemplate.type(ValkeyFlushUtils.LEGACY_PROCESSING_KEY)).thenReturn(DataType.NONE);
+
+    // Act
+    long requeued = ValkeyFlushUtils.requeueLegacyProcessingEntries(redisTemplate, 1000L, 2);
+
+    // Assert
+    assertThat(requeued).isZero();
+    verify(redisTemplate.opsForZSet(), never())
+        .addIfAbsent(eq(FlushStatus.PENDING.getKey()), anySet());
+    verify(redisTemplate.opsForSet(), never()).remove(any(), any(Object[].class));
+  }
+
+  @Test
+  void requeueUntaggedEntries_shouldMovePendingAndProcessingEntriesUnderTheTaggedKeys() {
+    // Arrange
+    Set<ZSetOperations.TypedTuple<String>> pendingEntries =
+        Set.of(ZSetOperations.TypedTuple.of("1", 500.0));
+    when(redisTemplate.opsForZSet().rangeWithScores(ValkeyFlushUtils.UNTAGGED_PENDING_KEY, 0, 1))
+        .thenReturn(pendingEntries)
+        .thenReturn(Set.of());
+    when(redisTemplate.opsForZSet().range(ValkeyFlushUtils.UNTAGGED_PROCESSING_KEY, 0, 1))
+        .thenReturn(Set.of("2"))
+        .thenReturn(Set.of());
+
+    // Act
+    long requeued = ValkeyFlushUtils.requeueUntaggedEntries(redisTemplate, 1000L, 2);
+
+    // Assert
+    assertThat(requeued).isEqualTo(2);
+    InOrder order = inOrder(redisTemplate.opsForZSet(), redisTemplate.opsForHash());
+    order
+        .verify(redisTemplate.opsForZSet())
+        .addIfAbsent(FlushStatus.PENDING.getKey(), pendingEntries);
+    order
+        .verify(redisTemplate.opsForZSet())
+        .remove(eq(ValkeyFlushUtils.UNTAGGED_PENDING_KEY), any(Object[].class));
+    order
+        .verify(redisTemplate.opsForZSet())
+        .addIfAbsent(
+            FlushStatus.PENDING.getKey(), Set.of(ZSetOperations.TypedTuple.of("2", 1000.0)));
+    order
+        .verify(redisTemplate.opsForZSet())
+        .remove(eq(ValkeyFlushUtils.UNTAGGED_PROCESSING_KEY), any(Object[].class));
+    order
+        .verify(redisTemplate.opsForHash())
+        .delete(eq(ValkeyFlushUtils.UNTAGGED_PROCESSING_OWNERS_KEY), any(Object[].class));
+  }
+
+  @Test
+  void flushKeys_shouldShareOneHashTag() {
+    assertThat(
+            List.of(
+                FlushStatus.PENDING.getKey(),
+                FlushStatus.PROCESSING.getKey(),
+                ValkeyFlushUtils.PROCESSING_OWNERS_KEY))
+        .allSatisfy(key -> assertThat(key).startsWith("{game-flush}:"));
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lsadf.core.infra.valkey.stream.StreamShards;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class StreamShardsTests {
+
+  private static final String STREAM_KEY = "game-stream";
+
+  @Test
+  void keys_shouldKeepStreamKey_whenSingleShard() {
+    StreamShards streamShards = new StreamShards(STREAM_KEY, 1);
+
+    assertThat(streamShards.keys()).containsExactly(STREAM_KEY);
+    assertThat(streamShards.keyOf(UUID.randomUUID())).isEqualTo(STREAM_KEY);
+  }
+
+  @Test
+  void keys_shouldHashTagShardIndex_whenSeveralShards() {
+    StreamShards streamShards = new StreamShards(STREAM_KEY, 3);
+
+    assertThat(streamShards.keys())
+        .containsExactly("game-stream:{0}", "game-stream:{1}", "game-stream:{2}");
+  }
+
+  @Test
+  void keyOf_shouldAlwaysSelectTheSameShard_forAGameSave() {
+    StreamShards streamShards = new StreamShards(STREAM_KEY, 8);
+    UUID gameSaveId = UUID.randomUUID();
+
+    String shardKey = streamShards.keyOf(gameSaveId);
+
+    assertThat(streamShards.keys()).contains(shardKey);
+    assertThat(streamShards.keyOf(UUID.fromString(gameSaveId.toString()))).isEqualTo(shardKey);
+  }
+
+  @Test
+  void constructor_shouldThrow_whenNoShard() {
+    assertThatThrownBy(() -> new StreamShards(STREAM_KEY, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
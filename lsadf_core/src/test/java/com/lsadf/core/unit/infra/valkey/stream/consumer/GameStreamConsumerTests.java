@@ -16,12 +16,15 @@
 package com.lsadf.core.unit.infra.valkey.stream.consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -36,9 +39,13 @@ import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType;
 import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
 import com.lsadf.core.infra.valkey.stream.exception.EventHandlingException;
 import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializer;
+import com.lsadf.core.shared.event.Event;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,7 +58,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import tools.jackson.core.JacksonException;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +70,7 @@ class GameStreamConsumerTests {
   private static final String STREAM_KEY = "game:saves";
   private static final String CONSUMER_GROUP = "save-processors";
   private static final long DEBOUNCE_WINDOW_MS = 1000L;
+  private static final Duration APPLIED_RECORD_IDS_RETENTION = Duration.ofMinutes(10);
 
   @Mock(answer = Answers.RETURNS_DEEP_STUBS)
   private RedisTemplate<String, String> redisTemplate;
@@ -77,6 +87,8 @@ class GameStreamConsumerTests {
 
   private GameStreamConsumer gameStreamConsumer;
 
+  private long nextRecordId = 1;
+
   @BeforeEach
   void setUp() {
     gameStreamConsumer =
@@ -87,7 +99,8 @@ class GameStreamConsumerTests {
             redisTemplate,
             valkeyEventSerializer,
             handlerRegistry,
-            DEBOUNCE_WINDOW_MS);
+            DEBOUNCE_WINDOW_MS,
+            APPLIED_RECORD_IDS_RETENTION);
   }
 
   @Test
@@ -213,11 +226,248 @@ class GameStreamConsumerTests {
     assertEquals(gameSaveId.toString(), id);
   }
 
+  @Test
+  void consume_shouldAcknowledgeRecord_whenHandled() throws JacksonException {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.STAGE_UPDATED;
+    Map<String, String> eventData = new HashMap<>();
+
+    MapRecord<String, String, String> mockRecord = createMockRecord(eventData);
+    ValkeyGameSaveUpdatedEvent event = createGameSaveEvent(gameSaveId, "user123", eventType);
+    EventHandler eventHandler = mock(EventHandler.class);
+
+    when(valkeyEventSerializer.deserialize(eventData)).thenReturn(event);
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(eventHandler));
+
+    // Act
+    boolean consumed = gameStreamConsumer.consume(mockRecord);
+
+    // Assert
+    assertTrue(consumed);
+    verify(redisTemplate.opsForStream()).acknowledge(CONSUMER_GROUP, mockRecord);
+  }
+
+  @Test
+  void consume_shouldLeaveRecordPending_whenHandlingFails() throws JacksonException {
+    // Arrange
+    Map<String, String> eventData = new HashMap<>();
+    MapRecord<String, String, String> mockRecord = createMockRecord(eventData);
+
+    when(valkeyEventSerializer.deserialize(eventData))
+        .thenThrow(new JacksonException("Deserialization failed") {});
+
+    // Act
+    boolean consumed = gameStreamConsumer.consume(mockRecord);
+
+    // Assert
+    assertFalse(consumed);
+    verify(redisTemplate.opsForStream(), never()).acknowledge(anyString(), any(MapRecord.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void consumeAll_shouldCoalesceUpdatesOfTheSameGameSave() throws JacksonException {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    UUID otherGameSaveId = UUID.randomUUID();
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.CURRENCY_UPDATED;
+    Map<String, String> firstData = Map.of("record", "1");
+    Map<String, String> secondData = Map.of("record", "2");
+    Map<String, String> thirdData = Map.of("record", "3");
+
+    MapRecord<String, String, String> firstRecord = createMockRecord(firstData);
+    MapRecord<String, String, String> secondRecord = createMockRecord(secondData);
+    MapRecord<String, String, String> thirdRecord = createMockRecord(thirdData);
+
+    when(valkeyEventSerializer.deserialize(firstData))
+        .thenReturn(
+            new ValkeyGameSaveUpdatedEvent(
+                eventType, gameSaveId, "user123", null, Map.of("gold", "10", "diamond", "1")));
+    when(valkeyEventSerializer.deserialize(secondData))
+        .thenReturn(
+            new ValkeyGameSaveUpdatedEvent(
+                eventType, otherGameSaveId, "user456", null, Map.of("gold", "5")));
+    when(valkeyEventSerializer.deserialize(thirdData))
+        .thenReturn(
+            new ValkeyGameSaveUpdatedEvent(
+                eventType, gameSaveId, "user123", null, Map.of("gold", "20")));
+    EventHandler eventHandler = mock(EventHandler.class);
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(eventHandler));
+
+    // Act
+    int consumed =
+        gameStreamConsumer.consumeAll(List.of(firstRecord, secondRecord, thirdRecord));
+
+    // Assert
+    assertEquals(3, consumed);
+    ArgumentCaptor<List<Event>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(eventHandler).handleEvents(eventsCaptor.capture());
+    verify(eventHandler, never()).handleEvent(any());
+    List<Event> events = eventsCaptor.getValue();
+    assertEquals(2, events.size());
+    ValkeyGameSaveUpdatedEvent coalescedEvent = (ValkeyGameSaveUpdatedEvent) events.get(0);
+    assertEquals(gameSaveId, coalescedEvent.getGameSaveId());
+    assertEquals(Map.of("gold", "20", "diamond", "1"), coalescedEvent.getPayload());
+    ValkeyGameSaveUpdatedEvent otherEvent = (ValkeyGameSaveUpdatedEvent) events.get(1);
+    assertEquals(otherGameSaveId, otherEvent.getGameSaveId());
+    assertEquals(Map.of("gold", "5"), otherEvent.getPayload());
+
+    ArgumentCaptor<Set<TypedTuple<String>>> tuplesCaptor = ArgumentCaptor.forClass(Set.class);
+    verify(redisTemplate.opsForZSet())
+        .add(eq(FlushStatus.PENDING.getKey()), tuplesCaptor.capture());
+    assertEquals(2, tuplesCaptor.getValue().size());
+    verify(redisTemplate.opsForStream())
+        .acknowledge(
+            STREAM_KEY,
+            CONSUMER_GROUP,
+            firstRecord.getId(),
+            secondRecord.getId(),
+            thirdRecord.getId());
+  }
+
+  @Test
+  void consumeAll_shouldLeaveUndeserializableRecordsPending() throws JacksonException {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.STAGE_UPDATED;
+    Map<String, String> validData = Map.of("record", "1");
+    Map<String, String> invalidData = Map.of("record", "2");
+
+    MapRecord<String, String, String> validRecord = createMockRecord(validData);
+    MapRecord<String, String, String> invalidRecord = createMockRecord(invalidData);
+
+    when(valkeyEventSerializer.deserialize(validData))
+        .thenReturn(createGameSaveEvent(gameSaveId, "user123", eventType));
+    when(valkeyEventSerializer.deserialize(invalidData))
+        .thenThrow(new JacksonException("Deserialization failed") {});
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(mock(EventHandler.class)));
+
+    // Act
+    int consumed = gameStreamConsumer.consumeAll(List.of(validRecord, invalidRecord));
+
+    // Assert
+    assertEquals(1, consumed);
+    verify(redisTemplate.opsForStream())
+        .acknowledge(STREAM_KEY, CONSUMER_GROUP, validRecord.getId());
+  }
+
+  @Test
+  void consumeAll_shouldAcknowledgeRecordsOnTheirShard() throws JacksonException {
+    // Arrange
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.STAGE_UPDATED;
+    Map<String, String> firstData = Map.of("record", "1");
+    Map<String, String> secondData = Map.of("record", "2");
+    MapRecord<String, String, String> firstRecord = createMockRecord(firstData);
+    MapRecord<String, String, String> secondRecord = createMockRecord(secondData);
+    when(firstRecord.getStream()).thenReturn(STREAM_KEY + ":{0}");
+    when(secondRecord.getStream()).thenReturn(STREAM_KEY + ":{1}");
+
+    when(valkeyEventSerializer.deserialize(firstData))
+        .thenReturn(createGameSaveEvent(UUID.randomUUID(), "user123", eventType));
+    when(valkeyEventSerializer.deserialize(secondData))
+        .thenReturn(createGameSaveEvent(UUID.randomUUID(), "user456", eventType));
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(mock(EventHandler.class)));
+
+    // Act
+    int consumed = gameStreamConsumer.consumeAll(List.of(firstRecord, secondRecord));
+
+    // Assert
+    assertEquals(2, consumed);
+    verify(redisTemplate.opsForStream())
+        .acknowledge(STREAM_KEY + ":{0}", CONSUMER_GROUP, firstRecord.getId());
+    verify(redisTemplate.opsForStream())
+        .acknowledge(STREAM_KEY + ":{1}", CONSUMER_GROUP, secondRecord.getId());
+  }
+
+  @Test
+  void consume_shouldAcknowledgeWithoutApplying_whenRecordIsNotLaterThanLastApplied()
+      throws JacksonException {
+    // Arrange
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.CURRENCY_UPDATED;
+    Map<String, String> eventData = new HashMap<>();
+    MapRecord<String, String, String> replayedRecord =
+        createMockRecord(eventData, RecordId.of("5-0"));
+    EventHandler eventHandler = mock(EventHandler.class);
+
+    when(valkeyEventSerializer.deserialize(eventData))
+        .thenReturn(createGameSaveEvent(UUID.randomUUID(), "user123", eventType));
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(eventHandler));
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of("7-0"));
+
+    // Act
+    boolean consumed = gameStreamConsumer.consume(replayedRecord);
+
+    // Assert
+    assertTrue(consumed);
+    verify(eventHandler, never()).handleEvent(any());
+    verify(redisTemplate.opsForZSet(), never()).add(anyString(), anyString(), anyDouble());
+    verify(redisTemplate.opsForStream()).acknowledge(CONSUMER_GROUP, replayedRecord);
+  }
+
+  @Test
+  void consumeAll_shouldAcknowledgeWithoutApplying_recordsNotLaterThanLastApplied()
+      throws JacksonException {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.STAGE_UPDATED;
+    Map<String, String> eventData = Map.of("record", "1");
+    MapRecord<String, String, String> replayedRecord =
+        createMockRecord(eventData, RecordId.of("7-0"));
+    EventHandler eventHandler = mock(EventHandler.class);
+
+    when(valkeyEventSerializer.deserialize(eventData))
+        .thenReturn(createGameSaveEvent(gameSaveId, "user123", eventType));
+    lenient().when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(eventHandler));
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of("7-0"));
+
+    // Act
+    int consumed = gameStreamConsumer.consumeAll(List.of(replayedRecord));
+
+    // Assert
+    assertEquals(1, consumed);
+    verify(eventHandler, never()).handleEvents(any());
+    verify(redisTemplate.opsForZSet(), never()).add(anyString(), any(Set.class));
+    verify(redisTemplate.opsForStream())
+        .acknowledge(STREAM_KEY, CONSUMER_GROUP, replayedRecord.getId());
+  }
+
+  @Test
+  void consumeAll_shouldLeaveRecordsPending_whenHandlerFails() throws JacksonException {
+    // Arrange
+    ValkeyGameSaveEventType eventType = ValkeyGameSaveEventType.CHARACTERISTICS_UPDATED;
+    Map<String, String> eventData = new HashMap<>();
+    MapRecord<String, String, String> mockRecord = createMockRecord(eventData);
+    EventHandler eventHandler = mock(EventHandler.class);
+
+    when(valkeyEventSerializer.deserialize(eventData))
+        .thenReturn(createGameSaveEvent(UUID.randomUUID(), "user123", eventType));
+    when(handlerRegistry.getHandler(eventType)).thenReturn(Optional.of(eventHandler));
+    doThrow(new JacksonException("Handler processing failed") {})
+        .when(eventHandler)
+        .handleEvents(any());
+
+    // Act
+    int consumed = gameStreamConsumer.consumeAll(List.of(mockRecord));
+
+    // Assert
+    assertEquals(0, consumed);
+    verify(redisTemplate.opsForZSet(), never()).add(anyString(), any(Set.class));
+    verify(redisTemplate.opsForStream(), never())
+        .acknowledge(anyString(), anyString(), any(RecordId[].class));
+  }
+
   private MapRecord<String, String, String> createMockRecord(Map<String, String> eventData) {
+    return createMockRecord(eventData, RecordId.of(nextRecordId++ + "-0"));
+  }
+
+  private MapRecord<String, String, String> createMockRecord(
+      Map<String, String> eventData, RecordId recordId) {
     @SuppressWarnings("unchecked")
     MapRecord<String, String, String> mockRecord = mock(MapRecord.class);
     when(mockRecord.getValue()).thenReturn(eventData);
-    when(mockRecord.getId()).thenReturn(mock(RecordId.class));
+    when(mockRecord.getId()).thenReturn(recordId);
+    lenient().when(mockRecord.getStream()).thenReturn(STREAM_KEY);
     return mockRecord;
   }
 
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.infra.valkey.stream.consumer.StreamConsumer;
+import com.lsadf.core.infra.valkey.stream.consumer.impl.ValkeyPendingRecordsSweeper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ValkeyPendingRecordsSweeperTests {
+
+  private static final String CONSUMER_ID = "test-consumer";
+  private static final String STREAM_KEY = "game:saves";
+  private static final String CONSUMER_GROUP = "save-processors";
+  private static final String DEAD_LETTER_STREAM_KEY = "game:saves:dead-letter";
+  private static final Duration MIN_IDLE = Duration.ofSeconds(30);
+  private static final long DEAD_LETTER_MAX_LENGTH = 1000;
+  private static final long MAX_DELIVERIES = 3;
+  private static final int BATCH_SIZE = 2;
+  private static final RecordId RECORD_ID = RecordId.of("1700000000000-0");
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock private StreamConsumer streamConsumer;
+
+  @Mock private ScheduledExecutorService scheduler;
+
+  @Captor private ArgumentCaptor<MapRecord<String, String, String>> recordCaptor;
+
+  private ValkeyPendingRecordsSweeper sweeper;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    lenient()
+        .when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+        .thenReturn(0L);
+    sweeper =
+        new ValkeyPendingRecordsSweeper(
+            redisTemplate,
+            streamConsumer,
+            scheduler,
+            List.of(STREAM_KEY),
+            CONSUMER_GROUP,
+            DEAD_LETTER_STREAM_KEY,
+            DEAD_LETTER_MAX_LENGTH,
+            MIN_IDLE,
+            MAX_DELIVERIES,
+            BATCH_SIZE,
+            30);
+  }
+
+  @Test
+  void sweepPendingRecords_shouldRetryIdleRecord_whenDeliveriesLeft() {
+    // Arrange
+    MapRecord<String, String, String> mapRecord = createRecord();
+    mockPendingMessage(MIN_IDLE.plusSeconds(1), 1);
+    when(streamConsumer.getId()).thenReturn(CONSUMER_ID);
+    when(redisTemplate
+            .<String, String>opsForStream()
+            .claim(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq(CONSUMER_ID), any(XClaimOptions.class)))
+        .thenReturn(List.of(mapRecord));
+    when(streamConsumer.consume(mapRecord)).thenReturn(true);
+
+    // Act
+    sweeper.sweepPendingRecords();
+
+    // Assert
+    verify(streamConsumer).consume(mapRecord);
+    verify(redisTemplate.opsForStream(), never()).add(any(MapRecord.class));
+  }
+
+  @Test
+  void sweepPendingRecords_shouldDeadLetterRecord_whenDeliveriesExhausted() {
+    // Arrange
+    MapRecord<String, String, String> mapRecord = createRecord();
+    mockPendingMessage(MIN_IDLE.plusSeconds(1), MAX_DELIVERIES);
+    when(streamConsumer.getId()).thenReturn(CONSUMER_ID);
+    when(redisTemplate
+            .<String, String>opsForStream()
+            .claim(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq(CONSUMER_ID), any(XClaimOptions.class)))
+        .thenReturn(List.of(mapRecord));
+
+    // Act
+    sweeper.sweepPendingRecords();
+
+    // Assert
+    verify(streamConsumer, never()).consume(any());
+    verify(redisTemplate.<String, String>opsForStream()).add(recordCaptor.capture());
+    MapRecord<String, String, String> deadLetter = recordCaptor.getValue();
+    assertThat(deadLetter.getStream()).isEqualTo(DEAD_LETTER_STREAM_KEY);
+    assertThat(deadLetter.getValue())
+        .containsEntry("eventType", "STAGE_UPDATED")
+        .containsEntry(ValkeyPendingRecordsSweeper.DEAD_LETTER_SOURCE_ID, RECORD_ID.getValue())
+        .containsEntry(
+            ValkeyPendingRecordsSweeper.DEAD_LETTER_DELIVERY_COUNT, String.valueOf(MAX_DELIVERIES));
+    verify(redisTemplate.opsForStream()).acknowledge(CONSUMER_GROUP, mapRecord);
+    verify(redisTemplate.opsForStream()).trim(DEAD_LETTER_STREAM_KEY, DEAD_LETTER_MAX_LENGTH, true);
+  }
+
+  @Test
+  void sweepPendingRecords_shouldPageThroughPendingRecords_afterLastIdOfFullPage() {
+    // Arrange
+    RecordId secondId = RecordId.of("1700000000001-0");
+    RecordId thirdId = RecordId.of("1700000000002-0");
+    Duration idle = MIN_IDLE.plusSeconds(1);
+    PendingMessages firstPage =
+        new PendingMessages(
+            CONSUMER_GROUP,
+            List.of(
+                createPendingMessage(RECORD_ID, idle, MAX_DELIVERIES),
+                createPendingMessage(secondId, idle, MAX_DELIVERIES)));
+    PendingMessages lastPage =
+        new PendingMessages(CONSUMER_GROUP, List.of(createPendingMessage(thirdId, idle, 1)));
+    when(redisTemplate
+            .opsForStream()
+            .pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(Range.class), anyLong()))
+        .thenReturn(firstPage, lastPage);
+    when(streamConsumer.getId()).thenReturn(CONSUMER_ID);
+
+    // Act
+    sweeper.sweepPendingRecords();
+
+    // Assert
+    ArgumentCaptor<Range<String>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+    verify(redisTemplate.opsForStream(), times(2))
+        .pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), rangeCaptor.capture(), eq((long) BATCH_SIZE));
+    Range<String> nextRange = rangeCaptor.getAllValues().get(1);
+    assertThat(nextRange.getLowerBound().getValue()).contains(secondId.getValue());
+    assertThat(nextRange.getLowerBound().isInclusive()).isFalse();
+    ArgumentCaptor<XClaimOptions> optionsCaptor = ArgumentCaptor.forClass(XClaimOptions.class);
+    verify(redisTemplate.<String, String>opsForStream(), times(2))
+        .claim(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq(CONSUMER_ID), optionsCaptor.capture());
+    assertThat(optionsCaptor.getAllValues().get(1).getIds()).containsExactly(thirdId);
+  }
+
+  @Test
+  void sweepPendingRecords_shouldSkipRecord_whenNotIdleLongEnough() {
+    // Arrange
+    mockPendingMessage(MIN_IDLE.minusSeconds(1), MAX_DELIVERIES);
+
+    // Act
+    sweeper.sweepPendingRecords();
+
+    // Assert
+    verify(redisTemplate.opsForStream(), never())
+        .claim(any(), any(), any(), any(XClaimOptions.class));
+    verify(streamConsumer, never()).consume(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void sweepPendingRecords_shouldDeleteIdleConsumers_exceptItself() {
+    // Arrange
+    when(redisTemplate
+            .opsForStream()
+            .pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(Range.class), anyLong()))
+        .thenReturn(new PendingMessages(CONSUMER_GROUP, List.of()));
+    when(streamConsumer.getId()).thenReturn(CONSUMER_ID);
+
+    // Act
+    sweeper.sweepPendingRecords();
+
+    // Assert
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of(STREAM_KEY)),
+            eq(CONSUMER_GROUP),
+            eq(String.valueOf(MIN_IDLE.toMillis())),
+            eq(CONSUMER_ID));
+  }
+
+  private void mockPendingMessage(Duration idle, long deliveryCount) {
+    PendingMessage pendingMessage = createPendingMessage(RECORD_ID, idle, deliveryCount);
+    when(redisTemplate
+            .opsForStream()
+            .pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(Range.class), anyLong()))
+        .thenReturn(new PendingMessages(CONSUMER_GROUP, List.of(pendingMessage)));
+  }
+
+  private PendingMessage createPendingMessage(RecordId id, Duration idle, long deliveryCount) {
+    return new PendingMessage(
+        id, Consumer.from(CONSUMER_GROUP, "dead-consumer"), idle, deliveryCount);
+  }
+
+  private MapRecord<String, String, String> createRecord() {
+    return StreamRecords.newRecord()
+        .in(STREAM_KEY)
+        .withId(RECORD_ID)
+        .ofMap(Map.of("eventType", "STAGE_UPDATED"));
+  }
+}
@@ -18,7 +18,6 @@ package com.lsadf.core.unit.infra.valkey.stream.consumer.handler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.game.save.characteristics.CharacteristicsCommandService;
 import com.lsadf.core.application.game.save.characteristics.command.UpdateCacheCharacteristicsCommand;
@@ -34,7 +33,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class CharacteristicsUpdateEventHandlerTests {
@@ -42,9 +40,6 @@ class CharacteristicsUpdateEventHandlerTests {
   @Mock(strictness = LENIENT)
   private CharacteristicsCommandService characteristicsService;
 
-  @Mock(strictness = LENIENT)
-  private ObjectMapper objectMapper;
-
   private CharacteristicsUpdateEventHandler handler;
   private UUID gameSaveId;
   private Map<String, String> payload;
@@ -59,7 +54,7 @@ class CharacteristicsUpdateEventHandlerTests {
 
   @BeforeEach
   void setUp() {
-    handler = new CharacteristicsUpdateEventHandler(characteristicsService, objectMapper);
+    handler = new CharacteristicsUpdateEventHandler(characteristicsService);
     gameSaveId = UUID.randomUUID();
     payload =
         Map.of(
@@ -89,7 +84,6 @@ class CharacteristicsUpdateEventHandlerTests {
             "user-123",
             UUID.randomUUID(),
             payload);
-    when(objectMapper.convertValue(payload, Characteristics.class)).thenReturn(characteristics);
   }
 
   @Test
@@ -102,7 +96,6 @@ class CharacteristicsUpdateEventHandlerTests {
   void handleEventCallsCharacteristicsServiceWithCorrectParameters() throws Exception {
     handler.handleEvent(event);
 
-    verify(objectMapper).convertValue(payload, Characteristics.class);
     var command =
         UpdateCacheCharacteristicsCommand.fromCharacteristics(gameSaveId, characteristics);
     verify(characteristicsService).updateCacheCharacteristics(command);
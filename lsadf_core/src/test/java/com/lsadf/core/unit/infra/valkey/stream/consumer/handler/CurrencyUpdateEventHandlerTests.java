@@ -18,7 +18,6 @@ package com.lsadf.core.unit.infra.valkey.stream.consumer.handler;
 import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.CURRENCY_UPDATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.game.save.currency.CurrencyCommandService;
 import com.lsadf.core.application.game.save.currency.command.UpdateCacheCurrencyCommand;
@@ -33,15 +32,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class CurrencyUpdateEventHandlerTests {
 
   @Mock private CurrencyCommandService currencyService;
 
-  @Mock private ObjectMapper objectMapper;
-
   private CurrencyUpdateEventHandler handler;
   private UUID gameSaveId;
   private Map<String, String> payload;
@@ -55,7 +51,7 @@ class CurrencyUpdateEventHandlerTests {
 
   @BeforeEach
   void setUp() {
-    handler = new CurrencyUpdateEventHandler(currencyService, objectMapper);
+    handler = new CurrencyUpdateEventHandler(currencyService);
     gameSaveId = UUID.randomUUID();
     payload = Map.of("gold", "10", "diamond", "20", "emerald", "30", "amethyst", "40");
     currency = new Currency(gold, diamond, emerald, amethyst);
@@ -71,10 +67,8 @@ class CurrencyUpdateEventHandlerTests {
 
   @Test
   void handleEventCallsCurrencyServiceWithCorrectParameters() throws Exception {
-    when(objectMapper.convertValue(payload, Currency.class)).thenReturn(currency);
     handler.handleEvent(event);
 
-    verify(objectMapper).convertValue(payload, Currency.class);
     var command = new UpdateCacheCurrencyCommand(gameSaveId, gold, diamond, emerald, amethyst);
     verify(currencyService).updateCacheCurrency(command);
   }
@@ -18,7 +18,6 @@ package com.lsadf.core.unit.infra.valkey.stream.consumer.handler;
 import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.STAGE_UPDATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.lsadf.core.application.game.save.stage.StageCommandService;
 import com.lsadf.core.application.game.save.stage.command.UpdateCacheStageCommand;
@@ -33,15 +32,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class StageUpdateEventHandlerTests {
 
   @Mock private StageCommandService stageService;
 
-  @Mock private ObjectMapper objectMapper;
-
   private StageUpdateEventHandler handler;
   private UUID gameSaveId;
   private Map<String, String> payload;
@@ -50,14 +46,13 @@ class StageUpdateEventHandlerTests {
 
   private Long currentStage = 5L;
   private Long maxStage = 75L;
-  private Long wave = 8L;
 
   @BeforeEach
   void setUp() {
-    handler = new StageUpdateEventHandler(stageService, objectMapper);
+    handler = new StageUpdateEventHandler(stageService);
     gameSaveId = UUID.randomUUID();
     payload = Map.of("currentStage", "5", "maxStage", "75");
-    stage = new Stage(currentStage, maxStage, wave);
+    stage = new Stage(currentStage, maxStage, null);
 
     event = new ValkeyGameSaveUpdatedEvent(STAGE_UPDATED, gameSaveId, "user123", null, payload);
   }
@@ -70,10 +65,8 @@ class StageUpdateEventHandlerTests {
 
   @Test
   void handleEventCallsStageServiceWithCorrectParameters() throws Exception {
-    when(objectMapper.convertValue(payload, Stage.class)).thenReturn(stage);
     handler.handleEvent(event);
 
-    verify(objectMapper).convertValue(payload, Stage.class);
     UpdateCacheStageCommand command = UpdateCacheStageCommand.fromStage(gameSaveId, stage);
     verify(stageService).updateCacheStage(command);
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lsadf.core.domain.game.save.characteristics.Characteristics;
+import com.lsadf.core.domain.game.save.currency.Currency;
+import com.lsadf.core.domain.game.save.stage.Stage;
+import com.lsadf.core.infra.valkey.stream.event.game.GameSaveEventPayloads;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class GameSaveEventPayloadsTests {
+
+  @Test
+  void fromCurrency_shouldWriteEveryProperty_withNullForUnsetOnes() {
+    // Act
+    Map<String, String> payload =
+        GameSaveEventPayloads.fromCurrency(new Currency(10L, null, 30L, null));
+
+    // Assert
+    Map<String, String> expected = new HashMap<>();
+    expected.put("gold", "10");
+    expected.put("diamond", null);
+    expected.put("emerald", "30");
+    expected.put("amethyst", null);
+    assertThat(payload).isEqualTo(expected);
+  }
+
+  @Test
+  void toStage_shouldLeaveMissingFieldsUnset() {
+    // Act
+    Stage stage = GameSaveEventPayloads.toStage(Map.of("currentStage", "5", "maxStage", "75"));
+
+    // Assert
+    assertThat(stage).isEqualTo(new Stage(5L, 75L, null));
+  }
+
+  @Test
+  void toCharacteristics_shouldReadBackWrittenPayload() {
+    // Arrange
+    Characteristics characteristics = new Characteristics(25L, 10L, 12L, 100L, 8L);
+
+    // Act
+    Characteristics read =
+        GameSaveEventPayloads.toCharacteristics(
+            GameSaveEventPayloads.fromCharacteristics(characteristics));
+
+    // Assert
+    assertThat(read).isEqualTo(characteristics);
+  }
+
+  @Test
+  void toCurrency_shouldThrow_whenValueNotANumber() {
+    assertThatThrownBy(() -> GameSaveEventPayloads.toCurrency(Map.of("gold", "a lot")))
+        .isInstanceOf(NumberFormatException.class);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream.producer;
+
+import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.CURRENCY_UPDATED;
+import static com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType.STAGE_UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.producer.StreamProducer;
+import com.lsadf.core.infra.valkey.stream.producer.impl.CoalescingStreamProducer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingStreamProducerTests {
+
+  private static final String STREAM_KEY = "game:saves";
+  private static final String USER_ID = "user123";
+
+  @Mock private StreamProducer<ValkeyGameSaveUpdatedEvent> delegate;
+
+  @Mock private ScheduledExecutorService scheduler;
+
+  @Captor private ArgumentCaptor<Map<String, List<ValkeyGameSaveUpdatedEvent>>> eventsCaptor;
+
+  private CoalescingStreamProducer producer;
+
+  @BeforeEach
+  void setUp() {
+    producer = new CoalescingStreamProducer(delegate, scheduler, 200L);
+  }
+
+  @Test
+  void flush_shouldPublishOneCoalescedEventPerGameSaveAndEventType() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "gold", "10"));
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "diamond", "5"));
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "gold", "20"));
+    producer.publishEvent(
+        STREAM_KEY,
+        new ValkeyGameSaveUpdatedEvent(
+            STAGE_UPDATED, gameSaveId, USER_ID, null, Map.of("currentStage", "3")));
+
+    // Act
+    producer.flush();
+
+    // Assert
+    verify(delegate, never()).publishEvent(anyString(), any());
+    verify(delegate).publishEvents(eventsCaptor.capture());
+    List<ValkeyGameSaveUpdatedEvent> events = eventsCaptor.getValue().get(STREAM_KEY);
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0).getEventType()).isEqualTo(CURRENCY_UPDATED);
+    assertThat(events.get(0).getPayload())
+        .containsEntry("gold", "20")
+        .containsEntry("diamond", "5");
+    assertThat(events.get(1).getEventType()).isEqualTo(STAGE_UPDATED);
+  }
+
+  @Test
+  void flush_shouldDoNothing_whenBufferIsEmpty() {
+    // Act
+    producer.flush();
+
+    // Assert
+    verify(delegate, never()).publishEvents(anyMap());
+  }
+
+  @Test
+  void flush_shouldRebufferEvents_whenPublishingFails() {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "gold", "10"));
+    doThrow(new IllegalStateException("connection lost"))
+        .doNothing()
+        .when(delegate)
+        .publishEvents(anyMap());
+    producer.flush();
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "diamond", "5"));
+
+    // Act
+    producer.flush();
+
+    // Assert
+    verify(delegate, times(2)).publishEvents(eventsCaptor.capture());
+    List<ValkeyGameSaveUpdatedEvent> events = eventsCaptor.getValue().get(STREAM_KEY);
+    assertThat(events).hasSize(1);
+    assertThat(events.getFirst().getPayload())
+        .containsEntry("gold", "10")
+        .containsEntry("diamond", "5");
+  }
+
+  @Test
+  void stopFlusher_shouldDrainBufferAndPublishDirectlyAfterwards() throws InterruptedException {
+    // Arrange
+    UUID gameSaveId = UUID.randomUUID();
+    ValkeyGameSaveUpdatedEvent lateEvent = currencyEvent(gameSaveId, "gold", "30");
+    producer.publishEvent(STREAM_KEY, currencyEvent(gameSaveId, "gold", "20"));
+
+    // Act
+    producer.stopFlusher();
+    producer.publishEvent(STREAM_KEY, lateEvent);
+
+    // Assert
+    verify(scheduler).shutdown();
+    verify(delegate).publishEvents(eventsCaptor.capture());
+    assertThat(eventsCaptor.getValue().get(STREAM_KEY)).hasSize(1);
+    verify(delegate).publishEvent(STREAM_KEY, lateEvent);
+  }
+
+  private static ValkeyGameSaveUpdatedEvent currencyEvent(
+      UUID gameSaveId, String field, String value) {
+    Map<String, String> payload = new HashMap<>();
+    payload.put(field, value);
+    return new ValkeyGameSaveUpdatedEvent(CURRENCY_UPDATED, gameSaveId, USER_ID, null, payload);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream.serializer;
+
+import static com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat.VERSION_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveEventType;
+import com.lsadf.core.infra.valkey.stream.event.game.ValkeyGameSaveUpdatedEvent;
+import com.lsadf.core.infra.valkey.stream.serializer.ValkeyEventSerializationFormat;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.CompactGameValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.GameValkeyEventSerializer;
+import com.lsadf.core.infra.valkey.stream.serializer.impl.VersionedGameValkeyEventSerializer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class VersionedGameValkeyEventSerializerTests {
+
+  private static final UUID GAME_SAVE_ID = UUID.randomUUID();
+  private static final UUID GAME_SESSION_ID = UUID.randomUUID();
+  private static final String USER_ID = "paimon@test.com";
+
+  private VersionedGameValkeyEventSerializer jsonSerializer;
+  private VersionedGameValkeyEventSerializer compactSerializer;
+
+  @BeforeEach
+  void setUp() {
+    GameValkeyEventSerializer json = new GameValkeyEventSerializer(JsonMapper.builder().build());
+    CompactGameValkeyEventSerializer compact = new CompactGameValkeyEventSerializer(json);
+    jsonSerializer =
+        new VersionedGameValkeyEventSerializer(ValkeyEventSerializationFormat.JSON, json, compact);
+    compactSerializer =
+        new VersionedGameValkeyEventSerializer(
+            ValkeyEventSerializationFormat.COMPACT, json, compact);
+  }
+
+  @Test
+  void serialize_shouldPackEventInSingleField_whenCompact() {
+    // Arrange
+    ValkeyGameSaveUpdatedEvent event = currencyEvent(Map.of("gold", "10", "diamond", "25"));
+
+    // Act
+    Map<String, String> map = compactSerializer.serialize(event);
+
+    // Assert
+    assertThat(map)
+        .containsOnlyKeys(VERSION_FIELD, CompactGameValkeyEventSerializer.DATA_FIELD)
+        .containsEntry(VERSION_FIELD, "2");
+  }
+
+  @Test
+  void deserialize_shouldRestoreCompactEvent() {
+    // Arrange
+    Map<String, String> payload = new HashMap<>();
+    payload.put("gold", "10");
+    payload.put("diamond", null);
+    payload.put("emerald", "5");
+    ValkeyGameSaveUpdatedEvent event = currencyEvent(payload);
+
+    // Act
+    ValkeyGameSaveUpdatedEvent result =
+        compactSerializer.deserialize(compactSerializer.serialize(event));
+
+    // Assert
+    assertThat(result.getEventType()).isEqualTo(ValkeyGameSaveEventType.CURRENCY_UPDATED);
+    assertThat(result.getGameSaveId()).isEqualTo(GAME_SAVE_ID);
+    assertThat(result.getUserId()).isEqualTo(USER_ID);
+    assertThat(result.getGameSessionId()).isEqualTo(GAME_SESSION_ID);
+    assertThat(result.getPayload())
+        .containsEntry("gold", "10")
+        .containsEntry("emerald", "5")
+        .containsEntry("diamond", null)
+        .containsEntry("amethyst", null);
+  }
+
+  @Test
+  void serialize_shouldFallBackToJson_whenPayloadFieldUnknown() {
+    // Arrange
+    ValkeyGameSaveUpdatedEvent event = currencyEvent(Map.of("gold", "10", "ruby", "3"));
+
+    // Act
+    Map<String, String> map = compactSerializer.serialize(event);
+    ValkeyGameSaveUpdatedEvent result = compactSerializer.deserialize(map);
+
+    // Assert
+    assertThat(map).containsEntry(VERSION_FIELD, "1");
+    assertThat(result.getPayload()).isEqualTo(Map.of("gold", "10", "ruby", "3"));
+  }
+
+  @Test
+  void deserialize_shouldReadEveryFormat_whateverTheConfiguredOne() {
+    // Arrange
+    ValkeyGameSaveUpdatedEvent event = currencyEvent(Map.of("gold", "10"));
+    Map<String, String> legacyMap = new HashMap<>(jsonSerializer.serialize(event));
+    legacyMap.remove(VERSION_FIELD);
+
+    // Act
+    ValkeyGameSaveUpdatedEvent fromCompact =
+        jsonSerializer.deserialize(compactSerializer.serialize(event));
+    ValkeyGameSaveUpdatedEvent fromJson =
+        compactSerializer.deserialize(jsonSerializer.serialize(event));
+    ValkeyGameSaveUpdatedEvent fromLegacy = compactSerializer.deserialize(legacyMap);
+
+    // Assert
+    assertThat(fromCompact.getPayload()).containsEntry("gold", "10");
+    assertThat(fromJson.getPayload()).isEqualTo(Map.of("gold", "10"));
+    assertThat(fromLegacy.getPayload()).isEqualTo(Map.of("gold", "10"));
+    assertThat(fromLegacy.getGameSaveId()).isEqualTo(GAME_SAVE_ID);
+  }
+
+  private static ValkeyGameSaveUpdatedEvent currencyEvent(Map<String, String> payload) {
+    return new ValkeyGameSaveUpdatedEvent(
+        ValkeyGameSaveEventType.CURRENCY_UPDATED, GAME_SAVE_ID, USER_ID, GAME_SESSION_ID, payload);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2024-2026 LSDAF
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lsadf.core.unit.infra.valkey.stream.trimmer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lsadf.core.infra.valkey.stream.trimmer.impl.ValkeyStreamTrimmer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoStream;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ValkeyStreamTrimmerTests {
+
+  private static final String STREAM_KEY = "game:saves";
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock private ScheduledExecutorService scheduler;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void trimStream_shouldTrimConsumedEntries_withoutRetentionFloor() {
+    // Arrange
+    ValkeyStreamTrimmer trimmer = createTrimmer(Duration.ZERO);
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+        .thenReturn(List.of(10L, "1700000000000-0"));
+    when(redisTemplate.hasKey(STREAM_KEY)).thenReturn(false);
+
+    // Act
+    trimmer.trimStream();
+
+    // Assert
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(STREAM_KEY)), eq(""));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void trimStream_shouldKeepRetentionWindow() {
+    // Arrange
+    Duration retention = Duration.ofMinutes(10);
+    ValkeyStreamTrimmer trimmer = createTrimmer(retention);
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+        .thenReturn(List.of(0L, "1700000000000-0"));
+    when(redisTemplate.hasKey(STREAM_KEY)).thenReturn(false);
+    long before = System.currentTimeMillis();
+
+    // Act
+    trimmer.trimStream();
+
+    // Assert
+    ArgumentCaptor<String> floorCaptor = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate)
+        .execute(any(RedisScript.class), eq(List.of(STREAM_KEY)), floorCaptor.capture());
+    RecordId floor = RecordId.of(floorCaptor.getValue());
+    assertThat(floor.getSequence()).isZero();
+    assertThat(floor.getTimestamp())
+        .isBetween(before - retention.toMillis(), System.currentTimeMillis());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void trimStream_shouldRefreshStreamMetrics() {
+    // Arrange
+    ValkeyStreamTrimmer trimmer = createTrimmer(Duration.ZERO);
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+        .thenReturn(List.of());
+    XInfoStream info = mock(XInfoStream.class);
+    when(info.streamLength()).thenReturn(42L);
+    when(info.lastGeneratedId()).thenReturn("1700000005000-0");
+    XInfoGroup group = mock(XInfoGroup.class);
+    when(group.pendingCount()).thenReturn(3L);
+    when(group.lastDeliveredId()).thenReturn("1700000002000-1");
+    XInfoGroups groups = mock(XInfoGroups.class);
+    when(groups.size()).thenReturn(1);
+    when(groups.get(0)).thenReturn(group);
+    when(redisTemplate.hasKey(STREAM_KEY)).thenReturn(true);
+    when(redisTemplate.opsForStream().info(STREAM_KEY)).thenReturn(info);
+    when(redisTemplate.opsForStream().groups(STREAM_KEY)).thenReturn(groups);
+
+    // Act
+    trimmer.trimStream();
+
+    // Assert
+    assertThat(meterRegistry.get("lsadf.stream.length").gauge().value()).isEqualTo(42);
+    assertThat(meterRegistry.get("lsadf.stream.pending").gauge().value()).isEqualTo(3);
+    assertThat(meterRegistry.get("lsadf.stream.consumer.lag").gauge().value()).isEqualTo(3000);
+  }
+
+  private ValkeyStreamTrimmer createTrimmer(Duration retention) {
+    return new ValkeyStreamTrimmer(
+        redisTemplate, scheduler, meterRegistry, List.of(STREAM_KEY), retention, 60);
+  }
+}